@@ -1,20 +1,44 @@
 package com.bank.calculator;
 
+import java.nio.file.Path; // JDK 11
+import java.nio.file.Paths; // JDK 11
+import java.util.concurrent.ExecutorService; // JDK 11
 import java.util.logging.Logger; // JDK 11
 import java.util.logging.Level; // JDK 11
 
 import com.bank.calculator.ui.CalculatorUI;
 import com.bank.calculator.config.AppConfig;
+import com.bank.calculator.batch.BatchSummary;
+import com.bank.calculator.batch.CsvBatchProcessor;
+import com.bank.calculator.controller.CalculatorController;
+import com.bank.calculator.server.CalculationServer;
 
 /**
  * Main application class that serves as the entry point for the Compound Interest Calculator desktop application.
  * This class initializes the application, configures the environment, and launches the JavaFX UI.
+ * <p>
+ * When started with {@code --batch <input.csv> <output.csv>} the application runs headless instead: it calculates
+ * the EMI of every row of the input file, writes the results to the output file and exits without loading any
+ * JavaFX classes.
+ * <p>
+ * When started with {@code --serve [port]} the application runs headless as an HTTP calculation service (see
+ * {@link CalculationServer}) until the process is stopped.
  */
 public class CompoundInterestCalculatorApp {
 
     private static final Logger LOGGER = Logger.getLogger(CompoundInterestCalculatorApp.class.getName());
+    // Held strongly so that the level set for batch mode is not lost when the logger is garbage collected
+    private static final Logger SERVICE_LOGGER = Logger.getLogger("com.bank.calculator.service");
+    private static final Logger CONTROLLER_LOGGER = Logger.getLogger("com.bank.calculator.controller");
     private static final String APPLICATION_STARTUP_MESSAGE = "Starting Compound Interest Calculator Application";
     private static final String APPLICATION_VERSION_MESSAGE = "Version: %s";
+    private static final String BATCH_OPTION = "--batch";
+    private static final String BATCH_USAGE_MESSAGE = "Usage: --batch <input.csv> <output.csv>";
+    private static final String SERVE_OPTION = "--serve";
+    private static final String SERVE_USAGE_MESSAGE = "Usage: --serve [port]";
+    private static final int SERVER_STOP_DELAY_SECONDS = 1;
+    private static final int EXIT_FAILURE = 1;
+    private static final int EXIT_USAGE = 2;
 
     /**
      * Private constructor to prevent instantiation as this is a utility class with static methods
@@ -32,10 +56,25 @@ public class CompoundInterestCalculatorApp {
         try {
             // Configure application logging
             AppConfig.configureLogging();
+            AppConfig.registerMetrics();
+            AppConfig.startFlightRecording();
             
             // Log application startup information
             displayStartupInfo();
             
+            if (args.length > 0 && BATCH_OPTION.equals(args[0])) {
+                // Headless mode; CalculatorUI is never referenced, so JavaFX is never loaded
+                System.exit(runBatch(args));
+            }
+            if (args.length > 0 && SERVE_OPTION.equals(args[0])) {
+                // Headless as well; the server threads keep the process alive after main returns
+                int exitCode = startServer(args);
+                if (exitCode != 0) {
+                    System.exit(exitCode);
+                }
+                return;
+            }
+            
             // Launch the JavaFX UI
             CalculatorUI.main(args);
         } catch (Exception e) {
@@ -43,6 +82,79 @@ public class CompoundInterestCalculatorApp {
         }
     }
 
+    /**
+     * Runs the headless CSV batch mode and reports its throughput.
+     *
+     * @param args command line arguments, starting with the batch option
+     * @return the process exit code
+     */
+    private static int runBatch(String[] args) {
+        if (args.length != 3) {
+            LOGGER.severe(BATCH_USAGE_MESSAGE);
+            return EXIT_USAGE;
+        }
+        Path input = Paths.get(args[1]);
+        Path output = Paths.get(args[2]);
+        
+        // Per-calculation INFO logging would dominate the run time of millions of rows
+        SERVICE_LOGGER.setLevel(Level.WARNING);
+        
+        CsvBatchProcessor processor = AppConfig.createCsvBatchProcessor(
+                AppConfig.createValidationService(), AppConfig.createCoalescingCalculationService());
+        try {
+            BatchSummary summary = processor.process(input, output);
+            LOGGER.info(String.format("Processed %d rows (%d failed) in %d ms: %.0f rows/s",
+                    summary.getRowsProcessed(), summary.getRowsFailed(), summary.getElapsedMillis(),
+                    summary.getRowsPerSecond()));
+            return 0;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Batch processing of " + input + " failed", e);
+            return EXIT_FAILURE;
+        }
+    }
+
+    /**
+     * Starts the headless HTTP calculation service and registers a shutdown hook that stops it.
+     *
+     * @param args command line arguments, starting with the serve option
+     * @return the process exit code if the server could not be started, or 0 if it is running
+     */
+    private static int startServer(String[] args) {
+        if (args.length > 2) {
+            LOGGER.severe(SERVE_USAGE_MESSAGE);
+            return EXIT_USAGE;
+        }
+        int port;
+        try {
+            port = args.length == 2 ? Integer.parseInt(args[1]) : AppConfig.getServerPort();
+        } catch (NumberFormatException e) {
+            LOGGER.severe(SERVE_USAGE_MESSAGE);
+            return EXIT_USAGE;
+        }
+        
+        // Per-request INFO logging would dominate the time of a quote, and invalid inputs are reported to the
+        // client with status 400 rather than logged as warnings
+        SERVICE_LOGGER.setLevel(Level.WARNING);
+        CONTROLLER_LOGGER.setLevel(Level.SEVERE);
+        
+        CalculatorController controller = AppConfig.createCalculatorController(
+                AppConfig.createValidationService(), AppConfig.createCoalescingCalculationService());
+        ExecutorService executor = AppConfig.createServerExecutor();
+        try {
+            CalculationServer server = AppConfig.createCalculationServer(controller, port, executor);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.stop(SERVER_STOP_DELAY_SECONDS);
+                executor.shutdown();
+            }, "calculation-server-shutdown"));
+            server.start();
+            return 0;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Failed to start calculation server on port " + port, e);
+            executor.shutdownNow();
+            return EXIT_FAILURE;
+        }
+    }
+
     /**
      * Displays and logs application startup information
      */
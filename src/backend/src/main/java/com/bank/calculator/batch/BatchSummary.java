@@ -0,0 +1,84 @@
+package com.bank.calculator.batch;
+
+import java.util.concurrent.TimeUnit; // JDK 11
+
+/**
+ * Immutable summary of a batch run, reporting how many rows were processed and how fast.
+ */
+public final class BatchSummary {
+
+    private final long rowsProcessed;
+    private final long rowsFailed;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a new BatchSummary.
+     *
+     * @param rowsProcessed The number of data rows read, including failed rows
+     * @param rowsFailed The number of rows that failed validation or calculation
+     * @param elapsedNanos The wall-clock duration of the run in nanoseconds
+     * @throws IllegalArgumentException if any count is negative or rowsFailed exceeds rowsProcessed
+     */
+    public BatchSummary(long rowsProcessed, long rowsFailed, long elapsedNanos) {
+        if (rowsProcessed < 0 || rowsFailed < 0 || rowsFailed > rowsProcessed || elapsedNanos < 0) {
+            throw new IllegalArgumentException("Invalid batch summary counts");
+        }
+        this.rowsProcessed = rowsProcessed;
+        this.rowsFailed = rowsFailed;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the number of data rows read, including failed rows.
+     *
+     * @return The number of rows processed
+     */
+    public long getRowsProcessed() {
+        return rowsProcessed;
+    }
+
+    /**
+     * Returns the number of rows that were calculated successfully.
+     *
+     * @return The number of successful rows
+     */
+    public long getRowsSucceeded() {
+        return rowsProcessed - rowsFailed;
+    }
+
+    /**
+     * Returns the number of rows that failed validation or calculation.
+     *
+     * @return The number of failed rows
+     */
+    public long getRowsFailed() {
+        return rowsFailed;
+    }
+
+    /**
+     * Returns the wall-clock duration of the run in milliseconds.
+     *
+     * @return The elapsed time in milliseconds
+     */
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    /**
+     * Returns the throughput of the run in rows per second.
+     *
+     * @return The number of rows processed per second, or 0 if no time elapsed
+     */
+    public double getRowsPerSecond() {
+        if (elapsedNanos == 0) {
+            return 0.0;
+        }
+        return rowsProcessed * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchSummary{rowsProcessed=%d, rowsFailed=%d, elapsedMillis=%d, rowsPerSecond=%.1f}",
+                rowsProcessed, rowsFailed, getElapsedMillis(), getRowsPerSecond());
+    }
+}
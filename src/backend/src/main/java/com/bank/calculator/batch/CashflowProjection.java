@@ -0,0 +1,160 @@
+package com.bank.calculator.batch;
+
+import java.io.DataOutput; // JDK 11
+import java.io.IOException; // JDK 11
+import java.math.BigDecimal; // JDK 11
+import java.util.Objects; // JDK 11
+
+import com.bank.calculator.constant.CalculationConstants;
+
+/**
+ * Immutable monthly cashflow projection of a loan portfolio: the principal and interest repaid in each month of
+ * the horizon, summed over all loans, in whole cents.
+ * <p>
+ * Month 1 is the month of the first installment of every loan. The totals are held in two {@code long[]} of one
+ * entry per month, so the projection of any number of loans takes the same memory, and can be copied or written
+ * out without boxing a month.
+ */
+public final class CashflowProjection {
+
+    private final long[] principalCents;
+    private final long[] interestCents;
+    private final long loansProjected;
+    private final long loansFailed;
+
+    /**
+     * Constructs a new CashflowProjection that takes ownership of the monthly arrays.
+     *
+     * @param principalCents The principal repaid in each month in cents, from month 1; not copied
+     * @param interestCents The interest paid in each month in cents, from month 1; not copied
+     * @param loansProjected The number of loans whose installments are included
+     * @param loansFailed The number of loans whose EMI could not be calculated and that are left out
+     * @throws NullPointerException if principalCents or interestCents is null
+     * @throws IllegalArgumentException if the arrays differ in length or a count is negative
+     */
+    public CashflowProjection(long[] principalCents, long[] interestCents, long loansProjected, long loansFailed) {
+        Objects.requireNonNull(principalCents, "Principal cents cannot be null");
+        Objects.requireNonNull(interestCents, "Interest cents cannot be null");
+        if (principalCents.length != interestCents.length) {
+            throw new IllegalArgumentException("Principal and interest must cover the same months");
+        }
+        if (loansProjected < 0 || loansFailed < 0) {
+            throw new IllegalArgumentException("Invalid projection counts");
+        }
+        this.principalCents = principalCents;
+        this.interestCents = interestCents;
+        this.loansProjected = loansProjected;
+        this.loansFailed = loansFailed;
+    }
+
+    /**
+     * Returns the number of months covered by the projection.
+     *
+     * @return The horizon in months
+     */
+    public int getHorizonMonths() {
+        return principalCents.length;
+    }
+
+    /**
+     * Returns the number of loans whose installments are included in the totals.
+     *
+     * @return The number of loans projected
+     */
+    public long getLoansProjected() {
+        return loansProjected;
+    }
+
+    /**
+     * Returns the number of loans whose EMI could not be calculated and that are left out of the totals.
+     *
+     * @return The number of failed loans
+     */
+    public long getLoansFailed() {
+        return loansFailed;
+    }
+
+    /**
+     * Returns the principal repaid in a month in cents.
+     *
+     * @param month The month, from 1 to the horizon
+     * @return The principal in cents
+     * @throws IndexOutOfBoundsException if month is outside the horizon
+     */
+    public long getPrincipalCents(int month) {
+        return principalCents[Objects.checkIndex(month - 1, principalCents.length)];
+    }
+
+    /**
+     * Returns the interest paid in a month in cents.
+     *
+     * @param month The month, from 1 to the horizon
+     * @return The interest in cents
+     * @throws IndexOutOfBoundsException if month is outside the horizon
+     */
+    public long getInterestCents(int month) {
+        return interestCents[Objects.checkIndex(month - 1, interestCents.length)];
+    }
+
+    /**
+     * Returns the principal repaid in a month.
+     *
+     * @param month The month, from 1 to the horizon
+     * @return The principal at currency precision
+     * @throws IndexOutOfBoundsException if month is outside the horizon
+     */
+    public BigDecimal getPrincipal(int month) {
+        return BigDecimal.valueOf(getPrincipalCents(month), CalculationConstants.CURRENCY_PRECISION);
+    }
+
+    /**
+     * Returns the interest paid in a month.
+     *
+     * @param month The month, from 1 to the horizon
+     * @return The interest at currency precision
+     * @throws IndexOutOfBoundsException if month is outside the horizon
+     */
+    public BigDecimal getInterest(int month) {
+        return BigDecimal.valueOf(getInterestCents(month), CalculationConstants.CURRENCY_PRECISION);
+    }
+
+    /**
+     * Returns a copy of the principal repaid in each month in cents, from month 1.
+     *
+     * @return The monthly principal
+     */
+    public long[] toPrincipalArray() {
+        return principalCents.clone();
+    }
+
+    /**
+     * Returns a copy of the interest paid in each month in cents, from month 1.
+     *
+     * @return The monthly interest
+     */
+    public long[] toInterestArray() {
+        return interestCents.clone();
+    }
+
+    /**
+     * Writes the principal and then the interest of each month in cents, from month 1, as big-endian longs. The
+     * horizon is not written.
+     *
+     * @param output The output to write to
+     * @throws IOException if the output cannot be written
+     */
+    public void writeTo(DataOutput output) throws IOException {
+        for (int i = 0; i < principalCents.length; i++) {
+            output.writeLong(principalCents[i]);
+            output.writeLong(interestCents[i]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CashflowProjection{horizonMonths=" + getHorizonMonths() +
+               ", loansProjected=" + loansProjected +
+               ", loansFailed=" + loansFailed +
+               '}';
+    }
+}
@@ -0,0 +1,197 @@
+package com.bank.calculator.batch;
+
+import java.math.BigDecimal; // JDK 11
+import java.math.RoundingMode; // JDK 11
+import java.util.List; // JDK 11
+import java.util.concurrent.RecursiveTask; // JDK 11
+import java.util.logging.Logger; // JDK 11
+import java.util.logging.Level; // JDK 11
+
+import com.bank.calculator.service.CalculationService;
+import com.bank.calculator.model.CalculationInput;
+import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.exception.CalculationException;
+import com.bank.calculator.constant.CalculationConstants;
+
+/**
+ * Fork/join task that projects the cashflows of a contiguous range of a loan portfolio into monthly buckets.
+ * <p>
+ * Each leaf task sums the installments of its loans into its own pair of {@code long} arrays of cents, one entry
+ * per month of the horizon, and parents add the buckets of their halves together as they join, so worker threads
+ * never share an accumulator and memory depends on the horizon and the number of leaf tasks, not on the number of
+ * loans. The EMI of each loan comes from the {@link CalculationService}; its schedule is then replayed in double
+ * arithmetic, month by month, without creating an object per installment.
+ */
+final class CashflowProjectionTask extends RecursiveTask<CashflowProjectionTask.Buckets> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = Logger.getLogger(CashflowProjectionTask.class.getName());
+
+    /**
+     * Smallest range that is still worth splitting further; below it, allocating and merging a leaf's buckets
+     * costs more than the loans it would take off another thread.
+     */
+    private static final int MIN_SPLIT_THRESHOLD = 256;
+
+    /**
+     * Number of leaf tasks created per worker thread, giving the pool room to balance uneven ranges.
+     */
+    private static final int TASKS_PER_THREAD = 8;
+
+    private static final double MONTHLY_PERCENTAGE_DIVISOR = 100.0 * CalculationConstants.MONTHS_IN_YEAR;
+
+    private final transient CalculationService calculationService;
+    private final transient List<CalculationInput> loans;
+    private final int horizonMonths;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    /**
+     * Constructs a new CashflowProjectionTask covering the range [from, to) of the loans.
+     *
+     * @param calculationService The service used to calculate the EMI of each loan
+     * @param loans The loan portfolio
+     * @param horizonMonths The number of months to project
+     * @param from The first index of the range, inclusive
+     * @param to The last index of the range, exclusive
+     * @param threshold The range size at or below which the loans are projected sequentially
+     */
+    CashflowProjectionTask(CalculationService calculationService, List<CalculationInput> loans, int horizonMonths,
+                           int from, int to, int threshold) {
+        this.calculationService = calculationService;
+        this.loans = loans;
+        this.horizonMonths = horizonMonths;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Computes the sequential threshold for a portfolio of the given size so that each worker thread receives
+     * several leaf tasks.
+     *
+     * @param loanCount The number of loans in the portfolio
+     * @param parallelism The parallelism of the pool projecting the portfolio
+     * @return The range size at or below which loans are projected sequentially
+     */
+    static int thresholdFor(int loanCount, int parallelism) {
+        int leafTasks = Math.max(1, parallelism) * TASKS_PER_THREAD;
+        return Math.max(MIN_SPLIT_THRESHOLD, loanCount / leafTasks);
+    }
+
+    @Override
+    protected Buckets compute() {
+        if (to - from <= threshold) {
+            Buckets buckets = new Buckets(horizonMonths);
+            for (int i = from; i < to; i++) {
+                projectLoan(i, loans.get(i), buckets);
+            }
+            return buckets;
+        }
+
+        int middle = (from + to) >>> 1;
+        CashflowProjectionTask left = new CashflowProjectionTask(calculationService, loans, horizonMonths,
+                from, middle, threshold);
+        left.fork();
+        Buckets buckets = new CashflowProjectionTask(calculationService, loans, horizonMonths,
+                middle, to, threshold).compute();
+        buckets.add(left.join());
+        return buckets;
+    }
+
+    /**
+     * Adds the installments of one loan that fall within the horizon to the buckets, or counts the loan as failed
+     * if its EMI cannot be calculated.
+     * <p>
+     * The replay follows the amortization schedule of the calculation service: the interest of a month is the
+     * unrounded balance times the monthly rate, and the interest booked is the increase of the cumulative interest
+     * rounded to cents. Every installment but the last pays the EMI rounded to cents, and the last installment,
+     * which is the first whose balance and interest no longer exceed the EMI, repays the principal still
+     * outstanding, so the principal booked for a loan adds up to its principal and no amount is negative.
+     *
+     * @param index The position of the loan in the portfolio
+     * @param loan The loan
+     * @param buckets The buckets receiving the installments
+     */
+    private void projectLoan(int index, CalculationInput loan, Buckets buckets) {
+        CalculationResult result;
+        try {
+            result = calculationService.calculateEMI(loan);
+        } catch (CalculationException | NullPointerException | IllegalArgumentException e) {
+            buckets.loansFailed++;
+            return;
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Unexpected error projecting loan " + index, e);
+            buckets.loansFailed++;
+            return;
+        }
+
+        int totalMonths = result.getNumberOfInstallments();
+        long payment = toCents(result.getEmiAmount());
+        long remainingPrincipal = toCents(loan.getPrincipal());
+        double monthlyRate = loan.getInterestRate().doubleValue() / MONTHLY_PERCENTAGE_DIVISOR;
+        double balance = loan.getPrincipal().doubleValue() * 100.0;
+        double cumulativeInterest = 0.0;
+        long roundedCumulativeInterest = 0L;
+        int months = Math.min(totalMonths, horizonMonths);
+        long[] principalCents = buckets.principalCents;
+        long[] interestCents = buckets.interestCents;
+        for (int month = 1; month <= months; month++) {
+            double interest = balance * monthlyRate;
+            double balanceWithInterest = balance + interest;
+            cumulativeInterest += interest;
+            long previousInterest = roundedCumulativeInterest;
+            roundedCumulativeInterest = Math.round(cumulativeInterest);
+            long interestPaid = roundedCumulativeInterest - previousInterest;
+            interestCents[month - 1] += interestPaid;
+            if (month == totalMonths || balanceWithInterest <= payment) {
+                principalCents[month - 1] += remainingPrincipal;
+                break;
+            }
+            principalCents[month - 1] += payment - interestPaid;
+            remainingPrincipal -= payment - interestPaid;
+            balance = balanceWithInterest - payment;
+        }
+        buckets.loansProjected++;
+    }
+
+    /**
+     * Rounds an amount half up to whole cents.
+     */
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(CalculationConstants.CURRENCY_PRECISION, RoundingMode.HALF_UP)
+                .unscaledValue().longValueExact();
+    }
+
+    /**
+     * Monthly principal and interest totals of the loans projected by one task, in cents.
+     */
+    static final class Buckets {
+
+        final long[] principalCents;
+        final long[] interestCents;
+        long loansProjected;
+        long loansFailed;
+
+        Buckets(int horizonMonths) {
+            this.principalCents = new long[horizonMonths];
+            this.interestCents = new long[horizonMonths];
+        }
+
+        /**
+         * Adds the totals of other buckets of the same horizon to these.
+         *
+         * @param other The buckets to add
+         */
+        void add(Buckets other) {
+            for (int i = 0; i < principalCents.length; i++) {
+                principalCents[i] += other.principalCents[i];
+                interestCents[i] += other.interestCents[i];
+            }
+            loansProjected += other.loansProjected;
+            loansFailed += other.loansFailed;
+        }
+    }
+}
@@ -0,0 +1,666 @@
+package com.bank.calculator.batch;
+
+import java.io.BufferedReader; // JDK 11
+import java.io.BufferedWriter; // JDK 11
+import java.io.IOException; // JDK 11
+import java.io.Writer; // JDK 11
+import java.math.BigDecimal; // JDK 11
+import java.nio.charset.StandardCharsets; // JDK 11
+import java.nio.file.Files; // JDK 11
+import java.nio.file.Path; // JDK 11
+import java.util.ArrayDeque; // JDK 11
+import java.util.ArrayList; // JDK 11
+import java.util.Arrays; // JDK 11
+import java.util.Deque; // JDK 11
+import java.util.List; // JDK 11
+import java.util.Objects; // JDK 11
+import java.util.concurrent.Callable; // JDK 11
+import java.util.concurrent.ExecutionException; // JDK 11
+import java.util.concurrent.ExecutorService; // JDK 11
+import java.util.concurrent.Executors; // JDK 11
+import java.util.concurrent.Future; // JDK 11
+import java.util.concurrent.ThreadFactory; // JDK 11
+import java.util.concurrent.atomic.AtomicInteger; // JDK 11
+import java.util.logging.Logger; // JDK 11
+import java.util.logging.Level; // JDK 11
+
+import com.bank.calculator.service.CalculationService;
+import com.bank.calculator.service.ValidationService;
+import com.bank.calculator.service.impl.CoalescingCalculationService;
+import com.bank.calculator.service.impl.FixedPointCalculationServiceImpl;
+import com.bank.calculator.model.CalculationInput;
+import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.model.ValidationResult;
+import com.bank.calculator.exception.CalculationException;
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.constant.ErrorMessages;
+import com.bank.calculator.util.BigDecimalUtils;
+import com.bank.calculator.util.FixedPointMath;
+
+/**
+ * Calculates the EMI of every loan in a CSV file and streams the results to another CSV file.
+ * <p>
+ * Each input row holds {@code principal,durationYears[,interestRate]}; the interest rate defaults to
+ * {@link CalculationConstants#DEFAULT_INTEREST_RATE} when omitted. An optional header line and blank lines are
+ * skipped. Rows are validated with the {@link ValidationService} and calculated with the
+ * {@link CalculationService}; a row that fails is written with status {@value #STATUS_ERROR} and its error
+ * message instead of stopping the run.
+ * <p>
+ * The input is read in chunks of rows that are processed in parallel by worker threads. At most
+ * {@code 2 × parallelism} chunks are in flight at any time and their output is written in input order as soon
+ * as the oldest chunk completes, so memory use depends on the chunk size and parallelism, never on the file size.
+ * <p>
+ * An input file is memory-mapped and its records are decoded by a {@link MappedLoanFileParser} into packed
+ * {@link FixedPointMath} values, without creating a {@code String} per row. Records within the allowed principal
+ * and duration ranges, the rules of {@link com.bank.calculator.service.impl.ValidationServiceImpl}, are calculated
+ * from the packed values, by {@link FixedPointCalculationServiceImpl#calculateEMICents(long, int, long, long[])}
+ * when the fixed-point engine is used; the other records are validated and reported from their text as before.
+ * The principal and interest rate of a decoded record are written as decoded, without leading zeros.
+ */
+public final class CsvBatchProcessor {
+
+    private static final Logger LOGGER = Logger.getLogger(CsvBatchProcessor.class.getName());
+
+    /**
+     * Header line written at the start of every output file.
+     */
+    public static final String OUTPUT_HEADER =
+            "line,principal,durationYears,interestRate,emi,totalAmount,interestAmount,status,error";
+
+    /**
+     * Status of a row that was calculated successfully.
+     */
+    public static final String STATUS_OK = "OK";
+
+    /**
+     * Status of a row that failed validation or calculation.
+     */
+    public static final String STATUS_ERROR = "ERROR";
+
+    private static final int IN_FLIGHT_CHUNKS_PER_THREAD = 2;
+    private static final char SEPARATOR = ',';
+
+    /**
+     * Typical size of an input row in bytes, used to size mapped chunks to about {@code chunkSize} rows.
+     */
+    private static final int ESTIMATED_ROW_BYTES = 32;
+
+    private static final long MIN_PRINCIPAL_CENTS = FixedPointMath.unscaledValue(
+            FixedPointMath.of(CalculationConstants.MIN_PRINCIPAL_AMOUNT), CalculationConstants.CURRENCY_PRECISION);
+    private static final long MAX_PRINCIPAL_CENTS = FixedPointMath.unscaledValue(
+            FixedPointMath.of(CalculationConstants.MAX_PRINCIPAL_AMOUNT), CalculationConstants.CURRENCY_PRECISION);
+    private static final long DEFAULT_INTEREST_RATE = FixedPointMath.of(CalculationConstants.DEFAULT_INTEREST_RATE);
+
+    private final ValidationService validationService;
+    private final CalculationService calculationService;
+    private final FixedPointCalculationServiceImpl packedEngine;
+    private final int parallelism;
+    private final int chunkSize;
+
+    /**
+     * Constructs a new CsvBatchProcessor.
+     *
+     * @param validationService The service used to validate each row
+     * @param calculationService The service used to calculate each row
+     * @param parallelism The number of worker threads
+     * @param chunkSize The number of rows handed to a worker at a time
+     * @throws NullPointerException if validationService or calculationService is null
+     * @throws IllegalArgumentException if parallelism or chunkSize is not positive
+     */
+    public CsvBatchProcessor(ValidationService validationService, CalculationService calculationService,
+                             int parallelism, int chunkSize) {
+        this.validationService = Objects.requireNonNull(validationService, "ValidationService cannot be null");
+        this.calculationService = Objects.requireNonNull(calculationService, "CalculationService cannot be null");
+        this.packedEngine = packedEngine(calculationService);
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be greater than zero");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be greater than zero");
+        }
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Processes the input CSV file and writes the results to the output CSV file, replacing it if it exists.
+     * <p>
+     * The input is memory-mapped with a {@link MappedLoanFileParser} and split into chunks of about
+     * {@code chunkSize} rows on line boundaries, and workers decode the records straight from the mapped bytes.
+     *
+     * @param input The input file
+     * @param output The output file
+     * @return The summary of the run
+     * @throws IOException if a file cannot be read or written
+     * @throws NullPointerException if input or output is null
+     */
+    public BatchSummary process(Path input, Path output) throws IOException {
+        Objects.requireNonNull(input, "Input path cannot be null");
+        Objects.requireNonNull(output, "Output path cannot be null");
+
+        try (MappedLoanFileParser parser = new MappedLoanFileParser(input);
+             BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            long chunkBytes = Math.min((long) chunkSize * ESTIMATED_ROW_BYTES, MappedLoanFileParser.MAX_CHUNK_BYTES);
+            List<LoanFileChunk> chunks = parser.split(chunkBytes);
+            return process(writer, pipeline -> {
+                for (LoanFileChunk chunk : chunks) {
+                    pipeline.submit(new MappedChunkTask(chunk));
+                }
+            });
+        }
+    }
+
+    /**
+     * Processes CSV rows from the reader and writes the results to the writer. Neither stream is closed.
+     *
+     * @param reader The source of input rows
+     * @param writer The destination of result rows
+     * @return The summary of the run
+     * @throws IOException if reading or writing fails
+     * @throws NullPointerException if reader or writer is null
+     */
+    public BatchSummary process(BufferedReader reader, Writer writer) throws IOException {
+        Objects.requireNonNull(reader, "Reader cannot be null");
+        Objects.requireNonNull(writer, "Writer cannot be null");
+
+        return process(writer, pipeline -> readChunks(reader, pipeline));
+    }
+
+    /**
+     * Writes the output header, runs the chunks of the source on worker threads and writes their results.
+     *
+     * @param writer The destination of result rows
+     * @param source The source submitting the chunks of the input in order
+     * @return The summary of the run
+     * @throws IOException if reading or writing fails
+     */
+    private BatchSummary process(Writer writer, ChunkSource source) throws IOException {
+        long start = System.nanoTime();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, new WorkerThreadFactory());
+        ChunkPipeline pipeline = new ChunkPipeline(workers, writer, parallelism * IN_FLIGHT_CHUNKS_PER_THREAD);
+        try {
+            writer.write(OUTPUT_HEADER);
+            writer.write('\n');
+            source.submitChunks(pipeline);
+            pipeline.finish();
+        } finally {
+            workers.shutdownNow();
+        }
+
+        BatchSummary summary = new BatchSummary(pipeline.rowsProcessed, pipeline.rowsFailed, System.nanoTime() - start);
+        LOGGER.log(Level.INFO, "Batch completed: {0}", summary);
+        return summary;
+    }
+
+    /**
+     * Reads the lines of the reader into chunks of {@code chunkSize} lines and submits them in order.
+     */
+    private void readChunks(BufferedReader reader, ChunkPipeline pipeline) throws IOException {
+        boolean firstLine = true;
+        List<String> rows = new ArrayList<>(chunkSize);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (firstLine) {
+                firstLine = false;
+                if (isHeader(line)) {
+                    pipeline.skipLines(1);
+                    continue;
+                }
+            }
+            // Blank lines keep their slot so that output rows can report their input line number
+            rows.add(line);
+            if (rows.size() == chunkSize) {
+                pipeline.submit(new ChunkTask(rows));
+                rows = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!rows.isEmpty()) {
+            pipeline.submit(new ChunkTask(rows));
+        }
+    }
+
+    /**
+     * Returns whether a line is a header rather than a data row, i.e. whether it starts with a letter.
+     *
+     * @param line The first line of the input
+     * @return true if the line is a header, false otherwise
+     */
+    private static boolean isHeader(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return Character.isLetter(c);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Waits for a chunk to complete, unwrapping worker failures.
+     *
+     * @param future The pending chunk
+     * @return The completed chunk
+     * @throws IOException if the calling thread is interrupted
+     */
+    private static ChunkResult await(Future<ChunkResult> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Batch processing was interrupted", e);
+        } catch (ExecutionException e) {
+            // Rows never throw, so this is an unexpected worker failure
+            throw new IllegalStateException("Batch worker failed", e.getCause());
+        }
+    }
+
+    /**
+     * Validates and calculates a single row, appending its result line without the line number to the output.
+     *
+     * @param line The row text
+     * @param output The buffer receiving the result line
+     * @return true if the row was calculated successfully, false otherwise
+     */
+    private boolean processRow(String line, StringBuilder output) {
+        int firstSeparator = line.indexOf(SEPARATOR);
+        int secondSeparator = firstSeparator < 0 ? -1 : line.indexOf(SEPARATOR, firstSeparator + 1);
+        String principalText = firstSeparator < 0 ? line.trim() : line.substring(0, firstSeparator).trim();
+        String durationText = firstSeparator < 0 ? ""
+                : line.substring(firstSeparator + 1, secondSeparator < 0 ? line.length() : secondSeparator).trim();
+        String rateText = secondSeparator < 0 ? "" : line.substring(secondSeparator + 1).trim();
+
+        appendField(output, principalText).append(SEPARATOR);
+        appendField(output, durationText).append(SEPARATOR);
+        appendField(output, rateText).append(SEPARATOR);
+
+        ValidationResult validation = validationService.validateAllInputs(principalText, durationText);
+        if (!validation.isValid()) {
+            return appendError(output, validation.getErrorMessage());
+        }
+
+        BigDecimal interestRate = CalculationConstants.DEFAULT_INTEREST_RATE;
+        if (!rateText.isEmpty()) {
+            try {
+                interestRate = new BigDecimal(rateText);
+            } catch (NumberFormatException e) {
+                return appendError(output, ErrorMessages.INTEREST_RATE_FORMAT);
+            }
+            if (interestRate.signum() < 0) {
+                return appendError(output, ErrorMessages.NEGATIVE_INTEREST_RATE);
+            }
+        }
+
+        try {
+            CalculationInput input = validation.getParsedInput();
+            if (input == null) {
+                input = new CalculationInput(new BigDecimal(principalText), Integer.parseInt(durationText));
+            }
+            input.setInterestRate(interestRate);
+            return appendResult(output, calculationService.calculateEMI(input));
+        } catch (CalculationException e) {
+            return appendError(output, e.getMessage());
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Unexpected error calculating row " + line, e);
+            return appendError(output, ErrorMessages.SYSTEM_ERROR);
+        }
+    }
+
+    /**
+     * Validates and calculates a record decoded from a mapped file, appending its result line without the line
+     * number to the output. With the fixed-point engine, a record within the allowed ranges is calculated straight
+     * from its packed values without creating any object; with other engines, its packed values are converted to
+     * {@link BigDecimal}s without parsing any text. A record outside the allowed ranges is written out as text and
+     * handed to {@link #processRow(String, StringBuilder)}, so that it is reported exactly like the text would be.
+     *
+     * @param principal The packed principal amount
+     * @param durationYears The loan duration in years
+     * @param interestRate The packed interest rate, or {@link MappedLoanFileParser#RATE_ABSENT}
+     * @param cents The buffer receiving the amounts calculated by the fixed-point engine
+     * @param output The buffer receiving the result line
+     * @return true if the record was calculated successfully, false otherwise
+     */
+    private boolean processRecord(long principal, int durationYears, long interestRate, long[] cents,
+                                  StringBuilder output) {
+        long principalCents = FixedPointMath.unscaledValue(principal, CalculationConstants.CURRENCY_PRECISION);
+        if (FixedPointMath.scale(principal) > CalculationConstants.CURRENCY_PRECISION
+                || principalCents < MIN_PRINCIPAL_CENTS || principalCents > MAX_PRINCIPAL_CENTS
+                || durationYears < CalculationConstants.MIN_DURATION_YEARS
+                || durationYears > CalculationConstants.MAX_DURATION_YEARS) {
+            return processRow(toText(principal, durationYears, interestRate), output);
+        }
+
+        appendDecimal(output, principal).append(SEPARATOR).append(durationYears).append(SEPARATOR);
+        if (interestRate != MappedLoanFileParser.RATE_ABSENT) {
+            appendDecimal(output, interestRate);
+        }
+        output.append(SEPARATOR);
+
+        long rate = interestRate == MappedLoanFileParser.RATE_ABSENT ? DEFAULT_INTEREST_RATE : interestRate;
+        if (packedEngine != null && packedEngine.calculateEMICents(principal, durationYears, rate, cents)) {
+            appendCents(output, cents[0]).append(SEPARATOR);
+            appendCents(output, cents[1]).append(SEPARATOR);
+            appendCents(output, cents[2]).append(SEPARATOR);
+            output.append(STATUS_OK).append(SEPARATOR).append('\n');
+            return true;
+        }
+        try {
+            return appendResult(output, calculationService.calculateEMI(FixedPointMath.toBigDecimal(principal),
+                    durationYears, FixedPointMath.toBigDecimal(rate)));
+        } catch (CalculationException e) {
+            return appendError(output, e.getMessage());
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING,
+                    "Unexpected error calculating row " + toText(principal, durationYears, interestRate), e);
+            return appendError(output, ErrorMessages.SYSTEM_ERROR);
+        }
+    }
+
+    /**
+     * Appends the amounts of a calculated row and the success status.
+     *
+     * @return always true, so that callers can return the result directly
+     */
+    private static boolean appendResult(StringBuilder output, CalculationResult result) {
+        output.append(toCurrency(result.getEmiAmount())).append(SEPARATOR)
+              .append(toCurrency(result.getTotalAmount())).append(SEPARATOR)
+              .append(toCurrency(result.getInterestAmount())).append(SEPARATOR)
+              .append(STATUS_OK).append(SEPARATOR).append('\n');
+        return true;
+    }
+
+    /**
+     * Appends the empty result columns, the error status and the error message of a failed row.
+     *
+     * @return always false, so that callers can return the result directly
+     */
+    private static boolean appendError(StringBuilder output, String message) {
+        output.append(SEPARATOR).append(SEPARATOR).append(SEPARATOR).append(STATUS_ERROR).append(SEPARATOR);
+        appendField(output, message).append('\n');
+        return false;
+    }
+
+    /**
+     * Appends a field, quoting it if it contains a separator, quote or line break.
+     */
+    private static StringBuilder appendField(StringBuilder output, String value) {
+        if (value == null) {
+            return output;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == SEPARATOR || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            return output.append(value);
+        }
+        output.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                output.append('"');
+            }
+            output.append(c);
+        }
+        return output.append('"');
+    }
+
+    /**
+     * Formats an amount with currency precision and without an exponent.
+     */
+    private static String toCurrency(BigDecimal amount) {
+        return BigDecimalUtils.round(amount, CalculationConstants.CURRENCY_PRECISION).toPlainString();
+    }
+
+    /**
+     * Appends an amount in cents like {@link #toCurrency(BigDecimal)} formats it.
+     */
+    private static StringBuilder appendCents(StringBuilder output, long cents) {
+        long magnitude = cents;
+        if (cents < 0) {
+            output.append('-');
+            magnitude = -cents;
+        }
+        long fraction = magnitude % 100;
+        output.append(magnitude / 100).append('.');
+        return output.append((char) ('0' + fraction / 10)).append((char) ('0' + fraction % 10));
+    }
+
+    /**
+     * Appends a packed value in plain notation, like {@link BigDecimal#toPlainString()}.
+     */
+    private static StringBuilder appendDecimal(StringBuilder output, long value) {
+        long mantissa = FixedPointMath.mantissa(value);
+        int scale = FixedPointMath.scale(value);
+        if (scale <= 0) {
+            output.append(mantissa);
+            for (int i = scale; i < 0 && mantissa != 0; i++) {
+                output.append('0');
+            }
+            return output;
+        }
+        int start = output.length();
+        output.append(mantissa);
+        int digits = output.length() - start;
+        for (int i = digits; i <= scale; i++) {
+            output.insert(start, '0');
+        }
+        return output.insert(output.length() - scale, '.');
+    }
+
+    /**
+     * Returns the text of a decoded record, for records that are reported through the text path.
+     */
+    private static String toText(long principal, int durationYears, long interestRate) {
+        StringBuilder text = appendDecimal(new StringBuilder(), principal).append(SEPARATOR).append(durationYears);
+        if (interestRate != MappedLoanFileParser.RATE_ABSENT) {
+            appendDecimal(text.append(SEPARATOR), interestRate);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Returns the engine calculating packed records, or null if the service does not calculate on packed values.
+     * Coalescing is skipped for packed records: it would cost more than the allocation-free calculation itself.
+     */
+    private static FixedPointCalculationServiceImpl packedEngine(CalculationService calculationService) {
+        CalculationService engine = calculationService instanceof CoalescingCalculationService
+                ? ((CoalescingCalculationService) calculationService).getDelegate() : calculationService;
+        return engine instanceof FixedPointCalculationServiceImpl ? (FixedPointCalculationServiceImpl) engine : null;
+    }
+
+    /**
+     * Submits the chunks of an input to a pipeline in input order.
+     */
+    @FunctionalInterface
+    private interface ChunkSource {
+        void submitChunks(ChunkPipeline pipeline) throws IOException;
+    }
+
+    /**
+     * Runs chunks on the worker threads, at most {@code maxInFlight} at a time, and writes their output in
+     * submission order as soon as the oldest chunk completes. Rows are numbered here, when the number of input
+     * lines before their chunk is known, so that chunks can be parsed without knowing where they start.
+     */
+    private static final class ChunkPipeline {
+        private final ExecutorService workers;
+        private final Writer writer;
+        private final int maxInFlight;
+        private final Deque<Future<ChunkResult>> inFlight;
+        private final char[] digits = new char[20];
+        private long linesWritten;
+        private long rowsProcessed;
+        private long rowsFailed;
+
+        ChunkPipeline(ExecutorService workers, Writer writer, int maxInFlight) {
+            this.workers = workers;
+            this.writer = writer;
+            this.maxInFlight = maxInFlight;
+            this.inFlight = new ArrayDeque<>(maxInFlight);
+        }
+
+        /**
+         * Submits the next chunk, first writing the oldest one if the maximum number of chunks is in flight.
+         */
+        void submit(Callable<ChunkResult> chunk) throws IOException {
+            if (inFlight.size() == maxInFlight) {
+                writeOldest();
+            }
+            inFlight.addLast(workers.submit(chunk));
+        }
+
+        /**
+         * Counts input lines that precede the next chunk but belong to none, such as a header.
+         */
+        void skipLines(int lines) {
+            linesWritten += lines;
+        }
+
+        /**
+         * Writes every chunk still in flight and flushes the writer.
+         */
+        void finish() throws IOException {
+            while (!inFlight.isEmpty()) {
+                writeOldest();
+            }
+            writer.flush();
+        }
+
+        private void writeOldest() throws IOException {
+            ChunkResult completed = await(inFlight.removeFirst());
+            int rowStart = 0;
+            for (int i = 0; i < completed.rows; i++) {
+                writeNumber(linesWritten + completed.rowLines[i]);
+                writer.write(SEPARATOR);
+                writer.write(completed.output, rowStart, completed.rowEnds[i] - rowStart);
+                rowStart = completed.rowEnds[i];
+            }
+            linesWritten += completed.lineCount;
+            rowsProcessed += completed.rows;
+            rowsFailed += completed.rowsFailed;
+        }
+
+        private void writeNumber(long number) throws IOException {
+            int position = digits.length;
+            long remaining = number;
+            do {
+                digits[--position] = (char) ('0' + remaining % 10);
+                remaining /= 10;
+            } while (remaining != 0);
+            writer.write(digits, position, digits.length - position);
+        }
+    }
+
+    /**
+     * Output of one processed chunk: the result lines without their line numbers, and for each row its line
+     * within the chunk, starting at 1, and where its result line ends.
+     */
+    private static final class ChunkResult {
+        private final StringBuilder builder;
+        private String output;
+        private int[] rowLines;
+        private int[] rowEnds;
+        private int rows;
+        private int rowsFailed;
+        private int lineCount;
+
+        ChunkResult(int expectedRows) {
+            int capacity = Math.max(1, expectedRows);
+            this.builder = new StringBuilder(capacity * 96);
+            this.rowLines = new int[capacity];
+            this.rowEnds = new int[capacity];
+        }
+
+        /**
+         * Records the row whose result line was just appended to the builder.
+         */
+        void endRow(int line, boolean succeeded) {
+            if (rows == rowLines.length) {
+                rowLines = Arrays.copyOf(rowLines, rows * 2);
+                rowEnds = Arrays.copyOf(rowEnds, rows * 2);
+            }
+            rowLines[rows] = line;
+            rowEnds[rows] = builder.length();
+            rows++;
+            if (!succeeded) {
+                rowsFailed++;
+            }
+        }
+
+        /**
+         * Completes the chunk, which covered the specified number of input lines.
+         */
+        ChunkResult finish(int lines) {
+            lineCount = lines;
+            output = builder.toString();
+            return this;
+        }
+    }
+
+    /**
+     * Worker task that processes a chunk of consecutive input lines.
+     */
+    private final class ChunkTask implements Callable<ChunkResult> {
+        private final List<String> lines;
+
+        ChunkTask(List<String> lines) {
+            this.lines = lines;
+        }
+
+        @Override
+        public ChunkResult call() {
+            ChunkResult result = new ChunkResult(lines.size());
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i);
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                result.endRow(i + 1, processRow(line, result.builder));
+            }
+            return result.finish(lines.size());
+        }
+    }
+
+    /**
+     * Worker task that decodes and processes a chunk of a mapped input file.
+     */
+    private final class MappedChunkTask implements Callable<ChunkResult>, LoanRecordHandler {
+        private final LoanFileChunk chunk;
+        private final long[] cents = new long[3];
+        private ChunkResult result;
+
+        MappedChunkTask(LoanFileChunk chunk) {
+            this.chunk = chunk;
+        }
+
+        @Override
+        public ChunkResult call() throws IOException {
+            result = new ChunkResult(chunk.getLength() / ESTIMATED_ROW_BYTES);
+            return result.finish(chunk.parse(this));
+        }
+
+        @Override
+        public void onRecord(int line, long principal, int durationYears, long interestRate) {
+            result.endRow(line, processRecord(principal, durationYears, interestRate, cents, result.builder));
+        }
+
+        @Override
+        public void onMalformedRecord(int line, String text) {
+            result.endRow(line, processRow(text, result.builder));
+        }
+    }
+
+    /**
+     * Creates named daemon worker threads so that an abandoned run never keeps the JVM alive.
+     */
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "csv-batch-worker-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.bank.calculator.batch;
+
+import java.io.IOException; // JDK 11
+import java.nio.ByteBuffer; // JDK 11
+import java.nio.MappedByteBuffer; // JDK 11
+import java.nio.channels.FileChannel; // JDK 11
+import java.nio.charset.StandardCharsets; // JDK 11
+import java.util.Objects; // JDK 11
+
+import com.bank.calculator.util.FixedPointMath;
+
+/**
+ * A region of a loan file that starts and ends on line boundaries, created by
+ * {@link MappedLoanFileParser#split(long)}. Chunks of the same file can be parsed concurrently.
+ */
+public final class LoanFileChunk {
+
+    private static final int MAX_DURATION_DIGITS = 9;
+    private static final byte SEPARATOR = ',';
+
+    private final FileChannel channel;
+    private final long start;
+    private final int length;
+
+    /**
+     * Constructs a new LoanFileChunk covering {@code length} bytes from offset {@code start}.
+     *
+     * @param channel The channel of the loan file
+     * @param start The file offset of the first byte of the chunk
+     * @param length The number of bytes in the chunk
+     */
+    LoanFileChunk(FileChannel channel, long start, int length) {
+        this.channel = channel;
+        this.start = start;
+        this.length = length;
+    }
+
+    /**
+     * Returns the file offset of the first byte of the chunk.
+     *
+     * @return The start offset
+     */
+    public long getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the number of bytes in the chunk.
+     *
+     * @return The chunk length
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Maps the chunk and passes every record to the handler in line order.
+     *
+     * @param handler The handler receiving the decoded records
+     * @return The number of lines in the chunk, including header and blank lines
+     * @throws IOException if the chunk cannot be mapped
+     * @throws NullPointerException if handler is null
+     */
+    public int parse(LoanRecordHandler handler) throws IOException {
+        Objects.requireNonNull(handler, "Handler cannot be null");
+
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        int position = 0;
+        int line = 0;
+        while (position < length) {
+            line++;
+            int end = position;
+            while (end < length && buffer.get(end) != '\n') {
+                end++;
+            }
+            int next = end + 1;
+            if (end > position && buffer.get(end - 1) == '\r') {
+                end--;
+            }
+
+            int first = skipBlanks(buffer, position, end);
+            boolean header = start == 0 && line == 1 && first < end && isLetter(buffer.get(first));
+            if (first < end && !header) {
+                parseRecord(buffer, position, end, line, handler);
+            }
+            position = next;
+        }
+        return line;
+    }
+
+    /**
+     * Decodes the fields of the record in [from, to) and reports it to the handler.
+     */
+    private static void parseRecord(ByteBuffer buffer, int from, int to, int line, LoanRecordHandler handler) {
+        int firstSeparator = indexOf(buffer, SEPARATOR, from, to);
+        if (firstSeparator < 0) {
+            handler.onMalformedRecord(line, decode(buffer, from, to));
+            return;
+        }
+        int secondSeparator = indexOf(buffer, SEPARATOR, firstSeparator + 1, to);
+        long principal = decodeDecimal(buffer, from, firstSeparator);
+        int durationYears = decodeInteger(buffer, firstSeparator + 1, secondSeparator < 0 ? to : secondSeparator);
+        long interestRate = MappedLoanFileParser.RATE_ABSENT;
+        boolean wellFormed = principal != FixedPointMath.UNREPRESENTABLE && durationYears >= 0;
+        if (wellFormed && secondSeparator >= 0 && skipBlanks(buffer, secondSeparator + 1, to) < to) {
+            interestRate = decodeDecimal(buffer, secondSeparator + 1, to);
+            wellFormed = interestRate != FixedPointMath.UNREPRESENTABLE;
+        }
+
+        if (wellFormed) {
+            handler.onRecord(line, principal, durationYears, interestRate);
+        } else {
+            handler.onMalformedRecord(line, decode(buffer, from, to));
+        }
+    }
+
+    /**
+     * Decodes a plain non-negative decimal such as {@code 1234.50} into a packed value. At least one digit is
+     * required before and after the decimal point, and leading zeros do not count towards the digit limit.
+     *
+     * @return The packed value, or {@link FixedPointMath#UNREPRESENTABLE} if the field is malformed
+     */
+    static long decodeDecimal(ByteBuffer buffer, int from, int to) {
+        int first = skipBlanks(buffer, from, to);
+        int last = skipTrailingBlanks(buffer, first, to);
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int integerDigits = 0;
+        int fractionDigits = 0;
+        boolean seenPoint = false;
+        for (int i = first; i < last; i++) {
+            int b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                if (seenPoint) {
+                    fractionDigits++;
+                } else {
+                    integerDigits++;
+                }
+                if (mantissa != 0 || b != '0') {
+                    if (++significantDigits > FixedPointMath.MAX_DIGITS) {
+                        return FixedPointMath.UNREPRESENTABLE;
+                    }
+                    mantissa = mantissa * 10 + (b - '0');
+                }
+            } else if (b == '.' && !seenPoint) {
+                seenPoint = true;
+            } else {
+                return FixedPointMath.UNREPRESENTABLE;
+            }
+        }
+        if (integerDigits == 0 || (seenPoint && fractionDigits == 0)) {
+            return FixedPointMath.UNREPRESENTABLE;
+        }
+        return FixedPointMath.pack(mantissa, fractionDigits);
+    }
+
+    /**
+     * Decodes a non-negative integer of at most nine digits.
+     *
+     * @return The value, or -1 if the field is malformed
+     */
+    static int decodeInteger(ByteBuffer buffer, int from, int to) {
+        int first = skipBlanks(buffer, from, to);
+        int last = skipTrailingBlanks(buffer, first, to);
+        if (first == last || last - first > MAX_DURATION_DIGITS) {
+            return -1;
+        }
+
+        int value = 0;
+        for (int i = first; i < last; i++) {
+            int b = buffer.get(i);
+            if (b < '0' || b > '9') {
+                return -1;
+            }
+            value = value * 10 + (b - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Returns the index of the first byte in [from, to) that is not a blank, or {@code to}.
+     * Blanks are the control and space characters that {@link String#trim()} removes.
+     */
+    private static int skipBlanks(ByteBuffer buffer, int from, int to) {
+        int i = from;
+        while (i < to && isBlank(buffer.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the index just after the last byte in [from, to) that is not a blank, or {@code from}.
+     */
+    private static int skipTrailingBlanks(ByteBuffer buffer, int from, int to) {
+        int i = to;
+        while (i > from && isBlank(buffer.get(i - 1))) {
+            i--;
+        }
+        return i;
+    }
+
+    private static boolean isBlank(byte b) {
+        return b >= 0 && b <= ' ';
+    }
+
+    private static boolean isLetter(byte b) {
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z');
+    }
+
+    private static int indexOf(ByteBuffer buffer, byte value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Decodes the bytes in [from, to) as UTF-8; only used for malformed records.
+     */
+    private static String decode(ByteBuffer buffer, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(from + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,33 @@
+package com.bank.calculator.batch;
+
+/**
+ * Callback interface receiving the loan records decoded by {@link LoanFileChunk#parse(LoanRecordHandler)}.
+ * Amounts are delivered as packed {@link com.bank.calculator.util.FixedPointMath} values decoded directly from
+ * the file bytes, so a well-formed record is handled without creating any intermediate object.
+ * <p>
+ * A handler is called by a single thread for the whole chunk it is given, in line order.
+ * Line numbers count from the start of the chunk; to number records within the whole file, add the line counts
+ * that {@link LoanFileChunk#parse(LoanRecordHandler)} returned for the chunks before it.
+ */
+public interface LoanRecordHandler {
+
+    /**
+     * Called for each well-formed record.
+     *
+     * @param line The line number of the record within its chunk, starting at 1
+     * @param principal The packed principal amount
+     * @param durationYears The loan duration in years
+     * @param interestRate The packed annual interest rate, or {@link MappedLoanFileParser#RATE_ABSENT} if the
+     *        record has no interest rate
+     */
+    void onRecord(int line, long principal, int durationYears, long interestRate);
+
+    /**
+     * Called for each record that cannot be decoded, for example because a field is missing, is not a plain
+     * non-negative decimal number or has more digits than a packed value can hold.
+     *
+     * @param line The line number of the record within its chunk, starting at 1
+     * @param text The record text, decoded as UTF-8 without the line terminator
+     */
+    void onMalformedRecord(int line, String text);
+}
@@ -0,0 +1,122 @@
+package com.bank.calculator.batch;
+
+import java.io.Closeable; // JDK 11
+import java.io.EOFException; // JDK 11
+import java.io.IOException; // JDK 11
+import java.nio.ByteBuffer; // JDK 11
+import java.nio.channels.FileChannel; // JDK 11
+import java.nio.file.Path; // JDK 11
+import java.nio.file.StandardOpenOption; // JDK 11
+import java.util.ArrayList; // JDK 11
+import java.util.List; // JDK 11
+import java.util.Objects; // JDK 11
+
+import com.bank.calculator.util.FixedPointMath;
+
+/**
+ * Parser for large loan files of {@code principal,durationYears[,interestRate]} rows that memory-maps the file
+ * instead of reading it through a {@link java.io.Reader}.
+ * <p>
+ * {@link #split(long)} divides the file into {@link LoanFileChunk}s that start and end on line boundaries, so
+ * each chunk can be parsed by a different worker thread. A chunk maps only its own region of the file and
+ * decodes the numeric fields straight from the mapped bytes into packed {@link FixedPointMath} values; no
+ * {@code String} or {@code BigDecimal} is created for a well-formed row.
+ * <p>
+ * Lines may end with {@code \n} or {@code \r\n}. A first line starting with a letter is treated as a header and
+ * skipped, as are blank lines. The parser must be closed once all of its chunks have been parsed.
+ */
+public final class MappedLoanFileParser implements Closeable {
+
+    /**
+     * Packed interest rate passed to {@link LoanRecordHandler#onRecord} when a record has no interest rate.
+     */
+    public static final long RATE_ABSENT = FixedPointMath.UNREPRESENTABLE;
+
+    /**
+     * Default target size of a chunk in bytes.
+     */
+    public static final long DEFAULT_CHUNK_BYTES = 8L << 20;
+
+    /**
+     * Largest target size of a chunk in bytes, leaving room for the chunk to extend to the end of its last line
+     * within the 2 GB limit of a single mapping.
+     */
+    public static final long MAX_CHUNK_BYTES = 1L << 30;
+
+    private static final int BOUNDARY_SCAN_BYTES = 8192;
+
+    private final Path file;
+    private final FileChannel channel;
+
+    /**
+     * Opens the specified loan file for parsing.
+     *
+     * @param file The loan file
+     * @throws IOException if the file cannot be opened
+     * @throws NullPointerException if file is null
+     */
+    public MappedLoanFileParser(Path file) throws IOException {
+        this.file = Objects.requireNonNull(file, "File cannot be null");
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+    }
+
+    /**
+     * Splits the file into chunks of roughly the specified size, each ending just after a line terminator or at
+     * the end of the file. Only the bytes around each boundary are read.
+     *
+     * @param chunkBytes The target chunk size in bytes, at most {@link #MAX_CHUNK_BYTES}
+     * @return The chunks in file order; empty for an empty file
+     * @throws IOException if the file cannot be read or a line is too long to fit in a chunk
+     * @throws IllegalArgumentException if chunkBytes is not positive or exceeds {@link #MAX_CHUNK_BYTES}
+     */
+    public List<LoanFileChunk> split(long chunkBytes) throws IOException {
+        if (chunkBytes <= 0 || chunkBytes > MAX_CHUNK_BYTES) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + MAX_CHUNK_BYTES + " bytes");
+        }
+
+        long size = channel.size();
+        List<LoanFileChunk> chunks = new ArrayList<>((int) Math.min(Integer.MAX_VALUE, size / chunkBytes + 1));
+        ByteBuffer scan = ByteBuffer.allocate(BOUNDARY_SCAN_BYTES);
+        long start = 0;
+        while (start < size) {
+            long end = start + chunkBytes >= size ? size : lineEndAfter(start + chunkBytes - 1, size, scan);
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IOException("Line starting before offset " + (start + chunkBytes) + " of " + file + " is too long");
+            }
+            chunks.add(new LoanFileChunk(channel, start, (int) (end - start)));
+            start = end;
+        }
+        return chunks;
+    }
+
+    /**
+     * Returns the offset just after the first line terminator at or after the specified position.
+     */
+    private long lineEndAfter(long position, long size, ByteBuffer scan) throws IOException {
+        long offset = position;
+        while (offset < size) {
+            scan.clear();
+            int read = channel.read(scan, offset);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of " + file);
+            }
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    /**
+     * Closes the underlying file channel. Mappings of chunks that are still being parsed remain valid.
+     *
+     * @throws IOException if the channel cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
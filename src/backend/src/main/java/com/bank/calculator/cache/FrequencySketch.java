@@ -0,0 +1,107 @@
+package com.bank.calculator.cache;
+
+/**
+ * Approximate, aging count of how often keys have been seen, used by {@link TinyLfuCache} to decide whether a new
+ * entry is worth more than the one it would evict.
+ * <p>
+ * The sketch is a count-min sketch of 4-bit counters, sixteen to a {@code long}, with four counters per key
+ * chosen by independent hashes; the estimate of a key is the smallest of its counters, which over-estimates only
+ * when all four collide with more frequent keys. Counters saturate at 15. Once the number of increments reaches
+ * ten times the cache size every counter is halved, so that keys popular in the past fade and the sketch follows
+ * the current workload.
+ * <p>
+ * This class is not thread-safe; the cache only uses it while holding its lock.
+ */
+final class FrequencySketch {
+
+    private static final int MAX_FREQUENCY = 15;
+    private static final int SAMPLE_FACTOR = 10;
+    private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+    private static final long[] SEEDS = {
+        0x97cb3127L, 0xab4c9fd1L, 0x9e3779b9L, 0xc2b2ae35L
+    };
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleLimit;
+    private int sampleCount;
+
+    /**
+     * Constructs a new FrequencySketch sized for a cache of the specified maximum size.
+     *
+     * @param maximumSize The maximum number of entries of the cache
+     */
+    FrequencySketch(int maximumSize) {
+        int length = Integer.highestOneBit(Math.max(maximumSize, 16) - 1) << 1;
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleLimit = (int) Math.min((long) SAMPLE_FACTOR * maximumSize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the estimated number of times the key has been seen, between 0 and 15.
+     *
+     * @param key The key
+     * @return The estimated frequency
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long mixed = mix(hash, i);
+            int offset = counterOffset(mixed);
+            frequency = Math.min(frequency, (int) ((table[indexOf(mixed)] >>> offset) & MAX_FREQUENCY));
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an occurrence of the key, halving all counters when the sample period is complete.
+     *
+     * @param key The key
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean incremented = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long mixed = mix(hash, i);
+            int index = indexOf(mixed);
+            int offset = counterOffset(mixed);
+            if (((table[index] >>> offset) & MAX_FREQUENCY) < MAX_FREQUENCY) {
+                table[index] += 1L << offset;
+                incremented = true;
+            }
+        }
+        if (incremented && ++sampleCount >= sampleLimit) {
+            age();
+        }
+    }
+
+    /**
+     * Halves every counter, forgetting half of the history.
+     */
+    private void age() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        sampleCount /= 2;
+    }
+
+    private int indexOf(long mixed) {
+        return (int) (mixed >>> 32) & tableMask;
+    }
+
+    private static int counterOffset(long mixed) {
+        return ((int) mixed & 15) << 2;
+    }
+
+    private static long mix(int hash, int row) {
+        long mixed = (hash + SEEDS[row]) * SEEDS[row];
+        return mixed ^ (mixed >>> 29);
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,248 @@
+package com.bank.calculator.cache;
+
+import java.util.Objects; // JDK 11
+import java.util.concurrent.ConcurrentHashMap; // JDK 11
+import java.util.concurrent.atomic.LongAdder; // JDK 11
+import java.util.concurrent.locks.ReentrantLock; // JDK 11
+
+/**
+ * Size-bounded, thread-safe cache with LRU eviction and TinyLFU admission.
+ * <p>
+ * Entries are kept in least-recently-used order, but a new entry only takes the place of the LRU victim if a
+ * {@link FrequencySketch} of recent lookups estimates that it is requested more often than the victim. A key seen
+ * once, such as each row of a batch job scanning through distinct loans, therefore never displaces the popular
+ * entries, while a key that keeps being requested gains frequency with every miss and is admitted after a few.
+ * The sketch ages its counts, so the cache follows a changing workload.
+ * <p>
+ * Lookups read a {@link ConcurrentHashMap} without locking. Recording a hit in the sketch and the LRU order takes
+ * the cache lock only if it is free; under contention the hit is served but not recorded, which slightly
+ * weakens the recency and frequency information instead of making readers wait. Insertions, which follow an
+ * expensive computation anyway, always take the lock.
+ *
+ * @param <K> the type of keys, which must have stable, value-based {@code equals} and {@code hashCode}
+ * @param <V> the type of cached values, which should be immutable
+ */
+public final class TinyLfuCache<K, V> {
+
+    private final int maximumSize;
+    private final ConcurrentHashMap<K, Node<K, V>> entries;
+    private final FrequencySketch sketch;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Sentinel of the circular LRU list; {@code head.next} is the least recently used entry. Guarded by the lock.
+     */
+    private final Node<K, V> head = new Node<>(null, null);
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder rejectionCount = new LongAdder();
+
+    /**
+     * Constructs a new TinyLfuCache holding at most the specified number of entries.
+     *
+     * @param maximumSize The maximum number of entries
+     * @throws IllegalArgumentException if maximumSize is not positive
+     */
+    public TinyLfuCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum cache size must be greater than zero");
+        }
+        this.maximumSize = maximumSize;
+        this.entries = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16) * 4 / 3 + 1);
+        this.sketch = new FrequencySketch(maximumSize);
+        head.previous = head;
+        head.next = head;
+    }
+
+    /**
+     * Returns the value cached for the key, or null if there is none.
+     *
+     * @param key The key
+     * @return The cached value, or null
+     * @throws NullPointerException if key is null
+     */
+    public V get(K key) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Node<K, V> node = entries.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        if (lock.tryLock()) {
+            try {
+                sketch.increment(key);
+                // The entry may have been evicted since it was read; only linked entries are reordered
+                if (node.next != null) {
+                    unlink(node);
+                    linkLast(node);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    /**
+     * Offers a value for caching. The value is cached if there is room, or if the key is estimated to be
+     * requested more often than the least recently used entry, which it then replaces. A value already cached
+     * for the key is kept.
+     *
+     * @param key The key
+     * @param value The value
+     * @return true if the value is cached, false if it was not admitted or the key was already cached
+     * @throws NullPointerException if key or value is null
+     */
+    public boolean put(K key, V value) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(value, "Value cannot be null");
+        lock.lock();
+        try {
+            sketch.increment(key);
+            if (entries.containsKey(key)) {
+                return false;
+            }
+            if (entries.size() >= maximumSize) {
+                Node<K, V> victim = head.next;
+                if (sketch.frequency(key) <= sketch.frequency(victim.key)) {
+                    rejectionCount.increment();
+                    return false;
+                }
+                unlink(victim);
+                entries.remove(victim.key);
+                evictionCount.increment();
+            }
+            Node<K, V> node = new Node<>(key, value);
+            entries.put(key, node);
+            linkLast(node);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all entries. Statistics are retained.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            // Unlinked one by one, so that a concurrent hit on a removed entry does not relink it
+            while (head.next != head) {
+                unlink(head.next);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return The cache size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the maximum number of cached entries.
+     *
+     * @return The maximum cache size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the number of lookups that found a cached value.
+     *
+     * @return The hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found no cached value.
+     *
+     * @return The miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the ratio of hits to lookups.
+     *
+     * @return The hit ratio between 0 and 1, or 0 if there have been no lookups
+     */
+    public double getHitRatio() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * Returns the number of entries evicted to admit more frequently requested ones.
+     *
+     * @return The eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns the number of values not admitted because they were requested less often than the LRU entry.
+     *
+     * @return The rejection count
+     */
+    public long getRejectionCount() {
+        return rejectionCount.sum();
+    }
+
+    /**
+     * Resets the hit, miss, eviction and rejection counts. Cached entries are kept.
+     */
+    public void resetStatistics() {
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+        rejectionCount.reset();
+    }
+
+    private void linkLast(Node<K, V> node) {
+        Node<K, V> last = head.previous;
+        node.previous = last;
+        node.next = head;
+        last.next = node;
+        head.previous = node;
+    }
+
+    private void unlink(Node<K, V> node) {
+        node.previous.next = node.next;
+        node.next.previous = node.previous;
+        node.previous = null;
+        node.next = null;
+    }
+
+    /**
+     * Cache entry and element of the LRU list; the links are guarded by the cache lock.
+     */
+    private static final class Node<K, V> {
+
+        private final K key;
+        private final V value;
+        private Node<K, V> previous;
+        private Node<K, V> next;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -1,14 +1,52 @@
 package com.bank.calculator.config;
 
+import java.io.IOException; // JDK 11
+import java.lang.management.ManagementFactory; // JDK 11
 import java.math.BigDecimal; // JDK 11
+import java.net.InetSocketAddress; // JDK 11
+import java.nio.file.Files; // JDK 11
+import java.nio.file.Path; // JDK 11
+import java.nio.file.Paths; // JDK 11
+import java.text.ParseException; // JDK 11
+import java.time.Duration; // JDK 11
+import java.util.ArrayList; // JDK 11
+import java.util.List; // JDK 11
+import java.util.concurrent.Executor; // JDK 11
+import java.util.concurrent.ExecutorService; // JDK 11
+import java.util.concurrent.Executors; // JDK 11
+import java.util.concurrent.ForkJoinPool; // JDK 11
+import java.util.concurrent.ScheduledExecutorService; // JDK 11
+import java.util.concurrent.atomic.AtomicInteger; // JDK 11
+import java.util.logging.Handler; // JDK 11
 import java.util.logging.Logger; // JDK 11
 import java.util.logging.Level; // JDK 11
 
+import javax.management.JMException; // JDK 11
+import javax.management.MBeanServer; // JDK 11
+import javax.management.ObjectName; // JDK 11
+
+import jdk.jfr.Configuration; // JDK 11
+import jdk.jfr.FlightRecorder; // JDK 11
+import jdk.jfr.Recording; // JDK 11
+
 import com.bank.calculator.service.CalculationService;
+import com.bank.calculator.service.impl.AnnuityFactorCache;
+import com.bank.calculator.service.impl.AnnuityFactorTable;
 import com.bank.calculator.service.impl.CalculationServiceImpl;
+import com.bank.calculator.service.impl.CoalescingCalculationService;
+import com.bank.calculator.service.impl.FixedPointCalculationServiceImpl;
+import com.bank.calculator.service.impl.AdaptivePrecisionCalculationServiceImpl;
 import com.bank.calculator.service.ValidationService;
 import com.bank.calculator.service.impl.ValidationServiceImpl;
 import com.bank.calculator.controller.CalculatorController;
+import com.bank.calculator.batch.CsvBatchProcessor;
+import com.bank.calculator.batch.PortfolioCashflowProjector;
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.metrics.CalculatorMetrics;
+import com.bank.calculator.model.CalculationKey;
+import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.cache.TinyLfuCache;
+import com.bank.calculator.server.CalculationServer;
 
 /**
  * Configuration class that provides centralized configuration for the Compound Interest Calculator application.
@@ -19,6 +57,78 @@ public class AppConfig {
 
     private static final Logger LOGGER = Logger.getLogger(AppConfig.class.getName());
     
+    /**
+     * System property selecting the calculation engine created by {@link #createCalculationService()}.
+     */
+    public static final String CALCULATION_ENGINE_PROPERTY = "calculator.engine";
+    
+    /**
+     * Engine name of the BigDecimal calculation service (the default).
+     */
+    public static final String ENGINE_BIG_DECIMAL = "bigdecimal";
+    
+    /**
+     * Engine name of the fixed-point long arithmetic calculation service.
+     */
+    public static final String ENGINE_FIXED_POINT = "fixed-point";
+    
+    /**
+     * Engine name of the adaptive-precision calculation service, which calculates in double arithmetic and falls
+     * back to BigDecimal near rounding boundaries.
+     */
+    public static final String ENGINE_ADAPTIVE = "adaptive";
+    
+    /**
+     * System property that disables the always-on flight recording started by {@link #startFlightRecording()}
+     * when set to {@code false}.
+     */
+    public static final String FLIGHT_RECORDING_PROPERTY = "calculator.flightRecording";
+    
+    /**
+     * Name of the always-on flight recording, used to dump it with {@code jcmd <pid> JFR.dump name=calculator}.
+     */
+    public static final String FLIGHT_RECORDING_NAME = "calculator";
+    
+    /**
+     * The flight recorder settings of the always-on recording; the JDK's low-overhead default settings.
+     */
+    private static final String FLIGHT_RECORDING_SETTINGS = "default";
+    
+    /**
+     * How long the always-on flight recording keeps events before discarding them.
+     */
+    private static final Duration FLIGHT_RECORDING_MAX_AGE = Duration.ofMinutes(15);
+    
+    /**
+     * The maximum size in bytes of the events kept by the always-on flight recording.
+     */
+    private static final long FLIGHT_RECORDING_MAX_SIZE = 64L * 1024 * 1024;
+    
+    /**
+     * System property setting the maximum number of EMI results cached by each controller; 0 disables the cache.
+     */
+    public static final String RESULT_CACHE_SIZE_PROPERTY = "calculator.resultCache.size";
+    
+    /**
+     * System property setting the port of the HTTP calculation service; {@code --serve <port>} takes precedence.
+     */
+    public static final String SERVER_PORT_PROPERTY = "calculator.server.port";
+    
+    /**
+     * System property setting the number of threads handling HTTP calculation requests.
+     */
+    public static final String SERVER_THREADS_PROPERTY = "calculator.server.threads";
+    
+    /**
+     * The default port of the HTTP calculation service.
+     */
+    private static final int DEFAULT_SERVER_PORT = 8080;
+    
+    /**
+     * Name prefix of the threads handling HTTP calculation requests.
+     */
+    private static final String SERVER_THREAD_NAME_PREFIX = "http-worker-";
+    
     /**
      * The default annual interest rate used for calculations (7.5%).
      */
@@ -29,6 +139,74 @@ public class AppConfig {
      */
     private static final int DEFAULT_COMPOUNDING_FREQUENCY = 12;
     
+    /**
+     * The maximum number of (monthly rate, months) annuity factors cached by the calculation service.
+     * Covers several hundred rate points across all 30 loan durations.
+     */
+    private static final int ANNUITY_FACTOR_CACHE_SIZE = 8192;
+    
+    /**
+     * System property naming the file of the precomputed annuity factor table of the rate card; unset, every
+     * factor is computed on first use.
+     */
+    public static final String ANNUITY_TABLE_PROPERTY = "calculator.annuityTable";
+    
+    /**
+     * Spacing in hundredths of a percent of the interest rates in the precomputed annuity factor table.
+     */
+    private static final int RATE_CARD_STEP_BASIS_POINTS = 5;
+    
+    /**
+     * Highest interest rate in hundredths of a percent in the precomputed annuity factor table. With the 0.05%
+     * spacing, the table holds 600 rates for 30 durations in about 290 KB.
+     */
+    private static final int RATE_CARD_MAX_BASIS_POINTS = 3000;
+    
+    /**
+     * The annuity factor table shared by all calculation services, loaded on first use.
+     */
+    private static AnnuityFactorTable annuityFactorTable;
+    private static boolean annuityFactorTableLoaded;
+    
+    /**
+     * The calculation executor shared by UI components that are not given one, created on first use.
+     */
+    private static ScheduledExecutorService sharedCalculationExecutor;
+    
+    /**
+     * The default maximum number of EMI results cached by a controller. A result takes a few hundred bytes, so
+     * the default costs a few megabytes and holds every popular product quote many times over.
+     */
+    private static final int DEFAULT_RESULT_CACHE_SIZE = 8192;
+    
+    /**
+     * The number of CSV rows handed to a batch worker at a time.
+     */
+    private static final int BATCH_CHUNK_SIZE = 4096;
+    
+    /**
+     * Name of the thread on which the UI runs calculations.
+     */
+    private static final String CALCULATION_THREAD_NAME = "ui-calculation";
+    
+    /**
+     * System property setting how long in milliseconds the inputs must stay unchanged before the final inputs of a
+     * typing burst are previewed live.
+     */
+    public static final String PREVIEW_DEBOUNCE_PROPERTY = "calculator.preview.debounceMillis";
+    
+    /**
+     * The default quiet period before the final inputs of a typing burst are previewed. The first keystroke of a
+     * burst is previewed at once, within a frame; keystrokes within a typed number come 30 to 150ms apart, so a
+     * quarter of a second waits out the rest of the burst instead of calculating every intermediate number.
+     */
+    private static final long DEFAULT_PREVIEW_DEBOUNCE_MILLIS = 250;
+    
+    /**
+     * The number of log records buffered for the background log writer before further records are dropped.
+     */
+    private static final int LOG_BUFFER_CAPACITY = AsyncLogHandler.DEFAULT_CAPACITY;
+    
     /**
      * The application name.
      */
@@ -47,13 +225,109 @@ public class AppConfig {
     }
     
     /**
-     * Creates and configures a new instance of the CalculationService.
+     * Creates and configures a new instance of the CalculationService, using the engine named by the
+     * {@value #CALCULATION_ENGINE_PROPERTY} system property.
      *
      * @return A configured instance of CalculationService
      */
     public static CalculationService createCalculationService() {
-        LOGGER.info("Creating new instance of CalculationService");
-        return new CalculationServiceImpl();
+        return createCalculationService(System.getProperty(CALCULATION_ENGINE_PROPERTY, ENGINE_BIG_DECIMAL));
+    }
+    
+    /**
+     * Creates and configures a new instance of the CalculationService using the specified engine.
+     *
+     * @param engine The engine name, one of {@value #ENGINE_BIG_DECIMAL}, {@value #ENGINE_FIXED_POINT} or
+     *               {@value #ENGINE_ADAPTIVE}
+     * @return A configured instance of CalculationService
+     * @throws IllegalArgumentException if the engine name is not recognized
+     */
+    public static CalculationService createCalculationService(String engine) {
+        LOGGER.log(Level.INFO, "Creating new instance of CalculationService with engine: {0}", engine);
+        AnnuityFactorCache annuityFactorCache = new AnnuityFactorCache(ANNUITY_FACTOR_CACHE_SIZE, getAnnuityFactorTable());
+        
+        if (ENGINE_BIG_DECIMAL.equalsIgnoreCase(engine)) {
+            return new CalculationServiceImpl(ForkJoinPool.commonPool(), annuityFactorCache);
+        }
+        if (ENGINE_FIXED_POINT.equalsIgnoreCase(engine)) {
+            return new FixedPointCalculationServiceImpl(ForkJoinPool.commonPool(), annuityFactorCache);
+        }
+        if (ENGINE_ADAPTIVE.equalsIgnoreCase(engine)) {
+            return new AdaptivePrecisionCalculationServiceImpl(ForkJoinPool.commonPool(), annuityFactorCache);
+        }
+        throw new IllegalArgumentException("Unknown calculation engine: " + engine);
+    }
+    
+    /**
+     * Returns the precomputed annuity factor table of the rate card, memory-mapped from the file named by
+     * {@value #ANNUITY_TABLE_PROPERTY}. The table is loaded once, on first use; if the file does not exist or was
+     * written by another version of the application, the table is generated and written to it first. A failure is
+     * logged rather than thrown since factors can always be computed on demand.
+     *
+     * @return The shared table, or null if no table file is configured or it could not be loaded or written
+     */
+    public static synchronized AnnuityFactorTable getAnnuityFactorTable() {
+        if (!annuityFactorTableLoaded) {
+            annuityFactorTableLoaded = true;
+            String file = System.getProperty(ANNUITY_TABLE_PROPERTY);
+            if (file != null && !file.isEmpty()) {
+                annuityFactorTable = loadAnnuityFactorTable(Paths.get(file));
+            }
+        }
+        return annuityFactorTable;
+    }
+    
+    /**
+     * Loads the annuity factor table from the specified file, generating the file if it is missing or invalid.
+     */
+    private static AnnuityFactorTable loadAnnuityFactorTable(Path file) {
+        if (Files.exists(file)) {
+            try {
+                AnnuityFactorTable table = AnnuityFactorTable.load(file);
+                LOGGER.log(Level.INFO, "Loaded annuity factor table {0} of {1} rates",
+                        new Object[]{file, table.getRateCount()});
+                return table;
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Annuity factor table is invalid and will be regenerated: {0}", e.getMessage());
+            }
+        }
+        try {
+            long start = System.nanoTime();
+            AnnuityFactorTable.write(file, getRateCard(), CalculationConstants.MAX_DURATION_YEARS);
+            AnnuityFactorTable table = AnnuityFactorTable.load(file);
+            LOGGER.log(Level.INFO, "Generated annuity factor table {0} of {1} rates in {2} ms",
+                    new Object[]{file, table.getRateCount(), (System.nanoTime() - start) / 1_000_000});
+            return table;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to generate annuity factor table " + file, e);
+            return null;
+        }
+    }
+    
+    /**
+     * Returns the interest rates of the precomputed annuity factor table: every multiple of 0.05% up to 30%,
+     * which includes the default rate.
+     *
+     * @return The rate card in percent
+     */
+    public static List<BigDecimal> getRateCard() {
+        List<BigDecimal> rates = new ArrayList<>(RATE_CARD_MAX_BASIS_POINTS / RATE_CARD_STEP_BASIS_POINTS);
+        for (int basisPoints = RATE_CARD_STEP_BASIS_POINTS; basisPoints <= RATE_CARD_MAX_BASIS_POINTS;
+             basisPoints += RATE_CARD_STEP_BASIS_POINTS) {
+            rates.add(BigDecimal.valueOf(basisPoints, 2));
+        }
+        return rates;
+    }
+    
+    /**
+     * Creates a CalculationService for the server and batch modes, where many concurrent requests carry the same
+     * inputs, such as the standard product quotes: the service of the configured engine, wrapped so that
+     * concurrent identical EMI calculations share one computation.
+     *
+     * @return A configured instance of CoalescingCalculationService
+     */
+    public static CalculationService createCoalescingCalculationService() {
+        return new CoalescingCalculationService(createCalculationService());
     }
     
     /**
@@ -76,7 +350,217 @@ public class AppConfig {
     public static CalculatorController createCalculatorController(ValidationService validationService, 
                                                                   CalculationService calculationService) {
         LOGGER.info("Creating new instance of CalculatorController");
-        return new CalculatorController(validationService, calculationService);
+        TinyLfuCache<CalculationKey, CalculationResult> resultCache = createResultCache();
+        CalculatorMetrics.monitorResultCache(resultCache);
+        return new CalculatorController(validationService, calculationService, resultCache);
+    }
+    
+    /**
+     * Creates the cache of EMI results of a controller, holding {@value #RESULT_CACHE_SIZE_PROPERTY} results.
+     * The cache admits a result only if it is requested more often than the least recently used one it would
+     * replace, so one-off quotes, such as the rows of a batch job, do not flush the popular ones.
+     *
+     * @return A new result cache, or null if the configured size is 0
+     * @throws IllegalArgumentException if the configured size is negative
+     */
+    public static TinyLfuCache<CalculationKey, CalculationResult> createResultCache() {
+        int size = getResultCacheSize();
+        if (size == 0) {
+            LOGGER.info("EMI result cache disabled");
+            return null;
+        }
+        LOGGER.log(Level.INFO, "Creating EMI result cache of {0} entries", size);
+        return new TinyLfuCache<>(size);
+    }
+    
+    /**
+     * Creates and configures a new instance of the CsvBatchProcessor with the provided services,
+     * using one worker thread per available processor.
+     *
+     * @param validationService The ValidationService instance to use
+     * @param calculationService The CalculationService instance to use
+     * @return A configured instance of CsvBatchProcessor
+     */
+    public static CsvBatchProcessor createCsvBatchProcessor(ValidationService validationService,
+                                                            CalculationService calculationService) {
+        LOGGER.info("Creating new instance of CsvBatchProcessor");
+        return new CsvBatchProcessor(validationService, calculationService, getBatchParallelism(), BATCH_CHUNK_SIZE);
+    }
+    
+    /**
+     * Creates and configures a new instance of the PortfolioCashflowProjector with the provided service,
+     * projecting on the common fork/join pool.
+     *
+     * @param calculationService The CalculationService instance to use
+     * @return A configured instance of PortfolioCashflowProjector
+     */
+    public static PortfolioCashflowProjector createPortfolioCashflowProjector(CalculationService calculationService) {
+        LOGGER.info("Creating new instance of PortfolioCashflowProjector");
+        return new PortfolioCashflowProjector(calculationService, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Creates the executor on which the UI runs calculations and live previews, so that the JavaFX application
+     * thread never waits for one. A single daemon thread is used: a newer calculation supersedes the older ones,
+     * so at most one is worth running at a time, and the thread never keeps the application alive. The executor
+     * is scheduled so that live previews wait out their debounce period on the same thread.
+     *
+     * @return A new single-threaded executor; the caller is responsible for shutting it down
+     */
+    public static ScheduledExecutorService createCalculationExecutor() {
+        LOGGER.info("Creating UI calculation executor");
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, CALCULATION_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Returns the calculation executor shared by UI components that are not given their own, creating it from
+     * {@link #createCalculationExecutor()} on first use. It lives as long as the application and is never shut
+     * down; its thread is a daemon, so it does not keep the application alive.
+     *
+     * @return The shared single-threaded executor; callers must not shut it down
+     */
+    public static synchronized ScheduledExecutorService getSharedCalculationExecutor() {
+        if (sharedCalculationExecutor == null) {
+            sharedCalculationExecutor = createCalculationExecutor();
+        }
+        return sharedCalculationExecutor;
+    }
+    
+    /**
+     * Creates the executor on which the HTTP calculation service handles requests: a fixed pool of
+     * {@value #SERVER_THREADS_PROPERTY} threads, one per available processor by default. The calculations are
+     * CPU-bound and never wait on I/O other than the client connection, so more threads than processors would only
+     * add context switches; requests beyond the pool size wait in its queue.
+     *
+     * @return A new fixed thread pool; the caller is responsible for shutting it down
+     * @throws IllegalArgumentException if the configured number of threads is not positive
+     */
+    public static ExecutorService createServerExecutor() {
+        int threads = Integer.getInteger(SERVER_THREADS_PROPERTY, Runtime.getRuntime().availableProcessors());
+        LOGGER.log(Level.INFO, "Creating HTTP server executor with {0} threads", threads);
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads,
+                runnable -> new Thread(runnable, SERVER_THREAD_NAME_PREFIX + threadNumber.incrementAndGet()));
+    }
+    
+    /**
+     * Creates a new CalculationServer listening on all interfaces at the specified port.
+     *
+     * @param calculatorController The CalculatorController instance to use
+     * @param port The port to listen on, or 0 to pick a free port
+     * @param executor The executor on which requests are handled
+     * @return A configured, not yet started instance of CalculationServer
+     * @throws IOException if the port cannot be bound
+     */
+    public static CalculationServer createCalculationServer(CalculatorController calculatorController, int port,
+                                                            Executor executor) throws IOException {
+        LOGGER.info("Creating new instance of CalculationServer");
+        return new CalculationServer(calculatorController, new InetSocketAddress(port), executor);
+    }
+    
+    /**
+     * Registers the latency metrics of the application with the platform MBean server under
+     * {@link CalculatorMetrics#OBJECT_NAME}. Registering more than once has no effect, and a failure is logged
+     * rather than thrown since the application works without its metrics.
+     *
+     * @return true if the metrics are registered, false if registration failed
+     */
+    public static synchronized boolean registerMetrics() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(CalculatorMetrics.OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new CalculatorMetrics(), name);
+                LOGGER.log(Level.INFO, "Metrics registered with JMX as {0}", name);
+            }
+            return true;
+        } catch (JMException e) {
+            LOGGER.log(Level.WARNING, "Failed to register metrics with JMX", e);
+            return false;
+        }
+    }
+    
+    /**
+     * Starts the always-on flight recording of the application, unless {@link #FLIGHT_RECORDING_PROPERTY} is
+     * {@code false}. The recording uses the JDK's low-overhead default settings, which include the calculation,
+     * validation, UI action and component load events of the application together with GC and JIT activity, and
+     * keeps the last 15 minutes of events on disk. When a slow screen is reported, dump it with
+     * {@code jcmd <pid> JFR.dump name=calculator filename=calculator.jfr} and open the file in JDK Mission Control.
+     * <p>
+     * Starting the recording more than once has no effect, and a failure is logged rather than thrown since the
+     * application works without it.
+     *
+     * @return true if the recording is running, false if it is disabled or could not be started
+     */
+    public static synchronized boolean startFlightRecording() {
+        if (!Boolean.parseBoolean(System.getProperty(FLIGHT_RECORDING_PROPERTY, "true"))) {
+            LOGGER.info("Flight recording disabled");
+            return false;
+        }
+        if (!FlightRecorder.isAvailable()) {
+            LOGGER.warning("Flight recorder is not available in this JVM");
+            return false;
+        }
+        
+        boolean running = FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .anyMatch(recording -> FLIGHT_RECORDING_NAME.equals(recording.getName()));
+        if (running) {
+            return true;
+        }
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration(FLIGHT_RECORDING_SETTINGS));
+            recording.setName(FLIGHT_RECORDING_NAME);
+            recording.setMaxAge(FLIGHT_RECORDING_MAX_AGE);
+            recording.setMaxSize(FLIGHT_RECORDING_MAX_SIZE);
+            recording.setToDisk(true);
+            recording.start();
+            LOGGER.log(Level.INFO, "Flight recording {0} started", FLIGHT_RECORDING_NAME);
+            return true;
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            LOGGER.log(Level.WARNING, "Failed to start flight recording", e);
+            return false;
+        }
+    }
+    
+    /**
+     * Returns how long the inputs must stay unchanged before the final inputs of a typing burst are previewed, set
+     * by {@value #PREVIEW_DEBOUNCE_PROPERTY}.
+     *
+     * @return The preview debounce period in milliseconds
+     */
+    public static long getPreviewDebounceMillis() {
+        return Long.getLong(PREVIEW_DEBOUNCE_PROPERTY, DEFAULT_PREVIEW_DEBOUNCE_MILLIS);
+    }
+    
+    /**
+     * Returns the port of the HTTP calculation service, set by {@value #SERVER_PORT_PROPERTY}.
+     *
+     * @return The server port
+     */
+    public static int getServerPort() {
+        return Integer.getInteger(SERVER_PORT_PROPERTY, DEFAULT_SERVER_PORT);
+    }
+    
+    /**
+     * Returns the number of worker threads used for batch processing.
+     *
+     * @return The batch parallelism
+     */
+    public static int getBatchParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+    
+    /**
+     * Returns the number of CSV rows handed to a batch worker at a time.
+     *
+     * @return The batch chunk size
+     */
+    public static int getBatchChunkSize() {
+        return BATCH_CHUNK_SIZE;
     }
     
     /**
@@ -97,6 +581,24 @@ public class AppConfig {
         return DEFAULT_COMPOUNDING_FREQUENCY;
     }
     
+    /**
+     * Returns the maximum number of EMI results cached by a controller, set by {@value #RESULT_CACHE_SIZE_PROPERTY}.
+     *
+     * @return The result cache size, 0 if results are not cached
+     */
+    public static int getResultCacheSize() {
+        return Integer.getInteger(RESULT_CACHE_SIZE_PROPERTY, DEFAULT_RESULT_CACHE_SIZE);
+    }
+    
+    /**
+     * Returns the maximum number of annuity factors cached by the calculation service.
+     *
+     * @return The annuity factor cache size
+     */
+    public static int getAnnuityFactorCacheSize() {
+        return ANNUITY_FACTOR_CACHE_SIZE;
+    }
+    
     /**
      * Returns the application name.
      *
@@ -118,14 +620,23 @@ public class AppConfig {
     /**
      * Configures the application logging settings.
      * Sets up log levels, formatters, and handlers for consistent logging across the application.
+     * <p>
+     * Every handler of the root logger is wrapped in an {@link AsyncLogHandler}, so that calculation threads hand
+     * their records to a ring buffer instead of waiting for the console. Configuring more than once has no
+     * further effect.
      */
-    public static void configureLogging() {
+    public static synchronized void configureLogging() {
         // Set the root logger level
         Logger rootLogger = Logger.getLogger("");
         rootLogger.setLevel(Level.INFO);
         
-        // Configure console handler format if needed
-        // This is a basic setup that can be expanded based on requirements
+        // Write through a ring buffer on a background thread
+        for (Handler handler : rootLogger.getHandlers()) {
+            if (!(handler instanceof AsyncLogHandler)) {
+                rootLogger.removeHandler(handler);
+                rootLogger.addHandler(new AsyncLogHandler(handler, LOG_BUFFER_CAPACITY));
+            }
+        }
         LOGGER.info("Logging configuration completed");
     }
 }
\ No newline at end of file
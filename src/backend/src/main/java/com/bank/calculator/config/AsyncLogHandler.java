@@ -0,0 +1,182 @@
+package com.bank.calculator.config;
+
+import java.util.Objects; // JDK 11
+import java.util.concurrent.ArrayBlockingQueue; // JDK 11
+import java.util.concurrent.BlockingQueue; // JDK 11
+import java.util.concurrent.TimeUnit; // JDK 11
+import java.util.concurrent.atomic.LongAdder; // JDK 11
+import java.util.logging.ErrorManager; // JDK 11
+import java.util.logging.Handler; // JDK 11
+import java.util.logging.Level; // JDK 11
+import java.util.logging.LogRecord; // JDK 11
+
+/**
+ * Logging handler that hands records to a bounded ring buffer and writes them to a delegate handler, such as a
+ * {@link java.util.logging.ConsoleHandler}, on a background thread, so that logging threads never wait for
+ * formatting or I/O.
+ * <p>
+ * Publishing never blocks: if the buffer is full, because records are produced faster than the delegate can
+ * write them, the record is dropped and counted, and the writer reports the number of dropped records the next
+ * time it catches up. Records are written in the order they were published.
+ * <p>
+ * The source class and method of a record are normally inferred lazily from the stack of the thread that reads
+ * them, so they are inferred before the record is handed to the writer thread. Message parameters are formatted
+ * by the writer thread and must therefore not be mutated after being logged.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * Default number of records the buffer holds.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final String WRITER_THREAD_NAME = "log-writer";
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final Handler delegate;
+    private final BlockingQueue<LogRecord> buffer;
+    private final LongAdder droppedCount = new LongAdder();
+    private final Thread writer;
+
+    /**
+     * Records dropped since the writer last reported them; only read and written by the writer thread.
+     */
+    private long reportedDropCount;
+
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new AsyncLogHandler with the default capacity.
+     *
+     * @param delegate the handler that writes the records
+     * @throws NullPointerException if delegate is null
+     */
+    public AsyncLogHandler(Handler delegate) {
+        this(delegate, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new AsyncLogHandler and starts its writer thread. The handler takes the level of the delegate,
+     * so that records the delegate would discard are not buffered.
+     *
+     * @param delegate the handler that writes the records
+     * @param capacity the number of records the buffer holds
+     * @throws NullPointerException if delegate is null
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public AsyncLogHandler(Handler delegate, int capacity) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate handler cannot be null");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than zero");
+        }
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        setLevel(delegate.getLevel());
+
+        this.writer = new Thread(this::writeRecords, WRITER_THREAD_NAME);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Hands the record to the writer thread without waiting, or drops it if the buffer is full.
+     *
+     * @param record the record to publish
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record)) {
+            return;
+        }
+        // Infer the caller while still on the logging thread
+        record.getSourceClassName();
+        if (!buffer.offer(record)) {
+            droppedCount.increment();
+        }
+    }
+
+    /**
+     * Flushes the delegate. Records still in the buffer are written by the writer thread shortly afterwards.
+     */
+    @Override
+    public void flush() {
+        delegate.flush();
+    }
+
+    /**
+     * Stops accepting records, waits for the writer thread to write the buffered records and closes the delegate.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        writer.interrupt();
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delegate.close();
+    }
+
+    /**
+     * Returns the number of records dropped because the buffer was full.
+     *
+     * @return The dropped record count
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * Returns the handler that writes the records.
+     *
+     * @return The delegate handler
+     */
+    public Handler getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Writes buffered records until the handler is closed, then writes the records left in the buffer.
+     */
+    private void writeRecords() {
+        while (!closed) {
+            try {
+                write(buffer.take());
+                // Flush once per burst instead of once per record
+                if (buffer.isEmpty()) {
+                    reportDroppedRecords();
+                    delegate.flush();
+                }
+            } catch (InterruptedException e) {
+                // Interrupted by close; the loop condition ends the thread
+            }
+        }
+        LogRecord record;
+        while ((record = buffer.poll()) != null) {
+            write(record);
+        }
+        reportDroppedRecords();
+        delegate.flush();
+    }
+
+    private void write(LogRecord record) {
+        try {
+            delegate.publish(record);
+        } catch (RuntimeException e) {
+            reportError("Failed to write log record", e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    private void reportDroppedRecords() {
+        long dropped = droppedCount.sum();
+        if (dropped > reportedDropCount) {
+            LogRecord record = new LogRecord(Level.WARNING, "{0} log records dropped because the log buffer was full");
+            record.setParameters(new Object[] {dropped - reportedDropCount});
+            record.setLoggerName(AsyncLogHandler.class.getName());
+            record.setSourceClassName(AsyncLogHandler.class.getName());
+            record.setSourceMethodName("publish");
+            reportedDropCount = dropped;
+            write(record);
+        }
+    }
+}
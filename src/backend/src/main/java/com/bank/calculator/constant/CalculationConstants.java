@@ -77,6 +77,13 @@ public final class CalculationConstants {
      */
     public static final MathContext CURRENCY_MATH_CONTEXT = new MathContext(CURRENCY_PRECISION, RoundingMode.HALF_UP);
 
+    /**
+     * MathContext for amortization schedule balances with 34 significant digits.
+     * Balances are carried at this precision from one installment to the next and rounded to
+     * currency precision only when reported, so rounding error does not accumulate over a schedule.
+     */
+    public static final MathContext SCHEDULE_MATH_CONTEXT = MathContext.DECIMAL128;
+
     /**
      * Minimum loan duration in years allowed for calculations.
      * Used for input validation.
@@ -18,7 +18,17 @@ public final class ErrorMessages {
      * Prefix for error codes in the application.
      */
     public static final String ERROR_CODE_PREFIX = "E";
-    
+
+    /**
+     * Error code of invalid inputs, as carried by ValidationException.
+     */
+    public static final String VALIDATION_ERROR_CODE = ERROR_CODE_PREFIX + "001";
+
+    /**
+     * Error code of failed calculations, as carried by CalculationException.
+     */
+    public static final String CALCULATION_ERROR_CODE = ERROR_CODE_PREFIX + "003";
+
     /**
      * Generic invalid input message.
      */
@@ -100,6 +110,11 @@ public final class ErrorMessages {
      */
     public static final String NEGATIVE_INTEREST_RATE = "Interest rate cannot be negative.";
     
+    /**
+     * Error message when interest rate is not a number.
+     */
+    public static final String INTEREST_RATE_FORMAT = "Interest rate must be a number.";
+    
     // Calculation error messages
     
     /**
@@ -112,6 +127,16 @@ public final class ErrorMessages {
      */
     public static final String NUMERIC_OVERFLOW = "Numeric overflow occurred during calculation. Try smaller values.";
     
+    /**
+     * Error message when installments of the requested EMI would not repay the principal at any non-negative rate.
+     */
+    public static final String EMI_TOO_LOW = "The EMI is too low to repay the principal at a non-negative interest rate.";
+    
+    /**
+     * Error message when an EMI budget does not exceed the monthly interest, so the loan is never repaid.
+     */
+    public static final String EMI_BUDGET_BELOW_INTEREST = "The EMI budget does not cover the monthly interest on the principal.";
+    
     /**
      * Private constructor to prevent instantiation of this utility class.
      */
@@ -9,19 +9,35 @@ import com.bank.calculator.service.ValidationService;
 import com.bank.calculator.service.CalculationService;
 import com.bank.calculator.model.ValidationResult;
 import com.bank.calculator.model.CalculationInput;
+import com.bank.calculator.model.CalculationKey;
 import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.model.CalculationOutcome;
+import com.bank.calculator.constant.ErrorMessages;
 import com.bank.calculator.exception.ValidationException;
 import com.bank.calculator.exception.CalculationException;
-import com.bank.calculator.util.CurrencyUtils;
+import com.bank.calculator.jfr.CalculationRequestEvent;
+import com.bank.calculator.jfr.EventOutcome;
+import com.bank.calculator.jfr.ValidationEvent;
+import com.bank.calculator.metrics.CalculatorMetrics;
+import com.bank.calculator.cache.TinyLfuCache;
 
 /**
  * Controller class that coordinates between the UI and service layers in the Compound Interest Calculator application.
  * This class handles user interactions, validates inputs, performs calculations, and formats results for display.
+ * <p>
+ * A controller can be given a result cache, keyed on the {@link CalculationKey} of the validated inputs, so that
+ * repeated quotes are answered without calculating again. The key is read straight from the validated strings,
+ * so a repeated quote is answered without parsing its amounts.
+ * <p>
+ * EMI requests can be made in two ways: {@link #calculateEMI(String, String)} throws on invalid inputs and failed
+ * calculations, as the UI expects, while {@link #tryCalculateEMI(String, String)} returns them as a
+ * {@link CalculationOutcome} for callers that expect many invalid inputs.
  */
 public class CalculatorController {
     
     private final ValidationService validationService;
     private final CalculationService calculationService;
+    private final TinyLfuCache<CalculationKey, CalculationResult> resultCache;
     private static final Logger LOGGER = Logger.getLogger(CalculatorController.class.getName());
     
     /**
@@ -32,13 +48,37 @@ public class CalculatorController {
      * @throws NullPointerException if either validationService or calculationService is null
      */
     public CalculatorController(ValidationService validationService, CalculationService calculationService) {
+        this(validationService, calculationService, null);
+    }
+    
+    /**
+     * Constructs a new CalculatorController with the specified validation and calculation services and an
+     * optional cache of EMI results.
+     *
+     * @param validationService the service for validating user inputs
+     * @param calculationService the service for performing calculations
+     * @param resultCache the cache of EMI results by calculation key, or null to calculate every request
+     * @throws NullPointerException if either validationService or calculationService is null
+     */
+    public CalculatorController(ValidationService validationService, CalculationService calculationService,
+                                TinyLfuCache<CalculationKey, CalculationResult> resultCache) {
         Objects.requireNonNull(validationService, "ValidationService cannot be null");
         Objects.requireNonNull(calculationService, "CalculationService cannot be null");
         this.validationService = validationService;
         this.calculationService = calculationService;
+        this.resultCache = resultCache;
         LOGGER.info("CalculatorController initialized");
     }
     
+    /**
+     * Returns the cache of EMI results used by this controller, for example to report its hit ratio.
+     *
+     * @return the result cache, or null if results are not cached
+     */
+    public TinyLfuCache<CalculationKey, CalculationResult> getResultCache() {
+        return resultCache;
+    }
+    
     /**
      * Validates the principal amount and loan duration inputs.
      *
@@ -47,9 +87,11 @@ public class CalculatorController {
      * @return a ValidationResult object indicating whether inputs are valid
      */
     public ValidationResult validateInputs(String principalStr, String durationStr) {
-        LOGGER.log(Level.INFO, "Validating inputs: principal={0}, duration={1}", new Object[]{principalStr, durationStr});
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.log(Level.INFO, "Validating inputs: principal={0}, duration={1}", new Object[]{principalStr, durationStr});
+        }
         
-        ValidationResult result = validationService.validateAllInputs(principalStr, durationStr);
+        ValidationResult result = validateAndRecord(principalStr, durationStr);
         
         if (result.isValid()) {
             LOGGER.info("Input validation successful");
@@ -70,39 +112,203 @@ public class CalculatorController {
      * @throws CalculationException if an error occurs during calculation
      */
     public CalculationResult calculateEMI(String principalStr, String durationStr) {
-        LOGGER.log(Level.INFO, "Calculating EMI for: principal={0}, duration={1}", new Object[]{principalStr, durationStr});
+        CalculationOutcome outcome = tryCalculateEMI(principalStr, durationStr);
+        if (outcome.isSuccess()) {
+            return outcome.getResult();
+        }
+        throw toException(outcome);
+    }
+    
+    /**
+     * Calculates the EMI based on validated principal amount and loan duration, reporting invalid inputs and
+     * failed calculations in the returned outcome instead of throwing. Invalid inputs are reported without
+     * creating an exception, which makes this the method to use where they are common, such as batch and
+     * service requests.
+     *
+     * @param principalStr the principal amount as a string
+     * @param durationStr the loan duration as a string
+     * @return the calculation result, or the error code and message of the validation or calculation failure
+     */
+    public CalculationOutcome tryCalculateEMI(String principalStr, String durationStr) {
+        CalculationRequestEvent event = new CalculationRequestEvent();
+        event.begin();
+        try {
+            CalculationOutcome outcome = validateAndCalculateEMI(principalStr, durationStr);
+            event.complete(principalStr, durationStr, eventOutcome(outcome));
+            return outcome;
+        } catch (RuntimeException e) {
+            event.complete(principalStr, durationStr, EventOutcome.FAILURE);
+            throw e;
+        }
+    }
+    
+    /**
+     * Validates the inputs and calculates the EMI; recorded by {@link #tryCalculateEMI(String, String)}.
+     */
+    private CalculationOutcome validateAndCalculateEMI(String principalStr, String durationStr) {
+        if (LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.log(Level.INFO, "Calculating EMI for: principal={0}, duration={1}", new Object[]{principalStr, durationStr});
+        }
         
         // Validate inputs first
         ValidationResult validationResult = validateInputs(principalStr, durationStr);
         if (!validationResult.isValid()) {
             LOGGER.log(Level.WARNING, "Validation failed: {0}", validationResult.getErrorMessage());
-            throw new ValidationException(validationResult);
+            return CalculationOutcome.validationFailure(ErrorMessages.VALIDATION_ERROR_CODE,
+                    validationResult.getErrorMessage());
         }
         
         try {
-            // Parse the validated inputs
-            BigDecimal principal = CurrencyUtils.parseCurrencyValue(principalStr);
-            int duration = Integer.parseInt(durationStr);
-            
-            // Create input object and perform calculation
-            CalculationInput input = new CalculationInput(principal, duration);
-            CalculationResult result = calculationService.calculateEMI(input);
+            // Perform calculation
+            CalculationResult result = lookupOrCalculate(principalStr, durationStr, validationResult);
             
             LOGGER.log(Level.INFO, "EMI calculation successful: {0}", result.getEmiAmount());
-            return result;
+            return CalculationOutcome.success(result);
         } catch (NumberFormatException e) {
             // This should generally not happen if validation is successful
             LOGGER.log(Level.SEVERE, "Number format error during calculation", e);
-            throw new ValidationException("Invalid number format: " + e.getMessage(), e);
+            return CalculationOutcome.validationFailure(ErrorMessages.VALIDATION_ERROR_CODE,
+                    "Invalid number format: " + e.getMessage(), e);
         } catch (IllegalArgumentException e) {
             LOGGER.log(Level.SEVERE, "Illegal argument error during calculation", e);
-            throw new ValidationException("Invalid argument: " + e.getMessage(), e);
+            return CalculationOutcome.validationFailure(ErrorMessages.VALIDATION_ERROR_CODE,
+                    "Invalid argument: " + e.getMessage(), e);
         } catch (CalculationException e) {
             LOGGER.log(Level.SEVERE, "Calculation error", e);
-            throw e; // Re-throw calculation exceptions
+            return CalculationOutcome.calculationFailure(e.getErrorCode(), e.getErrorMessage(), e);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Unexpected error during calculation", e);
-            throw new CalculationException("An unexpected error occurred during calculation", e);
+            return CalculationOutcome.calculationFailure(ErrorMessages.CALCULATION_ERROR_CODE,
+                    "An unexpected error occurred during calculation", e);
+        }
+    }
+    
+    /**
+     * Returns the exception {@link #calculateEMI(String, String)} throws for a failed outcome: the calculation
+     * exception that caused it if there is one, otherwise a new exception carrying its code and message.
+     */
+    private static RuntimeException toException(CalculationOutcome outcome) {
+        Throwable cause = outcome.getCause();
+        if (cause instanceof CalculationException) {
+            return (CalculationException) cause;
+        }
+        if (outcome.getStatus() == CalculationOutcome.Status.VALIDATION_FAILURE) {
+            return cause == null
+                    ? new ValidationException(outcome.getErrorCode(), outcome.getErrorMessage())
+                    : new ValidationException(outcome.getErrorMessage(), cause);
+        }
+        return cause == null
+                ? new CalculationException(outcome.getErrorCode(), outcome.getErrorMessage())
+                : new CalculationException(outcome.getErrorMessage(), cause);
+    }
+    
+    private static String eventOutcome(CalculationOutcome outcome) {
+        switch (outcome.getStatus()) {
+            case SUCCESS:
+                return EventOutcome.SUCCESS;
+            case VALIDATION_FAILURE:
+                return EventOutcome.INVALID;
+            default:
+                return EventOutcome.FAILURE;
+        }
+    }
+    
+    /**
+     * Calculates the EMI for a live preview of inputs that may still be being typed. Incomplete and invalid
+     * inputs are expected here, so they are reported by returning null instead of throwing, and nothing is
+     * logged above FINE so that a preview per keystroke does not flood the log.
+     *
+     * @param principalStr the principal amount as a string
+     * @param durationStr the loan duration as a string
+     * @return the calculation result, or null if the inputs are invalid or cannot be calculated
+     */
+    public CalculationResult previewEMI(String principalStr, String durationStr) {
+        ValidationResult validationResult = validateAndRecord(principalStr, durationStr);
+        if (!validationResult.isValid()) {
+            return null;
+        }
+        
+        try {
+            return lookupOrCalculate(principalStr, durationStr, validationResult);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.FINE, "EMI preview unavailable", e);
+            return null;
+        }
+    }
+    
+    /**
+     * Validates the inputs and records the latency in the application metrics and the flight recorder; invalid
+     * inputs count as failures.
+     */
+    private ValidationResult validateAndRecord(String principalStr, String durationStr) {
+        ValidationEvent event = new ValidationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        ValidationResult result = validationService.validateAllInputs(principalStr, durationStr);
+        if (result.isValid()) {
+            CalculatorMetrics.VALIDATE.record(start);
+            event.complete(principalStr, durationStr, EventOutcome.SUCCESS);
+        } else {
+            CalculatorMetrics.VALIDATE.recordFailure(start);
+            event.complete(principalStr, durationStr, EventOutcome.INVALID);
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the cached EMI of the validated inputs, or calculates it and offers it to the cache. Only
+     * calculations are recorded in the application metrics, so cache hits do not dilute the calculation latency.
+     */
+    private CalculationResult lookupOrCalculate(String principalStr, String durationStr,
+                                                ValidationResult validationResult) {
+        if (resultCache == null) {
+            return calculateAndRecord(toInput(principalStr, durationStr, validationResult));
+        }
+        CalculationKey key = toKey(principalStr, durationStr, validationResult);
+        CalculationResult result = resultCache.get(key);
+        if (result == null) {
+            result = calculateAndRecord(toInput(principalStr, durationStr, validationResult));
+            resultCache.put(key, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the inputs parsed during validation, parsing them only if the validation service did not.
+     */
+    private static CalculationInput toInput(String principalStr, String durationStr,
+                                            ValidationResult validationResult) {
+        CalculationInput input = validationResult.getParsedInput();
+        if (input == null) {
+            input = new CalculationInput(new BigDecimal(principalStr), Integer.parseInt(durationStr));
+        }
+        return input;
+    }
+    
+    /**
+     * Returns the cache key of the validated inputs, read from the strings as {@link com.bank.calculator.util.ValidationUtils} accepts
+     * them. A validation service may accept other formats, in which case the key is taken from the parsed input.
+     */
+    private static CalculationKey toKey(String principalStr, String durationStr, ValidationResult validationResult) {
+        try {
+            return CalculationKey.ofValidated(principalStr, durationStr);
+        } catch (IllegalArgumentException e) {
+            return toInput(principalStr, durationStr, validationResult).toKey();
+        }
+    }
+    
+    /**
+     * Calculates the EMI and records the latency in the application metrics.
+     */
+    private CalculationResult calculateAndRecord(CalculationInput input) {
+        long start = System.nanoTime();
+        try {
+            CalculationResult result = calculationService.calculateEMI(input);
+            CalculatorMetrics.CALCULATE.record(start);
+            return result;
+        } catch (RuntimeException e) {
+            CalculatorMetrics.CALCULATE.recordFailure(start);
+            throw e;
         }
     }
     
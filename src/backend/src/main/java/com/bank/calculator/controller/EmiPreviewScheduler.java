@@ -0,0 +1,236 @@
+package com.bank.calculator.controller;
+
+import java.util.Objects; // JDK 11
+import java.util.concurrent.Executor; // JDK 11
+import java.util.concurrent.RejectedExecutionException; // JDK 11
+import java.util.concurrent.ScheduledExecutorService; // JDK 11
+import java.util.concurrent.TimeUnit; // JDK 11
+import java.util.concurrent.atomic.AtomicBoolean; // JDK 11
+import java.util.concurrent.atomic.AtomicLong; // JDK 11
+import java.util.concurrent.atomic.AtomicReference; // JDK 11
+import java.util.concurrent.atomic.LongAdder; // JDK 11
+import java.util.logging.Level; // JDK 11
+import java.util.logging.Logger; // JDK 11
+
+import com.bank.calculator.model.CalculationResult;
+
+/**
+ * Schedules live EMI previews of inputs as they are typed.
+ * <p>
+ * Previews are debounced on both edges. The first change after the inputs have been quiet for the debounce period
+ * is previewed at once, so a keystroke is shown within a frame even in the middle of fast typing; the changes that
+ * follow it within the period only record the latest inputs and the time of the change, and the final inputs are
+ * previewed once they have stayed unchanged for the debounce period. A burst of keystrokes therefore costs at most
+ * two calculations, and a single change costs one. One task serves a whole burst: when it finds the inputs have
+ * not been quiet long enough, it reschedules itself for the rest of the period instead of every keystroke
+ * cancelling and rescheduling a task.
+ * <p>
+ * Calculations run on the supplied scheduler through {@link CalculatorController#previewEMI(String, String)},
+ * which reuses the cached annuity factors of the calculation service. Every change advances a generation number,
+ * and a result is delivered only if no newer change or {@link #cancel()} happened while it was being calculated
+ * or handed over, so results that arrive after newer input are discarded.
+ * <p>
+ * {@link #inputChanged(String, String)} never blocks and may be called from any thread, typically the JavaFX
+ * application thread. Listener methods are called on the delivery executor.
+ */
+public final class EmiPreviewScheduler {
+
+    private static final Logger LOGGER = Logger.getLogger(EmiPreviewScheduler.class.getName());
+
+    /**
+     * Receives the outcome of live previews.
+     */
+    public interface PreviewListener {
+
+        /**
+         * Called with the EMI calculated for the latest inputs.
+         *
+         * @param result the calculation result
+         */
+        void onPreview(CalculationResult result);
+
+        /**
+         * Called when the latest inputs are incomplete or invalid, so no EMI can be previewed.
+         */
+        void onPreviewUnavailable();
+    }
+
+    private final CalculatorController calculatorController;
+    private final ScheduledExecutorService scheduler;
+    private final Executor deliveryExecutor;
+    private final PreviewListener listener;
+    private final long debounceNanos;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<PreviewRequest> latestRequest = new AtomicReference<>();
+    private final AtomicLong lastChangeNanos = new AtomicLong();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final LongAdder calculationCount = new LongAdder();
+    private final LongAdder discardedCount = new LongAdder();
+
+    /**
+     * Constructs a new EmiPreviewScheduler.
+     *
+     * @param calculatorController the controller calculating the previews
+     * @param scheduler the scheduler on which previews are calculated
+     * @param deliveryExecutor the executor on which the listener is called, such as {@code Platform::runLater}
+     * @param listener the listener receiving the previews
+     * @param debounceMillis how long in milliseconds the inputs must stay unchanged before the final inputs of a
+     *        burst are previewed, and before a change starts a new burst
+     * @throws NullPointerException if any of the objects are null
+     * @throws IllegalArgumentException if debounceMillis is negative
+     */
+    public EmiPreviewScheduler(CalculatorController calculatorController, ScheduledExecutorService scheduler,
+                               Executor deliveryExecutor, PreviewListener listener, long debounceMillis) {
+        this.calculatorController = Objects.requireNonNull(calculatorController, "CalculatorController cannot be null");
+        this.scheduler = Objects.requireNonNull(scheduler, "Scheduler cannot be null");
+        this.deliveryExecutor = Objects.requireNonNull(deliveryExecutor, "Delivery executor cannot be null");
+        this.listener = Objects.requireNonNull(listener, "PreviewListener cannot be null");
+        if (debounceMillis < 0) {
+            throw new IllegalArgumentException("Debounce period cannot be negative");
+        }
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+        // The inputs start out quiet, so the first change is previewed at once
+        this.lastChangeNanos.set(System.nanoTime() - debounceNanos);
+    }
+
+    /**
+     * Records new inputs and makes sure a preview of them will be calculated: at once if the inputs had been quiet
+     * for the debounce period, otherwise once they stay unchanged for the debounce period.
+     *
+     * @param principalStr the principal amount as currently typed
+     * @param durationStr the loan duration as currently typed
+     */
+    public void inputChanged(String principalStr, String durationStr) {
+        long now = System.nanoTime();
+        long quietNanos = now - lastChangeNanos.getAndSet(now);
+        latestRequest.set(new PreviewRequest(generation.incrementAndGet(), principalStr, durationStr));
+        if (scheduled.compareAndSet(false, true)) {
+            if (quietNanos >= debounceNanos) {
+                schedule(this::previewLeadingEdge, 0L);
+            } else {
+                schedule(this::previewTrailingEdge, debounceNanos);
+            }
+        }
+    }
+
+    /**
+     * Discards the pending preview and any preview being calculated, for example when an explicit calculation
+     * starts or the inputs are cleared.
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+        latestRequest.set(null);
+    }
+
+    /**
+     * Returns the number of previews calculated; input changes superseded during the debounce period are not
+     * counted.
+     *
+     * @return The calculation count
+     */
+    public long getCalculationCount() {
+        return calculationCount.sum();
+    }
+
+    /**
+     * Returns the number of calculated previews discarded because newer input arrived first.
+     *
+     * @return The discarded count
+     */
+    public long getDiscardedCount() {
+        return discardedCount.sum();
+    }
+
+    /**
+     * Schedules a preview task after the specified delay; the caller has set {@code scheduled}.
+     */
+    private void schedule(Runnable task, long delayNanos) {
+        try {
+            scheduler.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // The scheduler is shutting down with the application; there is nobody left to show a preview to
+            scheduled.set(false);
+            LOGGER.log(Level.FINE, "EMI preview rejected by the scheduler", e);
+        }
+    }
+
+    /**
+     * Previews the first change of a burst, then stays scheduled for the trailing edge if the inputs changed again
+     * while it was being calculated.
+     */
+    private void previewLeadingEdge() {
+        preview(latestRequest.getAndSet(null));
+        if (latestRequest.get() == null) {
+            scheduled.set(false);
+            // A change made just before the flag was cleared saw it set and scheduled nothing, so take it over
+            if (latestRequest.get() == null || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+        }
+        previewTrailingEdge();
+    }
+
+    /**
+     * Previews the final inputs of a burst once they have been quiet for the debounce period, or waits out the rest
+     * of the period if they changed since the task was scheduled.
+     */
+    private void previewTrailingEdge() {
+        long quietNanos = System.nanoTime() - lastChangeNanos.get();
+        if (quietNanos < debounceNanos) {
+            schedule(this::previewTrailingEdge, debounceNanos - quietNanos);
+            return;
+        }
+
+        // Cleared before taking the request, so a change made from here on schedules another run and is never lost
+        scheduled.set(false);
+        preview(latestRequest.getAndSet(null));
+    }
+
+    /**
+     * Calculates the preview of the request and hands it to the delivery executor if it is still current.
+     */
+    private void preview(PreviewRequest request) {
+        if (request == null || !isCurrent(request)) {
+            return;
+        }
+
+        calculationCount.increment();
+        CalculationResult result = calculatorController.previewEMI(request.principalStr, request.durationStr);
+        if (!isCurrent(request)) {
+            discardedCount.increment();
+            return;
+        }
+
+        deliveryExecutor.execute(() -> {
+            // Checked again on the delivery thread, where a newer change may have been made in the meantime
+            if (!isCurrent(request)) {
+                discardedCount.increment();
+            } else if (result == null) {
+                listener.onPreviewUnavailable();
+            } else {
+                listener.onPreview(result);
+            }
+        });
+    }
+
+    private boolean isCurrent(PreviewRequest request) {
+        return request.generation == generation.get();
+    }
+
+    /**
+     * Inputs of one change, tagged with the generation that change started.
+     */
+    private static final class PreviewRequest {
+
+        private final long generation;
+        private final String principalStr;
+        private final String durationStr;
+
+        PreviewRequest(long generation, String principalStr, String durationStr) {
+            this.generation = generation;
+            this.principalStr = principalStr;
+            this.durationStr = durationStr;
+        }
+    }
+}
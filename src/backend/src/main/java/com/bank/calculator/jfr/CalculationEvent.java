@@ -0,0 +1,76 @@
+package com.bank.calculator.jfr;
+
+import java.math.BigDecimal; // JDK 11
+
+import jdk.jfr.Category; // JDK 11
+import jdk.jfr.Description; // JDK 11
+import jdk.jfr.Event; // JDK 11
+import jdk.jfr.Label; // JDK 11
+import jdk.jfr.Name; // JDK 11
+import jdk.jfr.StackTrace; // JDK 11
+import jdk.jfr.Threshold; // JDK 11
+
+/**
+ * Flight recorder event for a calculation performed by a calculation service engine. The size of the principal
+ * is recorded as its number of significant digits, which together with the duration drives the cost of the
+ * BigDecimal arithmetic.
+ * <p>
+ * Batch runs perform millions of calculations, so by default only calculations taking at least a millisecond are
+ * recorded; a recording with a lower threshold for this event captures all of them.
+ */
+@Name("com.bank.calculator.Calculation")
+@Label("Calculation")
+@Category({"Compound Interest Calculator", "Calculation"})
+@Description("EMI or compound interest calculation performed by a calculation service")
+@StackTrace(false)
+@Threshold("1 ms")
+public final class CalculationEvent extends Event {
+
+    /**
+     * Operation name of an EMI calculation.
+     */
+    public static final String EMI = "emi";
+
+    /**
+     * Operation name of a compound interest calculation.
+     */
+    public static final String COMPOUND_INTEREST = "compoundInterest";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Engine")
+    @Description("Calculation engine that performed the calculation")
+    private String engine;
+
+    @Label("Principal Digits")
+    @Description("Number of significant digits of the principal amount")
+    private int principalDigits;
+
+    @Label("Duration Years")
+    private int durationYears;
+
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * Ends the event and commits it if the recorder is interested in it.
+     *
+     * @param operation the operation, {@link #EMI} or {@link #COMPOUND_INTEREST}
+     * @param engine the name of the calculation engine
+     * @param principal the principal amount, or null if it was not supplied
+     * @param durationYears the loan duration in years
+     * @param outcome the outcome, one of the {@link EventOutcome} values
+     */
+    public void complete(String operation, String engine, BigDecimal principal, int durationYears, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.engine = engine;
+            this.principalDigits = principal == null ? 0 : principal.precision();
+            this.durationYears = durationYears;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
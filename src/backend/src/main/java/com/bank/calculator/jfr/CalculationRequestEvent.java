@@ -0,0 +1,48 @@
+package com.bank.calculator.jfr;
+
+import jdk.jfr.Category; // JDK 11
+import jdk.jfr.Description; // JDK 11
+import jdk.jfr.Event; // JDK 11
+import jdk.jfr.Label; // JDK 11
+import jdk.jfr.Name; // JDK 11
+import jdk.jfr.StackTrace; // JDK 11
+
+/**
+ * Flight recorder event for a calculation requested through the controller, from the text inputs to the result,
+ * including their validation. The inputs themselves are not recorded, only their lengths.
+ */
+@Name("com.bank.calculator.CalculationRequest")
+@Label("Calculation Request")
+@Category({"Compound Interest Calculator", "Calculation"})
+@Description("EMI calculation requested through the controller, including input validation")
+@StackTrace(false)
+public final class CalculationRequestEvent extends Event {
+
+    @Label("Principal Length")
+    @Description("Number of characters of the principal amount input")
+    private int principalLength;
+
+    @Label("Duration Length")
+    @Description("Number of characters of the loan duration input")
+    private int durationLength;
+
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * Ends the event and commits it if the recorder is interested in it.
+     *
+     * @param principalStr the principal amount input
+     * @param durationStr the loan duration input
+     * @param outcome the outcome, one of the {@link EventOutcome} values
+     */
+    public void complete(String principalStr, String durationStr, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.principalLength = principalStr == null ? 0 : principalStr.length();
+            this.durationLength = durationStr == null ? 0 : durationStr.length();
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
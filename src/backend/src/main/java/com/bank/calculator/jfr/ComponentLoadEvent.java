@@ -0,0 +1,45 @@
+package com.bank.calculator.jfr;
+
+import jdk.jfr.Category; // JDK 11
+import jdk.jfr.Description; // JDK 11
+import jdk.jfr.Event; // JDK 11
+import jdk.jfr.Label; // JDK 11
+import jdk.jfr.Name; // JDK 11
+import jdk.jfr.StackTrace; // JDK 11
+
+/**
+ * Flight recorder event for loading the FXML layout of a UI component.
+ */
+@Name("com.bank.calculator.ComponentLoad")
+@Label("Component Load")
+@Category({"Compound Interest Calculator", "User Interface"})
+@Description("Loading of the FXML layout of a UI component")
+@StackTrace(false)
+public final class ComponentLoadEvent extends Event {
+
+    @Label("Component")
+    private String component;
+
+    @Label("FXML Path")
+    private String fxmlPath;
+
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * Ends the event and commits it if the recorder is interested in it.
+     *
+     * @param component the class of the component
+     * @param fxmlPath the path of the FXML resource
+     * @param outcome the outcome, one of the {@link EventOutcome} values
+     */
+    public void complete(Class<?> component, String fxmlPath, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.component = component.getSimpleName();
+            this.fxmlPath = fxmlPath;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
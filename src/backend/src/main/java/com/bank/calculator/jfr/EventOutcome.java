@@ -0,0 +1,31 @@
+package com.bank.calculator.jfr;
+
+/**
+ * Values of the outcome field shared by the flight recorder events of the application.
+ */
+public final class EventOutcome {
+
+    /**
+     * The operation completed normally.
+     */
+    public static final String SUCCESS = "success";
+
+    /**
+     * The operation was rejected because its inputs are invalid.
+     */
+    public static final String INVALID = "invalid";
+
+    /**
+     * The operation failed with an exception.
+     */
+    public static final String FAILURE = "failure";
+
+    /**
+     * The operation was cancelled before it completed.
+     */
+    public static final String CANCELLED = "cancelled";
+
+    private EventOutcome() {
+        throw new AssertionError("EventOutcome class should not be instantiated");
+    }
+}
@@ -0,0 +1,62 @@
+package com.bank.calculator.jfr;
+
+import jdk.jfr.Category; // JDK 11
+import jdk.jfr.Description; // JDK 11
+import jdk.jfr.Event; // JDK 11
+import jdk.jfr.Label; // JDK 11
+import jdk.jfr.Name; // JDK 11
+import jdk.jfr.StackTrace; // JDK 11
+
+/**
+ * Flight recorder event for a user action, lasting from the action until its result is shown.
+ */
+@Name("com.bank.calculator.UiAction")
+@Label("UI Action")
+@Category({"Compound Interest Calculator", "User Interface"})
+@Description("User action, from the click until its result is shown")
+@StackTrace(false)
+public final class UiActionEvent extends Event {
+
+    /**
+     * Action name of the Calculate EMI button.
+     */
+    public static final String CALCULATE = "calculate";
+
+    /**
+     * Action name of the New Calculation button.
+     */
+    public static final String NEW_CALCULATION = "newCalculation";
+
+    @Label("Action")
+    private String action;
+
+    @Label("Principal Length")
+    @Description("Number of characters of the principal amount input")
+    private int principalLength;
+
+    @Label("Duration Length")
+    @Description("Number of characters of the loan duration input")
+    private int durationLength;
+
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * Ends the event and commits it if the recorder is interested in it.
+     *
+     * @param action the action, {@link #CALCULATE} or {@link #NEW_CALCULATION}
+     * @param principalStr the principal amount input when the action started
+     * @param durationStr the loan duration input when the action started
+     * @param outcome the outcome, one of the {@link EventOutcome} values
+     */
+    public void complete(String action, String principalStr, String durationStr, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.action = action;
+            this.principalLength = principalStr == null ? 0 : principalStr.length();
+            this.durationLength = durationStr == null ? 0 : durationStr.length();
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
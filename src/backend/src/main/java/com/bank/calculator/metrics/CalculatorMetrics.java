@@ -0,0 +1,156 @@
+package com.bank.calculator.metrics;
+
+import java.util.List; // JDK 11
+import java.util.concurrent.atomic.LongAdder; // JDK 11
+import java.util.logging.Logger; // JDK 11
+
+import com.bank.calculator.cache.TinyLfuCache;
+
+/**
+ * Application-wide latency metrics of the operations on the calculation path.
+ * <p>
+ * The operations are static so that recording sites reach them without a lookup, the same way classes reach
+ * their static loggers. An instance of this class is the JMX view of those metrics, registered at startup by
+ * {@code AppConfig.registerMetrics()} so that JConsole and other JMX clients can read them.
+ */
+public final class CalculatorMetrics implements CalculatorMetricsMXBean {
+
+    private static final Logger LOGGER = Logger.getLogger(CalculatorMetrics.class.getName());
+
+    /**
+     * Object name under which the metrics are registered with the platform MBean server.
+     */
+    public static final String OBJECT_NAME = "com.bank.calculator:type=Metrics";
+
+    /**
+     * Validation of the principal and duration inputs; invalid inputs are recorded as failures.
+     */
+    public static final OperationMetrics VALIDATE = new OperationMetrics("validate");
+
+    /**
+     * EMI calculation of validated inputs.
+     */
+    public static final OperationMetrics CALCULATE = new OperationMetrics("calculate");
+
+    /**
+     * Formatting of an amount as currency.
+     */
+    public static final OperationMetrics FORMAT = new OperationMetrics("format");
+
+    /**
+     * UI actions, from the user action until its result is shown.
+     */
+    public static final OperationMetrics UI_ACTION = new OperationMetrics("uiAction");
+
+    /**
+     * EMI requests answered by sharing an identical calculation already in flight instead of calculating.
+     */
+    public static final LongAdder COALESCED = new LongAdder();
+
+    /**
+     * EMI calculations requested from the adaptive-precision engine.
+     */
+    public static final LongAdder ADAPTIVE_CALCULATIONS = new LongAdder();
+
+    /**
+     * EMI calculations of the adaptive-precision engine that fell back to BigDecimal arithmetic.
+     */
+    public static final LongAdder ADAPTIVE_FALLBACKS = new LongAdder();
+
+    private static final List<OperationMetrics> OPERATIONS = List.of(VALIDATE, CALCULATE, FORMAT, UI_ACTION);
+
+    /**
+     * The EMI result cache whose statistics are reported, or null if results are not cached.
+     */
+    private static volatile TinyLfuCache<?, ?> resultCache;
+
+    /**
+     * Reports the statistics of the specified EMI result cache, replacing any cache reported before.
+     *
+     * @param cache The result cache, or null to stop reporting
+     */
+    public static void monitorResultCache(TinyLfuCache<?, ?> cache) {
+        resultCache = cache;
+    }
+
+    @Override
+    public LatencySnapshot getValidate() {
+        return VALIDATE.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getCalculate() {
+        return CALCULATE.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getFormat() {
+        return FORMAT.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getUiAction() {
+        return UI_ACTION.snapshot();
+    }
+
+    @Override
+    public long getCoalesced() {
+        return COALESCED.sum();
+    }
+
+    @Override
+    public long getAdaptiveFallbacks() {
+        return ADAPTIVE_FALLBACKS.sum();
+    }
+
+    @Override
+    public double getAdaptiveFallbackRatio() {
+        long calculations = ADAPTIVE_CALCULATIONS.sum();
+        return calculations == 0 ? 0.0 : (double) ADAPTIVE_FALLBACKS.sum() / calculations;
+    }
+
+    @Override
+    public double getResultCacheHitRatio() {
+        TinyLfuCache<?, ?> cache = resultCache;
+        return cache == null ? 0.0 : cache.getHitRatio();
+    }
+
+    @Override
+    public long getResultCacheHits() {
+        TinyLfuCache<?, ?> cache = resultCache;
+        return cache == null ? 0 : cache.getHitCount();
+    }
+
+    @Override
+    public long getResultCacheMisses() {
+        TinyLfuCache<?, ?> cache = resultCache;
+        return cache == null ? 0 : cache.getMissCount();
+    }
+
+    @Override
+    public long getResultCacheEvictions() {
+        TinyLfuCache<?, ?> cache = resultCache;
+        return cache == null ? 0 : cache.getEvictionCount();
+    }
+
+    @Override
+    public long getResultCacheRejections() {
+        TinyLfuCache<?, ?> cache = resultCache;
+        return cache == null ? 0 : cache.getRejectionCount();
+    }
+
+    @Override
+    public void reset() {
+        for (OperationMetrics operation : OPERATIONS) {
+            operation.reset();
+        }
+        COALESCED.reset();
+        ADAPTIVE_CALCULATIONS.reset();
+        ADAPTIVE_FALLBACKS.reset();
+        TinyLfuCache<?, ?> cache = resultCache;
+        if (cache != null) {
+            cache.resetStatistics();
+        }
+        LOGGER.info("Metrics reset");
+    }
+}
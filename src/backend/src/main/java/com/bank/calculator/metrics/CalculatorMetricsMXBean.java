@@ -0,0 +1,100 @@
+package com.bank.calculator.metrics;
+
+/**
+ * Management interface exposing the latency metrics of the application through JMX, under the object name
+ * {@link CalculatorMetrics#OBJECT_NAME}. Each attribute is a composite with the count, failure count and the
+ * p50, p99, p999 and maximum latencies in nanoseconds of one operation; counters are plain numbers.
+ */
+public interface CalculatorMetricsMXBean {
+
+    /**
+     * Returns the metrics of input validation.
+     *
+     * @return The validation snapshot
+     */
+    LatencySnapshot getValidate();
+
+    /**
+     * Returns the metrics of EMI calculation.
+     *
+     * @return The calculation snapshot
+     */
+    LatencySnapshot getCalculate();
+
+    /**
+     * Returns the metrics of currency formatting.
+     *
+     * @return The formatting snapshot
+     */
+    LatencySnapshot getFormat();
+
+    /**
+     * Returns the metrics of UI actions, measured from the user action until its result is shown.
+     *
+     * @return The UI action snapshot
+     */
+    LatencySnapshot getUiAction();
+
+    /**
+     * Returns the number of EMI requests answered by sharing an identical calculation already in flight.
+     *
+     * @return The coalesced request count
+     */
+    long getCoalesced();
+
+    /**
+     * Returns the number of EMI calculations of the adaptive-precision engine that fell back to BigDecimal
+     * arithmetic because a result was too close to a rounding boundary.
+     *
+     * @return The fallback count
+     */
+    long getAdaptiveFallbacks();
+
+    /**
+     * Returns the ratio of EMI calculations of the adaptive-precision engine that fell back to BigDecimal
+     * arithmetic.
+     *
+     * @return The fallback ratio between 0 and 1, or 0 if the engine calculated nothing
+     */
+    double getAdaptiveFallbackRatio();
+
+    /**
+     * Returns the ratio of EMI requests answered from the result cache.
+     *
+     * @return The hit ratio between 0 and 1, or 0 if results are not cached or nothing was requested
+     */
+    double getResultCacheHitRatio();
+
+    /**
+     * Returns the number of EMI requests answered from the result cache.
+     *
+     * @return The result cache hit count
+     */
+    long getResultCacheHits();
+
+    /**
+     * Returns the number of EMI requests the result cache could not answer.
+     *
+     * @return The result cache miss count
+     */
+    long getResultCacheMisses();
+
+    /**
+     * Returns the number of results evicted from the result cache to admit more frequently requested ones.
+     *
+     * @return The result cache eviction count
+     */
+    long getResultCacheEvictions();
+
+    /**
+     * Returns the number of results the result cache did not admit because they were requested too rarely.
+     *
+     * @return The result cache rejection count
+     */
+    long getResultCacheRejections();
+
+    /**
+     * Discards all recorded metrics, for example before measuring a specific workload. Cached results are kept.
+     */
+    void reset();
+}
@@ -0,0 +1,152 @@
+package com.bank.calculator.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray; // JDK 11
+
+/**
+ * Fixed-memory, lock-free histogram of latencies in nanoseconds.
+ * <p>
+ * Buckets are log-linear: values below 32ns have a bucket each, and every power of two above that is split into
+ * 16 equal buckets, so a recorded value is reported with a relative error of at most 1/16 (6.25%). Values above
+ * {@link #MAX_TRACKABLE_NANOS} (about 36 minutes) are counted in the highest bucket. The whole range takes
+ * {@link #BUCKET_COUNT} counters per stripe, allocated once.
+ * <p>
+ * Recording is a bucket index computation and one atomic increment. To keep concurrent recorders from contending
+ * on the same counter, the counters are striped: each thread increments the copy of the bucket in the stripe
+ * selected by its thread id, and the stripes are summed only when a snapshot is taken.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;
+    private static final int MAX_MAGNITUDE = 40;
+    private static final int MAX_STRIPES = 8;
+
+    /**
+     * Largest latency recorded in its own bucket; larger values are counted in the highest bucket.
+     */
+    public static final long MAX_TRACKABLE_NANOS = (1L << (MAX_MAGNITUDE + 1)) - 1;
+
+    /**
+     * Number of buckets covering zero to {@link #MAX_TRACKABLE_NANOS}.
+     */
+    public static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_HALF;
+
+    private final int stripeMask;
+    private final AtomicLongArray counts;
+
+    /**
+     * Constructs a new LatencyHistogram striped for the number of available processors.
+     */
+    public LatencyHistogram() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new LatencyHistogram with enough stripes for the specified number of concurrent recorders,
+     * rounded up to a power of two and capped at 8.
+     *
+     * @param concurrency The expected number of threads recording at the same time
+     * @throws IllegalArgumentException if concurrency is not positive
+     */
+    public LatencyHistogram(int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("Concurrency must be greater than zero");
+        }
+        int stripes = Math.min(MAX_STRIPES, Integer.highestOneBit(concurrency - 1) << 1);
+        this.stripeMask = Math.max(stripes, 1) - 1;
+        this.counts = new AtomicLongArray((stripeMask + 1) * BUCKET_COUNT);
+    }
+
+    /**
+     * Records a latency. Negative values, which only a misused clock can produce, are recorded as zero.
+     *
+     * @param nanos The latency in nanoseconds
+     */
+    public void record(long nanos) {
+        int stripe = (int) Thread.currentThread().getId() & stripeMask;
+        counts.getAndIncrement(stripe * BUCKET_COUNT + bucketIndex(nanos));
+    }
+
+    /**
+     * Takes a snapshot of the recorded latencies. Recording may continue while the snapshot is taken, in which
+     * case a latency recorded meanwhile may or may not be included.
+     *
+     * @param failureCount The number of failed operations to report with the latencies
+     * @return The snapshot
+     */
+    public LatencySnapshot snapshot(long failureCount) {
+        long[] buckets = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            long value = counts.get(i);
+            buckets[i % BUCKET_COUNT] += value;
+            count += value;
+        }
+        return new LatencySnapshot(count, failureCount,
+                valueAtQuantile(buckets, count, 0.5),
+                valueAtQuantile(buckets, count, 0.99),
+                valueAtQuantile(buckets, count, 0.999),
+                valueAtQuantile(buckets, count, 1.0));
+    }
+
+    /**
+     * Discards all recorded latencies. Latencies recorded concurrently with the reset may survive it.
+     */
+    public void reset() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    /**
+     * Returns the smallest recorded value such that at least the specified fraction of the recorded values
+     * are less than or equal to it, reported as the highest value of its bucket.
+     */
+    private static long valueAtQuantile(long[] buckets, long count, double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return bucketUpperBound(i);
+            }
+        }
+        return bucketUpperBound(buckets.length - 1);
+    }
+
+    /**
+     * Returns the bucket a latency is counted in.
+     *
+     * @param nanos The latency in nanoseconds
+     * @return The bucket index
+     */
+    static int bucketIndex(long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return nanos < 0 ? 0 : (int) nanos;
+        }
+        long value = Math.min(nanos, MAX_TRACKABLE_NANOS);
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS + 1));
+        return SUB_BUCKET_COUNT + (magnitude - SUB_BUCKET_BITS) * SUB_BUCKET_HALF + subBucket - SUB_BUCKET_HALF;
+    }
+
+    /**
+     * Returns the highest latency counted in a bucket.
+     *
+     * @param index The bucket index
+     * @return The highest latency in nanoseconds of the bucket
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - SUB_BUCKET_COUNT;
+        int shift = offset / SUB_BUCKET_HALF + 1;
+        long subBucket = offset % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
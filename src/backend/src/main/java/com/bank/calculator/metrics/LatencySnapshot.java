@@ -0,0 +1,103 @@
+package com.bank.calculator.metrics;
+
+/**
+ * Immutable snapshot of the latencies and failures of one operation. Latencies are in nanoseconds and are the
+ * highest value of the histogram bucket they fall in, so they overstate the exact value by at most 6.25%.
+ * <p>
+ * Exposed through JMX as composite data with one item per getter.
+ */
+public final class LatencySnapshot {
+
+    private final long count;
+    private final long failureCount;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maxNanos;
+
+    /**
+     * Constructs a new LatencySnapshot.
+     *
+     * @param count The number of recorded operations
+     * @param failureCount The number of recorded operations that failed
+     * @param p50Nanos The median latency
+     * @param p99Nanos The 99th percentile latency
+     * @param p999Nanos The 99.9th percentile latency
+     * @param maxNanos The highest latency
+     */
+    public LatencySnapshot(long count, long failureCount, long p50Nanos, long p99Nanos, long p999Nanos,
+                           long maxNanos) {
+        this.count = count;
+        this.failureCount = failureCount;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Returns the number of recorded operations, including failed ones.
+     *
+     * @return The count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the number of recorded operations that failed.
+     *
+     * @return The failure count
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Returns the median latency.
+     *
+     * @return The 50th percentile latency in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    /**
+     * Returns the 99th percentile latency.
+     *
+     * @return The 99th percentile latency in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    /**
+     * Returns the 99.9th percentile latency.
+     *
+     * @return The 99.9th percentile latency in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    /**
+     * Returns the highest latency.
+     *
+     * @return The highest latency in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySnapshot{" +
+                "count=" + count +
+                ", failureCount=" + failureCount +
+                ", p50Nanos=" + p50Nanos +
+                ", p99Nanos=" + p99Nanos +
+                ", p999Nanos=" + p999Nanos +
+                ", maxNanos=" + maxNanos +
+                '}';
+    }
+}
@@ -0,0 +1,73 @@
+package com.bank.calculator.metrics;
+
+import java.util.Objects; // JDK 11
+import java.util.concurrent.atomic.LongAdder; // JDK 11
+
+/**
+ * Latency histogram and failure counter of one operation, such as validation or calculation.
+ * <p>
+ * Callers read {@link System#nanoTime()} before the operation and pass it to {@link #record(long)} or
+ * {@link #recordFailure(long)} afterwards; recording takes a second clock read, a histogram increment and, for
+ * failures, a {@link LongAdder} increment, none of which lock or allocate.
+ */
+public final class OperationMetrics {
+
+    private final String name;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * Constructs a new OperationMetrics.
+     *
+     * @param name The name of the operation
+     * @throws NullPointerException if name is null
+     */
+    public OperationMetrics(String name) {
+        this.name = Objects.requireNonNull(name, "Operation name cannot be null");
+    }
+
+    /**
+     * Records a successful operation.
+     *
+     * @param startNanos The value of {@link System#nanoTime()} when the operation started
+     */
+    public void record(long startNanos) {
+        latencies.record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Records a failed operation.
+     *
+     * @param startNanos The value of {@link System#nanoTime()} when the operation started
+     */
+    public void recordFailure(long startNanos) {
+        latencies.record(System.nanoTime() - startNanos);
+        failures.increment();
+    }
+
+    /**
+     * Takes a snapshot of the latencies and failures recorded so far.
+     *
+     * @return The snapshot
+     */
+    public LatencySnapshot snapshot() {
+        return latencies.snapshot(failures.sum());
+    }
+
+    /**
+     * Discards all recorded latencies and failures.
+     */
+    public void reset() {
+        latencies.reset();
+        failures.reset();
+    }
+
+    /**
+     * Returns the name of the operation.
+     *
+     * @return The operation name
+     */
+    public String getName() {
+        return name;
+    }
+}
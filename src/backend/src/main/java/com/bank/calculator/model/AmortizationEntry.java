@@ -0,0 +1,142 @@
+package com.bank.calculator.model;
+
+import java.io.Serializable; // JDK 11
+import java.math.BigDecimal; // JDK 11
+import java.util.Objects; // JDK 11
+
+/**
+ * Model class that represents a single installment of a loan amortization schedule.
+ * Each entry records how the monthly payment is split between principal and interest,
+ * the balance remaining after the payment, and the interest paid so far. All amounts are
+ * rounded to currency precision.
+ */
+public class AmortizationEntry implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int month;
+    private final BigDecimal payment;
+    private final BigDecimal principalComponent;
+    private final BigDecimal interestComponent;
+    private final BigDecimal remainingBalance;
+    private final BigDecimal cumulativeInterest;
+
+    /**
+     * Constructs a new AmortizationEntry.
+     *
+     * @param month The installment number, starting at 1
+     * @param payment The total payment of the installment
+     * @param principalComponent The part of the payment that repays principal
+     * @param interestComponent The part of the payment that pays interest
+     * @param remainingBalance The outstanding principal after the payment
+     * @param cumulativeInterest The total interest paid up to and including this installment
+     * @throws NullPointerException if any of the BigDecimal parameters are null
+     * @throws IllegalArgumentException if month is less than or equal to zero
+     */
+    public AmortizationEntry(int month, BigDecimal payment, BigDecimal principalComponent,
+                             BigDecimal interestComponent, BigDecimal remainingBalance,
+                             BigDecimal cumulativeInterest) {
+        Objects.requireNonNull(payment, "Payment cannot be null");
+        Objects.requireNonNull(principalComponent, "Principal component cannot be null");
+        Objects.requireNonNull(interestComponent, "Interest component cannot be null");
+        Objects.requireNonNull(remainingBalance, "Remaining balance cannot be null");
+        Objects.requireNonNull(cumulativeInterest, "Cumulative interest cannot be null");
+
+        if (month <= 0) {
+            throw new IllegalArgumentException("Month must be positive");
+        }
+
+        this.month = month;
+        this.payment = payment;
+        this.principalComponent = principalComponent;
+        this.interestComponent = interestComponent;
+        this.remainingBalance = remainingBalance;
+        this.cumulativeInterest = cumulativeInterest;
+    }
+
+    /**
+     * Returns the installment number, starting at 1.
+     *
+     * @return The installment number
+     */
+    public int getMonth() {
+        return month;
+    }
+
+    /**
+     * Returns the total payment of the installment.
+     *
+     * @return The payment amount
+     */
+    public BigDecimal getPayment() {
+        return payment;
+    }
+
+    /**
+     * Returns the part of the payment that repays principal.
+     *
+     * @return The principal component
+     */
+    public BigDecimal getPrincipalComponent() {
+        return principalComponent;
+    }
+
+    /**
+     * Returns the part of the payment that pays interest.
+     *
+     * @return The interest component
+     */
+    public BigDecimal getInterestComponent() {
+        return interestComponent;
+    }
+
+    /**
+     * Returns the outstanding principal after the payment.
+     *
+     * @return The remaining balance
+     */
+    public BigDecimal getRemainingBalance() {
+        return remainingBalance;
+    }
+
+    /**
+     * Returns the total interest paid up to and including this installment.
+     *
+     * @return The cumulative interest
+     */
+    public BigDecimal getCumulativeInterest() {
+        return cumulativeInterest;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AmortizationEntry that = (AmortizationEntry) o;
+        return month == that.month &&
+               payment.compareTo(that.payment) == 0 &&
+               principalComponent.compareTo(that.principalComponent) == 0 &&
+               interestComponent.compareTo(that.interestComponent) == 0 &&
+               remainingBalance.compareTo(that.remainingBalance) == 0 &&
+               cumulativeInterest.compareTo(that.cumulativeInterest) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(month, payment.stripTrailingZeros(), principalComponent.stripTrailingZeros(),
+                interestComponent.stripTrailingZeros(), remainingBalance.stripTrailingZeros(),
+                cumulativeInterest.stripTrailingZeros());
+    }
+
+    @Override
+    public String toString() {
+        return "AmortizationEntry{" +
+               "month=" + month +
+               ", payment=" + payment +
+               ", principalComponent=" + principalComponent +
+               ", interestComponent=" + interestComponent +
+               ", remainingBalance=" + remainingBalance +
+               ", cumulativeInterest=" + cumulativeInterest +
+               '}';
+    }
+}
@@ -0,0 +1,151 @@
+package com.bank.calculator.model;
+
+import java.io.Serializable; // JDK 11
+import java.util.Objects; // JDK 11
+
+/**
+ * Model class that encapsulates the outcome of a single item in a batch EMI calculation.
+ * Each instance records the position of the item in the submitted batch together with either
+ * the successful calculation result or the error code and message describing why the item failed,
+ * so that one invalid loan does not abort the rest of the batch.
+ */
+public class BatchCalculationResult implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int index;
+    private final CalculationInput input;
+    private final CalculationResult result;
+    private final String errorCode;
+    private final String errorMessage;
+
+    /**
+     * Constructs a new BatchCalculationResult.
+     *
+     * @param index The position of the item in the submitted batch
+     * @param input The calculation input of the item, may be null if the batch contained a null entry
+     * @param result The calculation result, or null if the calculation failed
+     * @param errorCode The error code, or null if the calculation succeeded
+     * @param errorMessage The error message, or null if the calculation succeeded
+     */
+    private BatchCalculationResult(int index, CalculationInput input, CalculationResult result,
+                                   String errorCode, String errorMessage) {
+        this.index = index;
+        this.input = input;
+        this.result = result;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Creates a BatchCalculationResult representing a successfully calculated item.
+     *
+     * @param index The position of the item in the submitted batch
+     * @param input The calculation input of the item
+     * @param result The calculation result for the item
+     * @return a successful BatchCalculationResult
+     * @throws NullPointerException if result is null
+     */
+    public static BatchCalculationResult success(int index, CalculationInput input, CalculationResult result) {
+        Objects.requireNonNull(result, "Calculation result cannot be null");
+        return new BatchCalculationResult(index, input, result, null, null);
+    }
+
+    /**
+     * Creates a BatchCalculationResult representing an item whose calculation failed.
+     *
+     * @param index The position of the item in the submitted batch
+     * @param input The calculation input of the item, may be null
+     * @param errorCode The error code describing the failure category
+     * @param errorMessage The error message describing the failure
+     * @return a failed BatchCalculationResult
+     * @throws NullPointerException if errorCode is null
+     */
+    public static BatchCalculationResult failure(int index, CalculationInput input, String errorCode,
+                                                 String errorMessage) {
+        Objects.requireNonNull(errorCode, "Error code cannot be null");
+        return new BatchCalculationResult(index, input, null, errorCode, errorMessage);
+    }
+
+    /**
+     * Returns the position of the item in the submitted batch.
+     *
+     * @return The zero-based index of the item
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the calculation input of the item.
+     *
+     * @return The calculation input, or null if the batch contained a null entry
+     */
+    public CalculationInput getInput() {
+        return input;
+    }
+
+    /**
+     * Returns whether the item was calculated successfully.
+     *
+     * @return true if the calculation succeeded, false otherwise
+     */
+    public boolean isSuccess() {
+        return result != null;
+    }
+
+    /**
+     * Returns the calculation result of the item.
+     *
+     * @return The calculation result, or null if the calculation failed
+     */
+    public CalculationResult getResult() {
+        return result;
+    }
+
+    /**
+     * Returns the error code of a failed item.
+     *
+     * @return The error code, or null if the calculation succeeded
+     */
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * Returns the error message of a failed item.
+     *
+     * @return The error message, or null if the calculation succeeded
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BatchCalculationResult that = (BatchCalculationResult) o;
+        return index == that.index &&
+               Objects.equals(input, that.input) &&
+               Objects.equals(result, that.result) &&
+               Objects.equals(errorCode, that.errorCode) &&
+               Objects.equals(errorMessage, that.errorMessage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, input, result, errorCode, errorMessage);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchCalculationResult{" +
+               "index=" + index +
+               ", input=" + input +
+               ", result=" + result +
+               ", errorCode='" + errorCode + '\'' +
+               ", errorMessage='" + errorMessage + '\'' +
+               '}';
+    }
+}
@@ -10,6 +10,9 @@ import com.bank.calculator.constant.CalculationConstants;
  * Model class that encapsulates the input parameters for compound interest and EMI calculations.
  * This class stores the principal amount, loan duration in years, and interest rate
  * that will be used for calculations.
+ * <p>
+ * Inputs are mutable and compare their amounts by representation; use {@link #toKey()} to identify a
+ * calculation, for example in a cache.
  */
 public class CalculationInput implements Serializable {
     
@@ -97,6 +100,15 @@ public class CalculationInput implements Serializable {
                 .toString() + "%";
     }
     
+    /**
+     * Returns the immutable, normalized key of this input, under which numerically equal inputs are equal.
+     *
+     * @return The calculation key of the current values of this input
+     */
+    public CalculationKey toKey() {
+        return CalculationKey.of(this);
+    }
+    
     /**
      * Compares this CalculationInput to the specified object for equality.
      *
@@ -0,0 +1,239 @@
+package com.bank.calculator.model;
+
+import java.io.Serializable; // JDK 11
+import java.math.BigDecimal; // JDK 11
+import java.util.Objects; // JDK 11
+
+import com.bank.calculator.constant.CalculationConstants;
+
+/**
+ * Immutable, normalized identity of a calculation, for use as the key of a result cache.
+ * <p>
+ * {@link CalculationInput} is mutable and compares its amounts with {@link BigDecimal#equals(Object)}, so
+ * {@code 10000} and {@code 10000.00}, or {@code 7.5} and {@code 7.50}, are different inputs to it. A key holds
+ * the principal and interest rate in a canonical form instead, with trailing fractional zeros removed, so keys
+ * of numerically equal inputs are equal regardless of how the amounts were written. The hash code is computed
+ * once, when the key is created.
+ * <p>
+ * The canonical amounts identify a calculation but are not meant to be calculated with: a cache should
+ * calculate a missing result from the caller's own input, whose representation the result reflects.
+ */
+public final class CalculationKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int PRINCIPAL_DECIMALS = 2;
+    private static final int MAX_PRINCIPAL_DIGITS = 15;
+    private static final int MAX_DURATION_DIGITS = 9;
+
+    /**
+     * The default interest rate in canonical form, normalized once since nearly every key carries it.
+     */
+    private static final BigDecimal DEFAULT_INTEREST_RATE = canonical(CalculationConstants.DEFAULT_INTEREST_RATE);
+
+    private final BigDecimal principal;
+    private final int durationYears;
+    private final BigDecimal interestRate;
+    private final int hash;
+
+    private CalculationKey(BigDecimal principal, int durationYears, BigDecimal interestRate) {
+        this.principal = principal;
+        this.durationYears = durationYears;
+        this.interestRate = interestRate;
+        this.hash = (31 * principal.hashCode() + durationYears) * 31 + interestRate.hashCode();
+    }
+
+    /**
+     * Returns the key of a calculation input. Later changes to the input do not affect the key.
+     *
+     * @param input The calculation input
+     * @return The key of the input
+     * @throws NullPointerException if input is null
+     */
+    public static CalculationKey of(CalculationInput input) {
+        Objects.requireNonNull(input, "CalculationInput cannot be null");
+        return of(input.getPrincipal(), input.getDurationYears(), input.getInterestRate());
+    }
+
+    /**
+     * Returns the key of a principal amount, loan duration and interest rate.
+     *
+     * @param principal The principal amount for the loan
+     * @param durationYears The loan duration in years
+     * @param interestRate The annual interest rate
+     * @return The key of the calculation
+     * @throws NullPointerException if principal or interestRate is null
+     */
+    public static CalculationKey of(BigDecimal principal, int durationYears, BigDecimal interestRate) {
+        Objects.requireNonNull(principal, "Principal amount cannot be null");
+        Objects.requireNonNull(interestRate, "Interest rate cannot be null");
+        return new CalculationKey(canonical(principal), durationYears, canonicalRate(interestRate));
+    }
+
+    /**
+     * Returns the key of a principal amount and loan duration, as typed and already validated, with the default
+     * interest rate. The strings are read directly, without parsing them into {@link BigDecimal} first: the
+     * principal must be ASCII digits with an optional decimal point followed by one or two digits, and the
+     * duration ASCII digits, as guaranteed by a successful validation. Leading zeros are allowed in both.
+     *
+     * @param principalStr The validated principal amount
+     * @param durationStr The validated loan duration in years
+     * @return The key of the calculation
+     * @throws NullPointerException if either string is null
+     * @throws IllegalArgumentException if either string is not in the validated format
+     */
+    public static CalculationKey ofValidated(String principalStr, String durationStr) {
+        Objects.requireNonNull(principalStr, "Principal amount cannot be null");
+        Objects.requireNonNull(durationStr, "Loan duration cannot be null");
+
+        int length = principalStr.length();
+        long cents = 0;
+        int i = 0;
+        // Leading zeros are valid input and do not count towards the digits a long can hold
+        while (i < length && principalStr.charAt(i) == '0') {
+            i++;
+        }
+        int integerStart = i;
+        while (i < length && isDigit(principalStr.charAt(i)) && i - integerStart < MAX_PRINCIPAL_DIGITS) {
+            cents = cents * 10 + (principalStr.charAt(i) - '0');
+            i++;
+        }
+        boolean wellFormed = i > 0 && (i == length || !isDigit(principalStr.charAt(i)));
+        int decimals = 0;
+        if (i < length && principalStr.charAt(i) == '.') {
+            i++;
+            while (i < length && decimals < PRINCIPAL_DECIMALS && isDigit(principalStr.charAt(i))) {
+                cents = cents * 10 + (principalStr.charAt(i) - '0');
+                decimals++;
+                i++;
+            }
+            wellFormed &= decimals > 0;
+        }
+        if (!wellFormed || i != length) {
+            throw new IllegalArgumentException("Principal amount is not a validated amount: " + principalStr);
+        }
+        for (; decimals < PRINCIPAL_DECIMALS; decimals++) {
+            cents *= 10;
+        }
+
+        int durationLength = durationStr.length();
+        int j = 0;
+        while (j < durationLength - 1 && durationStr.charAt(j) == '0') {
+            j++;
+        }
+        if (durationLength == 0 || durationLength - j > MAX_DURATION_DIGITS) {
+            throw new IllegalArgumentException("Loan duration is not a validated duration: " + durationStr);
+        }
+        int durationYears = 0;
+        for (; j < durationLength; j++) {
+            char c = durationStr.charAt(j);
+            if (!isDigit(c)) {
+                throw new IllegalArgumentException("Loan duration is not a validated duration: " + durationStr);
+            }
+            durationYears = durationYears * 10 + (c - '0');
+        }
+
+        return new CalculationKey(canonicalCents(cents), durationYears, DEFAULT_INTEREST_RATE);
+    }
+
+    /**
+     * Returns the principal amount in canonical form.
+     *
+     * @return The principal amount without trailing fractional zeros
+     */
+    public BigDecimal getPrincipal() {
+        return principal;
+    }
+
+    /**
+     * Returns the loan duration in years.
+     *
+     * @return The loan duration in years
+     */
+    public int getDurationYears() {
+        return durationYears;
+    }
+
+    /**
+     * Returns the annual interest rate in canonical form.
+     *
+     * @return The annual interest rate without trailing fractional zeros
+     */
+    public BigDecimal getInterestRate() {
+        return interestRate;
+    }
+
+    /**
+     * Compares this key to the specified object. Keys are equal if their principal amounts, loan durations and
+     * interest rates are numerically equal.
+     *
+     * @param o The object to compare with
+     * @return true if the keys are equal, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CalculationKey)) return false;
+        CalculationKey that = (CalculationKey) o;
+        return hash == that.hash &&
+                durationYears == that.durationYears &&
+                principal.equals(that.principal) &&
+                interestRate.equals(that.interestRate);
+    }
+
+    /**
+     * Returns the hash code computed when the key was created.
+     *
+     * @return A hash code value
+     */
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Returns a string representation of this key.
+     *
+     * @return A string representation
+     */
+    @Override
+    public String toString() {
+        return "CalculationKey{" +
+                "principal=" + principal.toPlainString() +
+                ", durationYears=" + durationYears +
+                ", interestRate=" + interestRate.toPlainString() +
+                '}';
+    }
+
+    /**
+     * Returns the canonical form of an amount: trailing fractional zeros removed, but never a negative scale, so
+     * that {@code 10000.00} becomes {@code 10000} rather than {@code 1E+4}.
+     */
+    private static BigDecimal canonical(BigDecimal value) {
+        BigDecimal stripped = value.stripTrailingZeros();
+        return stripped.scale() < 0 ? stripped.setScale(0) : stripped;
+    }
+
+    private static BigDecimal canonicalRate(BigDecimal interestRate) {
+        return interestRate == CalculationConstants.DEFAULT_INTEREST_RATE
+                ? DEFAULT_INTEREST_RATE
+                : canonical(interestRate);
+    }
+
+    /**
+     * Returns the canonical form of an amount in cents without going through {@link #canonical(BigDecimal)}.
+     */
+    private static BigDecimal canonicalCents(long cents) {
+        if (cents % 100 == 0) {
+            return BigDecimal.valueOf(cents / 100);
+        }
+        if (cents % 10 == 0) {
+            return BigDecimal.valueOf(cents / 10, 1);
+        }
+        return BigDecimal.valueOf(cents, PRINCIPAL_DECIMALS);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,164 @@
+package com.bank.calculator.model;
+
+import java.util.Objects; // JDK 11
+
+/**
+ * Model class that encapsulates the outcome of an EMI request: either the calculation result, or the error code
+ * and message of a validation or calculation failure.
+ * <p>
+ * Invalid inputs are an expected outcome of batch and service requests rather than an exceptional one, so they
+ * are reported by value instead of by throwing: creating an outcome does not capture a stack trace. The set of
+ * outcomes is closed, as given by {@link Status}; instances are only created through the factory methods.
+ */
+public final class CalculationOutcome {
+
+    /**
+     * The kind of an outcome.
+     */
+    public enum Status {
+        /** The inputs were valid and the EMI was calculated. */
+        SUCCESS,
+        /** The inputs were invalid; nothing was calculated. */
+        VALIDATION_FAILURE,
+        /** The inputs were valid but the calculation failed. */
+        CALCULATION_FAILURE
+    }
+
+    private final Status status;
+    private final CalculationResult result;
+    private final String errorCode;
+    private final String errorMessage;
+    private final Throwable cause;
+
+    private CalculationOutcome(Status status, CalculationResult result, String errorCode, String errorMessage,
+                               Throwable cause) {
+        this.status = status;
+        this.result = result;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+        this.cause = cause;
+    }
+
+    /**
+     * Creates an outcome representing a successful calculation.
+     *
+     * @param result The calculation result
+     * @return a successful CalculationOutcome
+     * @throws NullPointerException if result is null
+     */
+    public static CalculationOutcome success(CalculationResult result) {
+        Objects.requireNonNull(result, "Calculation result cannot be null");
+        return new CalculationOutcome(Status.SUCCESS, result, null, null, null);
+    }
+
+    /**
+     * Creates an outcome representing invalid inputs.
+     *
+     * @param errorCode The error code describing the failure category
+     * @param errorMessage The error message describing why the inputs are invalid
+     * @return a CalculationOutcome with status {@link Status#VALIDATION_FAILURE}
+     * @throws NullPointerException if errorCode or errorMessage is null
+     */
+    public static CalculationOutcome validationFailure(String errorCode, String errorMessage) {
+        return validationFailure(errorCode, errorMessage, null);
+    }
+
+    /**
+     * Creates an outcome representing inputs found to be invalid by an exception.
+     *
+     * @param errorCode The error code describing the failure category
+     * @param errorMessage The error message describing why the inputs are invalid
+     * @param cause The exception that revealed the invalid inputs, or null
+     * @return a CalculationOutcome with status {@link Status#VALIDATION_FAILURE}
+     * @throws NullPointerException if errorCode or errorMessage is null
+     */
+    public static CalculationOutcome validationFailure(String errorCode, String errorMessage, Throwable cause) {
+        Objects.requireNonNull(errorCode, "Error code cannot be null");
+        Objects.requireNonNull(errorMessage, "Error message cannot be null");
+        return new CalculationOutcome(Status.VALIDATION_FAILURE, null, errorCode, errorMessage, cause);
+    }
+
+    /**
+     * Creates an outcome representing a failed calculation.
+     *
+     * @param errorCode The error code describing the failure category
+     * @param errorMessage The error message describing the failure
+     * @param cause The exception that made the calculation fail, or null
+     * @return a CalculationOutcome with status {@link Status#CALCULATION_FAILURE}
+     * @throws NullPointerException if errorCode or errorMessage is null
+     */
+    public static CalculationOutcome calculationFailure(String errorCode, String errorMessage, Throwable cause) {
+        Objects.requireNonNull(errorCode, "Error code cannot be null");
+        Objects.requireNonNull(errorMessage, "Error message cannot be null");
+        return new CalculationOutcome(Status.CALCULATION_FAILURE, null, errorCode, errorMessage, cause);
+    }
+
+    /**
+     * Returns the kind of this outcome.
+     *
+     * @return The status
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns whether the EMI was calculated.
+     *
+     * @return true if the status is {@link Status#SUCCESS}, false otherwise
+     */
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+
+    /**
+     * Returns the calculation result of a successful outcome.
+     *
+     * @return The calculation result, or null if the request failed
+     */
+    public CalculationResult getResult() {
+        return result;
+    }
+
+    /**
+     * Returns the error code of a failed outcome.
+     *
+     * @return The error code, or null if the calculation succeeded
+     */
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * Returns the error message of a failed outcome.
+     *
+     * @return The error message, or null if the calculation succeeded
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Returns the exception behind a failed outcome, if the failure was reported by one.
+     *
+     * @return The cause, or null if the calculation succeeded or the failure was detected without an exception
+     */
+    public Throwable getCause() {
+        return cause;
+    }
+
+    /**
+     * Returns a string representation of this CalculationOutcome.
+     *
+     * @return a string representation
+     */
+    @Override
+    public String toString() {
+        return "CalculationOutcome{" +
+               "status=" + status +
+               ", result=" + result +
+               ", errorCode='" + errorCode + '\'' +
+               ", errorMessage='" + errorMessage + '\'' +
+               '}';
+    }
+}
@@ -0,0 +1,235 @@
+package com.bank.calculator.model;
+
+import java.io.DataOutput; // JDK 11
+import java.io.IOException; // JDK 11
+import java.io.Serializable; // JDK 11
+import java.math.BigDecimal; // JDK 11
+import java.util.Arrays; // JDK 11
+import java.util.Objects; // JDK 11
+
+import com.bank.calculator.constant.CalculationConstants;
+
+/**
+ * Model class that holds the EMI of one principal amount for a band of interest rates and a range of loan
+ * durations, as shown on a pricing screen.
+ * <p>
+ * Rows are interest rates, starting at {@link #getFromRate()} and increasing by {@link #getRateStep()}; columns
+ * are whole years, from {@link #getMinYears()} to {@link #getMaxYears()}. The EMIs are held in whole cents in a
+ * single row-major {@code long[]}, so a grid of 200 rates by 30 durations is one 48 KB array rather than 6,000
+ * objects, and can be copied or written out without boxing a cell.
+ */
+public final class EmiGrid implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final BigDecimal principal;
+    private final BigDecimal fromRate;
+    private final BigDecimal rateStep;
+    private final int rateCount;
+    private final int minYears;
+    private final int maxYears;
+    private final long[] emiCents;
+
+    /**
+     * Constructs a new EmiGrid that takes ownership of the cell array.
+     *
+     * @param principal The principal amount of every cell
+     * @param fromRate The annual interest rate of the first row
+     * @param rateStep The increase of the annual interest rate from one row to the next
+     * @param rateCount The number of rows
+     * @param minYears The loan duration of the first column
+     * @param maxYears The loan duration of the last column
+     * @param emiCents The EMI of each cell in cents, row by row; not copied
+     * @throws NullPointerException if principal, fromRate, rateStep or emiCents is null
+     * @throws IllegalArgumentException if the counts are not positive or emiCents does not hold one value per cell
+     */
+    public EmiGrid(BigDecimal principal, BigDecimal fromRate, BigDecimal rateStep, int rateCount,
+                   int minYears, int maxYears, long[] emiCents) {
+        Objects.requireNonNull(principal, "Principal amount cannot be null");
+        Objects.requireNonNull(fromRate, "From rate cannot be null");
+        Objects.requireNonNull(rateStep, "Rate step cannot be null");
+        Objects.requireNonNull(emiCents, "EMI cells cannot be null");
+
+        if (rateCount <= 0 || minYears <= 0 || maxYears < minYears) {
+            throw new IllegalArgumentException("Grid must have at least one rate and one duration");
+        }
+        if (emiCents.length != (long) rateCount * (maxYears - minYears + 1)) {
+            throw new IllegalArgumentException("EMI cells do not match the grid dimensions");
+        }
+
+        this.principal = principal;
+        this.fromRate = fromRate;
+        this.rateStep = rateStep;
+        this.rateCount = rateCount;
+        this.minYears = minYears;
+        this.maxYears = maxYears;
+        this.emiCents = emiCents;
+    }
+
+    /**
+     * Returns the principal amount of every cell.
+     *
+     * @return The principal amount
+     */
+    public BigDecimal getPrincipal() {
+        return principal;
+    }
+
+    /**
+     * Returns the annual interest rate of the first row.
+     *
+     * @return The first interest rate
+     */
+    public BigDecimal getFromRate() {
+        return fromRate;
+    }
+
+    /**
+     * Returns the increase of the annual interest rate from one row to the next.
+     *
+     * @return The rate step
+     */
+    public BigDecimal getRateStep() {
+        return rateStep;
+    }
+
+    /**
+     * Returns the number of rows, one per interest rate.
+     *
+     * @return The number of rows
+     */
+    public int getRowCount() {
+        return rateCount;
+    }
+
+    /**
+     * Returns the number of columns, one per loan duration.
+     *
+     * @return The number of columns
+     */
+    public int getColumnCount() {
+        return maxYears - minYears + 1;
+    }
+
+    /**
+     * Returns the loan duration of the first column.
+     *
+     * @return The shortest duration in years
+     */
+    public int getMinYears() {
+        return minYears;
+    }
+
+    /**
+     * Returns the loan duration of the last column.
+     *
+     * @return The longest duration in years
+     */
+    public int getMaxYears() {
+        return maxYears;
+    }
+
+    /**
+     * Returns the annual interest rate of a row.
+     *
+     * @param row The row, from 0
+     * @return The interest rate as a percentage
+     * @throws IndexOutOfBoundsException if row is outside the grid
+     */
+    public BigDecimal getInterestRate(int row) {
+        Objects.checkIndex(row, rateCount);
+        return fromRate.add(rateStep.multiply(BigDecimal.valueOf(row)));
+    }
+
+    /**
+     * Returns the EMI of a cell in cents.
+     *
+     * @param row The row, from 0
+     * @param durationYears The loan duration of the column
+     * @return The EMI in cents
+     * @throws IndexOutOfBoundsException if the cell is outside the grid
+     */
+    public long getEmiCents(int row, int durationYears) {
+        Objects.checkIndex(row, rateCount);
+        return emiCents[row * getColumnCount() + Objects.checkIndex(durationYears - minYears, getColumnCount())];
+    }
+
+    /**
+     * Returns the EMI of a cell.
+     *
+     * @param row The row, from 0
+     * @param durationYears The loan duration of the column
+     * @return The EMI rounded to currency precision
+     * @throws IndexOutOfBoundsException if the cell is outside the grid
+     */
+    public BigDecimal getEmi(int row, int durationYears) {
+        return BigDecimal.valueOf(getEmiCents(row, durationYears), CalculationConstants.CURRENCY_PRECISION);
+    }
+
+    /**
+     * Copies the EMIs of a row, in cents and in order of duration, into an array.
+     *
+     * @param row The row, from 0
+     * @param destination The array receiving the row
+     * @param offset The position in the array of the first column
+     * @throws IndexOutOfBoundsException if row is outside the grid or the row does not fit in the array
+     */
+    public void copyRow(int row, long[] destination, int offset) {
+        Objects.checkIndex(row, rateCount);
+        System.arraycopy(emiCents, row * getColumnCount(), destination, offset, getColumnCount());
+    }
+
+    /**
+     * Returns a copy of all EMIs in cents, row by row.
+     *
+     * @return The cells of the grid
+     */
+    public long[] toArray() {
+        return emiCents.clone();
+    }
+
+    /**
+     * Writes the EMIs in cents, row by row, as big-endian longs, for example to a {@link java.io.DataOutputStream}
+     * or a {@link java.io.RandomAccessFile}. The dimensions are not written.
+     *
+     * @param output The output to write to
+     * @throws IOException if the output cannot be written
+     */
+    public void writeTo(DataOutput output) throws IOException {
+        for (long cents : emiCents) {
+            output.writeLong(cents);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmiGrid that = (EmiGrid) o;
+        return rateCount == that.rateCount &&
+               minYears == that.minYears &&
+               maxYears == that.maxYears &&
+               principal.compareTo(that.principal) == 0 &&
+               fromRate.compareTo(that.fromRate) == 0 &&
+               rateStep.compareTo(that.rateStep) == 0 &&
+               Arrays.equals(emiCents, that.emiCents);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(principal.stripTrailingZeros(), fromRate.stripTrailingZeros(),
+                rateStep.stripTrailingZeros(), rateCount, minYears, maxYears) + Arrays.hashCode(emiCents);
+    }
+
+    @Override
+    public String toString() {
+        return "EmiGrid{" +
+               "principal=" + principal +
+               ", fromRate=" + fromRate +
+               ", rateStep=" + rateStep +
+               ", rateCount=" + rateCount +
+               ", minYears=" + minYears +
+               ", maxYears=" + maxYears +
+               '}';
+    }
+}
@@ -14,6 +14,7 @@ public class ValidationResult implements Serializable {
     
     private final boolean valid;
     private final String errorMessage;
+    private final CalculationInput parsedInput;
     
     /**
      * Constructs a new ValidationResult with the specified validity and error message.
@@ -22,8 +23,13 @@ public class ValidationResult implements Serializable {
      * @param errorMessage the error message, or null if validation was successful
      */
     public ValidationResult(boolean valid, String errorMessage) {
+        this(valid, errorMessage, null);
+    }
+    
+    private ValidationResult(boolean valid, String errorMessage, CalculationInput parsedInput) {
         this.valid = valid;
         this.errorMessage = errorMessage;
+        this.parsedInput = parsedInput;
     }
     
     /**
@@ -44,6 +50,15 @@ public class ValidationResult implements Serializable {
         return errorMessage;
     }
     
+    /**
+     * Returns the calculation input parsed while validating, if the validation produced one.
+     *
+     * @return the parsed calculation input, or null if validation failed or did not parse the inputs
+     */
+    public CalculationInput getParsedInput() {
+        return parsedInput;
+    }
+    
     /**
      * Creates a ValidationResult instance representing a successful validation with no error message.
      *
@@ -53,6 +68,18 @@ public class ValidationResult implements Serializable {
         return new ValidationResult(true, null);
     }
     
+    /**
+     * Creates a ValidationResult instance representing a successful validation that carries the parsed inputs.
+     *
+     * @param parsedInput the calculation input parsed from the validated strings
+     * @return a ValidationResult instance with valid=true, no error message and the parsed input
+     * @throws NullPointerException if parsedInput is null
+     */
+    public static ValidationResult createValid(CalculationInput parsedInput) {
+        Objects.requireNonNull(parsedInput, "Parsed input cannot be null");
+        return new ValidationResult(true, null, parsedInput);
+    }
+    
     /**
      * Creates a ValidationResult instance representing a failed validation with the specified error message.
      *
@@ -66,7 +93,8 @@ public class ValidationResult implements Serializable {
     }
     
     /**
-     * Compares this ValidationResult to the specified object for equality.
+     * Compares this ValidationResult to the specified object for equality. The parsed input is derived from the
+     * validated strings and does not take part in the comparison.
      *
      * @param o the object to compare with
      * @return true if the objects are equal, false otherwise
@@ -0,0 +1,300 @@
+package com.bank.calculator.server;
+
+import java.io.BufferedReader; // JDK 11
+import java.io.BufferedWriter; // JDK 11
+import java.io.IOException; // JDK 11
+import java.io.InputStreamReader; // JDK 11
+import java.io.OutputStream; // JDK 11
+import java.io.OutputStreamWriter; // JDK 11
+import java.io.Writer; // JDK 11
+import java.net.InetSocketAddress; // JDK 11
+import java.net.URLDecoder; // JDK 11
+import java.nio.charset.StandardCharsets; // JDK 11
+import java.util.Objects; // JDK 11
+import java.util.concurrent.Executor; // JDK 11
+import java.util.logging.Level; // JDK 11
+import java.util.logging.Logger; // JDK 11
+
+import com.sun.net.httpserver.HttpExchange; // JDK 11
+import com.sun.net.httpserver.HttpServer; // JDK 11
+
+import com.bank.calculator.controller.CalculatorController;
+import com.bank.calculator.model.CalculationOutcome;
+
+/**
+ * Serves EMI quotes over HTTP with the JDK's built-in {@link HttpServer}, for systems that need quotes without
+ * the desktop UI. Two endpoints are offered:
+ * <ul>
+ *   <li>{@code GET /api/emi?principal=25000&duration=5} returns one quote as a JSON object, with status 400 if
+ *       the inputs are invalid and 500 if the calculation fails.</li>
+ *   <li>{@code POST /api/emi/batch} takes one {@code principal,durationYears} row per line of the request body
+ *       and streams back one JSON object per line (newline-delimited JSON) as each row is calculated, so neither
+ *       side holds the whole batch in memory. An optional header line and blank lines are skipped, and a row
+ *       that fails is returned with status {@value JsonEncoder#STATUS_ERROR} instead of ending the response.</li>
+ * </ul>
+ * Requests are handled on the supplied executor, which therefore bounds the number of requests calculated at the
+ * same time; all of them share the stateless {@link CalculatorController}.
+ */
+public final class CalculationServer {
+
+    private static final Logger LOGGER = Logger.getLogger(CalculationServer.class.getName());
+
+    /**
+     * Path of the single-quote endpoint.
+     */
+    public static final String QUOTE_PATH = "/api/emi";
+
+    /**
+     * Path of the streaming batch endpoint.
+     */
+    public static final String BATCH_PATH = "/api/emi/batch";
+
+    /**
+     * Query parameter holding the principal amount.
+     */
+    public static final String PRINCIPAL_PARAMETER = "principal";
+
+    /**
+     * Query parameter holding the loan duration in years.
+     */
+    public static final String DURATION_PARAMETER = "duration";
+
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson; charset=utf-8";
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_BAD_REQUEST = 400;
+    private static final int STATUS_NOT_FOUND = 404;
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    private static final int STATUS_INTERNAL_ERROR = 500;
+    private static final int CHUNKED_RESPONSE = 0;
+    private static final char SEPARATOR = ',';
+    private static final int WRITE_BUFFER_SIZE = 16 * 1024;
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    static {
+        // The JDK server sends the response headers and body in separate segments; with Nagle's algorithm left on,
+        // each response waits for the client's delayed ACK, about 40ms, capping a keep-alive connection at 25
+        // requests per second. Read once when the first HttpServer is created, so an explicit setting wins.
+        if (System.getProperty(NODELAY_PROPERTY) == null) {
+            System.setProperty(NODELAY_PROPERTY, "true");
+        }
+    }
+
+    private final CalculatorController calculatorController;
+    private final HttpServer server;
+
+    /**
+     * Constructs a new CalculationServer bound to the specified address. The server does not accept requests
+     * until {@link #start()} is called.
+     *
+     * @param calculatorController the controller calculating the quotes
+     * @param address the address to listen on; port 0 picks a free port
+     * @param executor the executor on which requests are handled
+     * @throws IOException if the address cannot be bound
+     * @throws NullPointerException if any of the arguments are null
+     */
+    public CalculationServer(CalculatorController calculatorController, InetSocketAddress address,
+                             Executor executor) throws IOException {
+        this.calculatorController = Objects.requireNonNull(calculatorController, "CalculatorController cannot be null");
+        Objects.requireNonNull(address, "Address cannot be null");
+        Objects.requireNonNull(executor, "Executor cannot be null");
+
+        this.server = HttpServer.create(address, 0);
+        server.setExecutor(executor);
+        server.createContext(QUOTE_PATH, this::handleQuote);
+        server.createContext(BATCH_PATH, this::handleBatch);
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        LOGGER.log(Level.INFO, "Calculation server listening on {0}", server.getAddress());
+    }
+
+    /**
+     * Stops accepting requests and closes the server once the requests being handled have completed, or after
+     * the specified delay at the latest. The executor is not shut down.
+     *
+     * @param delaySeconds the maximum time in seconds to wait for requests being handled
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        LOGGER.info("Calculation server stopped");
+    }
+
+    /**
+     * Returns the address the server is bound to, including the port picked when port 0 was requested.
+     *
+     * @return The bound address
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Handles {@code GET /api/emi}.
+     */
+    private void handleQuote(HttpExchange exchange) throws IOException {
+        try {
+            if (!QUOTE_PATH.equals(exchange.getRequestURI().getPath())) {
+                sendError(exchange, STATUS_NOT_FOUND, "Not found");
+                return;
+            }
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                sendError(exchange, STATUS_METHOD_NOT_ALLOWED, "Method not allowed");
+                return;
+            }
+
+            StringBuilder body = new StringBuilder(192);
+            int status = quote(exchange.getRequestURI().getRawQuery(), body);
+            send(exchange, status, body);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Failed to handle quote request", e);
+            throw e;
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Answers a quote request from its raw query string.
+     *
+     * @param rawQuery The query string, still percent-encoded, or null if there is none
+     * @param body The builder the JSON response is appended to
+     * @return The HTTP status of the response
+     */
+    int quote(String rawQuery, StringBuilder body) {
+        String principalStr;
+        String durationStr;
+        try {
+            principalStr = queryParameter(rawQuery, PRINCIPAL_PARAMETER);
+            durationStr = queryParameter(rawQuery, DURATION_PARAMETER);
+        } catch (IllegalArgumentException e) {
+            // URLDecoder rejects malformed percent-encoding such as %zz
+            JsonEncoder.appendError(body, "Malformed query string");
+            return STATUS_BAD_REQUEST;
+        }
+
+        CalculationOutcome outcome = calculatorController.tryCalculateEMI(principalStr, durationStr);
+        switch (outcome.getStatus()) {
+            case SUCCESS:
+                JsonEncoder.appendQuote(body, outcome.getResult());
+                return STATUS_OK;
+            case VALIDATION_FAILURE:
+                JsonEncoder.appendError(body, outcome.getErrorMessage());
+                return STATUS_BAD_REQUEST;
+            default:
+                JsonEncoder.appendError(body, outcome.getErrorMessage());
+                return STATUS_INTERNAL_ERROR;
+        }
+    }
+
+    /**
+     * Handles {@code POST /api/emi/batch}, reading and answering one row at a time.
+     */
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        try {
+            if (!BATCH_PATH.equals(exchange.getRequestURI().getPath())) {
+                sendError(exchange, STATUS_NOT_FOUND, "Not found");
+                return;
+            }
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                sendError(exchange, STATUS_METHOD_NOT_ALLOWED, "Method not allowed");
+                return;
+            }
+
+            exchange.getResponseHeaders().set("Content-Type", NDJSON_CONTENT_TYPE);
+            exchange.sendResponseHeaders(STATUS_OK, CHUNKED_RESPONSE);
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8));
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+
+            StringBuilder row = new StringBuilder(192);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && isHeader(line))) {
+                    continue;
+                }
+                row.setLength(0);
+                quoteRow(row, lineNumber, line);
+                writer.append(row).append('\n');
+            }
+            writer.flush();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Failed to handle batch request", e);
+            throw e;
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Calculates one {@code principal,durationYears} row of a batch and appends its quote or error.
+     */
+    private void quoteRow(StringBuilder out, long lineNumber, String line) {
+        int separator = line.indexOf(SEPARATOR);
+        if (separator < 0) {
+            JsonEncoder.appendBatchRow(out, lineNumber, null, "Expected principal,durationYears");
+            return;
+        }
+        CalculationOutcome outcome = calculatorController.tryCalculateEMI(
+                line.substring(0, separator).trim(), line.substring(separator + 1).trim());
+        JsonEncoder.appendBatchRow(out, lineNumber, outcome.getResult(), outcome.getErrorMessage());
+    }
+
+    /**
+     * Returns whether a line is a header rather than a data row, i.e. whether it starts with a letter.
+     */
+    private static boolean isHeader(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return Character.isLetter(c);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the decoded value of a parameter of a raw query string, or null if it is absent.
+     */
+    private static String queryParameter(String rawQuery, String name) {
+        if (rawQuery == null) {
+            return null;
+        }
+        int start = 0;
+        while (start <= rawQuery.length()) {
+            int end = rawQuery.indexOf('&', start);
+            if (end < 0) {
+                end = rawQuery.length();
+            }
+            int equals = rawQuery.indexOf('=', start);
+            if (equals > start && equals < end
+                    && rawQuery.regionMatches(start, name, 0, name.length()) && equals - start == name.length()) {
+                return URLDecoder.decode(rawQuery.substring(equals + 1, end), StandardCharsets.UTF_8);
+            }
+            start = end + 1;
+        }
+        return null;
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, JsonEncoder.appendError(new StringBuilder(64), message));
+    }
+
+    private static void send(HttpExchange exchange, int status, CharSequence json) throws IOException {
+        byte[] body = json.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.bank.calculator.server;
+
+import java.math.BigDecimal; // JDK 11
+
+import com.bank.calculator.model.CalculationResult;
+
+/**
+ * Writes the JSON responses of the {@link CalculationServer}.
+ * <p>
+ * The responses have a small, fixed shape, so they are appended field by field to a caller-supplied
+ * {@link StringBuilder} instead of going through a reflective object mapper: encoding a quote costs a few
+ * appends, and a builder can be reused across the rows of a batch. Amounts are written as JSON numbers in plain
+ * notation, so that no precision is lost to a binary floating-point parse of the EMI.
+ */
+public final class JsonEncoder {
+
+    /**
+     * Status of a quote that was calculated successfully.
+     */
+    public static final String STATUS_OK = "OK";
+
+    /**
+     * Status of a quote whose inputs were invalid or could not be calculated.
+     */
+    public static final String STATUS_ERROR = "ERROR";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private JsonEncoder() {
+        throw new AssertionError("JsonEncoder class should not be instantiated");
+    }
+
+    /**
+     * Appends a successful quote, for example {@code {"status":"OK","emi":500.9487152,"totalAmount":30056.92291,
+     * "interestAmount":5056.92291,"annualInterestRate":7.5,"installments":60}}.
+     *
+     * @param out the builder to append to
+     * @param result the calculation result
+     * @return the builder
+     */
+    public static StringBuilder appendQuote(StringBuilder out, CalculationResult result) {
+        out.append('{');
+        appendQuoteFields(out, result);
+        return out.append('}');
+    }
+
+    /**
+     * Appends a failed quote, for example {@code {"status":"ERROR","error":"Principal amount is required"}}.
+     *
+     * @param out the builder to append to
+     * @param message the error message
+     * @return the builder
+     */
+    public static StringBuilder appendError(StringBuilder out, String message) {
+        out.append('{');
+        appendErrorFields(out, message);
+        return out.append('}');
+    }
+
+    /**
+     * Appends the quote of one row of a batch: the quote or error with the line number of the row as its first
+     * field, for example {@code {"line":2,"status":"OK","emi":500.9487152,...}}.
+     *
+     * @param out the builder to append to
+     * @param lineNumber the line number of the row in the request body, starting at 1
+     * @param result the calculation result, or null if the row failed
+     * @param errorMessage the error message if the row failed
+     * @return the builder
+     */
+    public static StringBuilder appendBatchRow(StringBuilder out, long lineNumber, CalculationResult result,
+                                               String errorMessage) {
+        out.append("{\"line\":").append(lineNumber).append(',');
+        if (result != null) {
+            appendQuoteFields(out, result);
+        } else {
+            appendErrorFields(out, errorMessage);
+        }
+        return out.append('}');
+    }
+
+    /**
+     * Appends a JSON string literal, escaping quotes, backslashes and control characters. A null value is
+     * written as {@code null}.
+     *
+     * @param out the builder to append to
+     * @param value the string to append
+     * @return the builder
+     */
+    public static StringBuilder appendString(StringBuilder out, String value) {
+        if (value == null) {
+            return out.append("null");
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append("\\u00").append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        return out.append('"');
+    }
+
+    private static void appendQuoteFields(StringBuilder out, CalculationResult result) {
+        appendStatus(out, STATUS_OK);
+        appendNumber(out, "emi", result.getEmiAmount());
+        appendNumber(out, "totalAmount", result.getTotalAmount());
+        appendNumber(out, "interestAmount", result.getInterestAmount());
+        appendNumber(out, "annualInterestRate", result.getAnnualInterestRate());
+        out.append(",\"installments\":").append(result.getNumberOfInstallments());
+    }
+
+    private static void appendErrorFields(StringBuilder out, String message) {
+        appendStatus(out, STATUS_ERROR);
+        out.append(",\"error\":");
+        appendString(out, message);
+    }
+
+    private static void appendStatus(StringBuilder out, String status) {
+        out.append("\"status\":\"").append(status).append('"');
+    }
+
+    private static void appendNumber(StringBuilder out, String name, BigDecimal value) {
+        out.append(",\"").append(name).append("\":").append(value.toPlainString());
+    }
+}
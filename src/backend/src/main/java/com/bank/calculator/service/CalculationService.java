@@ -1,9 +1,14 @@
 package com.bank.calculator.service;
 
 import java.math.BigDecimal; // JDK 11
+import java.util.List; // JDK 11
+import java.util.stream.Stream; // JDK 11
 
+import com.bank.calculator.model.AmortizationEntry;
+import com.bank.calculator.model.BatchCalculationResult;
 import com.bank.calculator.model.CalculationInput;
 import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.model.EmiGrid;
 import com.bank.calculator.exception.CalculationException;
 
 /**
@@ -79,4 +84,183 @@ public interface CalculationService {
      */
     CalculationResult calculateEMI(BigDecimal principal, int durationYears, BigDecimal interestRate) 
             throws CalculationException;
+    
+    /**
+     * Calculates the Equated Monthly Installment (EMI) for every input of a batch, such as a whole loan book.
+     * The batch is split across worker threads; the returned list has one entry per input in the same order
+     * as the inputs, and an item that cannot be calculated is reported as a failed entry instead of
+     * aborting the rest of the batch.
+     *
+     * @param inputs The calculation inputs to process
+     * @return The outcome of each input, in input order
+     * @throws NullPointerException if inputs is null
+     */
+    List<BatchCalculationResult> calculateEMIBatch(List<CalculationInput> inputs);
+    
+    /**
+     * Calculates the EMI of a principal amount for every loan duration from
+     * {@link com.bank.calculator.constant.CalculationConstants#MIN_DURATION_YEARS} to
+     * {@link com.bank.calculator.constant.CalculationConstants#MAX_DURATION_YEARS} years across a band of
+     * interest rates, as shown on a pricing screen.
+     * <p>
+     * Each cell is the EMI that {@link #calculateEMI(BigDecimal, int, BigDecimal)} calculates for its principal,
+     * duration and rate, rounded half up to cents, so the grid agrees with the quote of any of its loans.
+     *
+     * @param principal The principal amount for the loan
+     * @param fromRate The annual interest rate of the first row
+     * @param rateStep The increase of the annual interest rate from one row to the next
+     * @param rateCount The number of interest rates
+     * @return The grid of EMIs, one row per interest rate and one column per duration
+     * @throws CalculationException if an EMI is too large to be held in cents
+     * @throws NullPointerException if principal, fromRate or rateStep is null
+     * @throws IllegalArgumentException if principal or rateCount is not positive, or fromRate or rateStep is
+     *         negative
+     */
+    EmiGrid calculateEMIGrid(BigDecimal principal, BigDecimal fromRate, BigDecimal rateStep, int rateCount)
+            throws CalculationException;
+    
+    /**
+     * Generates the month-by-month amortization schedule of the loan described by the calculation input.
+     *
+     * @param input The calculation input containing principal, duration, and interest rate
+     * @return A lazily generated stream of schedule rows, one per installment
+     * @throws CalculationException if the EMI cannot be calculated
+     * @throws NullPointerException if input is null
+     * @see #generateAmortizationSchedule(BigDecimal, int, BigDecimal)
+     */
+    Stream<AmortizationEntry> generateAmortizationSchedule(CalculationInput input) throws CalculationException;
+    
+    /**
+     * Generates the month-by-month amortization schedule of a loan. Each row splits the installment into
+     * principal and interest and reports the remaining balance and the interest paid so far.
+     * <p>
+     * Rows are computed on demand as the stream is consumed, so the schedule of a long loan can be
+     * processed or written out without holding all of its rows in memory. Every installment but the last
+     * equals the EMI rounded to cents; the last installment clears the remaining balance. No amount in a row is
+     * negative: if rounding the EMI up to cents repays the loan early, the schedule ends in the month that
+     * settles it, and so can have fewer rows than the number of installments. The principal components of the
+     * rows add up to the principal.
+     *
+     * @param principal The principal amount for the loan
+     * @param durationYears The loan duration in years
+     * @param interestRate The annual interest rate
+     * @return A lazily generated, ordered stream of schedule rows, one per installment
+     * @throws CalculationException if the EMI cannot be calculated
+     * @throws NullPointerException if principal or interestRate is null
+     * @throws IllegalArgumentException if durationYears is less than or equal to zero
+     */
+    Stream<AmortizationEntry> generateAmortizationSchedule(BigDecimal principal, int durationYears, BigDecimal interestRate)
+            throws CalculationException;
+    
+    /**
+     * Calculates the outstanding balance of the loan described by the calculation input after the specified
+     * number of installments.
+     *
+     * @param input The calculation input containing principal, duration, and interest rate
+     * @param month The number of installments paid, from 0 to the total number of installments
+     * @return The remaining balance rounded to cents
+     * @throws CalculationException if the EMI cannot be calculated
+     * @throws NullPointerException if input is null
+     * @throws IllegalArgumentException if month is outside the loan term
+     * @see #calculateOutstandingBalance(BigDecimal, int, BigDecimal, int)
+     */
+    BigDecimal calculateOutstandingBalance(CalculationInput input, int month) throws CalculationException;
+    
+    /**
+     * Calculates the outstanding balance of a loan after the specified number of installments without
+     * generating the preceding schedule rows. The result equals the remaining balance reported for that
+     * month by {@link #generateAmortizationSchedule(BigDecimal, int, BigDecimal)}, and is zero for the months
+     * after a loan is settled early, which that schedule has no rows for.
+     *
+     * @param principal The principal amount for the loan
+     * @param durationYears The loan duration in years
+     * @param interestRate The annual interest rate
+     * @param month The number of installments paid, from 0 to the total number of installments
+     * @return The remaining balance rounded to cents
+     * @throws CalculationException if the EMI cannot be calculated
+     * @throws NullPointerException if principal or interestRate is null
+     * @throws IllegalArgumentException if durationYears is less than or equal to zero or month is outside the loan term
+     */
+    BigDecimal calculateOutstandingBalance(BigDecimal principal, int durationYears, BigDecimal interestRate, int month)
+            throws CalculationException;
+    
+    /**
+     * Calculates the interest paid on the loan described by the calculation input between two installments.
+     *
+     * @param input The calculation input containing principal, duration, and interest rate
+     * @param fromMonth The first installment of the range, starting at 1
+     * @param toMonth The last installment of the range, inclusive
+     * @return The interest paid over the range rounded to cents
+     * @throws CalculationException if the EMI cannot be calculated
+     * @throws NullPointerException if input is null
+     * @throws IllegalArgumentException if the range is empty or outside the loan term
+     * @see #calculateInterestPaid(BigDecimal, int, BigDecimal, int, int)
+     */
+    BigDecimal calculateInterestPaid(CalculationInput input, int fromMonth, int toMonth) throws CalculationException;
+    
+    /**
+     * Calculates the interest paid on a loan from installment {@code fromMonth} through installment
+     * {@code toMonth} without generating the schedule rows in between. The result equals the difference of the
+     * cumulative interest reported for those months by
+     * {@link #generateAmortizationSchedule(BigDecimal, int, BigDecimal)}. No interest is paid in the months
+     * after a loan is settled early.
+     *
+     * @param principal The principal amount for the loan
+     * @param durationYears The loan duration in years
+     * @param interestRate The annual interest rate
+     * @param fromMonth The first installment of the range, starting at 1
+     * @param toMonth The last installment of the range, inclusive
+     * @return The interest paid over the range rounded to cents
+     * @throws CalculationException if the EMI cannot be calculated
+     * @throws NullPointerException if principal or interestRate is null
+     * @throws IllegalArgumentException if durationYears is less than or equal to zero or the range is empty
+     *         or outside the loan term
+     */
+    BigDecimal calculateInterestPaid(BigDecimal principal, int durationYears, BigDecimal interestRate,
+                                     int fromMonth, int toMonth) throws CalculationException;
+    
+    /**
+     * Solves for the annual interest rate at which a loan is repaid by installments of the target EMI, answering
+     * "what rate gives an EMI of X" without searching over {@link #calculateEMI(BigDecimal, int, BigDecimal)}.
+     * The EMI calculated at the returned rate is within a cent of the target.
+     *
+     * @param principal The principal amount for the loan
+     * @param durationYears The loan duration in years
+     * @param targetEmi The monthly installment to solve for
+     * @return The annual interest rate as a percentage, rounded to six decimal places
+     * @throws CalculationException if the installments do not repay the principal at a non-negative rate
+     * @throws NullPointerException if principal or targetEmi is null
+     * @throws IllegalArgumentException if durationYears, principal or targetEmi is not positive
+     */
+    BigDecimal solveInterestRate(BigDecimal principal, int durationYears, BigDecimal targetEmi)
+            throws CalculationException;
+    
+    /**
+     * Solves for the largest principal, in whole cents, whose EMI rounded to cents does not exceed the budget,
+     * answering "how much can I borrow at an EMI of Y".
+     *
+     * @param emiBudget The largest acceptable monthly installment
+     * @param durationYears The loan duration in years
+     * @param interestRate The annual interest rate
+     * @return The maximum principal
+     * @throws CalculationException if the principal cannot be calculated
+     * @throws NullPointerException if emiBudget or interestRate is null
+     * @throws IllegalArgumentException if durationYears or emiBudget is not positive or interestRate is negative
+     */
+    BigDecimal solveMaxPrincipal(BigDecimal emiBudget, int durationYears, BigDecimal interestRate)
+            throws CalculationException;
+    
+    /**
+     * Solves for the shortest loan duration, in whole years, whose EMI rounded to cents does not exceed the budget.
+     *
+     * @param principal The principal amount for the loan
+     * @param emiBudget The largest acceptable monthly installment
+     * @param interestRate The annual interest rate
+     * @return The minimum duration in years
+     * @throws CalculationException if the budget does not exceed the monthly interest, so the loan is never repaid
+     * @throws NullPointerException if principal, emiBudget or interestRate is null
+     * @throws IllegalArgumentException if principal or emiBudget is not positive or interestRate is negative
+     */
+    int solveMinDuration(BigDecimal principal, BigDecimal emiBudget, BigDecimal interestRate)
+            throws CalculationException;
 }
\ No newline at end of file
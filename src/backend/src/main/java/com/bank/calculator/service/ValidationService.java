@@ -30,7 +30,8 @@ public interface ValidationService {
     ValidationResult validateDuration(String durationStr);
     
     /**
-     * Validates all inputs required for calculation.
+     * Validates all inputs required for calculation. Implementations may attach the parsed values to a valid
+     * result, see {@link ValidationResult#getParsedInput()}.
      *
      * @param principalStr The principal amount as a string
      * @param durationStr The loan duration as a string
@@ -0,0 +1,374 @@
+package com.bank.calculator.service.impl;
+
+import java.math.BigDecimal; // JDK 11
+import java.util.Objects; // JDK 11
+import java.util.concurrent.ForkJoinPool; // JDK 11
+import java.util.concurrent.atomic.LongAdder; // JDK 11
+import java.util.logging.Logger; // JDK 11
+import java.util.logging.Level; // JDK 11
+
+import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.exception.CalculationException;
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.metrics.CalculatorMetrics;
+import com.bank.calculator.util.BigDecimalUtils;
+import com.bank.calculator.util.FixedPointMath;
+import com.bank.calculator.jfr.CalculationEvent;
+import com.bank.calculator.jfr.EventOutcome;
+
+/**
+ * CalculationService implementation that calculates the EMI in {@code double} arithmetic with a rigorous error
+ * bound, and falls back to {@link BigDecimal} only for the rare inputs where that bound is not enough to round
+ * correctly.
+ * <p>
+ * {@link CalculationServiceImpl} rounds every step of the EMI formula HALF_UP to
+ * {@link CalculationConstants#CALCULATION_PRECISION} significant digits, ending with
+ * {@link BigDecimalUtils#roundForCalculation(BigDecimal)}. Each step's operands are exact decimals of at most
+ * that many digits, so this engine evaluates the step on their mantissas in {@code double}, which is within
+ * {@value #ERROR_BOUND_ULPS} units in the last place of the exact value including the scaling by a power of ten,
+ * and rounds that approximation to the same digits. The rounded digits are certain unless the approximation lies
+ * within its error bound of a rounding boundary, half a unit in the last kept digit; only then could the exact
+ * value round the other way, and the whole calculation is repeated by the {@link BigDecimal} implementation.
+ * Because every step starts again from exact operands, errors never accumulate, and results are numerically
+ * identical to those of {@link CalculationServiceImpl}.
+ * <p>
+ * The growth factor {@code (1 + r)^n} and the EMI denominator come from the {@link AnnuityFactorCache}, which
+ * computes each once per rate and duration in {@link BigDecimal}; the monthly rate is derived once per interest
+ * rate and reused while the rate stays the same. A calculation with the default rate and a cached factor does no
+ * {@link BigDecimal} arithmetic. Fallbacks are counted in {@link CalculatorMetrics#ADAPTIVE_FALLBACKS} and by
+ * {@link #getFallbackCount()}.
+ */
+public class AdaptivePrecisionCalculationServiceImpl extends CalculationServiceImpl {
+
+    private static final Logger LOGGER = Logger.getLogger(AdaptivePrecisionCalculationServiceImpl.class.getName());
+
+    /**
+     * Engine name recorded in the flight recorder events of calculations completed in double arithmetic.
+     */
+    private static final String ENGINE = "adaptive";
+
+    private static final int PRECISION = CalculationConstants.CALCULATION_PRECISION;
+
+    /**
+     * Bound on the error of an approximated step in units in the last place: the operation on the exact
+     * mantissas and the scaling by a power of ten are each correctly rounded, so the approximation is within
+     * one ulp of the exact value; two leave a margin.
+     */
+    private static final int ERROR_BOUND_ULPS = 2;
+
+    /**
+     * Relative error bound of an approximated step.
+     */
+    private static final double RELATIVE_ERROR_BOUND = ERROR_BOUND_ULPS * Math.ulp(1.0);
+
+    /**
+     * Largest mantissa converted to {@code double} exactly.
+     */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /**
+     * Products of mantissas below this limit fit in a packed value and are rounded in integer arithmetic.
+     */
+    private static final long EXACT_PRODUCT_LIMIT = 10_000_000_000_000_000L;   // 10^MAX_DIGITS
+
+    private static final double[] POWERS_OF_TEN = new double[23];
+    private static final double LOWEST_ROUNDED = 1e9;   // 10^(PRECISION - 1)
+    private static final double ROUNDED_LIMIT = 1e10;   // 10^PRECISION
+    private static final long ROUNDED_LIMIT_MANTISSA = 10_000_000_000L;
+    private static final long LOWEST_ROUNDED_MANTISSA = 1_000_000_000L;
+
+    static {
+        double power = 1.0;
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= 10.0;
+        }
+    }
+
+    private final LongAdder calculationCount = new LongAdder();
+    private final LongAdder fallbackCount = new LongAdder();
+
+    /**
+     * The monthly rate of the interest rate of the most recent calculation.
+     */
+    private volatile RateCard rateCard;
+
+    /**
+     * Constructs a new AdaptivePrecisionCalculationServiceImpl that runs batch calculations on the common
+     * fork/join pool.
+     */
+    public AdaptivePrecisionCalculationServiceImpl() {
+        super();
+    }
+
+    /**
+     * Constructs a new AdaptivePrecisionCalculationServiceImpl with the specified batch pool and annuity factor
+     * cache.
+     *
+     * @param batchPool The fork/join pool used for batch calculations
+     * @param annuityFactorCache The cache of (1 + r)^n factors shared by all calculations of this service
+     * @throws NullPointerException if batchPool or annuityFactorCache is null
+     */
+    public AdaptivePrecisionCalculationServiceImpl(ForkJoinPool batchPool, AnnuityFactorCache annuityFactorCache) {
+        super(batchPool, annuityFactorCache);
+    }
+
+    /**
+     * Returns the number of EMI calculations requested from this service.
+     *
+     * @return The calculation count
+     */
+    public long getCalculationCount() {
+        return calculationCount.sum();
+    }
+
+    /**
+     * Returns the number of EMI calculations that fell back to {@link BigDecimal} arithmetic.
+     *
+     * @return The fallback count
+     */
+    public long getFallbackCount() {
+        return fallbackCount.sum();
+    }
+
+    /**
+     * Returns the ratio of EMI calculations that fell back to {@link BigDecimal} arithmetic.
+     *
+     * @return The fallback ratio between 0 and 1, or 0 if nothing was calculated
+     */
+    public double getFallbackRatio() {
+        long calculations = calculationCount.sum();
+        return calculations == 0 ? 0.0 : (double) fallbackCount.sum() / calculations;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CalculationResult calculateEMI(BigDecimal principal, int durationYears, BigDecimal interestRate)
+            throws CalculationException {
+        Objects.requireNonNull(principal, "Principal amount cannot be null");
+        Objects.requireNonNull(interestRate, "Interest rate cannot be null");
+        if (durationYears <= 0) {
+            throw new IllegalArgumentException("Loan duration must be greater than zero");
+        }
+
+        calculationCount.increment();
+        CalculatorMetrics.ADAPTIVE_CALCULATIONS.increment();
+        CalculationEvent event = new CalculationEvent();
+        event.begin();
+        CalculationResult result;
+        try {
+            result = computeEMI(principal, durationYears, interestRate);
+        } catch (ArithmeticException e) {
+            // Left to the BigDecimal implementation, which reports it as a calculation error
+            result = null;
+        }
+        if (result != null) {
+            event.complete(CalculationEvent.EMI, ENGINE, principal, durationYears, EventOutcome.SUCCESS);
+            return result;
+        }
+
+        fallbackCount.increment();
+        CalculatorMetrics.ADAPTIVE_FALLBACKS.increment();
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "EMI for principal {0}, {1} years at {2}% too close to a rounding boundary; "
+                    + "recalculating in BigDecimal", new Object[]{principal, durationYears, interestRate});
+        }
+        return super.calculateEMI(principal, durationYears, interestRate);
+    }
+
+    /**
+     * Calculates the EMI with the same steps as {@link CalculationServiceImpl}, each approximated in double
+     * arithmetic and rounded only if the rounding is certain.
+     *
+     * @return The calculation result, or null if a step could not be rounded with certainty or its operands
+     *         are out of range
+     */
+    private CalculationResult computeEMI(BigDecimal principal, int durationYears, BigDecimal interestRate) {
+        if (durationYears > Integer.MAX_VALUE / CalculationConstants.MONTHS_IN_YEAR) {
+            return null;
+        }
+        long packedPrincipal = FixedPointMath.of(principal);
+        RateCard card = rateCardFor(interestRate);
+        if (packedPrincipal == FixedPointMath.UNREPRESENTABLE
+                || card.packedMonthlyRate == FixedPointMath.UNREPRESENTABLE) {
+            return null;
+        }
+
+        int totalMonths = durationYears * CalculationConstants.MONTHS_IN_YEAR;
+        long months = FixedPointMath.pack(totalMonths, 0);
+
+        long emiAmount;
+        if (FixedPointMath.isZero(card.packedMonthlyRate)) {
+            emiAmount = divide(packedPrincipal, months);
+        } else {
+            // EMI = [P × r × (1 + r)^n] / [(1 + r)^n - 1]
+            AnnuityFactorCache.AnnuityFactor factor = getAnnuityFactorCache().getFactor(card.monthlyRate, totalMonths);
+            long numerator = multiply(packedPrincipal, card.packedMonthlyRate);
+            numerator = multiply(numerator, factor.getPackedGrowthFactor());
+            emiAmount = divide(numerator, factor.getPackedDenominator());
+        }
+        long totalAmount = multiply(emiAmount, months);
+        if (totalAmount == FixedPointMath.UNREPRESENTABLE) {
+            return null;
+        }
+
+        // The subtraction is exact integer arithmetic; interest is negative only if rounding pushes the total
+        // below the principal
+        BigDecimal interestAmount;
+        long interest = FixedPointMath.subtract(totalAmount, packedPrincipal, PRECISION);
+        if (interest != FixedPointMath.UNREPRESENTABLE) {
+            interestAmount = FixedPointMath.toBigDecimal(interest);
+        } else {
+            interest = FixedPointMath.subtract(packedPrincipal, totalAmount, PRECISION);
+            if (interest == FixedPointMath.UNREPRESENTABLE) {
+                return null;
+            }
+            interestAmount = FixedPointMath.toBigDecimal(interest).negate();
+        }
+
+        return new CalculationResult(FixedPointMath.toBigDecimal(emiAmount),
+                FixedPointMath.toBigDecimal(totalAmount), interestAmount, interestRate, totalMonths);
+    }
+
+    /**
+     * Returns the monthly rate of an interest rate, deriving it only if the rate differs from the last one.
+     */
+    private RateCard rateCardFor(BigDecimal interestRate) {
+        RateCard card = rateCard;
+        if (card == null || !card.interestRate.equals(interestRate)) {
+            card = new RateCard(interestRate);
+            rateCard = card;
+        }
+        return card;
+    }
+
+    /**
+     * Multiplies two packed values and rounds the product HALF_UP to {@link CalculationConstants#CALCULATION_PRECISION}
+     * digits, as {@link BigDecimalUtils#multiply(BigDecimal, BigDecimal)} does.
+     *
+     * @return The rounded product, or {@link FixedPointMath#UNREPRESENTABLE} if it cannot be rounded with certainty
+     */
+    private static long multiply(long multiplicand, long multiplier) {
+        if (!isExactInDouble(multiplicand) || !isExactInDouble(multiplier)) {
+            return FixedPointMath.UNREPRESENTABLE;
+        }
+        long a = FixedPointMath.mantissa(multiplicand);
+        long b = FixedPointMath.mantissa(multiplier);
+        int scale = FixedPointMath.scale(multiplicand) + FixedPointMath.scale(multiplier);
+        if (a == 0L || b == 0L) {
+            return FixedPointMath.pack(0L, scale);
+        }
+        long exactProduct = a * b;
+        if (Math.multiplyHigh(a, b) == 0L && exactProduct >= 0L && exactProduct < EXACT_PRODUCT_LIMIT) {
+            // Short products, such as the principal times the monthly rate, are rounded exactly: being exact,
+            // they often lie on a rounding boundary themselves
+            return FixedPointMath.round(FixedPointMath.pack(exactProduct, scale), PRECISION);
+        }
+        return round((double) a * (double) b, scale);
+    }
+
+    /**
+     * Divides two packed values and rounds the quotient HALF_UP to {@link CalculationConstants#CALCULATION_PRECISION}
+     * digits, as {@link BigDecimalUtils#divide(BigDecimal, BigDecimal)} does.
+     *
+     * @return The rounded quotient, or {@link FixedPointMath#UNREPRESENTABLE} if the divisor is zero or the quotient
+     *         cannot be rounded with certainty
+     */
+    private static long divide(long dividend, long divisor) {
+        if (!isExactInDouble(dividend) || !isExactInDouble(divisor)) {
+            return FixedPointMath.UNREPRESENTABLE;
+        }
+        long a = FixedPointMath.mantissa(dividend);
+        long b = FixedPointMath.mantissa(divisor);
+        if (b == 0L) {
+            // Left to the BigDecimal implementation, which reports the division by zero
+            return FixedPointMath.UNREPRESENTABLE;
+        }
+        if (a == 0L) {
+            return FixedPointMath.pack(0L, 0);
+        }
+        return round((double) a / (double) b, FixedPointMath.scale(dividend) - FixedPointMath.scale(divisor));
+    }
+
+    /**
+     * Rounds HALF_UP to {@link CalculationConstants#CALCULATION_PRECISION} digits the exact value
+     * {@code m × 10^-scale}, given a correctly rounded approximation of the positive mantissa {@code m}.
+     *
+     * @param mantissa The approximated mantissa
+     * @param scale The decimal scale of the exact value
+     * @return The rounded value, or {@link FixedPointMath#UNREPRESENTABLE} if it cannot be rounded with certainty
+     */
+    private static long round(double mantissa, int scale) {
+        // Scale the mantissa into [10^(p-1), 10^p), so that its integer part holds the digits to keep
+        int shift = PRECISION - 1 - (int) Math.floor(Math.log10(mantissa));
+        double scaled = scaleByPowerOfTen(mantissa, shift);
+        if (scaled < LOWEST_ROUNDED) {
+            scaled = scaleByPowerOfTen(mantissa, ++shift);
+        } else if (scaled >= ROUNDED_LIMIT) {
+            scaled = scaleByPowerOfTen(mantissa, --shift);
+        }
+        if (Double.isNaN(scaled)) {
+            return FixedPointMath.UNREPRESENTABLE;
+        }
+
+        // Absolute error of the scaled value, plus the rounding of adding one half
+        double error = scaled * RELATIVE_ERROR_BOUND + Math.ulp(scaled);
+        if (scaled - error < LOWEST_ROUNDED || scaled + error >= ROUNDED_LIMIT) {
+            // Too close to a power of ten to be sure of the number of digits
+            return FixedPointMath.UNREPRESENTABLE;
+        }
+        double halfUp = scaled + 0.5;
+        double floor = Math.floor(halfUp);
+        double fraction = halfUp - floor;
+        if (fraction <= error || fraction >= 1.0 - error) {
+            // Too close to half a unit in the last kept digit to be sure of the rounding
+            return FixedPointMath.UNREPRESENTABLE;
+        }
+
+        long rounded = (long) floor;
+        int resultScale = scale + shift;
+        if (rounded == ROUNDED_LIMIT_MANTISSA) {
+            rounded = LOWEST_ROUNDED_MANTISSA;
+            resultScale--;
+        }
+        return FixedPointMath.pack(rounded, resultScale);
+    }
+
+    /**
+     * Multiplies a value by 10^exponent with a single rounding.
+     *
+     * @return The scaled value, or NaN if the power of ten is not exactly representable
+     */
+    private static double scaleByPowerOfTen(double value, int exponent) {
+        if (exponent >= 0) {
+            return exponent < POWERS_OF_TEN.length ? value * POWERS_OF_TEN[exponent] : Double.NaN;
+        }
+        return -exponent < POWERS_OF_TEN.length ? value / POWERS_OF_TEN[-exponent] : Double.NaN;
+    }
+
+    private static boolean isExactInDouble(long value) {
+        return value != FixedPointMath.UNREPRESENTABLE && FixedPointMath.mantissa(value) <= MAX_EXACT_MANTISSA;
+    }
+
+    /**
+     * An interest rate with the monthly rate derived from it, both as {@link BigDecimal}, for the annuity factor
+     * lookup, and packed. The monthly rate is derived with the same {@link BigDecimalUtils} operations as
+     * {@link CalculationServiceImpl}, so it shares that implementation's annuity factors.
+     */
+    private static final class RateCard {
+
+        private final BigDecimal interestRate;
+        private final BigDecimal monthlyRate;
+        private final long packedMonthlyRate;
+
+        RateCard(BigDecimal interestRate) {
+            this.interestRate = interestRate;
+            BigDecimal annualRateDecimal = BigDecimalUtils.percentageToDecimal(interestRate);
+            this.monthlyRate = BigDecimalUtils.divide(annualRateDecimal,
+                    new BigDecimal(CalculationConstants.MONTHS_IN_YEAR));
+            this.packedMonthlyRate = FixedPointMath.of(monthlyRate);
+        }
+    }
+}
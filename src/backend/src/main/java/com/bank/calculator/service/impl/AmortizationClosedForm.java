@@ -0,0 +1,137 @@
+package com.bank.calculator.service.impl;
+
+import java.math.BigDecimal; // JDK 11
+import java.math.MathContext; // JDK 11
+
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.util.BigDecimalUtils;
+
+/**
+ * Answers point queries about an amortization schedule without generating the rows before the month of
+ * interest. The balance after k installments of a fixed payment E is
+ * <pre>
+ *     B(k) = P × (1 + r)^k - E × [(1 + r)^k - 1] / r
+ * </pre>
+ * and, since every installment but the last reduces the balance by E minus the interest it pays, the interest
+ * paid up to month k is {@code I(k) = B(k) - P + k × E}. The last installment settles the balance, so it pays
+ * {@code B(n - 1) × r} of interest. As in the generated schedule, the loan is settled in the first month m whose
+ * balance and interest {@code B(m - 1) × (1 + r)} no longer exceed E, which is before month n when rounding the
+ * EMI up overpays by a whole installment; the balance after it is zero and no more interest is paid.
+ * <p>
+ * Values are computed with {@link CalculationConstants#SCHEDULE_MATH_CONTEXT} precision, the same precision
+ * {@link AmortizationScheduleIterator} carries between rows, so the results rounded to cents equal the values
+ * reported by the sequentially generated schedule.
+ */
+final class AmortizationClosedForm {
+
+    private static final MathContext CONTEXT = CalculationConstants.SCHEDULE_MATH_CONTEXT;
+
+    private final BigDecimal principal;
+    private final BigDecimal monthlyRate;
+    private final BigDecimal onePlusMonthlyRate;
+    private final BigDecimal payment;
+    private final int totalMonths;
+    private final int settlementMonth;
+
+    /**
+     * Constructs a new AmortizationClosedForm.
+     *
+     * @param principal The loan principal
+     * @param interestRate The annual interest rate as a percentage
+     * @param totalMonths The number of installments
+     * @param payment The installment amount, already rounded to currency precision
+     */
+    AmortizationClosedForm(BigDecimal principal, BigDecimal interestRate, int totalMonths, BigDecimal payment) {
+        this.principal = principal;
+        this.monthlyRate = AmortizationScheduleIterator.monthlyRate(interestRate);
+        this.onePlusMonthlyRate = CalculationConstants.ONE.add(monthlyRate, CONTEXT);
+        this.payment = payment;
+        this.totalMonths = totalMonths;
+        this.settlementMonth = settlementMonth();
+    }
+
+    /**
+     * Finds the month of the installment that settles the loan. {@code B(k - 1) × (1 + r) <= E} holds from that
+     * month on, as the balance falls every month, so it is found by bisection once the month before the last
+     * installment is known to satisfy it.
+     */
+    private int settlementMonth() {
+        if (totalMonths == 1 || !settles(totalMonths - 1)) {
+            return totalMonths;
+        }
+        int low = 1;
+        int high = totalMonths - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (settles(middle)) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns whether the balance and interest due in the specified month do not exceed the installment.
+     */
+    private boolean settles(int month) {
+        return balance(month - 1).multiply(onePlusMonthlyRate, CONTEXT).compareTo(payment) <= 0;
+    }
+
+    /**
+     * Returns the outstanding balance after the specified number of installments, rounded to currency precision.
+     *
+     * @param month The number of installments paid, from 0 to the total number of installments
+     * @return The remaining balance, zero from the month the loan is settled
+     */
+    BigDecimal outstandingBalance(int month) {
+        if (month >= settlementMonth) {
+            return BigDecimalUtils.round(CalculationConstants.ZERO, CalculationConstants.CURRENCY_PRECISION);
+        }
+        return BigDecimalUtils.round(balance(month), CalculationConstants.CURRENCY_PRECISION);
+    }
+
+    /**
+     * Returns the interest paid from the first installment up to and including the specified one,
+     * rounded to currency precision.
+     *
+     * @param month The installment number, from 0 to the total number of installments
+     * @return The cumulative interest, unchanged after the month the loan is settled
+     */
+    BigDecimal cumulativeInterest(int month) {
+        return BigDecimalUtils.round(exactCumulativeInterest(Math.min(month, settlementMonth)),
+                CalculationConstants.CURRENCY_PRECISION);
+    }
+
+    /**
+     * Returns the exact interest paid up to and including the specified installment.
+     */
+    private BigDecimal exactCumulativeInterest(int month) {
+        int fixedInstallments = month == settlementMonth ? month - 1 : month;
+        BigDecimal fixedBalance = balance(fixedInstallments);
+        BigDecimal paid = payment.multiply(new BigDecimal(fixedInstallments), CONTEXT);
+        BigDecimal interest = fixedBalance.subtract(principal, CONTEXT).add(paid, CONTEXT);
+        if (month == settlementMonth) {
+            // The final installment settles the balance and pays its interest
+            interest = interest.add(fixedBalance.multiply(monthlyRate, CONTEXT), CONTEXT);
+        }
+        return interest;
+    }
+
+    /**
+     * Returns the exact balance after the specified number of fixed installments.
+     */
+    private BigDecimal balance(int month) {
+        if (month == 0) {
+            return principal;
+        }
+        if (monthlyRate.signum() == 0) {
+            return principal.subtract(payment.multiply(new BigDecimal(month), CONTEXT), CONTEXT);
+        }
+        BigDecimal growthFactor = onePlusMonthlyRate.pow(month, CONTEXT);
+        BigDecimal accumulatedPayments = payment.multiply(
+                growthFactor.subtract(CalculationConstants.ONE, CONTEXT), CONTEXT).divide(monthlyRate, CONTEXT);
+        return principal.multiply(growthFactor, CONTEXT).subtract(accumulatedPayments, CONTEXT);
+    }
+}
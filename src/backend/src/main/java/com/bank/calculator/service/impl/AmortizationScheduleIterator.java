@@ -0,0 +1,107 @@
+package com.bank.calculator.service.impl;
+
+import java.math.BigDecimal; // JDK 11
+import java.math.MathContext; // JDK 11
+import java.util.Iterator; // JDK 11
+import java.util.NoSuchElementException; // JDK 11
+
+import com.bank.calculator.model.AmortizationEntry;
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.util.BigDecimalUtils;
+
+/**
+ * Iterator that produces the rows of a loan amortization schedule one installment at a time.
+ * Only the running balance and cumulative interest are kept between calls, so a schedule of any
+ * length is generated in constant memory.
+ * <p>
+ * The balance and interest are carried with {@link CalculationConstants#SCHEDULE_MATH_CONTEXT} precision
+ * and rounded to currency precision only when a row is produced. Every installment but the last pays the
+ * EMI rounded to cents; the last installment pays whatever balance and interest remain, so the schedule
+ * always ends with a zero balance. When the EMI was rounded up, the cents paid in excess can add up to a
+ * whole installment at high rates and long durations, so the loan is settled, and the schedule ends, in the
+ * first month whose balance and interest no longer exceed the EMI.
+ * <p>
+ * The interest component of a row is the increase of the cumulative interest rounded to cents, and the
+ * remaining balance is the principal less the principal components paid so far, so the components of the
+ * rows add up exactly to the principal and to the cumulative interest reported in the last row.
+ */
+final class AmortizationScheduleIterator implements Iterator<AmortizationEntry> {
+
+    private static final MathContext CONTEXT = CalculationConstants.SCHEDULE_MATH_CONTEXT;
+    private static final BigDecimal MONTHLY_PERCENTAGE_DIVISOR = CalculationConstants.HUNDRED
+            .multiply(new BigDecimal(CalculationConstants.MONTHS_IN_YEAR));
+
+    private final BigDecimal monthlyRate;
+    private final BigDecimal payment;
+    private final int totalMonths;
+
+    private BigDecimal balance;
+    private BigDecimal cumulativeInterest = BigDecimal.ZERO;
+    private BigDecimal roundedCumulativeInterest;
+    private BigDecimal remainingPrincipal;
+    private int month;
+    private boolean settled;
+
+    /**
+     * Constructs a new AmortizationScheduleIterator.
+     *
+     * @param principal The loan principal
+     * @param interestRate The annual interest rate as a percentage
+     * @param totalMonths The number of installments
+     * @param payment The installment amount, already rounded to currency precision
+     */
+    AmortizationScheduleIterator(BigDecimal principal, BigDecimal interestRate, int totalMonths, BigDecimal payment) {
+        this.monthlyRate = monthlyRate(interestRate);
+        this.payment = payment;
+        this.totalMonths = totalMonths;
+        this.balance = principal;
+        this.roundedCumulativeInterest = BigDecimalUtils.round(BigDecimal.ZERO, CalculationConstants.CURRENCY_PRECISION);
+        this.remainingPrincipal = BigDecimalUtils.round(principal, CalculationConstants.CURRENCY_PRECISION);
+    }
+
+    /**
+     * Converts an annual percentage rate into the monthly rate in decimal form (r/12/100) at schedule precision.
+     *
+     * @param interestRate The annual interest rate as a percentage
+     * @return The monthly rate
+     */
+    static BigDecimal monthlyRate(BigDecimal interestRate) {
+        return interestRate.divide(MONTHLY_PERCENTAGE_DIVISOR, CONTEXT);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !settled && month < totalMonths;
+    }
+
+    @Override
+    public AmortizationEntry next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Amortization schedule has no more installments");
+        }
+        month++;
+
+        BigDecimal interest = balance.multiply(monthlyRate, CONTEXT);
+        BigDecimal balanceWithInterest = balance.add(interest, CONTEXT);
+        cumulativeInterest = cumulativeInterest.add(interest, CONTEXT);
+
+        BigDecimal previousInterest = roundedCumulativeInterest;
+        roundedCumulativeInterest = BigDecimalUtils.round(cumulativeInterest, CalculationConstants.CURRENCY_PRECISION);
+        BigDecimal interestComponent = roundedCumulativeInterest.subtract(previousInterest);
+
+        BigDecimal principalComponent;
+        if (month == totalMonths || balanceWithInterest.compareTo(payment) <= 0) {
+            // Final installment settles the remaining balance, absorbing the cents lost or gained rounding the EMI
+            principalComponent = remainingPrincipal;
+            balance = BigDecimal.ZERO;
+            settled = true;
+        } else {
+            principalComponent = payment.subtract(interestComponent);
+            balance = balanceWithInterest.subtract(payment, CONTEXT);
+        }
+        remainingPrincipal = remainingPrincipal.subtract(principalComponent);
+
+        return new AmortizationEntry(month, principalComponent.add(interestComponent), principalComponent,
+                interestComponent, remainingPrincipal, roundedCumulativeInterest);
+    }
+}
@@ -0,0 +1,355 @@
+package com.bank.calculator.service.impl;
+
+import java.math.BigDecimal; // JDK 11
+import java.util.Objects; // JDK 11
+import java.util.Queue; // JDK 11
+import java.util.concurrent.ConcurrentHashMap; // JDK 11
+import java.util.concurrent.ConcurrentLinkedQueue; // JDK 11
+import java.util.concurrent.atomic.LongAdder; // JDK 11
+
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.util.BigDecimalUtils;
+import com.bank.calculator.util.FixedPointMath;
+
+/**
+ * Bounded, thread-safe cache of annuity factors keyed by monthly interest rate and number of months.
+ * <p>
+ * Production traffic uses a small number of rate cards and at most 30 loan durations, so the
+ * expensive {@code (1 + r)^n} power and the {@code (1 + r)^n - 1} denominator of the EMI formula are
+ * computed once per (rate, months) pair and then shared by all callers. Factors are computed with
+ * exactly the same {@link BigDecimalUtils} operations as the uncached calculation, so cached and
+ * uncached results are bit-identical.
+ * <p>
+ * Eviction uses the second-chance (clock) policy: entries are queued in insertion order and an entry
+ * that has been read since it was last examined is given another pass instead of being evicted. Reads
+ * never take a lock; hit, miss and eviction counts are kept in {@link LongAdder}s.
+ * <p>
+ * A cache may be backed by a memory-mapped {@link AnnuityFactorTable} of the rate card. A factor that is not cached
+ * is read from the table instead of being computed if the table holds it, and is then cached like a computed one,
+ * so warm lookups never pay for the table's rate search and conversion.
+ */
+public final class AnnuityFactorCache {
+
+    /**
+     * Default maximum number of cached factors.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private final int maximumSize;
+    private final AnnuityFactorTable table;
+    private final ConcurrentHashMap<FactorKey, AnnuityFactor> factors;
+    private final Queue<FactorKey> evictionQueue;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder tableHitCount = new LongAdder();
+
+    /**
+     * Constructs a new AnnuityFactorCache with the default maximum size.
+     */
+    public AnnuityFactorCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Constructs a new AnnuityFactorCache holding at most the specified number of factors.
+     *
+     * @param maximumSize The maximum number of cached factors
+     * @throws IllegalArgumentException if maximumSize is not positive
+     */
+    public AnnuityFactorCache(int maximumSize) {
+        this(maximumSize, null);
+    }
+
+    /**
+     * Constructs a new AnnuityFactorCache holding at most the specified number of factors in addition to those
+     * served from the specified table.
+     *
+     * @param maximumSize The maximum number of cached factors
+     * @param table The precomputed factors of the rate card, or null to compute every factor
+     * @throws IllegalArgumentException if maximumSize is not positive
+     */
+    public AnnuityFactorCache(int maximumSize, AnnuityFactorTable table) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum cache size must be greater than zero");
+        }
+        this.maximumSize = maximumSize;
+        this.table = table;
+        this.factors = new ConcurrentHashMap<>(Math.min(maximumSize, DEFAULT_MAXIMUM_SIZE) * 2);
+        this.evictionQueue = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Returns the annuity factor for the specified monthly rate and number of months. A factor that is not already
+     * cached is read from the table if the table holds it, and computed otherwise, and then cached.
+     *
+     * @param monthlyRate The monthly interest rate in decimal form
+     * @param months The number of monthly periods
+     * @return The annuity factor for the rate and number of months
+     * @throws NullPointerException if monthlyRate is null
+     */
+    public AnnuityFactor getFactor(BigDecimal monthlyRate, int months) {
+        Objects.requireNonNull(monthlyRate, "Monthly rate cannot be null");
+
+        FactorKey key = new FactorKey(monthlyRate, months);
+        AnnuityFactor factor = factors.get(key);
+        if (factor != null) {
+            hitCount.increment();
+            factor.referenced = true;
+            return factor;
+        }
+
+        AnnuityFactor computed = table == null ? null : table.lookup(monthlyRate, months);
+        if (computed != null) {
+            tableHitCount.increment();
+        } else {
+            missCount.increment();
+            computed = AnnuityFactor.compute(monthlyRate, months);
+        }
+        AnnuityFactor existing = factors.putIfAbsent(key, computed);
+        if (existing != null) {
+            // Another thread computed the same factor concurrently; both values are identical
+            return existing;
+        }
+
+        evictionQueue.offer(key);
+        evictIfNecessary();
+        return computed;
+    }
+
+    /**
+     * Returns the number of lookups served from the cache.
+     *
+     * @return The hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to compute the factor.
+     *
+     * @return The miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of factors evicted to keep the cache within its maximum size.
+     *
+     * @return The eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns the number of lookups not found in the cache that were read from the table of precomputed factors.
+     *
+     * @return The table hit count
+     */
+    public long getTableHitCount() {
+        return tableHitCount.sum();
+    }
+
+    /**
+     * Returns the table of precomputed factors backing this cache.
+     *
+     * @return The table, or null if every factor is computed
+     */
+    public AnnuityFactorTable getTable() {
+        return table;
+    }
+
+    /**
+     * Returns the ratio of hits to total lookups of the cache, not counting those served from the table.
+     *
+     * @return The hit rate between 0 and 1, or 0 if no lookups have been made
+     */
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * Returns the number of factors currently cached.
+     *
+     * @return The cache size
+     */
+    public int size() {
+        return factors.size();
+    }
+
+    /**
+     * Returns the maximum number of factors the cache holds.
+     *
+     * @return The maximum cache size
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Removes all cached factors. Hit, miss and eviction counts are retained.
+     */
+    public void clear() {
+        factors.clear();
+        evictionQueue.clear();
+    }
+
+    /**
+     * Evicts factors until the cache is within its maximum size, giving recently read factors a second chance.
+     */
+    private void evictIfNecessary() {
+        // Bound the scan so that a queue full of referenced entries cannot spin forever
+        int budget = 2 * (maximumSize + 1);
+        while (factors.size() > maximumSize && budget-- > 0) {
+            FactorKey candidate = evictionQueue.poll();
+            if (candidate == null) {
+                return;
+            }
+            AnnuityFactor factor = factors.get(candidate);
+            if (factor == null) {
+                continue;
+            }
+            if (factor.referenced && budget > maximumSize) {
+                factor.referenced = false;
+                evictionQueue.offer(candidate);
+            } else if (factors.remove(candidate, factor)) {
+                evictionCount.increment();
+            }
+        }
+    }
+
+    /**
+     * Immutable pair of the values of the EMI formula that depend only on the monthly rate and the
+     * number of months.
+     */
+    public static final class AnnuityFactor {
+
+        private final BigDecimal growthFactor;
+        private final BigDecimal denominator;
+
+        /**
+         * The growth factor and denominator as {@link FixedPointMath} packed values, converted once for the
+         * engines that calculate on packed decimals; {@link FixedPointMath#UNREPRESENTABLE} if out of range.
+         */
+        private final long packedGrowthFactor;
+        private final long packedDenominator;
+
+        /**
+         * Set when the factor is read and cleared by the eviction scan; a stale value only affects
+         * which entry is evicted, never the cached values.
+         */
+        private volatile boolean referenced;
+
+        /**
+         * Constructs a new AnnuityFactor.
+         *
+         * @param growthFactor The value of (1 + r)^n
+         * @param denominator The value of (1 + r)^n - 1
+         */
+        AnnuityFactor(BigDecimal growthFactor, BigDecimal denominator) {
+            this(growthFactor, denominator, FixedPointMath.of(growthFactor), FixedPointMath.of(denominator));
+        }
+
+        /**
+         * Constructs a new AnnuityFactor whose packed values are already known.
+         *
+         * @param growthFactor The value of (1 + r)^n
+         * @param denominator The value of (1 + r)^n - 1
+         * @param packedGrowthFactor The growth factor as a packed value
+         * @param packedDenominator The denominator as a packed value
+         */
+        AnnuityFactor(BigDecimal growthFactor, BigDecimal denominator, long packedGrowthFactor,
+                      long packedDenominator) {
+            this.growthFactor = growthFactor;
+            this.denominator = denominator;
+            this.packedGrowthFactor = packedGrowthFactor;
+            this.packedDenominator = packedDenominator;
+        }
+
+        /**
+         * Computes the annuity factor using the same operations as the uncached EMI calculation.
+         *
+         * @param monthlyRate The monthly interest rate in decimal form
+         * @param months The number of monthly periods
+         * @return The computed annuity factor
+         */
+        static AnnuityFactor compute(BigDecimal monthlyRate, int months) {
+            BigDecimal onePlusMonthlyRate = BigDecimalUtils.add(CalculationConstants.ONE, monthlyRate);
+            BigDecimal growthFactor = BigDecimalUtils.pow(onePlusMonthlyRate, months);
+            BigDecimal denominator = BigDecimalUtils.subtract(growthFactor, CalculationConstants.ONE);
+            return new AnnuityFactor(growthFactor, denominator);
+        }
+
+        /**
+         * Returns the growth factor (1 + r)^n.
+         *
+         * @return The growth factor
+         */
+        public BigDecimal getGrowthFactor() {
+            return growthFactor;
+        }
+
+        /**
+         * Returns the EMI denominator (1 + r)^n - 1.
+         *
+         * @return The EMI denominator
+         */
+        public BigDecimal getDenominator() {
+            return denominator;
+        }
+
+        /**
+         * Returns the growth factor (1 + r)^n as a packed value.
+         *
+         * @return The packed growth factor, or {@link FixedPointMath#UNREPRESENTABLE}
+         */
+        long getPackedGrowthFactor() {
+            return packedGrowthFactor;
+        }
+
+        /**
+         * Returns the EMI denominator (1 + r)^n - 1 as a packed value.
+         *
+         * @return The packed EMI denominator, or {@link FixedPointMath#UNREPRESENTABLE}
+         */
+        long getPackedDenominator() {
+            return packedDenominator;
+        }
+    }
+
+    /**
+     * Cache key of a monthly rate and a number of months. The rate is compared with
+     * {@link BigDecimal#equals(Object)} so that a cached factor always has exactly the representation
+     * the uncached calculation would have produced for the same rate.
+     */
+    private static final class FactorKey {
+
+        private final BigDecimal monthlyRate;
+        private final int months;
+        private final int hash;
+
+        FactorKey(BigDecimal monthlyRate, int months) {
+            this.monthlyRate = monthlyRate;
+            this.months = months;
+            this.hash = 31 * monthlyRate.hashCode() + months;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FactorKey)) return false;
+            FactorKey that = (FactorKey) o;
+            return months == that.months && monthlyRate.equals(that.monthlyRate);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package com.bank.calculator.service.impl;
+
+import java.io.IOException; // JDK 11
+import java.math.BigDecimal; // JDK 11
+import java.nio.ByteBuffer; // JDK 11
+import java.nio.MappedByteBuffer; // JDK 11
+import java.nio.channels.FileChannel; // JDK 11
+import java.nio.file.AtomicMoveNotSupportedException; // JDK 11
+import java.nio.file.Files; // JDK 11
+import java.nio.file.Path; // JDK 11
+import java.nio.file.StandardCopyOption; // JDK 11
+import java.nio.file.StandardOpenOption; // JDK 11
+import java.util.Collection; // JDK 11
+import java.util.Map; // JDK 11
+import java.util.Objects; // JDK 11
+import java.util.TreeMap; // JDK 11
+import java.util.zip.CRC32; // JDK 11
+
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.util.BigDecimalUtils;
+import com.bank.calculator.util.FixedPointMath;
+
+/**
+ * Read-only table of precomputed annuity factors for a rate card, stored in a binary file and memory-mapped so
+ * that the factors of every rate and loan duration are available at startup without computing them and without
+ * holding them on the heap.
+ * <p>
+ * {@link #write(Path, Collection, int)} computes the growth factor {@code (1 + r)^n} and the denominator
+ * {@code (1 + r)^n - 1} of each interest rate for every whole number of years up to a maximum, with the same
+ * operations as {@link AnnuityFactorCache}, and writes them as packed {@link FixedPointMath} values.
+ * {@link #load(Path)} maps the file and validates its format version, calculation precision, size and CRC-32
+ * checksum, and recomputes one factor to detect a table written by a different calculation; an invalid file is
+ * rejected with an {@link IOException} and should be written again.
+ * <p>
+ * The file holds a 32-byte header, the packed monthly rates in ascending order, and then the growth factor and
+ * denominator of each rate for 1 to the maximum number of years, all as big-endian longs. Monthly rates are stored
+ * and looked up without trailing zeros, so a rate matches whatever its scale; the factors are numerically equal to
+ * those computed for any representation of the rate. Lookups use absolute reads of the mapping and are thread-safe.
+ */
+public final class AnnuityFactorTable {
+
+    /**
+     * Version of the file format, incremented whenever the layout or the factor calculation changes.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x41465442;   // "AFTB"
+    private static final int HEADER_BYTES = 32;
+    private static final int CHECKSUM_OFFSET = 24;
+    private static final int FACTOR_BYTES = 2 * Long.BYTES;
+
+    private final Path file;
+    private final ByteBuffer table;
+    private final int rateCount;
+    private final int maxYears;
+    private final int factorsOffset;
+
+    private AnnuityFactorTable(Path file, ByteBuffer table, int rateCount, int maxYears) {
+        this.file = file;
+        this.table = table;
+        this.rateCount = rateCount;
+        this.maxYears = maxYears;
+        this.factorsOffset = HEADER_BYTES + rateCount * Long.BYTES;
+    }
+
+    /**
+     * Computes the annuity factors of the specified interest rates for 1 to maxYears years and writes them to the
+     * specified file. The table is written to a temporary file in the same directory and then moved into place,
+     * so a table being loaded concurrently is never seen half written.
+     *
+     * @param file The table file to create or replace
+     * @param interestRates The annual interest rates in percent; duplicates, including equal rates of different
+     *                      scales, are stored once
+     * @param maxYears The longest loan duration in years covered by the table
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if a rate is negative or too long to be stored, or maxYears is not positive
+     * @throws NullPointerException if file, interestRates or one of the rates is null
+     */
+    public static void write(Path file, Collection<BigDecimal> interestRates, int maxYears) throws IOException {
+        Objects.requireNonNull(file, "File cannot be null");
+        Objects.requireNonNull(interestRates, "Interest rates cannot be null");
+        if (maxYears <= 0) {
+            throw new IllegalArgumentException("Maximum duration must be at least one year");
+        }
+
+        Map<Long, BigDecimal> monthlyRates = new TreeMap<>();
+        for (BigDecimal interestRate : interestRates) {
+            Objects.requireNonNull(interestRate, "Interest rate cannot be null");
+            if (interestRate.signum() < 0) {
+                throw new IllegalArgumentException("Interest rate cannot be negative: " + interestRate);
+            }
+            BigDecimal monthlyRate = monthlyRate(interestRate);
+            long key = normalize(FixedPointMath.of(monthlyRate));
+            if (key == FixedPointMath.UNREPRESENTABLE) {
+                throw new IllegalArgumentException("Interest rate has too many digits to be stored: " + interestRate);
+            }
+            monthlyRates.putIfAbsent(key, monthlyRate);
+        }
+
+        int rateCount = monthlyRates.size();
+        long size = HEADER_BYTES + (long) rateCount * Long.BYTES + (long) rateCount * maxYears * FACTOR_BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Table of " + rateCount + " rates and " + maxYears + " years is too large");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(CalculationConstants.CALCULATION_PRECISION)
+              .putInt(maxYears).putInt(rateCount).putInt(0).putLong(0L);
+        for (long key : monthlyRates.keySet()) {
+            buffer.putLong(key);
+        }
+        for (BigDecimal monthlyRate : monthlyRates.values()) {
+            for (int years = 1; years <= maxYears; years++) {
+                AnnuityFactorCache.AnnuityFactor factor =
+                        AnnuityFactorCache.AnnuityFactor.compute(monthlyRate, years * CalculationConstants.MONTHS_IN_YEAR);
+                if (factor.getPackedGrowthFactor() == FixedPointMath.UNREPRESENTABLE
+                        || factor.getPackedDenominator() == FixedPointMath.UNREPRESENTABLE) {
+                    throw new IllegalArgumentException("Annuity factor of monthly rate " + monthlyRate + " over "
+                            + years + " years cannot be stored");
+                }
+                buffer.putLong(factor.getPackedGrowthFactor()).putLong(factor.getPackedDenominator());
+            }
+        }
+        buffer.putLong(CHECKSUM_OFFSET, checksum(buffer));
+        buffer.flip();
+
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            try {
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Maps the specified table file read-only and validates it.
+     *
+     * @param file The table file written by {@link #write(Path, Collection, int)}
+     * @return The mapped table
+     * @throws IOException if the file cannot be read, or was written by another format version or calculation
+     *                     precision, or is truncated or corrupt
+     * @throws NullPointerException if file is null
+     */
+    public static AnnuityFactorTable load(Path file) throws IOException {
+        Objects.requireNonNull(file, "File cannot be null");
+        MappedByteBuffer table;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Annuity factor table " + file + " has an invalid size of " + size + " bytes");
+            }
+            // The mapping remains valid after the channel is closed
+            table = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        if (table.getInt(0) != MAGIC) {
+            throw new IOException(file + " is not an annuity factor table");
+        }
+        int version = table.getInt(4);
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Annuity factor table " + file + " has format version " + version
+                    + ", expected " + FORMAT_VERSION);
+        }
+        int precision = table.getInt(8);
+        if (precision != CalculationConstants.CALCULATION_PRECISION) {
+            throw new IOException("Annuity factor table " + file + " was calculated to " + precision
+                    + " digits, expected " + CalculationConstants.CALCULATION_PRECISION);
+        }
+        int maxYears = table.getInt(12);
+        int rateCount = table.getInt(16);
+        long expectedSize = HEADER_BYTES + (long) rateCount * Long.BYTES + (long) rateCount * maxYears * FACTOR_BYTES;
+        if (maxYears <= 0 || rateCount < 0 || table.capacity() != expectedSize) {
+            throw new IOException("Annuity factor table " + file + " is truncated or has an invalid header");
+        }
+        if (table.getLong(CHECKSUM_OFFSET) != checksum(table)) {
+            throw new IOException("Annuity factor table " + file + " is corrupt: checksum mismatch");
+        }
+
+        AnnuityFactorTable loaded = new AnnuityFactorTable(file, table, rateCount, maxYears);
+        loaded.verifyCalculation();
+        return loaded;
+    }
+
+    /**
+     * Returns the stored annuity factor for the specified monthly rate and number of months.
+     *
+     * @param monthlyRate The monthly interest rate in decimal form
+     * @param months The number of monthly periods
+     * @return The annuity factor, or null if the table does not hold the rate or the number of months is not a
+     *         whole number of years within the table
+     */
+    AnnuityFactorCache.AnnuityFactor lookup(BigDecimal monthlyRate, int months) {
+        if (months <= 0 || months % CalculationConstants.MONTHS_IN_YEAR != 0) {
+            return null;
+        }
+        int years = months / CalculationConstants.MONTHS_IN_YEAR;
+        if (years > maxYears) {
+            return null;
+        }
+        int rateIndex = indexOf(normalize(FixedPointMath.of(monthlyRate)));
+        if (rateIndex < 0) {
+            return null;
+        }
+        return factorAt(rateIndex, years);
+    }
+
+    /**
+     * Returns the number of interest rates in the table.
+     *
+     * @return The rate count
+     */
+    public int getRateCount() {
+        return rateCount;
+    }
+
+    /**
+     * Returns the longest loan duration covered by the table.
+     *
+     * @return The maximum duration in years
+     */
+    public int getMaxYears() {
+        return maxYears;
+    }
+
+    /**
+     * Returns the file the table was loaded from.
+     *
+     * @return The table file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Binary-searches the stored monthly rates.
+     *
+     * @return The index of the rate, or -1 if it is not stored
+     */
+    private int indexOf(long key) {
+        if (key == FixedPointMath.UNREPRESENTABLE) {
+            return -1;
+        }
+        int low = 0;
+        int high = rateCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long rate = table.getLong(HEADER_BYTES + middle * Long.BYTES);
+            if (rate < key) {
+                low = middle + 1;
+            } else if (rate > key) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private AnnuityFactorCache.AnnuityFactor factorAt(int rateIndex, int years) {
+        int offset = factorsOffset + (rateIndex * maxYears + years - 1) * FACTOR_BYTES;
+        long packedGrowthFactor = table.getLong(offset);
+        long packedDenominator = table.getLong(offset + Long.BYTES);
+        return new AnnuityFactorCache.AnnuityFactor(FixedPointMath.toBigDecimal(packedGrowthFactor),
+                FixedPointMath.toBigDecimal(packedDenominator), packedGrowthFactor, packedDenominator);
+    }
+
+    /**
+     * Recomputes the factor of the first rate over the longest duration and compares it with the stored one, so
+     * that a table left behind by a build with a different factor calculation is rejected.
+     */
+    private void verifyCalculation() throws IOException {
+        if (rateCount == 0) {
+            return;
+        }
+        long key = table.getLong(HEADER_BYTES);
+        AnnuityFactorCache.AnnuityFactor stored = factorAt(0, maxYears);
+        AnnuityFactorCache.AnnuityFactor computed = AnnuityFactorCache.AnnuityFactor.compute(
+                FixedPointMath.toBigDecimal(key), maxYears * CalculationConstants.MONTHS_IN_YEAR);
+        if (stored.getGrowthFactor().compareTo(computed.getGrowthFactor()) != 0
+                || stored.getDenominator().compareTo(computed.getDenominator()) != 0) {
+            throw new IOException("Annuity factor table " + file + " does not match the current calculation");
+        }
+    }
+
+    /**
+     * Derives the monthly rate of an interest rate with the same operations as {@link CalculationServiceImpl}.
+     */
+    private static BigDecimal monthlyRate(BigDecimal interestRate) {
+        BigDecimal annualRateDecimal = BigDecimalUtils.percentageToDecimal(interestRate);
+        return BigDecimalUtils.divide(annualRateDecimal, new BigDecimal(CalculationConstants.MONTHS_IN_YEAR));
+    }
+
+    /**
+     * Removes the trailing zeros of a packed value's mantissa, so that equal values of different scales have the
+     * same packed form.
+     */
+    private static long normalize(long value) {
+        if (value == FixedPointMath.UNREPRESENTABLE) {
+            return value;
+        }
+        long mantissa = FixedPointMath.mantissa(value);
+        if (mantissa == 0L) {
+            return FixedPointMath.pack(0L, 0);
+        }
+        int scale = FixedPointMath.scale(value);
+        while (mantissa % 10 == 0 && scale > Byte.MIN_VALUE) {
+            mantissa /= 10;
+            scale--;
+        }
+        return FixedPointMath.pack(mantissa, scale);
+    }
+
+    /**
+     * Returns the CRC-32 of everything after the header, reading the buffer without moving its position.
+     */
+    private static long checksum(ByteBuffer table) {
+        ByteBuffer body = table.duplicate();
+        body.limit(body.capacity());
+        body.position(HEADER_BYTES);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,113 @@
+package com.bank.calculator.service.impl;
+
+import java.util.List; // JDK 11
+import java.util.concurrent.RecursiveAction; // JDK 11
+import java.util.logging.Logger; // JDK 11
+import java.util.logging.Level; // JDK 11
+
+import com.bank.calculator.service.CalculationService;
+import com.bank.calculator.model.BatchCalculationResult;
+import com.bank.calculator.model.CalculationInput;
+import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.exception.CalculationException;
+import com.bank.calculator.constant.ErrorMessages;
+
+/**
+ * Fork/join task that calculates the EMI for a contiguous range of a batch of calculation inputs.
+ * The range is split in halves until it is small enough to be calculated sequentially, and every
+ * outcome is written to the slot matching its input position so that the batch order is preserved
+ * without any post-processing. Failures are recorded per item and never abort sibling tasks.
+ */
+final class BatchCalculationTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = Logger.getLogger(BatchCalculationTask.class.getName());
+
+    /**
+     * Smallest range that is still worth splitting further.
+     */
+    private static final int MIN_SPLIT_THRESHOLD = 16;
+
+    /**
+     * Number of leaf tasks created per worker thread, giving the pool room to balance uneven ranges.
+     */
+    private static final int TASKS_PER_THREAD = 8;
+
+    private final transient CalculationService calculationService;
+    private final transient List<CalculationInput> inputs;
+    private final BatchCalculationResult[] results;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    /**
+     * Constructs a new BatchCalculationTask covering the range [from, to) of the inputs.
+     *
+     * @param calculationService The service used to calculate each item
+     * @param inputs The batch inputs
+     * @param results The array receiving the outcome of each item at its input position
+     * @param from The first index of the range, inclusive
+     * @param to The last index of the range, exclusive
+     * @param threshold The range size at or below which the items are calculated sequentially
+     */
+    BatchCalculationTask(CalculationService calculationService, List<CalculationInput> inputs,
+                         BatchCalculationResult[] results, int from, int to, int threshold) {
+        this.calculationService = calculationService;
+        this.inputs = inputs;
+        this.results = results;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Computes the sequential threshold for a batch of the given size so that each worker thread
+     * receives several leaf tasks.
+     *
+     * @param batchSize The number of items in the batch
+     * @param parallelism The parallelism of the pool executing the batch
+     * @return The range size at or below which items are calculated sequentially
+     */
+    static int thresholdFor(int batchSize, int parallelism) {
+        int leafTasks = Math.max(1, parallelism) * TASKS_PER_THREAD;
+        return Math.max(MIN_SPLIT_THRESHOLD, batchSize / leafTasks);
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= threshold) {
+            for (int i = from; i < to; i++) {
+                results[i] = calculateItem(i, inputs.get(i));
+            }
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        invokeAll(new BatchCalculationTask(calculationService, inputs, results, from, middle, threshold),
+                  new BatchCalculationTask(calculationService, inputs, results, middle, to, threshold));
+    }
+
+    /**
+     * Calculates a single item of the batch, converting any failure into a failed outcome.
+     *
+     * @param index The position of the item in the batch
+     * @param input The calculation input of the item
+     * @return The outcome of the item
+     */
+    private BatchCalculationResult calculateItem(int index, CalculationInput input) {
+        try {
+            CalculationResult result = calculationService.calculateEMI(input);
+            return BatchCalculationResult.success(index, input, result);
+        } catch (CalculationException e) {
+            return BatchCalculationResult.failure(index, input, e.getErrorCode(), e.getErrorMessage());
+        } catch (NullPointerException | IllegalArgumentException e) {
+            return BatchCalculationResult.failure(index, input, ErrorMessages.ERROR_CODE_PREFIX + "001",
+                    e.getMessage() != null ? e.getMessage() : ErrorMessages.INVALID_INPUT);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Unexpected error calculating batch item " + index, e);
+            return BatchCalculationResult.failure(index, input, ErrorMessages.ERROR_CODE_PREFIX + "004",
+                    ErrorMessages.SYSTEM_ERROR);
+        }
+    }
+}
@@ -1,16 +1,33 @@
 package com.bank.calculator.service.impl;
 
 import java.math.BigDecimal; // JDK 11
+import java.math.RoundingMode; // JDK 11
+import java.util.ArrayList; // JDK 11
+import java.util.Arrays; // JDK 11
+import java.util.Collections; // JDK 11
+import java.util.List; // JDK 11
 import java.util.Objects; // JDK 11
+import java.util.RandomAccess; // JDK 11
+import java.util.Spliterator; // JDK 11
+import java.util.Spliterators; // JDK 11
+import java.util.concurrent.ForkJoinPool; // JDK 11
 import java.util.logging.Logger; // JDK 11
 import java.util.logging.Level; // JDK 11
+import java.util.stream.Stream; // JDK 11
+import java.util.stream.StreamSupport; // JDK 11
 
 import com.bank.calculator.service.CalculationService;
+import com.bank.calculator.model.AmortizationEntry;
+import com.bank.calculator.model.BatchCalculationResult;
 import com.bank.calculator.model.CalculationInput;
 import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.model.EmiGrid;
 import com.bank.calculator.exception.CalculationException;
 import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.constant.ErrorMessages;
 import com.bank.calculator.util.BigDecimalUtils;
+import com.bank.calculator.jfr.CalculationEvent;
+import com.bank.calculator.jfr.EventOutcome;
 
 /**
  * Implementation of the CalculationService interface that provides concrete implementations 
@@ -21,6 +38,70 @@ import com.bank.calculator.util.BigDecimalUtils;
 public class CalculationServiceImpl implements CalculationService {
 
     private static final Logger LOGGER = Logger.getLogger(CalculationServiceImpl.class.getName());
+
+    /**
+     * Engine name recorded in the flight recorder events of calculations performed by the BigDecimal implementation.
+     */
+    private static final String ENGINE = "bigdecimal";
+    
+    /**
+     * Number of decimal places of a solved interest rate. A change of a millionth of a percent moves the EMI of
+     * the largest loan by less than a tenth of a cent.
+     */
+    private static final int SOLVED_RATE_SCALE = 6;
+    private static final BigDecimal SOLVED_RATE_UNIT = BigDecimal.ONE.movePointLeft(SOLVED_RATE_SCALE);
+    
+    /**
+     * Bound on the one-cent or one-year corrections applied to a closed-form solution to match the rounded EMI
+     * calculation, which never needs more than one or two.
+     */
+    private static final int MAX_SOLVER_CORRECTIONS = 16;
+    
+    private static final BigDecimal ONE_CENT = BigDecimal.ONE.movePointLeft(CalculationConstants.CURRENCY_PRECISION);
+    private static final BigDecimal HALF_CENT = new BigDecimal("0.5").movePointLeft(CalculationConstants.CURRENCY_PRECISION);
+    
+    private final ForkJoinPool batchPool;
+    private final AnnuityFactorCache annuityFactorCache;
+    
+    /**
+     * Constructs a new CalculationServiceImpl that runs batch calculations on the common fork/join pool
+     * and caches annuity factors in a cache of the default size.
+     */
+    public CalculationServiceImpl() {
+        this(ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Constructs a new CalculationServiceImpl that runs batch calculations on the specified pool
+     * and caches annuity factors in a cache of the default size.
+     *
+     * @param batchPool The fork/join pool used by {@link #calculateEMIBatch(List)}
+     * @throws NullPointerException if batchPool is null
+     */
+    public CalculationServiceImpl(ForkJoinPool batchPool) {
+        this(batchPool, new AnnuityFactorCache());
+    }
+    
+    /**
+     * Constructs a new CalculationServiceImpl with the specified batch pool and annuity factor cache.
+     *
+     * @param batchPool The fork/join pool used by {@link #calculateEMIBatch(List)}
+     * @param annuityFactorCache The cache of (1 + r)^n factors shared by all calculations of this service
+     * @throws NullPointerException if batchPool or annuityFactorCache is null
+     */
+    public CalculationServiceImpl(ForkJoinPool batchPool, AnnuityFactorCache annuityFactorCache) {
+        this.batchPool = Objects.requireNonNull(batchPool, "Batch pool cannot be null");
+        this.annuityFactorCache = Objects.requireNonNull(annuityFactorCache, "Annuity factor cache cannot be null");
+    }
+    
+    /**
+     * Returns the annuity factor cache used by this service, for example to report its hit rate.
+     *
+     * @return The annuity factor cache
+     */
+    public AnnuityFactorCache getAnnuityFactorCache() {
+        return annuityFactorCache;
+    }
     
     /**
      * {@inheritDoc}
@@ -42,12 +123,31 @@ public class CalculationServiceImpl implements CalculationService {
     @Override
     public BigDecimal calculateCompoundInterest(BigDecimal principal, int durationYears, BigDecimal interestRate) 
             throws CalculationException {
+        CalculationEvent event = new CalculationEvent();
+        event.begin();
+        try {
+            BigDecimal finalAmount = computeCompoundInterest(principal, durationYears, interestRate);
+            event.complete(CalculationEvent.COMPOUND_INTEREST, ENGINE, principal, durationYears, EventOutcome.SUCCESS);
+            return finalAmount;
+        } catch (RuntimeException e) {
+            event.complete(CalculationEvent.COMPOUND_INTEREST, ENGINE, principal, durationYears, EventOutcome.FAILURE);
+            throw e;
+        }
+    }
+
+    /**
+     * Calculates the compound interest; recorded by {@link #calculateCompoundInterest(BigDecimal, int, BigDecimal)}.
+     */
+    private BigDecimal computeCompoundInterest(BigDecimal principal, int durationYears, BigDecimal interestRate) 
+            throws CalculationException {
         try {
             // Validate inputs
             validateInputs(principal, durationYears, interestRate);
             
-            LOGGER.log(Level.INFO, "Calculating compound interest for Principal: {0}, Duration: {1} years, Interest Rate: {2}%", 
-                new Object[]{principal, durationYears, interestRate});
+            if (LOGGER.isLoggable(Level.INFO)) {
+                LOGGER.log(Level.INFO, "Calculating compound interest for Principal: {0}, Duration: {1} years, Interest Rate: {2}%", 
+                    new Object[]{principal, durationYears, interestRate});
+            }
             
             // Convert annual interest rate to decimal form (r/100)
             BigDecimal rateDecimal = BigDecimalUtils.percentageToDecimal(interestRate);
@@ -60,8 +160,7 @@ public class CalculationServiceImpl implements CalculationService {
             int totalPeriods = CalculationConstants.MONTHLY_COMPOUNDING * durationYears;
             
             // Calculate compound factor (1 + r/n)^(nt)
-            BigDecimal onePlusRatePerPeriod = BigDecimalUtils.add(CalculationConstants.ONE, ratePerPeriod);
-            BigDecimal compoundFactor = BigDecimalUtils.pow(onePlusRatePerPeriod, totalPeriods);
+            BigDecimal compoundFactor = annuityFactorCache.getFactor(ratePerPeriod, totalPeriods).getGrowthFactor();
             
             // Calculate final amount (P * compound factor)
             BigDecimal finalAmount = BigDecimalUtils.multiply(principal, compoundFactor);
@@ -96,12 +195,31 @@ public class CalculationServiceImpl implements CalculationService {
     @Override
     public CalculationResult calculateEMI(BigDecimal principal, int durationYears, BigDecimal interestRate) 
             throws CalculationException {
+        CalculationEvent event = new CalculationEvent();
+        event.begin();
+        try {
+            CalculationResult result = computeEMI(principal, durationYears, interestRate);
+            event.complete(CalculationEvent.EMI, ENGINE, principal, durationYears, EventOutcome.SUCCESS);
+            return result;
+        } catch (RuntimeException e) {
+            event.complete(CalculationEvent.EMI, ENGINE, principal, durationYears, EventOutcome.FAILURE);
+            throw e;
+        }
+    }
+
+    /**
+     * Calculates the EMI; recorded by {@link #calculateEMI(BigDecimal, int, BigDecimal)}.
+     */
+    private CalculationResult computeEMI(BigDecimal principal, int durationYears, BigDecimal interestRate) 
+            throws CalculationException {
         try {
             // Validate inputs
             validateInputs(principal, durationYears, interestRate);
             
-            LOGGER.log(Level.INFO, "Calculating EMI for Principal: {0}, Duration: {1} years, Interest Rate: {2}%", 
-                new Object[]{principal, durationYears, interestRate});
+            if (LOGGER.isLoggable(Level.INFO)) {
+                LOGGER.log(Level.INFO, "Calculating EMI for Principal: {0}, Duration: {1} years, Interest Rate: {2}%", 
+                    new Object[]{principal, durationYears, interestRate});
+            }
             
             // Convert annual interest rate to monthly rate in decimal form (r/12/100)
             BigDecimal annualRateDecimal = BigDecimalUtils.percentageToDecimal(interestRate);
@@ -111,29 +229,7 @@ public class CalculationServiceImpl implements CalculationService {
             // Convert loan duration from years to months (t*12)
             int totalMonths = convertYearsToMonths(durationYears);
             
-            BigDecimal emiAmount;
-            
-            // Check if monthly rate is zero (special case)
-            if (BigDecimalUtils.isZero(monthlyRate)) {
-                // Simple division for zero interest rate
-                emiAmount = BigDecimalUtils.divide(principal, new BigDecimal(totalMonths));
-            } else {
-                // Calculate (1 + r)^n
-                BigDecimal onePlusMonthlyRate = BigDecimalUtils.add(CalculationConstants.ONE, monthlyRate);
-                BigDecimal rateFactorPower = BigDecimalUtils.pow(onePlusMonthlyRate, totalMonths);
-                
-                // Calculate numerator: P × r × (1 + r)^n
-                BigDecimal numerator = BigDecimalUtils.multiply(principal, monthlyRate);
-                numerator = BigDecimalUtils.multiply(numerator, rateFactorPower);
-                
-                // Calculate denominator: (1 + r)^n - 1
-                BigDecimal denominator = BigDecimalUtils.subtract(rateFactorPower, CalculationConstants.ONE);
-                
-                // Calculate EMI: [P × r × (1 + r)^n]/[(1 + r)^n - 1]
-                emiAmount = BigDecimalUtils.divide(numerator, denominator);
-            }
-            
-            emiAmount = BigDecimalUtils.roundForCalculation(emiAmount);
+            BigDecimal emiAmount = BigDecimalUtils.roundForCalculation(emiAmount(principal, monthlyRate, totalMonths));
             
             // Calculate total amount payable (EMI * number of months)
             BigDecimal totalAmount = BigDecimalUtils.multiply(emiAmount, new BigDecimal(totalMonths));
@@ -141,8 +237,10 @@ public class CalculationServiceImpl implements CalculationService {
             // Calculate total interest amount (total amount - principal)
             BigDecimal interestAmount = BigDecimalUtils.subtract(totalAmount, principal);
             
-            LOGGER.log(Level.INFO, "EMI calculation result: EMI={0}, Total={1}, Interest={2}", 
-                new Object[]{emiAmount, totalAmount, interestAmount});
+            if (LOGGER.isLoggable(Level.INFO)) {
+                LOGGER.log(Level.INFO, "EMI calculation result: EMI={0}, Total={1}, Interest={2}", 
+                    new Object[]{emiAmount, totalAmount, interestAmount});
+            }
             
             return new CalculationResult(emiAmount, totalAmount, interestAmount, interestRate, totalMonths);
         } catch (ArithmeticException e) {
@@ -151,6 +249,443 @@ public class CalculationServiceImpl implements CalculationService {
         }
     }
 
+    /**
+     * Calculates the EMI of a loan from its monthly rate with the intermediate results rounded to ten significant
+     * digits, as both {@link #calculateEMI(BigDecimal, int, BigDecimal)} and the EMI grid do.
+     *
+     * @param principal The principal amount for the loan
+     * @param monthlyRate The monthly interest rate in decimal form
+     * @param totalMonths The number of installments
+     * @return The EMI
+     * @throws ArithmeticException if (1 + r)^n - 1 rounds to zero
+     */
+    BigDecimal emiAmount(BigDecimal principal, BigDecimal monthlyRate, int totalMonths) {
+        // Check if monthly rate is zero (special case)
+        if (BigDecimalUtils.isZero(monthlyRate)) {
+            // Simple division for zero interest rate
+            return BigDecimalUtils.divide(principal, new BigDecimal(totalMonths));
+        }
+        
+        // Look up (1 + r)^n and (1 + r)^n - 1, computed once per rate and duration
+        AnnuityFactorCache.AnnuityFactor annuityFactor = annuityFactorCache.getFactor(monthlyRate, totalMonths);
+        BigDecimal rateFactorPower = annuityFactor.getGrowthFactor();
+        
+        // Calculate numerator: P × r × (1 + r)^n
+        BigDecimal numerator = BigDecimalUtils.multiply(principal, monthlyRate);
+        numerator = BigDecimalUtils.multiply(numerator, rateFactorPower);
+        
+        // Denominator: (1 + r)^n - 1
+        BigDecimal denominator = annuityFactor.getDenominator();
+        
+        // Calculate EMI: [P × r × (1 + r)^n]/[(1 + r)^n - 1]
+        return BigDecimalUtils.divide(numerator, denominator);
+    }
+
+    /**
+     * Calculates the EMI of a loan from its monthly rate as {@link #emiAmount(BigDecimal, BigDecimal, int)} does
+     * and rounds it half up to whole cents.
+     *
+     * @param principal The principal amount for the loan
+     * @param monthlyRate The monthly interest rate in decimal form
+     * @param totalMonths The number of installments
+     * @return The EMI in cents
+     * @throws ArithmeticException if (1 + r)^n - 1 rounds to zero or the EMI does not fit in a long
+     */
+    long emiCents(BigDecimal principal, BigDecimal monthlyRate, int totalMonths) {
+        return BigDecimalUtils.round(emiAmount(principal, monthlyRate, totalMonths), CalculationConstants.CURRENCY_PRECISION)
+                .unscaledValue().longValueExact();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<BatchCalculationResult> calculateEMIBatch(List<CalculationInput> inputs) {
+        Objects.requireNonNull(inputs, "Calculation inputs cannot be null");
+        
+        int batchSize = inputs.size();
+        LOGGER.log(Level.INFO, "Calculating EMI batch of {0} items", batchSize);
+        
+        BatchCalculationResult[] results = new BatchCalculationResult[batchSize];
+        if (batchSize > 0) {
+            // Leaf tasks index into the list, so make sure lookups are constant time
+            List<CalculationInput> source = inputs instanceof RandomAccess ? inputs : new ArrayList<>(inputs);
+            int threshold = BatchCalculationTask.thresholdFor(batchSize, batchPool.getParallelism());
+            batchPool.invoke(new BatchCalculationTask(this, source, results, 0, batchSize, threshold));
+        }
+        
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The rows are filled in parallel on the batch pool, each by a recurrence over the durations that multiplies
+     * the growth of the previous column by the growth over one year instead of raising {@code (1 + r)} to every
+     * duration. The recurrence runs in double arithmetic on the same rounded monthly rate and numerator as
+     * {@link #calculateEMI(BigDecimal, int, BigDecimal)}, and only the cells whose EMI lies within that method's
+     * rounding error of half a cent are recalculated with its BigDecimal arithmetic.
+     */
+    @Override
+    public EmiGrid calculateEMIGrid(BigDecimal principal, BigDecimal fromRate, BigDecimal rateStep, int rateCount)
+            throws CalculationException {
+        Objects.requireNonNull(principal, "Principal amount cannot be null");
+        Objects.requireNonNull(fromRate, "From rate cannot be null");
+        Objects.requireNonNull(rateStep, "Rate step cannot be null");
+        if (principal.signum() <= 0) {
+            throw new IllegalArgumentException("Principal amount must be greater than zero");
+        }
+        if (fromRate.signum() < 0 || rateStep.signum() < 0) {
+            throw new IllegalArgumentException("Interest rates cannot be negative");
+        }
+        int minYears = CalculationConstants.MIN_DURATION_YEARS;
+        int maxYears = CalculationConstants.MAX_DURATION_YEARS;
+        int columnCount = maxYears - minYears + 1;
+        if (rateCount <= 0 || rateCount > Integer.MAX_VALUE / columnCount) {
+            throw new IllegalArgumentException("Number of interest rates must be between 1 and "
+                    + Integer.MAX_VALUE / columnCount);
+        }
+        
+        BigDecimal[] monthlyRates = new BigDecimal[rateCount];
+        for (int row = 0; row < rateCount; row++) {
+            monthlyRates[row] = monthlyRate(fromRate.add(rateStep.multiply(BigDecimal.valueOf(row))));
+        }
+        // EMI = P × r / [1 - (1 + r)^-n] <= P × (r + 1 / n), so the highest rate over the shortest term bounds the grid
+        double maxEmi = principal.doubleValue()
+                * (monthlyRates[rateCount - 1].doubleValue() + 1.0 / convertYearsToMonths(minYears));
+        if (!(maxEmi * 100.0 < Long.MAX_VALUE)) {
+            throw new CalculationException(ErrorMessages.NUMERIC_OVERFLOW);
+        }
+        
+        LOGGER.log(Level.INFO, "Calculating EMI grid of {0} rates", rateCount);
+        long[] emiCents = new long[rateCount * columnCount];
+        int threshold = EmiGridTask.thresholdFor(rateCount, batchPool.getParallelism());
+        try {
+            batchPool.invoke(new EmiGridTask(this, principal, monthlyRates, minYears, maxYears, emiCents,
+                    0, rateCount, threshold));
+        } catch (ArithmeticException e) {
+            LOGGER.log(Level.SEVERE, "Error calculating EMI grid", e);
+            throw new CalculationException("Error calculating EMI: " + e.getMessage(), e);
+        }
+        return new EmiGrid(principal, fromRate, rateStep, rateCount, minYears, maxYears, emiCents);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<AmortizationEntry> generateAmortizationSchedule(CalculationInput input) throws CalculationException {
+        Objects.requireNonNull(input, "CalculationInput cannot be null");
+        
+        return generateAmortizationSchedule(input.getPrincipal(), input.getDurationYears(), input.getInterestRate());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<AmortizationEntry> generateAmortizationSchedule(BigDecimal principal, int durationYears,
+                                                                  BigDecimal interestRate) throws CalculationException {
+        CalculationResult result = calculateEMI(principal, durationYears, interestRate);
+        int totalMonths = result.getNumberOfInstallments();
+        BigDecimal payment = schedulePayment(result);
+        
+        AmortizationScheduleIterator rows = new AmortizationScheduleIterator(principal, interestRate, totalMonths, payment);
+        // A loan whose EMI was rounded up can be settled before its last month, so the row count is not known
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigDecimal calculateOutstandingBalance(CalculationInput input, int month) throws CalculationException {
+        Objects.requireNonNull(input, "CalculationInput cannot be null");
+        
+        return calculateOutstandingBalance(input.getPrincipal(), input.getDurationYears(), input.getInterestRate(), month);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigDecimal calculateOutstandingBalance(BigDecimal principal, int durationYears, BigDecimal interestRate,
+                                                  int month) throws CalculationException {
+        CalculationResult result = calculateEMI(principal, durationYears, interestRate);
+        int totalMonths = result.getNumberOfInstallments();
+        if (month < 0 || month > totalMonths) {
+            throw new IllegalArgumentException("Month must be between 0 and " + totalMonths);
+        }
+        
+        return new AmortizationClosedForm(principal, interestRate, totalMonths, schedulePayment(result))
+                .outstandingBalance(month);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigDecimal calculateInterestPaid(CalculationInput input, int fromMonth, int toMonth) throws CalculationException {
+        Objects.requireNonNull(input, "CalculationInput cannot be null");
+        
+        return calculateInterestPaid(input.getPrincipal(), input.getDurationYears(), input.getInterestRate(),
+                fromMonth, toMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigDecimal calculateInterestPaid(BigDecimal principal, int durationYears, BigDecimal interestRate,
+                                            int fromMonth, int toMonth) throws CalculationException {
+        CalculationResult result = calculateEMI(principal, durationYears, interestRate);
+        int totalMonths = result.getNumberOfInstallments();
+        if (fromMonth < 1 || toMonth < fromMonth || toMonth > totalMonths) {
+            throw new IllegalArgumentException("Month range must satisfy 1 <= from <= to <= " + totalMonths);
+        }
+        
+        AmortizationClosedForm closedForm =
+                new AmortizationClosedForm(principal, interestRate, totalMonths, schedulePayment(result));
+        return closedForm.cumulativeInterest(toMonth).subtract(closedForm.cumulativeInterest(fromMonth - 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The rate is found by safeguarded Newton iteration on the EMI formula in double arithmetic, followed by
+     * Newton corrections against {@link #calculateEMI(BigDecimal, int, BigDecimal)}, whose steps are rounded,
+     * and, only if those leave the EMI half a cent or more from the target, a search of the neighbouring rates.
+     */
+    @Override
+    public BigDecimal solveInterestRate(BigDecimal principal, int durationYears, BigDecimal targetEmi)
+            throws CalculationException {
+        Objects.requireNonNull(principal, "Principal amount cannot be null");
+        Objects.requireNonNull(targetEmi, "Target EMI cannot be null");
+        if (durationYears <= 0) {
+            throw new IllegalArgumentException("Loan duration must be greater than zero");
+        }
+        if (principal.signum() <= 0 || targetEmi.signum() <= 0) {
+            throw new IllegalArgumentException("Principal amount and target EMI must be greater than zero");
+        }
+        
+        int totalMonths = convertYearsToMonths(durationYears);
+        int comparison = targetEmi.multiply(new BigDecimal(totalMonths)).compareTo(principal);
+        if (comparison < 0) {
+            throw new CalculationException(ErrorMessages.EMI_TOO_LOW);
+        }
+        if (comparison == 0) {
+            return CalculationConstants.ZERO.setScale(SOLVED_RATE_SCALE);
+        }
+        double monthlyRate = EmiSolver.solveMonthlyRate(principal.doubleValue(), totalMonths, targetEmi.doubleValue());
+        BigDecimal rate = EmiSolver.toAnnualPercentage(monthlyRate, SOLVED_RATE_SCALE);
+        
+        // Change of the EMI per percentage point of annual rate
+        double slope = EmiSolver.emiSlope(principal.doubleValue(), totalMonths, monthlyRate)
+                / (CalculationConstants.MONTHS_IN_YEAR * 100.0);
+        BigDecimal error = emiDifference(principal, durationYears, rate, targetEmi);
+        BigDecimal bestRate = rate;
+        BigDecimal bestError = error.abs();
+        for (int corrections = 0; corrections < MAX_SOLVER_CORRECTIONS && bestError.compareTo(HALF_CENT) >= 0;
+             corrections++) {
+            BigDecimal next = rate.subtract(BigDecimal.valueOf(error.doubleValue() / slope))
+                    .setScale(SOLVED_RATE_SCALE, RoundingMode.HALF_UP);
+            if (next.compareTo(rate) == 0 || next.signum() < 0) {
+                break;
+            }
+            rate = next;
+            error = emiDifference(principal, durationYears, rate, targetEmi);
+            if (error.abs().compareTo(bestError) < 0) {
+                bestRate = rate;
+                bestError = error.abs();
+            }
+        }
+        
+        // Where rounding (1 + r)^n makes the calculated EMI jagged at this scale, try the neighbouring rates
+        BigDecimal center = bestRate;
+        for (int step = 1; step <= MAX_SOLVER_CORRECTIONS && bestError.compareTo(HALF_CENT) >= 0; step++) {
+            BigDecimal offset = SOLVED_RATE_UNIT.multiply(BigDecimal.valueOf(step));
+            for (BigDecimal candidate : new BigDecimal[] {center.add(offset), center.subtract(offset)}) {
+                if (candidate.signum() < 0) {
+                    continue;
+                }
+                BigDecimal candidateError = emiDifference(principal, durationYears, candidate, targetEmi).abs();
+                if (candidateError.compareTo(bestError) < 0) {
+                    bestRate = candidate;
+                    bestError = candidateError;
+                }
+            }
+        }
+        return bestRate;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The principal is calculated in closed form from the cached annuity factor for an EMI just short of rounding
+     * up past the budget, since a cent of principal changes the EMI of a long loan by much less than a cent, and
+     * then corrected a cent at a time against {@link #calculateEMI(BigDecimal, int, BigDecimal)}, whose steps
+     * are rounded. The closed form is only accurate to 10 significant digits, so when a few cents of correction
+     * do not reach the answer, as for principals of hundreds of millions, the principal is found by bisection
+     * over whole cents instead.
+     */
+    @Override
+    public BigDecimal solveMaxPrincipal(BigDecimal emiBudget, int durationYears, BigDecimal interestRate)
+            throws CalculationException {
+        validateSolverInputs(emiBudget, interestRate);
+        if (durationYears <= 0) {
+            throw new IllegalArgumentException("Loan duration must be greater than zero");
+        }
+        
+        BigDecimal monthlyRate = monthlyRate(interestRate);
+        int totalMonths = convertYearsToMonths(durationYears);
+        AnnuityFactorCache.AnnuityFactor annuityFactor = BigDecimalUtils.isZero(monthlyRate)
+                ? null : annuityFactorCache.getFactor(monthlyRate, totalMonths);
+        BigDecimal principal = EmiSolver.principalFor(emiBudget.add(HALF_CENT), monthlyRate, totalMonths, annuityFactor)
+                .setScale(CalculationConstants.CURRENCY_PRECISION, RoundingMode.DOWN);
+        
+        for (int corrections = 0; corrections < MAX_SOLVER_CORRECTIONS; corrections++) {
+            if (principal.signum() > 0 && installment(principal, durationYears, interestRate).compareTo(emiBudget) > 0) {
+                principal = principal.subtract(ONE_CENT);
+            } else if (installment(principal.add(ONE_CENT), durationYears, interestRate).compareTo(emiBudget) <= 0) {
+                principal = principal.add(ONE_CENT);
+            } else {
+                return principal;
+            }
+        }
+        return bisectMaxPrincipal(principal, emiBudget, durationYears, interestRate);
+    }
+
+    /**
+     * Finds the largest principal whose installment fits the budget by bracketing it with steps that double from
+     * one cent around an estimate, then halving the bracket down to a cent. The installment never decreases as
+     * the principal grows, so the bracket always holds the answer.
+     */
+    private BigDecimal bisectMaxPrincipal(BigDecimal estimate, BigDecimal emiBudget, int durationYears,
+                                          BigDecimal interestRate) {
+        BigDecimal low;
+        BigDecimal high;
+        BigDecimal step = ONE_CENT;
+        if (installment(estimate, durationYears, interestRate).compareTo(emiBudget) <= 0) {
+            low = estimate;
+            high = estimate.add(step);
+            while (installment(high, durationYears, interestRate).compareTo(emiBudget) <= 0) {
+                low = high;
+                step = step.add(step);
+                high = high.add(step);
+            }
+        } else {
+            high = estimate;
+            low = estimate.subtract(step).max(BigDecimal.ZERO);
+            while (low.signum() > 0 && installment(low, durationYears, interestRate).compareTo(emiBudget) > 0) {
+                high = low;
+                step = step.add(step);
+                low = low.subtract(step).max(BigDecimal.ZERO);
+            }
+        }
+        
+        while (high.subtract(low).compareTo(ONE_CENT) > 0) {
+            BigDecimal middle = low.add(high).divide(BigDecimal.valueOf(2))
+                    .setScale(CalculationConstants.CURRENCY_PRECISION, RoundingMode.DOWN);
+            if (installment(middle, durationYears, interestRate).compareTo(emiBudget) <= 0) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return low.setScale(CalculationConstants.CURRENCY_PRECISION);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The number of months is calculated in closed form and then corrected a year at a time against
+     * {@link #calculateEMI(BigDecimal, int, BigDecimal)}, whose steps are rounded.
+     */
+    @Override
+    public int solveMinDuration(BigDecimal principal, BigDecimal emiBudget, BigDecimal interestRate)
+            throws CalculationException {
+        Objects.requireNonNull(principal, "Principal amount cannot be null");
+        validateSolverInputs(emiBudget, interestRate);
+        if (principal.signum() <= 0) {
+            throw new IllegalArgumentException("Principal amount must be greater than zero");
+        }
+        
+        double months = EmiSolver.monthsFor(principal.doubleValue(), monthlyRate(interestRate).doubleValue(),
+                emiBudget.doubleValue());
+        if (months == Double.POSITIVE_INFINITY) {
+            throw new CalculationException(ErrorMessages.EMI_BUDGET_BELOW_INTEREST);
+        }
+        double years = Math.ceil(months / CalculationConstants.MONTHS_IN_YEAR);
+        if (years >= Integer.MAX_VALUE / CalculationConstants.MONTHS_IN_YEAR) {
+            throw new CalculationException(ErrorMessages.NUMERIC_OVERFLOW);
+        }
+        
+        int durationYears = Math.max(1, (int) years);
+        for (int corrections = 0; corrections < MAX_SOLVER_CORRECTIONS; corrections++) {
+            if (installment(principal, durationYears, interestRate).compareTo(emiBudget) > 0) {
+                durationYears++;
+            } else if (durationYears > 1
+                    && installment(principal, durationYears - 1, interestRate).compareTo(emiBudget) <= 0) {
+                durationYears--;
+            } else {
+                return durationYears;
+            }
+        }
+        throw new CalculationException(ErrorMessages.CALCULATION_ERROR);
+    }
+
+    /**
+     * Returns the EMI calculated by this service at a rate minus the target EMI.
+     */
+    private BigDecimal emiDifference(BigDecimal principal, int durationYears, BigDecimal interestRate,
+                                     BigDecimal targetEmi) {
+        return calculateEMI(principal, durationYears, interestRate).getEmiAmount().subtract(targetEmi);
+    }
+
+    /**
+     * Returns the installment of a loan as calculated by this service: the EMI rounded to cents.
+     */
+    private BigDecimal installment(BigDecimal principal, int durationYears, BigDecimal interestRate) {
+        return schedulePayment(calculateEMI(principal, durationYears, interestRate));
+    }
+
+    /**
+     * Validates the EMI budget and interest rate of a solver.
+     *
+     * @throws NullPointerException if emiBudget or interestRate is null
+     * @throws IllegalArgumentException if emiBudget is not positive or interestRate is negative
+     */
+    private static void validateSolverInputs(BigDecimal emiBudget, BigDecimal interestRate) {
+        Objects.requireNonNull(emiBudget, "EMI budget cannot be null");
+        Objects.requireNonNull(interestRate, "Interest rate cannot be null");
+        if (emiBudget.signum() <= 0) {
+            throw new IllegalArgumentException("EMI budget must be greater than zero");
+        }
+        if (interestRate.signum() < 0) {
+            throw new IllegalArgumentException("Interest rate cannot be negative");
+        }
+    }
+
+    /**
+     * Converts an annual interest rate as a percentage into the monthly rate in decimal form, as the EMI
+     * calculation does.
+     */
+    private static BigDecimal monthlyRate(BigDecimal interestRate) {
+        BigDecimal annualRateDecimal = BigDecimalUtils.percentageToDecimal(interestRate);
+        return BigDecimalUtils.divide(annualRateDecimal, new BigDecimal(CalculationConstants.MONTHS_IN_YEAR));
+    }
+
+    /**
+     * Returns the fixed installment of an amortization schedule: the EMI rounded to cents.
+     *
+     * @param result The EMI calculation result
+     * @return The installment amount
+     */
+    private static BigDecimal schedulePayment(CalculationResult result) {
+        return BigDecimalUtils.round(result.getEmiAmount(), CalculationConstants.CURRENCY_PRECISION);
+    }
+
     /**
      * Validates the input parameters for calculations.
      *
@@ -0,0 +1,277 @@
+package com.bank.calculator.service.impl;
+
+import java.math.BigDecimal; // JDK 11
+import java.util.List; // JDK 11
+import java.util.Objects; // JDK 11
+import java.util.concurrent.CompletableFuture; // JDK 11
+import java.util.concurrent.CompletionException; // JDK 11
+import java.util.concurrent.ConcurrentHashMap; // JDK 11
+import java.util.concurrent.ConcurrentMap; // JDK 11
+import java.util.concurrent.atomic.LongAdder; // JDK 11
+import java.util.stream.Stream; // JDK 11
+
+import com.bank.calculator.service.CalculationService;
+import com.bank.calculator.model.AmortizationEntry;
+import com.bank.calculator.model.BatchCalculationResult;
+import com.bank.calculator.model.CalculationInput;
+import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.model.EmiGrid;
+import com.bank.calculator.exception.CalculationException;
+import com.bank.calculator.metrics.CalculatorMetrics;
+
+/**
+ * CalculationService decorator that lets concurrent identical EMI calculations share one computation.
+ * <p>
+ * The first thread to request the EMI of a principal, duration and interest rate becomes the leader of that
+ * calculation and runs it on the delegate service; any thread requesting the same EMI while the leader is still
+ * calculating waits for the leader instead of repeating the work, and receives the same immutable
+ * {@link CalculationResult} (or the same exception). The calculation is forgotten as soon as the leader
+ * completes it, so this is not a cache: a request arriving afterwards calculates again. Requests are identical
+ * only if their principal and rate have the same {@link BigDecimal} representation, so every waiter receives
+ * exactly the result it would have calculated itself.
+ * <p>
+ * Requests answered by a leader's calculation are counted in {@link CalculatorMetrics#COALESCED}. All other
+ * operations, including {@link #calculateEMIBatch(List)}, go straight to the delegate.
+ */
+public class CoalescingCalculationService implements CalculationService {
+
+    private final CalculationService delegate;
+    private final ConcurrentMap<InFlightKey, CompletableFuture<CalculationResult>> inFlight =
+            new ConcurrentHashMap<>();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    /**
+     * Constructs a new CoalescingCalculationService.
+     *
+     * @param delegate The service performing the calculations
+     * @throws NullPointerException if delegate is null
+     */
+    public CoalescingCalculationService(CalculationService delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate CalculationService cannot be null");
+    }
+
+    /**
+     * Returns the service performing the calculations.
+     *
+     * @return The delegate service
+     */
+    public CalculationService getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Returns the number of EMI requests of this service answered by another request's calculation.
+     *
+     * @return The coalesced request count
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CalculationResult calculateEMI(CalculationInput input) throws CalculationException {
+        Objects.requireNonNull(input, "CalculationInput cannot be null");
+        return calculateEMI(input.getPrincipal(), input.getDurationYears(), input.getInterestRate());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CalculationResult calculateEMI(BigDecimal principal, int durationYears, BigDecimal interestRate)
+            throws CalculationException {
+        if (principal == null || interestRate == null) {
+            // Let the delegate report the invalid arguments
+            return delegate.calculateEMI(principal, durationYears, interestRate);
+        }
+
+        InFlightKey key = new InFlightKey(principal, durationYears, interestRate);
+        CompletableFuture<CalculationResult> calculation = new CompletableFuture<>();
+        CompletableFuture<CalculationResult> leader = inFlight.putIfAbsent(key, calculation);
+        if (leader != null) {
+            coalescedCount.increment();
+            CalculatorMetrics.COALESCED.increment();
+            return await(leader);
+        }
+
+        try {
+            CalculationResult result = delegate.calculateEMI(principal, durationYears, interestRate);
+            calculation.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            calculation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, calculation);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<BatchCalculationResult> calculateEMIBatch(List<CalculationInput> inputs) {
+        return delegate.calculateEMIBatch(inputs);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigDecimal calculateCompoundInterest(CalculationInput input) throws CalculationException {
+        return delegate.calculateCompoundInterest(input);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigDecimal calculateCompoundInterest(BigDecimal principal, int durationYears, BigDecimal interestRate)
+            throws CalculationException {
+        return delegate.calculateCompoundInterest(principal, durationYears, interestRate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EmiGrid calculateEMIGrid(BigDecimal principal, BigDecimal fromRate, BigDecimal rateStep, int rateCount)
+            throws CalculationException {
+        return delegate.calculateEMIGrid(principal, fromRate, rateStep, rateCount);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<AmortizationEntry> generateAmortizationSchedule(CalculationInput input) throws CalculationException {
+        return delegate.generateAmortizationSchedule(input);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<AmortizationEntry> generateAmortizationSchedule(BigDecimal principal, int durationYears,
+                                                                  BigDecimal interestRate)
+            throws CalculationException {
+        return delegate.generateAmortizationSchedule(principal, durationYears, interestRate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigDecimal calculateOutstandingBalance(CalculationInput input, int month) throws CalculationException {
+        return delegate.calculateOutstandingBalance(input, month);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigDecimal calculateOutstandingBalance(BigDecimal principal, int durationYears, BigDecimal interestRate,
+                                                  int month) throws CalculationException {
+        return delegate.calculateOutstandingBalance(principal, durationYears, interestRate, month);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigDecimal calculateInterestPaid(CalculationInput input, int fromMonth, int toMonth)
+            throws CalculationException {
+        return delegate.calculateInterestPaid(input, fromMonth, toMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigDecimal calculateInterestPaid(BigDecimal principal, int durationYears, BigDecimal interestRate,
+                                            int fromMonth, int toMonth) throws CalculationException {
+        return delegate.calculateInterestPaid(principal, durationYears, interestRate, fromMonth, toMonth);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigDecimal solveInterestRate(BigDecimal principal, int durationYears, BigDecimal targetEmi)
+            throws CalculationException {
+        return delegate.solveInterestRate(principal, durationYears, targetEmi);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigDecimal solveMaxPrincipal(BigDecimal emiBudget, int durationYears, BigDecimal interestRate)
+            throws CalculationException {
+        return delegate.solveMaxPrincipal(emiBudget, durationYears, interestRate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int solveMinDuration(BigDecimal principal, BigDecimal emiBudget, BigDecimal interestRate)
+            throws CalculationException {
+        return delegate.solveMinDuration(principal, emiBudget, interestRate);
+    }
+
+    /**
+     * Waits for the leader's calculation and returns its result, or rethrows the exception it failed with.
+     */
+    private static CalculationResult await(CompletableFuture<CalculationResult> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new CalculationException("EMI calculation failed", cause);
+        }
+    }
+
+    /**
+     * Identity of an EMI calculation. The principal and rate are compared with {@link BigDecimal#equals(Object)},
+     * so requests share a calculation only if the delegate would return identical results for them.
+     */
+    private static final class InFlightKey {
+
+        private final BigDecimal principal;
+        private final int durationYears;
+        private final BigDecimal interestRate;
+        private final int hash;
+
+        InFlightKey(BigDecimal principal, int durationYears, BigDecimal interestRate) {
+            this.principal = principal;
+            this.durationYears = durationYears;
+            this.interestRate = interestRate;
+            this.hash = (31 * principal.hashCode() + durationYears) * 31 + interestRate.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof InFlightKey)) return false;
+            InFlightKey that = (InFlightKey) o;
+            return durationYears == that.durationYears
+                    && principal.equals(that.principal)
+                    && interestRate.equals(that.interestRate);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
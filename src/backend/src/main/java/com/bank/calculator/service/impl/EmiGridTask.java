@@ -0,0 +1,189 @@
+package com.bank.calculator.service.impl;
+
+import java.math.BigDecimal; // JDK 11
+import java.util.concurrent.RecursiveAction; // JDK 11
+
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.util.BigDecimalUtils;
+
+/**
+ * Fork/join task that fills a contiguous range of rows of an EMI grid, one interest rate per row and one loan
+ * duration in whole years per column, with the EMI that {@link CalculationServiceImpl#calculateEMI(BigDecimal,
+ * int, BigDecimal)} rounds to cents.
+ * <p>
+ * A row is built by recurrence rather than by raising {@code (1 + r)} to the power of each duration: with
+ * {@code g = (1 + r)^12} the growth over one year, the growth over {@code y} years is the growth over
+ * {@code y - 1} years times {@code g}, so a cell costs a multiplication, an addition and the division of the
+ * EMI formula, with no call to {@link Math#pow(double, double)}. The recurrence is carried on the excess growth
+ * {@code (1 + r)^n - 1}, as
+ * <pre>
+ *     (1 + r)^(n + 12) - 1 = [(1 + r)^n - 1] × g + (g - 1)
+ * </pre>
+ * which, unlike the growth itself, keeps its significant digits when the rate is low, where the EMI formula
+ * divides by it.
+ * <p>
+ * The recurrence starts from the monthly rate, {@code 1 + r} and {@code P × r} rounded to ten significant digits
+ * exactly as the calculation service rounds them, so the only difference left is that the service also rounds
+ * the growth, the numerator and the quotient. Each of those roundings is bounded, so a cell is taken from the
+ * recurrence when the whole interval the service's EMI can lie in rounds to the same cent, and is otherwise
+ * recalculated by the service's own BigDecimal arithmetic, which happens for a small share of the cells, mostly
+ * at low rates and short durations where the rounded {@code (1 + r)^n - 1} has few significant digits left.
+ */
+final class EmiGridTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Smallest number of rows worth a task of its own; a row of 30 durations takes about a tenth of a microsecond.
+     */
+    private static final int MIN_SPLIT_ROWS = 16;
+
+    /**
+     * Number of leaf tasks created per worker thread, giving the pool room to balance uneven ranges.
+     */
+    private static final int TASKS_PER_THREAD = 4;
+
+    /**
+     * Bound on the relative error of each step the calculation service rounds: rounding to ten significant
+     * digits is within 5e-10, and {@link BigDecimal#pow(int, java.math.MathContext)} carries extra digits before
+     * its final rounding; the double arithmetic of the recurrence is accurate to far less.
+     */
+    private static final double STEP_ERROR_BOUND = 1e-9;
+
+    private final transient CalculationServiceImpl service;
+    private final BigDecimal principal;
+    private final BigDecimal[] monthlyRates;
+    private final int minYears;
+    private final int maxYears;
+    private final long[] emiCents;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    /**
+     * Constructs a new EmiGridTask covering the rows [from, to) of the grid.
+     *
+     * @param service The calculation service whose EMI the cells hold
+     * @param principal The principal amount of every cell
+     * @param monthlyRates The monthly rate in decimal form of each row, rounded as the service rounds it
+     * @param minYears The loan duration of the first column
+     * @param maxYears The loan duration of the last column
+     * @param emiCents The array receiving the EMI of each cell in cents, row by row
+     * @param from The first row of the range, inclusive
+     * @param to The last row of the range, exclusive
+     * @param threshold The number of rows at or below which the rows are filled sequentially
+     */
+    EmiGridTask(CalculationServiceImpl service, BigDecimal principal, BigDecimal[] monthlyRates, int minYears,
+                int maxYears, long[] emiCents, int from, int to, int threshold) {
+        this.service = service;
+        this.principal = principal;
+        this.monthlyRates = monthlyRates;
+        this.minYears = minYears;
+        this.maxYears = maxYears;
+        this.emiCents = emiCents;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Computes the sequential threshold for a grid with the given number of rows so that each worker thread
+     * receives several leaf tasks.
+     *
+     * @param rowCount The number of rows in the grid
+     * @param parallelism The parallelism of the pool filling the grid
+     * @return The number of rows at or below which rows are filled sequentially
+     */
+    static int thresholdFor(int rowCount, int parallelism) {
+        int leafTasks = Math.max(1, parallelism) * TASKS_PER_THREAD;
+        return Math.max(MIN_SPLIT_ROWS, rowCount / leafTasks);
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= threshold) {
+            for (int row = from; row < to; row++) {
+                fillRow(row);
+            }
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        invokeAll(new EmiGridTask(service, principal, monthlyRates, minYears, maxYears, emiCents, from, middle, threshold),
+                  new EmiGridTask(service, principal, monthlyRates, minYears, maxYears, emiCents, middle, to, threshold));
+    }
+
+    /**
+     * Fills the cells of one row.
+     *
+     * @param row The row to fill
+     */
+    private void fillRow(int row) {
+        BigDecimal monthlyRate = monthlyRates[row];
+        int offset = row * (maxYears - minYears + 1) - minYears;
+        if (BigDecimalUtils.isZero(monthlyRate)) {
+            double amount = principal.doubleValue();
+            for (int years = minYears; years <= maxYears; years++) {
+                double emi = amount / (years * CalculationConstants.MONTHS_IN_YEAR);
+                emiCents[offset + years] = toCents(emi, emi * STEP_ERROR_BOUND, monthlyRate, years);
+            }
+            return;
+        }
+
+        // The service rounds P × r and 1 + r before raising the latter to the number of months
+        double interest = BigDecimalUtils.multiply(principal, monthlyRate).doubleValue();
+        double monthExcess = BigDecimalUtils.add(CalculationConstants.ONE, monthlyRate)
+                .subtract(CalculationConstants.ONE).doubleValue();
+        double yearExcess = yearExcess(monthExcess);
+        double yearGrowth = 1.0 + yearExcess;
+        double excess = 0.0;
+        for (int years = 1; years <= maxYears; years++) {
+            excess = excess * yearGrowth + yearExcess;
+            if (years >= minYears) {
+                // EMI = P × r × (1 + r)^n / [(1 + r)^n - 1], where the service's rounding of (1 + r)^n is
+                // magnified by (1 + r)^n / [(1 + r)^n - 1] in the denominator
+                double growthRatio = (1.0 + excess) / excess;
+                double emi = interest * growthRatio;
+                emiCents[offset + years] = excess == 0.0
+                        ? service.emiCents(principal, monthlyRate, years * CalculationConstants.MONTHS_IN_YEAR)
+                        : toCents(emi, emi * STEP_ERROR_BOUND * (2.0 + growthRatio), monthlyRate, years);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code (1 + e)^12 - 1}, the excess growth over one year, by squaring on the excess, since
+     * {@code (1 + e)^2 - 1 = e × (2 + e)}, so that no digits are lost to the leading one.
+     */
+    private static double yearExcess(double monthExcess) {
+        double twoMonths = monthExcess * (2.0 + monthExcess);
+        double fourMonths = twoMonths * (2.0 + twoMonths);
+        double eightMonths = fourMonths * (2.0 + fourMonths);
+        return eightMonths + fourMonths + eightMonths * fourMonths;
+    }
+
+    /**
+     * Rounds an EMI half up to whole cents if every amount within the error bound of it rounds to the same cent,
+     * and otherwise asks the service for the EMI of the cell.
+     *
+     * @param emi The EMI calculated by the recurrence
+     * @param errorBound The largest difference between that EMI and the service's
+     * @param monthlyRate The monthly rate of the cell
+     * @param years The loan duration of the cell
+     * @return The EMI of the cell in cents
+     */
+    private long toCents(double emi, double errorBound, BigDecimal monthlyRate, int years) {
+        long cents = toCents(emi - errorBound);
+        if (cents == toCents(emi + errorBound)) {
+            return cents;
+        }
+        return service.emiCents(principal, monthlyRate, years * CalculationConstants.MONTHS_IN_YEAR);
+    }
+
+    /**
+     * Rounds an amount, which is never far below zero here, to whole cents, half up.
+     */
+    private static long toCents(double amount) {
+        return (long) (amount * 100.0 + 0.5);
+    }
+}
@@ -0,0 +1,155 @@
+package com.bank.calculator.service.impl;
+
+import java.math.BigDecimal; // JDK 11
+import java.math.RoundingMode; // JDK 11
+
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.util.BigDecimalUtils;
+
+/**
+ * Inverts the EMI formula
+ * <pre>
+ *     E = P × r / [1 - (1 + r)^-n]
+ * </pre>
+ * for the monthly rate {@code r}, the principal {@code P} or the number of months {@code n}.
+ * <p>
+ * The principal and the number of months have closed forms, {@code P = E × [(1 + r)^n - 1] / [r × (1 + r)^n]}
+ * and {@code n = -ln(1 - P × r / E) / ln(1 + r)}. The rate has none and is found by Newton's method, safeguarded
+ * by a bracket: E grows strictly with r, so the root lies between 0, where the installment is {@code P / n}, and
+ * {@code E / P}, where the interest alone is E. A Newton step that leaves the bracket is replaced by bisection,
+ * so the iteration always converges; from the small-rate approximation used as the starting point it typically
+ * takes four to six steps to reach full double precision.
+ * <p>
+ * These are the exact formulas; {@link CalculationServiceImpl} checks the answers against its own rounded
+ * calculation, and corrects them where that rounding matters, as for very low rates, where rounding
+ * {@code (1 + r)^n} to ten digits leaves few significant digits in {@code (1 + r)^n - 1}.
+ */
+final class EmiSolver {
+
+    /**
+     * Upper bound on the Newton iterations; bisection alone halves the bracket each time, so this is never
+     * reached before the bracket collapses to adjacent doubles.
+     */
+    static final int MAX_ITERATIONS = 100;
+
+    private static final double RELATIVE_TOLERANCE = 4 * Math.ulp(1.0);
+
+    private EmiSolver() {
+        throw new AssertionError("EmiSolver class should not be instantiated");
+    }
+
+    /**
+     * Solves for the monthly rate at which a principal is repaid by the specified installments.
+     *
+     * @param principal The principal, positive
+     * @param months The number of installments, positive
+     * @param emi The installment, greater than {@code principal / months}
+     * @return The monthly rate in decimal form
+     */
+    static double solveMonthlyRate(double principal, int months, double emi) {
+        double low = 0.0;
+        double high = emi / principal;
+        // For small rates E ≈ (P / n) × [1 + r × (n + 1) / 2]
+        double rate = 2.0 * (emi * months / principal - 1.0) / (months + 1);
+        if (!(rate > low && rate < high)) {
+            rate = 0.5 * (low + high);
+        }
+
+        for (int i = 0; i < MAX_ITERATIONS; i++) {
+            // a = 1 - (1 + r)^-n, accurate for small rates
+            double logGrowth = Math.log1p(rate);
+            double discount = Math.exp(-months * logGrowth);
+            double a = -Math.expm1(-months * logGrowth);
+            double residual = principal * rate / a - emi;
+            if (residual == 0.0) {
+                return rate;
+            }
+            // dE/dr = P × [a - r × n × (1 + r)^(-n-1)] / a²
+            double slope = principal * (a - rate * months * discount / (1.0 + rate)) / (a * a);
+            if (residual < 0.0) {
+                low = rate;
+            } else {
+                high = rate;
+            }
+
+            double next = rate - residual / slope;
+            if (!(next > low && next < high)) {
+                next = 0.5 * (low + high);
+            }
+            if (Math.abs(next - rate) <= RELATIVE_TOLERANCE * rate || high - low <= RELATIVE_TOLERANCE * high) {
+                return next;
+            }
+            rate = next;
+        }
+        return rate;
+    }
+
+    /**
+     * Returns the rate of change of the installment with the monthly rate, {@code dE/dr}.
+     *
+     * @param principal The principal
+     * @param months The number of installments
+     * @param monthlyRate The monthly rate in decimal form, positive
+     * @return The derivative of the installment
+     */
+    static double emiSlope(double principal, int months, double monthlyRate) {
+        double logGrowth = Math.log1p(monthlyRate);
+        double discount = Math.exp(-months * logGrowth);
+        double a = -Math.expm1(-months * logGrowth);
+        return principal * (a - monthlyRate * months * discount / (1.0 + monthlyRate)) / (a * a);
+    }
+
+    /**
+     * Calculates the principal repaid by the specified installments.
+     *
+     * @param emi The installment
+     * @param monthlyRate The monthly rate in decimal form, not negative
+     * @param months The number of installments
+     * @param factor The annuity factor of the rate and number of months; unused if the rate is zero
+     * @return The principal, not rounded to cents
+     */
+    static BigDecimal principalFor(BigDecimal emi, BigDecimal monthlyRate, int months,
+                                   AnnuityFactorCache.AnnuityFactor factor) {
+        if (BigDecimalUtils.isZero(monthlyRate)) {
+            return BigDecimalUtils.multiply(emi, new BigDecimal(months));
+        }
+        // P = E × [(1 + r)^n - 1] / [r × (1 + r)^n]
+        BigDecimal numerator = BigDecimalUtils.multiply(emi, factor.getDenominator());
+        BigDecimal denominator = BigDecimalUtils.multiply(monthlyRate, factor.getGrowthFactor());
+        return BigDecimalUtils.divide(numerator, denominator);
+    }
+
+    /**
+     * Calculates the number of installments that repay a principal.
+     *
+     * @param principal The principal
+     * @param monthlyRate The monthly rate in decimal form, not negative
+     * @param emi The installment
+     * @return The fractional number of installments, or positive infinity if the installment does not exceed
+     *         the monthly interest
+     */
+    static double monthsFor(double principal, double monthlyRate, double emi) {
+        if (monthlyRate == 0.0) {
+            return principal / emi;
+        }
+        double interestShare = principal * monthlyRate / emi;
+        if (interestShare >= 1.0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return -Math.log1p(-interestShare) / Math.log1p(monthlyRate);
+    }
+
+    /**
+     * Converts a monthly rate in decimal form into an annual interest rate as a percentage.
+     *
+     * @param monthlyRate The monthly rate
+     * @param scale The number of decimal places of the result
+     * @return The annual interest rate
+     */
+    static BigDecimal toAnnualPercentage(double monthlyRate, int scale) {
+        return BigDecimal.valueOf(monthlyRate)
+                .multiply(BigDecimal.valueOf(CalculationConstants.MONTHS_IN_YEAR))
+                .multiply(CalculationConstants.HUNDRED)
+                .setScale(scale, RoundingMode.HALF_UP);
+    }
+}
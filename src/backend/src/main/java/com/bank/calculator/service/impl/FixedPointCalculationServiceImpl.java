@@ -0,0 +1,343 @@
+package com.bank.calculator.service.impl;
+
+import java.math.BigDecimal; // JDK 11
+import java.util.Objects; // JDK 11
+import java.util.concurrent.ForkJoinPool; // JDK 11
+import java.util.logging.Logger; // JDK 11
+import java.util.logging.Level; // JDK 11
+
+import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.exception.CalculationException;
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.util.BigDecimalUtils;
+import com.bank.calculator.util.FixedPointMath;
+import com.bank.calculator.jfr.CalculationEvent;
+import com.bank.calculator.jfr.EventOutcome;
+
+/**
+ * CalculationService implementation that performs the compound interest and EMI calculations on packed
+ * {@code long} decimals using {@link FixedPointMath} instead of allocating a {@link BigDecimal} for every
+ * intermediate value.
+ * <p>
+ * Each step rounds to {@link CalculationConstants#CALCULATION_PRECISION} significant digits exactly as
+ * {@link CalculationServiceImpl} does through {@link com.bank.calculator.util.BigDecimalUtils}, so both
+ * implementations produce equal {@link CalculationResult}s. Only the final result values are converted to
+ * {@link BigDecimal}. Inputs outside the packed range (negative rates, more than
+ * {@value FixedPointMath#MAX_DIGITS} digits, extreme durations) are delegated to the {@link BigDecimal}
+ * implementation, which keeps its error handling unchanged.
+ * <p>
+ * The growth factor {@code (1 + r)^n} and the EMI denominator are read in packed form from the
+ * {@link AnnuityFactorCache} shared with the other engines, whose factors are computed at the same precision, so
+ * a warm quote takes a few packed multiplications and divisions instead of a power. The monthly rate of the last
+ * interest rate is kept, as rate cards make consecutive quotes at the same rate the common case.
+ * <p>
+ * {@link #calculateEMICents(long, int, long, long[])} calculates straight from packed inputs, such as the records
+ * decoded by {@link com.bank.calculator.batch.MappedLoanFileParser}, without creating any object at all.
+ */
+public class FixedPointCalculationServiceImpl extends CalculationServiceImpl {
+
+    private static final Logger LOGGER = Logger.getLogger(FixedPointCalculationServiceImpl.class.getName());
+
+    /**
+     * Engine name recorded in the flight recorder events of calculations performed by the fixed-point implementation.
+     */
+    private static final String ENGINE = "fixed-point";
+
+    private static final int PRECISION = CalculationConstants.CALCULATION_PRECISION;
+    private static final long HUNDRED = FixedPointMath.pack(100L, 0);
+    private static final long PERIODS_PER_YEAR = FixedPointMath.pack(CalculationConstants.MONTHS_IN_YEAR, 0);
+
+    /**
+     * Constructs a new FixedPointCalculationServiceImpl that runs batch calculations on the common fork/join pool.
+     */
+    public FixedPointCalculationServiceImpl() {
+        super();
+    }
+
+    /**
+     * The monthly rate of the most recent interest rate; replaced when a different rate is calculated.
+     */
+    private volatile RateCard rateCard;
+
+    /**
+     * Constructs a new FixedPointCalculationServiceImpl with the specified batch pool and annuity factor cache.
+     *
+     * @param batchPool The fork/join pool used for batch calculations
+     * @param annuityFactorCache The cache of (1 + r)^n factors shared by all calculations of this service
+     * @throws NullPointerException if batchPool or annuityFactorCache is null
+     */
+    public FixedPointCalculationServiceImpl(ForkJoinPool batchPool, AnnuityFactorCache annuityFactorCache) {
+        super(batchPool, annuityFactorCache);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BigDecimal calculateCompoundInterest(BigDecimal principal, int durationYears, BigDecimal interestRate)
+            throws CalculationException {
+        CalculationEvent event = new CalculationEvent();
+        event.begin();
+        try {
+            BigDecimal finalAmount = computeCompoundInterest(principal, durationYears, interestRate);
+            event.complete(CalculationEvent.COMPOUND_INTEREST, ENGINE, principal, durationYears, EventOutcome.SUCCESS);
+            return finalAmount;
+        } catch (RuntimeException e) {
+            event.complete(CalculationEvent.COMPOUND_INTEREST, ENGINE, principal, durationYears, EventOutcome.FAILURE);
+            throw e;
+        }
+    }
+
+    /**
+     * Calculates the compound interest; recorded by {@link #calculateCompoundInterest(BigDecimal, int, BigDecimal)}.
+     */
+    private BigDecimal computeCompoundInterest(BigDecimal principal, int durationYears, BigDecimal interestRate)
+            throws CalculationException {
+        validateInputs(principal, durationYears, interestRate);
+
+        long packedPrincipal = FixedPointMath.of(principal);
+        long growthFactor = growthFactor(rateCardFor(FixedPointMath.of(interestRate)), durationYears);
+        long finalAmount = FixedPointMath.multiply(packedPrincipal, growthFactor, PRECISION);
+
+        if (finalAmount == FixedPointMath.UNREPRESENTABLE) {
+            return super.calculateCompoundInterest(principal, durationYears, interestRate);
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Fixed-point compound interest result: {0}", FixedPointMath.toBigDecimal(finalAmount));
+        }
+        return FixedPointMath.toBigDecimal(finalAmount);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CalculationResult calculateEMI(BigDecimal principal, int durationYears, BigDecimal interestRate)
+            throws CalculationException {
+        CalculationEvent event = new CalculationEvent();
+        event.begin();
+        try {
+            CalculationResult result = computeEMI(principal, durationYears, interestRate);
+            event.complete(CalculationEvent.EMI, ENGINE, principal, durationYears, EventOutcome.SUCCESS);
+            return result;
+        } catch (RuntimeException e) {
+            event.complete(CalculationEvent.EMI, ENGINE, principal, durationYears, EventOutcome.FAILURE);
+            throw e;
+        }
+    }
+
+    /**
+     * Calculates the EMI; recorded by {@link #calculateEMI(BigDecimal, int, BigDecimal)}.
+     */
+    private CalculationResult computeEMI(BigDecimal principal, int durationYears, BigDecimal interestRate)
+            throws CalculationException {
+        validateInputs(principal, durationYears, interestRate);
+
+        long packedPrincipal = FixedPointMath.of(principal);
+        int totalMonths = durationYears * CalculationConstants.MONTHS_IN_YEAR;
+        long emiAmount = emiAmount(packedPrincipal, rateCardFor(FixedPointMath.of(interestRate)), durationYears);
+        long totalAmount = totalAmount(emiAmount, durationYears);
+
+        if (totalAmount == FixedPointMath.UNREPRESENTABLE || packedPrincipal == FixedPointMath.UNREPRESENTABLE) {
+            return super.calculateEMI(principal, durationYears, interestRate);
+        }
+
+        // Interest is negative only if rounding pushes the total below the principal
+        BigDecimal interestAmount;
+        long interest = FixedPointMath.subtract(totalAmount, packedPrincipal, PRECISION);
+        if (interest != FixedPointMath.UNREPRESENTABLE) {
+            interestAmount = FixedPointMath.toBigDecimal(interest);
+        } else {
+            interest = FixedPointMath.subtract(packedPrincipal, totalAmount, PRECISION);
+            if (interest == FixedPointMath.UNREPRESENTABLE) {
+                return super.calculateEMI(principal, durationYears, interestRate);
+            }
+            interestAmount = FixedPointMath.toBigDecimal(interest).negate();
+        }
+
+        CalculationResult result = new CalculationResult(FixedPointMath.toBigDecimal(emiAmount),
+                FixedPointMath.toBigDecimal(totalAmount), interestAmount, interestRate, totalMonths);
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(Level.FINE, "Fixed-point EMI calculation result: {0}", result);
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the EMI of a loan whose amounts are packed {@link FixedPointMath} values, creating no object other
+     * than the key of the annuity factor lookup once the factor and the monthly rate are known. The amounts are those of the {@link CalculationResult} that
+     * {@link #calculateEMI(BigDecimal, int, BigDecimal)} returns for the same values, rounded HALF_UP to cents.
+     * The inputs are not validated against the allowed ranges, and the calculation is not recorded as a
+     * {@link CalculationEvent}.
+     *
+     * @param principal The packed principal amount
+     * @param durationYears The loan duration in years
+     * @param interestRate The packed annual interest rate as a percentage
+     * @param cents Receives the EMI, the total amount and the interest amount in cents, in that order
+     * @return true if the amounts were calculated, false if an input or intermediate value is outside the packed
+     *         range, in which case {@link #calculateEMI(BigDecimal, int, BigDecimal)} must be used instead
+     * @throws IllegalArgumentException if durationYears is not positive
+     * @throws IndexOutOfBoundsException if cents has fewer than three elements
+     */
+    public boolean calculateEMICents(long principal, int durationYears, long interestRate, long[] cents) {
+        if (durationYears <= 0) {
+            throw new IllegalArgumentException("Loan duration must be greater than zero");
+        }
+        Objects.checkIndex(2, cents.length);
+
+        long emiAmount = emiAmount(principal, rateCardFor(interestRate), durationYears);
+        long totalAmount = totalAmount(emiAmount, durationYears);
+        if (totalAmount == FixedPointMath.UNREPRESENTABLE || principal == FixedPointMath.UNREPRESENTABLE) {
+            return false;
+        }
+
+        // Interest is negative only if rounding pushes the total below the principal
+        long interestCents;
+        long interest = FixedPointMath.subtract(totalAmount, principal, PRECISION);
+        if (interest != FixedPointMath.UNREPRESENTABLE) {
+            interestCents = FixedPointMath.unscaledValue(interest, CalculationConstants.CURRENCY_PRECISION);
+        } else {
+            interest = FixedPointMath.subtract(principal, totalAmount, PRECISION);
+            if (interest == FixedPointMath.UNREPRESENTABLE) {
+                return false;
+            }
+            interestCents = -FixedPointMath.unscaledValue(interest, CalculationConstants.CURRENCY_PRECISION);
+        }
+        // Amounts of more than 18 digits in cents, which only absurd rates produce, do not fit a long
+        long emiCents = FixedPointMath.unscaledValue(emiAmount, CalculationConstants.CURRENCY_PRECISION);
+        long totalCents = FixedPointMath.unscaledValue(totalAmount, CalculationConstants.CURRENCY_PRECISION);
+        if (emiCents == FixedPointMath.UNREPRESENTABLE || totalCents == FixedPointMath.UNREPRESENTABLE
+                || interestCents == FixedPointMath.UNREPRESENTABLE) {
+            return false;
+        }
+        cents[0] = emiCents;
+        cents[1] = totalCents;
+        cents[2] = interestCents;
+        return true;
+    }
+
+    /**
+     * Computes the packed EMI at calculation precision.
+     *
+     * @param principal The packed principal amount
+     * @param card The monthly rate of the interest rate
+     * @param durationYears The loan duration in years
+     * @return The packed EMI, or {@link FixedPointMath#UNREPRESENTABLE}
+     */
+    private long emiAmount(long principal, RateCard card, int durationYears) {
+        long monthlyRate = card.packedMonthlyRate;
+        if (monthlyRate == FixedPointMath.UNREPRESENTABLE
+                || durationYears > Integer.MAX_VALUE / CalculationConstants.MONTHS_IN_YEAR) {
+            return FixedPointMath.UNREPRESENTABLE;
+        }
+        if (FixedPointMath.isZero(monthlyRate)) {
+            return FixedPointMath.divide(principal, totalMonths(durationYears), PRECISION);
+        }
+        // EMI = [P × r × (1 + r)^n] / [(1 + r)^n - 1]
+        AnnuityFactorCache.AnnuityFactor factor = getAnnuityFactorCache().getFactor(card.monthlyRate,
+                durationYears * CalculationConstants.MONTHS_IN_YEAR);
+        long numerator = FixedPointMath.multiply(principal, monthlyRate, PRECISION);
+        numerator = FixedPointMath.multiply(numerator, factor.getPackedGrowthFactor(), PRECISION);
+        return FixedPointMath.divide(numerator, factor.getPackedDenominator(), PRECISION);
+    }
+
+    /**
+     * Computes the packed total amount repaid, the EMI times the number of installments.
+     *
+     * @param emiAmount The packed EMI
+     * @param durationYears The loan duration in years
+     * @return The packed total amount, or {@link FixedPointMath#UNREPRESENTABLE}
+     */
+    private static long totalAmount(long emiAmount, int durationYears) {
+        return FixedPointMath.multiply(emiAmount, totalMonths(durationYears), PRECISION);
+    }
+
+    /**
+     * Returns the packed number of monthly installments of the loan duration.
+     */
+    private static long totalMonths(int durationYears) {
+        return FixedPointMath.pack(durationYears * CalculationConstants.MONTHS_IN_YEAR, 0);
+    }
+
+    /**
+     * Converts an annual percentage rate into the packed monthly rate in decimal form (r/12/100).
+     *
+     * @param interestRate The packed annual interest rate as a percentage
+     * @return The packed monthly rate, or {@link FixedPointMath#UNREPRESENTABLE}
+     */
+    private static long toMonthlyRate(long interestRate) {
+        long annualRateDecimal = FixedPointMath.divide(interestRate, HUNDRED, PRECISION);
+        return FixedPointMath.divide(annualRateDecimal, PERIODS_PER_YEAR, PRECISION);
+    }
+
+    /**
+     * Returns the packed growth factor (1 + r)^n for the monthly rate over the loan duration.
+     *
+     * @param card The monthly rate of the interest rate
+     * @param durationYears The loan duration in years
+     * @return The packed growth factor, or {@link FixedPointMath#UNREPRESENTABLE}
+     */
+    private long growthFactor(RateCard card, int durationYears) {
+        if (card.packedMonthlyRate == FixedPointMath.UNREPRESENTABLE
+                || durationYears > Integer.MAX_VALUE / CalculationConstants.MONTHS_IN_YEAR) {
+            return FixedPointMath.UNREPRESENTABLE;
+        }
+        return getAnnuityFactorCache().getFactor(card.monthlyRate,
+                durationYears * CalculationConstants.MONTHS_IN_YEAR).getPackedGrowthFactor();
+    }
+
+    /**
+     * Returns the monthly rate of a packed interest rate, deriving it only if the rate differs from the last one.
+     */
+    private RateCard rateCardFor(long interestRate) {
+        RateCard card = rateCard;
+        if (card == null || card.interestRate != interestRate) {
+            card = new RateCard(interestRate);
+            rateCard = card;
+        }
+        return card;
+    }
+
+    /**
+     * Validates the input parameters for calculations.
+     *
+     * @param principal The principal amount
+     * @param durationYears The loan duration in years
+     * @param interestRate The annual interest rate
+     * @throws IllegalArgumentException if durationYears is not positive
+     * @throws NullPointerException if principal or interestRate is null
+     */
+    private static void validateInputs(BigDecimal principal, int durationYears, BigDecimal interestRate) {
+        Objects.requireNonNull(principal, "Principal amount cannot be null");
+        Objects.requireNonNull(interestRate, "Interest rate cannot be null");
+
+        if (durationYears <= 0) {
+            throw new IllegalArgumentException("Loan duration must be greater than zero");
+        }
+    }
+
+    /**
+     * A packed interest rate with its monthly rate, packed and as the key of the annuity factor cache. The key is
+     * derived with the same {@link BigDecimalUtils} operations as in {@link CalculationServiceImpl}, because packed
+     * division keeps trailing zeros that would make an equal rate miss the factors the other engines cached.
+     */
+    private static final class RateCard {
+
+        private final long interestRate;
+        private final long packedMonthlyRate;
+        private final BigDecimal monthlyRate;
+
+        RateCard(long interestRate) {
+            this.interestRate = interestRate;
+            this.packedMonthlyRate = toMonthlyRate(interestRate);
+            if (packedMonthlyRate == FixedPointMath.UNREPRESENTABLE) {
+                this.monthlyRate = null;
+            } else {
+                BigDecimal annualRateDecimal = BigDecimalUtils.percentageToDecimal(
+                        FixedPointMath.toBigDecimal(interestRate));
+                this.monthlyRate = BigDecimalUtils.divide(annualRateDecimal,
+                        new BigDecimal(CalculationConstants.MONTHS_IN_YEAR));
+            }
+        }
+    }
+}
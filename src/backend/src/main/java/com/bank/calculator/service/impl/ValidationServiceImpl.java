@@ -50,7 +50,8 @@ public class ValidationServiceImpl implements ValidationService {
     }
 
     /**
-     * Validates all inputs required for calculation.
+     * Validates all inputs required for calculation. A valid result carries the parsed
+     * {@link CalculationInput}, so the strings do not need to be parsed again.
      *
      * @param principalStr The principal amount as a string
      * @param durationStr The loan duration as a string
@@ -58,20 +59,7 @@ public class ValidationServiceImpl implements ValidationService {
      */
     @Override
     public ValidationResult validateAllInputs(String principalStr, String durationStr) {
-        // Validate principal amount
-        ValidationResult principalValidation = validatePrincipal(principalStr);
-        if (!principalValidation.isValid()) {
-            return principalValidation;
-        }
-        
-        // Validate loan duration
-        ValidationResult durationValidation = validateDuration(durationStr);
-        if (!durationValidation.isValid()) {
-            return durationValidation;
-        }
-        
-        // All validations passed
-        return ValidationResult.createValid();
+        return ValidationUtils.validateInputs(principalStr, durationStr);
     }
 
     /**
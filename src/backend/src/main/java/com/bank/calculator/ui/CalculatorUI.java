@@ -8,6 +8,7 @@ import javafx.scene.layout.BorderPane; // JavaFX 11
 import javafx.scene.layout.VBox; // JavaFX 11
 import javafx.stage.Stage; // JavaFX 11
 
+import java.util.concurrent.ScheduledExecutorService; // JDK 11
 import java.util.logging.Level; // JDK 11
 import java.util.logging.Logger; // JDK 11
 
@@ -32,6 +33,8 @@ public class CalculatorUI extends Application {
     private static final double MIN_HEIGHT = 400.0;
     private static final String CSS_PATH = "/css/application.css";
 
+    private ScheduledExecutorService calculationExecutor;
+
     /**
      * Main entry point for the JavaFX application
      *
@@ -41,6 +44,8 @@ public class CalculatorUI extends Application {
         try {
             // Configure application logging
             AppConfig.configureLogging();
+            AppConfig.registerMetrics();
+            AppConfig.startFlightRecording();
             LOGGER.info("Starting Compound Interest Calculator application");
             
             // Launch the JavaFX application
@@ -74,7 +79,9 @@ public class CalculatorUI extends Application {
             // Create UI components
             InputSection inputSection = new InputSection(validationService);
             ResultSection resultSection = new ResultSection();
-            ActionSection actionSection = new ActionSection(calculatorController, inputSection, resultSection);
+            calculationExecutor = AppConfig.createCalculationExecutor();
+            ActionSection actionSection = new ActionSection(calculatorController, inputSection, resultSection,
+                    calculationExecutor);
             
             // Create the main layout container
             BorderPane mainLayout = createMainLayout(inputSection, actionSection, resultSection);
@@ -111,7 +118,10 @@ public class CalculatorUI extends Application {
     @Override
     public void stop() throws Exception {
         LOGGER.info("Application shutting down");
-        // Perform any necessary cleanup operations
+        // Interrupt any calculation still running in the background
+        if (calculationExecutor != null) {
+            calculationExecutor.shutdownNow();
+        }
         super.stop();
     }
 
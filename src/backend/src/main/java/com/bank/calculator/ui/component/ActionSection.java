@@ -1,8 +1,14 @@
 package com.bank.calculator.ui.component;
 
+import javafx.application.Platform;  // JavaFX 11
+import javafx.beans.InvalidationListener;  // JavaFX 11
+import javafx.beans.property.BooleanProperty;  // JavaFX 11
+import javafx.concurrent.Task;  // JavaFX 11
 import javafx.fxml.FXML;  // JavaFX 11
 import javafx.fxml.FXMLLoader;  // JavaFX 11
 import javafx.scene.control.Button;  // JavaFX 11
+import javafx.scene.control.CheckBox;  // JavaFX 11
+import javafx.scene.control.ProgressIndicator;  // JavaFX 11
 import javafx.scene.layout.HBox;  // JavaFX 11
 import javafx.scene.control.Alert;  // JavaFX 11
 import javafx.scene.control.Alert.AlertType;  // JavaFX 11
@@ -10,38 +16,69 @@ import javafx.beans.binding.BooleanBinding;  // JavaFX 11
 import javafx.beans.binding.Bindings;  // JavaFX 11
 
 import java.util.Objects;  // JDK 11
+import java.util.concurrent.ScheduledExecutorService;  // JDK 11
 import java.util.logging.Logger;  // JDK 11
 import java.util.logging.Level;  // JDK 11
 import java.io.IOException;  // JDK 11
 
+import com.bank.calculator.config.AppConfig;
 import com.bank.calculator.controller.CalculatorController;
+import com.bank.calculator.controller.EmiPreviewScheduler;
 import com.bank.calculator.ui.component.InputSection;
 import com.bank.calculator.ui.component.ResultSection;
 import com.bank.calculator.model.CalculationResult;
 import com.bank.calculator.exception.ValidationException;
 import com.bank.calculator.exception.CalculationException;
+import com.bank.calculator.jfr.ComponentLoadEvent;
+import com.bank.calculator.jfr.EventOutcome;
+import com.bank.calculator.jfr.UiActionEvent;
+import com.bank.calculator.metrics.CalculatorMetrics;
 
 /**
  * UI component class that provides the action buttons section for the Compound Interest Calculator application.
  * This component contains the Calculate EMI and New Calculation buttons and handles their respective actions.
+ * <p>
+ * Calculations run as a {@link Task} on a calculation executor, never on the JavaFX application thread, and a
+ * progress indicator is shown while one is running. Starting a new calculation or a new calculation cycle
+ * cancels the running one, and only the result of the latest calculation is applied to the {@link ResultSection}.
+ * <p>
+ * With live preview selected, the EMI is recalculated as the inputs are typed, without pressing Calculate. Input
+ * changes are handed to an {@link EmiPreviewScheduler} on the same executor, which previews the first change of a
+ * burst at once and the final inputs when typing pauses, and discards previews overtaken by newer input; the JavaFX
+ * application thread only records the change.
  */
 public class ActionSection extends HBox {
     
     private final CalculatorController calculatorController;
     private final InputSection inputSection;
     private final ResultSection resultSection;
+    private final ScheduledExecutorService calculationExecutor;
+    private final EmiPreviewScheduler previewScheduler;
+    private final ProgressIndicator progressIndicator = new ProgressIndicator();
+    private final CheckBox livePreviewToggle = new CheckBox(LIVE_PREVIEW_TEXT);
+    
+    /**
+     * The latest calculation; only this task may update the result section. Accessed on the FX thread only.
+     */
+    private Task<CalculationResult> currentCalculation;
     
     private static final Logger LOGGER = Logger.getLogger(ActionSection.class.getName());
     private static final String FXML_PATH = "/fxml/action-section.fxml";
     private static final String ERROR_DIALOG_TITLE = "Calculation Error";
     private static final String GENERIC_ERROR_MESSAGE = "An error occurred during calculation. Please try again.";
+    private static final String PROGRESS_STYLE_CLASS = "calculation-progress";
+    private static final double PROGRESS_SIZE = 24.0;
+    private static final String LIVE_PREVIEW_TEXT = "Live preview";
+    private static final String LIVE_PREVIEW_STYLE_CLASS = "live-preview-toggle";
     
     @FXML private HBox rootContainer;
     @FXML private Button calculateButton;
     @FXML private Button newCalculationButton;
     
     /**
-     * Constructs a new ActionSection with the specified controller and related UI components.
+     * Constructs a new ActionSection with the specified controller and related UI components, running
+     * calculations on the application-wide executor from {@link AppConfig#getSharedCalculationExecutor()}, so that
+     * sections built this way never leave a thread of their own behind.
      *
      * @param calculatorController the controller for calculation operations
      * @param inputSection the input section component for getting user inputs
@@ -49,21 +86,44 @@ public class ActionSection extends HBox {
      * @throws NullPointerException if any of the parameters are null
      */
     public ActionSection(CalculatorController calculatorController, InputSection inputSection, ResultSection resultSection) {
+        this(calculatorController, inputSection, resultSection, AppConfig.getSharedCalculationExecutor());
+    }
+    
+    /**
+     * Constructs a new ActionSection with the specified controller, related UI components and the executor on
+     * which calculations run.
+     *
+     * @param calculatorController the controller for calculation operations
+     * @param inputSection the input section component for getting user inputs
+     * @param resultSection the result section component for displaying results
+     * @param calculationExecutor the executor running calculations and live previews off the JavaFX application thread
+     * @throws NullPointerException if any of the parameters are null
+     */
+    public ActionSection(CalculatorController calculatorController, InputSection inputSection, ResultSection resultSection,
+                         ScheduledExecutorService calculationExecutor) {
         Objects.requireNonNull(calculatorController, "CalculatorController cannot be null");
         Objects.requireNonNull(inputSection, "InputSection cannot be null");
         Objects.requireNonNull(resultSection, "ResultSection cannot be null");
+        Objects.requireNonNull(calculationExecutor, "Calculation executor cannot be null");
         
         this.calculatorController = calculatorController;
         this.inputSection = inputSection;
         this.resultSection = resultSection;
+        this.calculationExecutor = calculationExecutor;
+        this.previewScheduler = new EmiPreviewScheduler(calculatorController, calculationExecutor, Platform::runLater,
+                new ResultPreviewListener(), AppConfig.getPreviewDebounceMillis());
         
+        ComponentLoadEvent loadEvent = new ComponentLoadEvent();
+        loadEvent.begin();
         try {
             FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource(FXML_PATH));
             fxmlLoader.setController(this);
             fxmlLoader.setRoot(this);
             fxmlLoader.load();
+            loadEvent.complete(ActionSection.class, FXML_PATH, EventOutcome.SUCCESS);
             LOGGER.log(Level.INFO, "ActionSection component created successfully");
         } catch (IOException e) {
+            loadEvent.complete(ActionSection.class, FXML_PATH, EventOutcome.FAILURE);
             LOGGER.log(Level.SEVERE, "Failed to load ActionSection FXML", e);
             throw new RuntimeException("Could not initialize ActionSection component", e);
         }
@@ -79,59 +139,181 @@ public class ActionSection extends HBox {
         // Bind calculateButton's disable property to the negation of inputSection's inputsValidProperty
         calculateButton.disableProperty().bind(inputSection.getInputsValidProperty().not());
         
+        // Indeterminate progress shown only while a calculation is running; it takes no space when hidden
+        progressIndicator.getStyleClass().add(PROGRESS_STYLE_CLASS);
+        progressIndicator.setMaxSize(PROGRESS_SIZE, PROGRESS_SIZE);
+        progressIndicator.setVisible(false);
+        progressIndicator.managedProperty().bind(progressIndicator.visibleProperty());
+        getChildren().add(progressIndicator);
+        
+        // Live preview: a keystroke only records the inputs, the calculation happens on the calculation executor
+        livePreviewToggle.getStyleClass().add(LIVE_PREVIEW_STYLE_CLASS);
+        InvalidationListener inputListener = observable -> requestPreview();
+        inputSection.getPrincipalTextProperty().addListener(inputListener);
+        inputSection.getDurationTextProperty().addListener(inputListener);
+        livePreviewToggle.selectedProperty().addListener((obs, wasSelected, isSelected) -> {
+            if (isSelected) {
+                requestPreview();
+            } else {
+                previewScheduler.cancel();
+            }
+        });
+        getChildren().add(livePreviewToggle);
+        
         LOGGER.log(Level.INFO, "ActionSection initialized successfully");
     }
     
     /**
-     * Handles the Calculate EMI button click event.
+     * Handles the Calculate EMI button click event by starting a calculation in the background, superseding any
+     * calculation that is still running.
      */
     @FXML
     public void handleCalculateAction() {
+        long start = System.nanoTime();
+        UiActionEvent actionEvent = new UiActionEvent();
+        actionEvent.begin();
         LOGGER.log(Level.INFO, "Calculate button clicked - attempting calculation");
         
+        // Get input values on the FX thread; the task must not touch the UI
+        String principalAmount = inputSection.getPrincipalAmount();
+        String duration = inputSection.getDuration();
+        
         // Validate inputs before proceeding
         if (!inputSection.validateInputs()) {
             LOGGER.log(Level.INFO, "Input validation failed, calculation aborted");
+            CalculatorMetrics.UI_ACTION.recordFailure(start);
+            actionEvent.complete(UiActionEvent.CALCULATE, principalAmount, duration, EventOutcome.INVALID);
             return;
         }
         
-        // Get input values
-        String principalAmount = inputSection.getPrincipalAmount();
-        String duration = inputSection.getDuration();
+        cancelCurrentCalculation();
+        // The explicit result takes precedence over a preview of the same inputs
+        previewScheduler.cancel();
         
-        try {
-            // Perform calculation
-            CalculationResult result = calculatorController.calculateEMI(principalAmount, duration);
-            
-            // Display result
-            resultSection.displayResult(result);
-            
-            LOGGER.log(Level.INFO, "EMI calculation completed successfully: {0}", result.getEmiAmount());
-        } catch (ValidationException e) {
-            showErrorDialog(e.getMessage());
-            LOGGER.log(Level.WARNING, "Validation error during calculation", e);
-        } catch (CalculationException e) {
-            showErrorDialog(e.getMessage());
-            LOGGER.log(Level.WARNING, "Calculation error", e);
-        } catch (Exception e) {
+        Task<CalculationResult> calculation = new Task<>() {
+            @Override
+            protected CalculationResult call() {
+                return calculatorController.calculateEMI(principalAmount, duration);
+            }
+        };
+        // Handlers run on the FX thread; a superseded task is ignored even if it completed before being cancelled
+        calculation.setOnSucceeded(event -> {
+            if (calculation == currentCalculation) {
+                CalculationResult result = calculation.getValue();
+                finishCalculation();
+                resultSection.displayResult(result);
+                CalculatorMetrics.UI_ACTION.record(start);
+                actionEvent.complete(UiActionEvent.CALCULATE, principalAmount, duration, EventOutcome.SUCCESS);
+                LOGGER.log(Level.INFO, "EMI calculation completed successfully: {0}", result.getEmiAmount());
+            } else {
+                actionEvent.complete(UiActionEvent.CALCULATE, principalAmount, duration, EventOutcome.CANCELLED);
+            }
+        });
+        calculation.setOnFailed(event -> {
+            if (calculation == currentCalculation) {
+                finishCalculation();
+                CalculatorMetrics.UI_ACTION.recordFailure(start);
+                actionEvent.complete(UiActionEvent.CALCULATE, principalAmount, duration, EventOutcome.FAILURE);
+                handleCalculationFailure(calculation.getException());
+            } else {
+                actionEvent.complete(UiActionEvent.CALCULATE, principalAmount, duration, EventOutcome.CANCELLED);
+            }
+        });
+        calculation.setOnCancelled(event ->
+                actionEvent.complete(UiActionEvent.CALCULATE, principalAmount, duration, EventOutcome.CANCELLED));
+        
+        currentCalculation = calculation;
+        progressIndicator.setVisible(true);
+        calculationExecutor.execute(calculation);
+    }
+    
+    /**
+     * Reports a failed calculation to the user.
+     *
+     * @param error the exception thrown by the calculation
+     */
+    private void handleCalculationFailure(Throwable error) {
+        if (error instanceof ValidationException) {
+            showErrorDialog(error.getMessage());
+            LOGGER.log(Level.WARNING, "Validation error during calculation", error);
+        } else if (error instanceof CalculationException) {
+            showErrorDialog(error.getMessage());
+            LOGGER.log(Level.WARNING, "Calculation error", error);
+        } else {
             showErrorDialog(GENERIC_ERROR_MESSAGE);
-            LOGGER.log(Level.SEVERE, "Unexpected error during calculation", e);
+            LOGGER.log(Level.SEVERE, "Unexpected error during calculation", error);
         }
     }
     
+    /**
+     * Cancels the running calculation, if any, so that its result is never displayed.
+     */
+    private void cancelCurrentCalculation() {
+        if (currentCalculation != null) {
+            if (currentCalculation.cancel(true)) {
+                LOGGER.log(Level.INFO, "Superseded calculation cancelled");
+            }
+            finishCalculation();
+        }
+    }
+    
+    /**
+     * Forgets the current calculation and hides the progress indicator.
+     */
+    private void finishCalculation() {
+        currentCalculation = null;
+        progressIndicator.setVisible(false);
+    }
+    
+    /**
+     * Returns whether a calculation is running or waiting to run.
+     *
+     * @return true if a calculation is in progress, false otherwise
+     */
+    public boolean isCalculating() {
+        return currentCalculation != null;
+    }
+    
+    /**
+     * Requests a live preview of the current inputs if live preview is selected.
+     */
+    private void requestPreview() {
+        if (livePreviewToggle.isSelected()) {
+            previewScheduler.inputChanged(inputSection.getPrincipalAmount(), inputSection.getDuration());
+        }
+    }
+    
+    /**
+     * Gets the property that tracks whether the EMI is previewed while the inputs are typed.
+     *
+     * @return the live preview property
+     */
+    public BooleanProperty getLivePreviewProperty() {
+        return livePreviewToggle.selectedProperty();
+    }
+    
     /**
      * Handles the New Calculation button click event.
      */
     @FXML
     public void handleNewCalculationAction() {
+        long start = System.nanoTime();
+        UiActionEvent actionEvent = new UiActionEvent();
+        actionEvent.begin();
         LOGGER.log(Level.INFO, "New Calculation button clicked");
         
+        // A calculation still running for the previous inputs must not fill the cleared result
+        cancelCurrentCalculation();
+        previewScheduler.cancel();
+        
         // Clear input fields
         inputSection.clearInputs();
         
         // Clear result display
         resultSection.clearResult();
         
+        CalculatorMetrics.UI_ACTION.record(start);
+        actionEvent.complete(UiActionEvent.NEW_CALCULATION, null, null, EventOutcome.SUCCESS);
         LOGGER.log(Level.INFO, "Application reset for new calculation");
     }
     
@@ -148,4 +330,25 @@ public class ActionSection extends HBox {
         
         LOGGER.log(Level.INFO, "Error dialog displayed: {0}", message);
     }
-}
\ No newline at end of file
+    
+    /**
+     * Shows live previews in the result section, called on the JavaFX application thread.
+     */
+    private final class ResultPreviewListener implements EmiPreviewScheduler.PreviewListener {
+        
+        @Override
+        public void onPreview(CalculationResult result) {
+            // An explicit calculation in flight will show its own result
+            if (livePreviewToggle.isSelected() && currentCalculation == null) {
+                resultSection.displayResult(result);
+            }
+        }
+        
+        @Override
+        public void onPreviewUnavailable() {
+            if (livePreviewToggle.isSelected() && currentCalculation == null) {
+                resultSection.clearResult();
+            }
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.bank.calculator.service.ValidationService;
 import com.bank.calculator.model.ValidationResult;
 import com.bank.calculator.ui.validator.InputValidator;
 import com.bank.calculator.ui.dialog.HelpDialog;
+import com.bank.calculator.jfr.ComponentLoadEvent;
+import com.bank.calculator.jfr.EventOutcome;
 
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.FXML;
@@ -14,6 +16,7 @@ import javafx.scene.text.Text;
 import javafx.scene.input.MouseEvent;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.StringProperty;
 
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -51,13 +54,17 @@ public class InputSection extends VBox {
         Objects.requireNonNull(validationService, "ValidationService cannot be null");
         this.validationService = validationService;
         
+        ComponentLoadEvent loadEvent = new ComponentLoadEvent();
+        loadEvent.begin();
         try {
             FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource(FXML_PATH));
             fxmlLoader.setController(this);
             fxmlLoader.setRoot(this);
             fxmlLoader.load();
+            loadEvent.complete(InputSection.class, FXML_PATH, EventOutcome.SUCCESS);
             LOGGER.log(Level.INFO, "InputSection component created successfully");
         } catch (IOException e) {
+            loadEvent.complete(InputSection.class, FXML_PATH, EventOutcome.FAILURE);
             LOGGER.log(Level.SEVERE, "Failed to load InputSection FXML", e);
             throw new RuntimeException("Could not initialize InputSection component", e);
         }
@@ -140,6 +147,24 @@ public class InputSection extends VBox {
         return durationField.getText();
     }
     
+    /**
+     * Gets the text property of the principal amount field, which changes with every keystroke.
+     *
+     * @return the principal amount text property
+     */
+    public StringProperty getPrincipalTextProperty() {
+        return principalField.textProperty();
+    }
+    
+    /**
+     * Gets the text property of the loan duration field, which changes with every keystroke.
+     *
+     * @return the loan duration text property
+     */
+    public StringProperty getDurationTextProperty() {
+        return durationField.textProperty();
+    }
+    
     /**
      * Clears all input fields and error messages.
      */
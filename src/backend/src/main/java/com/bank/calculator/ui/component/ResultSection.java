@@ -10,6 +10,8 @@ import java.io.IOException;  // JDK 11
 import java.util.logging.Logger;  // JDK 11
 import java.util.logging.Level;  // JDK 11
 
+import com.bank.calculator.jfr.ComponentLoadEvent;
+import com.bank.calculator.jfr.EventOutcome;
 import com.bank.calculator.model.CalculationResult;
 
 /**
@@ -43,13 +45,17 @@ public class ResultSection extends VBox {
      * Constructs a new ResultSection and loads its FXML layout.
      */
     public ResultSection() {
+        ComponentLoadEvent loadEvent = new ComponentLoadEvent();
+        loadEvent.begin();
         FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource(FXML_PATH));
         fxmlLoader.setController(this);
         
         try {
             fxmlLoader.load();
+            loadEvent.complete(ResultSection.class, FXML_PATH, EventOutcome.SUCCESS);
             LOGGER.info("ResultSection component created successfully");
         } catch (IOException e) {
+            loadEvent.complete(ResultSection.class, FXML_PATH, EventOutcome.FAILURE);
             LOGGER.log(Level.SEVERE, "Failed to load FXML file: " + FXML_PATH, e);
             throw new RuntimeException("Failed to load ResultSection component", e);
         }
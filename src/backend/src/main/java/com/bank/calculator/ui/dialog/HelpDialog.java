@@ -1,6 +1,8 @@
 package com.bank.calculator.ui.dialog;
 
 import com.bank.calculator.constant.ErrorMessages;
+import com.bank.calculator.jfr.ComponentLoadEvent;
+import com.bank.calculator.jfr.EventOutcome;
 
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -53,10 +55,13 @@ public class HelpDialog extends Dialog<Void> {
         super();
         setTitle(ErrorMessages.HELP_DIALOG_TITLE);
         
+        ComponentLoadEvent loadEvent = new ComponentLoadEvent();
+        loadEvent.begin();
         try {
             FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource(FXML_PATH));
             fxmlLoader.setController(this);
             DialogPane dialogPane = fxmlLoader.load();
+            loadEvent.complete(HelpDialog.class, FXML_PATH, EventOutcome.SUCCESS);
             setDialogPane(dialogPane);
             getDialogPane().getButtonTypes().add(ButtonType.OK);
             
@@ -71,6 +76,7 @@ public class HelpDialog extends Dialog<Void> {
             setResizable(true);
             LOGGER.info("HelpDialog created successfully");
         } catch (IOException e) {
+            loadEvent.complete(HelpDialog.class, FXML_PATH, EventOutcome.FAILURE);
             LOGGER.log(Level.SEVERE, "Failed to load help dialog FXML", e);
             throw new RuntimeException("Could not initialize help dialog", e);
         }
@@ -1,20 +1,26 @@
 package com.bank.calculator.util;
 
 import java.math.BigDecimal;         // JDK 11
-import java.text.NumberFormat;       // JDK 11
+import java.math.BigInteger;         // JDK 11
+import java.math.RoundingMode;       // JDK 11
 import java.util.Currency;           // JDK 11
-import java.util.Locale;             // JDK 11
 import java.util.Objects;            // JDK 11
 import java.util.regex.Pattern;      // JDK 11
 import java.util.regex.Matcher;      // JDK 11
 
 import com.bank.calculator.constant.CalculationConstants;    // Internal import
+import com.bank.calculator.metrics.CalculatorMetrics;        // Internal import
 import com.bank.calculator.util.BigDecimalUtils;             // Internal import
 
 /**
  * Utility class providing methods for currency formatting, parsing, and validation in the Compound Interest Calculator application.
  * This class ensures consistent currency representation across the application,
  * handling USD formatting with appropriate symbols and decimal precision.
+ * <p>
+ * Formatting produces exactly the output of {@code NumberFormat.getCurrencyInstance(Locale.US)} but holds no
+ * shared mutable state, so every method is safe to call from any number of threads. The {@code appendCurrency}
+ * and {@code formatCurrency} methods write into a caller-supplied {@link StringBuilder} or {@code char[]} and
+ * do not allocate for amounts given in cents.
  */
 public final class CurrencyUtils {
 
@@ -25,9 +31,18 @@ public final class CurrencyUtils {
     private static final Pattern CURRENCY_PATTERN = Pattern.compile("^\\$?(\\d+(\\.\\d{1,2})?)$");
 
     /**
-     * NumberFormat instance for USD currency formatting.
+     * Maximum number of characters written by {@link #formatCurrency(long, char[], int)}, reached by
+     * {@code -$92,233,720,368,547,758.08}.
      */
-    private static final NumberFormat CURRENCY_FORMAT = NumberFormat.getCurrencyInstance(Locale.US);
+    public static final int MAX_CENTS_CURRENCY_LENGTH = 27;
+
+    private static final char CURRENCY_SIGN = '$';
+    private static final char MINUS_SIGN = '-';
+    private static final char GROUPING_SEPARATOR = ',';
+    private static final char DECIMAL_SEPARATOR = '.';
+    private static final int GROUPING_SIZE = 3;
+    private static final int CENTS_DIGITS = 2;
+    private static final int CENTS_PER_UNIT = 100;
 
     /**
      * Private constructor to prevent instantiation of this utility class.
@@ -45,8 +60,86 @@ public final class CurrencyUtils {
      */
     public static String formatAsCurrency(BigDecimal value) {
         Objects.requireNonNull(value, "Value cannot be null");
+        long start = System.nanoTime();
         BigDecimal roundedValue = BigDecimalUtils.roundForCurrency(value);
-        return CURRENCY_FORMAT.format(roundedValue);
+        String formatted = appendCurrency(new StringBuilder(MAX_CENTS_CURRENCY_LENGTH), roundedValue).toString();
+        CalculatorMetrics.FORMAT.record(start);
+        return formatted;
+    }
+
+    /**
+     * Appends an amount formatted as a USD currency string, such as {@code -$1,234.50}, to the builder.
+     * The amount is not rounded with {@link BigDecimalUtils#roundForCurrency}; like
+     * {@code NumberFormat.getCurrencyInstance(Locale.US)}, any digits beyond the cents are rounded HALF_EVEN and a
+     * negative amount that rounds to zero is written as {@code -$0.00}.
+     *
+     * @param destination The builder to append to
+     * @param amount The amount to format
+     * @return The destination builder
+     * @throws NullPointerException if destination or amount is null
+     */
+    public static StringBuilder appendCurrency(StringBuilder destination, BigDecimal amount) {
+        Objects.requireNonNull(destination, "Destination cannot be null");
+        Objects.requireNonNull(amount, "Amount cannot be null");
+
+        BigInteger cents = amount.setScale(CENTS_DIGITS, RoundingMode.HALF_EVEN).unscaledValue();
+        boolean negative = amount.signum() < 0;
+        if (cents.bitLength() < Long.SIZE) {
+            long value = cents.longValue();
+            return appendCurrency(destination, negative, value > 0 ? -value : value);
+        }
+
+        // Beyond the range of a long; the digits are grouped from the decimal string instead
+        String digits = cents.abs().toString();
+        int integerDigits = digits.length() - CENTS_DIGITS;
+        if (negative) {
+            destination.append(MINUS_SIGN);
+        }
+        destination.append(CURRENCY_SIGN);
+        for (int i = 0; i < integerDigits; i++) {
+            if (i > 0 && (integerDigits - i) % GROUPING_SIZE == 0) {
+                destination.append(GROUPING_SEPARATOR);
+            }
+            destination.append(digits.charAt(i));
+        }
+        return destination.append(DECIMAL_SEPARATOR).append(digits, integerDigits, digits.length());
+    }
+
+    /**
+     * Appends an amount of cents formatted as a USD currency string, such as {@code -$1,234.50}, to the builder.
+     *
+     * @param destination The builder to append to
+     * @param cents The amount in cents
+     * @return The destination builder
+     * @throws NullPointerException if destination is null
+     */
+    public static StringBuilder appendCurrency(StringBuilder destination, long cents) {
+        Objects.requireNonNull(destination, "Destination cannot be null");
+        // Magnitudes are handled as negative values so that Long.MIN_VALUE needs no special case
+        return appendCurrency(destination, cents < 0, cents > 0 ? -cents : cents);
+    }
+
+    /**
+     * Writes an amount of cents formatted as a USD currency string, such as {@code -$1,234.50}, into the array.
+     * At most {@link #MAX_CENTS_CURRENCY_LENGTH} characters are written.
+     *
+     * @param cents The amount in cents
+     * @param destination The array to write to
+     * @param offset The index of the first character to write
+     * @return The index just after the last character written
+     * @throws NullPointerException if destination is null
+     * @throws IndexOutOfBoundsException if the formatted amount does not fit in the array at the offset
+     */
+    public static int formatCurrency(long cents, char[] destination, int offset) {
+        Objects.requireNonNull(destination, "Destination cannot be null");
+        long negated = cents > 0 ? -cents : cents;
+        int length = currencyLength(cents < 0, negated);
+        if (offset < 0 || offset > destination.length - length) {
+            throw new IndexOutOfBoundsException("Formatted amount of " + length + " characters does not fit at offset "
+                    + offset + " of an array of length " + destination.length);
+        }
+        writeCurrency(cents < 0, negated, destination, null, offset + length);
+        return offset + length;
     }
 
     /**
@@ -128,6 +221,75 @@ public final class CurrencyUtils {
         }
     }
 
+    /**
+     * Appends a formatted amount by growing the builder and writing the characters in place.
+     *
+     * @param negative Whether a minus sign is written
+     * @param negatedCents The magnitude of the amount in cents, negated
+     */
+    private static StringBuilder appendCurrency(StringBuilder destination, boolean negative, long negatedCents) {
+        int end = destination.length() + currencyLength(negative, negatedCents);
+        destination.setLength(end);
+        writeCurrency(negative, negatedCents, null, destination, end);
+        return destination;
+    }
+
+    /**
+     * Returns the number of characters of a formatted amount.
+     *
+     * @param negative Whether a minus sign is written
+     * @param negatedCents The magnitude of the amount in cents, negated
+     */
+    private static int currencyLength(boolean negative, long negatedCents) {
+        int integerDigits = 1;
+        for (long units = negatedCents / CENTS_PER_UNIT; units <= -10; units /= 10) {
+            integerDigits++;
+        }
+        int separators = (integerDigits - 1) / GROUPING_SIZE;
+        return (negative ? 1 : 0) + 1 + integerDigits + separators + 1 + CENTS_DIGITS;
+    }
+
+    /**
+     * Writes a formatted amount backwards, ending just before the specified index, into either the array or,
+     * when the array is null, the builder.
+     *
+     * @param negative Whether a minus sign is written
+     * @param negatedCents The magnitude of the amount in cents, negated
+     */
+    private static void writeCurrency(boolean negative, long negatedCents, char[] array, StringBuilder builder,
+                                      int end) {
+        int index = end;
+        long remaining = negatedCents;
+        for (int i = 0; i < CENTS_DIGITS; i++) {
+            put(array, builder, --index, (char) ('0' - remaining % 10));
+            remaining /= 10;
+        }
+        put(array, builder, --index, DECIMAL_SEPARATOR);
+
+        int digits = 0;
+        do {
+            if (digits > 0 && digits % GROUPING_SIZE == 0) {
+                put(array, builder, --index, GROUPING_SEPARATOR);
+            }
+            put(array, builder, --index, (char) ('0' - remaining % 10));
+            remaining /= 10;
+            digits++;
+        } while (remaining != 0);
+
+        put(array, builder, --index, CURRENCY_SIGN);
+        if (negative) {
+            put(array, builder, --index, MINUS_SIGN);
+        }
+    }
+
+    private static void put(char[] array, StringBuilder builder, int index, char c) {
+        if (array != null) {
+            array[index] = c;
+        } else {
+            builder.setCharAt(index, c);
+        }
+    }
+
     /**
      * Removes currency symbols, commas, and whitespace from a currency string.
      *
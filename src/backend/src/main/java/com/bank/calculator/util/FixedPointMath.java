@@ -0,0 +1,454 @@
+package com.bank.calculator.util;
+
+import java.math.BigDecimal;    // JDK 11
+import java.util.Objects;       // JDK 11
+
+/**
+ * Allocation-free decimal arithmetic on non-negative values packed into a single {@code long}.
+ * <p>
+ * A packed value holds an unscaled mantissa of at most {@value #MAX_DIGITS} digits in the upper bits and a
+ * signed 8-bit decimal scale in the low byte, so it represents {@code mantissa × 10^-scale} exactly like a
+ * {@link BigDecimal} with a compact unscaled value. Every operation computes the exact result and then rounds it
+ * HALF_UP to the requested number of significant digits, which is precisely what {@link BigDecimal} does with a
+ * {@link java.math.MathContext} of the same precision. Chaining the same operations as
+ * {@link BigDecimalUtils} therefore yields numerically identical results without allocating.
+ * <p>
+ * Products of two mantissas can reach 32 digits. They are held exactly in two base-10<sup>16</sup> limbs built
+ * from 10<sup>8</sup> partial products, which keeps all intermediate values within a signed {@code long} and makes
+ * decimal rounding a matter of integer division by a power of ten.
+ * <p>
+ * Any operation whose operands or result fall outside the representable range returns {@link #UNREPRESENTABLE},
+ * and every operation propagates that marker, so callers only need to check the final value and fall back to
+ * {@link BigDecimal} arithmetic when it is returned.
+ */
+public final class FixedPointMath {
+
+    /**
+     * Marker returned when a value cannot be represented; never a valid packed value.
+     */
+    public static final long UNREPRESENTABLE = -1L;
+
+    /**
+     * Maximum number of mantissa digits of a packed value.
+     */
+    public static final int MAX_DIGITS = 16;
+
+    /**
+     * The packed value one.
+     */
+    public static final long ONE = pack(1L, 0);
+
+    private static final int SCALE_BITS = 8;
+    private static final long SCALE_MASK = 0xFFL;
+    private static final long LIMB = 100_000_000L;
+    private static final long LIMB_SQUARED = LIMB * LIMB;
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        long power = 1L;
+        for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= 10L;
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private FixedPointMath() {
+        throw new AssertionError("FixedPointMath class should not be instantiated");
+    }
+
+    /**
+     * Packs a mantissa and scale into a single value.
+     *
+     * @param mantissa The non-negative unscaled value of at most {@value #MAX_DIGITS} digits
+     * @param scale The decimal scale
+     * @return The packed value, or {@link #UNREPRESENTABLE} if the mantissa or scale is out of range
+     */
+    public static long pack(long mantissa, int scale) {
+        if (mantissa < 0 || mantissa >= LIMB_SQUARED || scale < Byte.MIN_VALUE || scale > Byte.MAX_VALUE) {
+            return UNREPRESENTABLE;
+        }
+        return (mantissa << SCALE_BITS) | (scale & SCALE_MASK);
+    }
+
+    /**
+     * Returns the unscaled mantissa of a packed value.
+     *
+     * @param value The packed value
+     * @return The mantissa
+     */
+    public static long mantissa(long value) {
+        return value >>> SCALE_BITS;
+    }
+
+    /**
+     * Returns the decimal scale of a packed value.
+     *
+     * @param value The packed value
+     * @return The scale
+     */
+    public static int scale(long value) {
+        return (byte) value;
+    }
+
+    /**
+     * Returns whether a packed value is zero.
+     *
+     * @param value The packed value
+     * @return true if the value is zero, false otherwise
+     */
+    public static boolean isZero(long value) {
+        return mantissa(value) == 0L;
+    }
+
+    /**
+     * Converts a BigDecimal into a packed value.
+     *
+     * @param value The value to convert
+     * @return The packed value, or {@link #UNREPRESENTABLE} if the value is negative or has too many digits
+     * @throws NullPointerException if value is null
+     */
+    public static long of(BigDecimal value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        if (value.signum() < 0 || value.precision() > MAX_DIGITS) {
+            return UNREPRESENTABLE;
+        }
+        return pack(value.unscaledValue().longValue(), value.scale());
+    }
+
+    /**
+     * Converts a packed value into a BigDecimal.
+     *
+     * @param value The packed value
+     * @return The BigDecimal with the same mantissa and scale
+     * @throws ArithmeticException if value is {@link #UNREPRESENTABLE}
+     */
+    public static BigDecimal toBigDecimal(long value) {
+        if (value < 0) {
+            throw new ArithmeticException("Value is not representable");
+        }
+        return BigDecimal.valueOf(mantissa(value), scale(value));
+    }
+
+    /**
+     * Multiplies two packed values and rounds the product HALF_UP to the specified precision.
+     *
+     * @param multiplicand The first value
+     * @param multiplier The value to multiply by
+     * @param precision The number of significant digits of the result
+     * @return The rounded product, or {@link #UNREPRESENTABLE}
+     */
+    public static long multiply(long multiplicand, long multiplier, int precision) {
+        if ((multiplicand | multiplier) < 0) {
+            return UNREPRESENTABLE;
+        }
+        long a = mantissa(multiplicand);
+        long b = mantissa(multiplier);
+        long aHigh = a / LIMB;
+        long aLow = a % LIMB;
+        long bHigh = b / LIMB;
+        long bLow = b % LIMB;
+
+        long cross = aHigh * bLow + aLow * bHigh;
+        long low = aLow * bLow + (cross % LIMB) * LIMB;
+        long high = aHigh * bHigh + cross / LIMB + low / LIMB_SQUARED;
+        low %= LIMB_SQUARED;
+
+        return round(high, low, scale(multiplicand) + scale(multiplier), precision);
+    }
+
+    /**
+     * Divides one packed value by another and rounds the quotient HALF_UP to the specified precision.
+     *
+     * @param dividend The value to be divided
+     * @param divisor The value to divide by
+     * @param precision The number of significant digits of the result
+     * @return The rounded quotient, or {@link #UNREPRESENTABLE} if the divisor is zero
+     */
+    public static long divide(long dividend, long divisor, int precision) {
+        if ((dividend | divisor) < 0 || isZero(divisor)) {
+            return UNREPRESENTABLE;
+        }
+        long a = mantissa(dividend);
+        long b = mantissa(divisor);
+        int scale = scale(dividend) - scale(divisor);
+        if (a == 0L) {
+            return pack(0L, 0);
+        }
+
+        // Long division producing exactly one digit beyond the requested precision; the HALF_UP
+        // decision depends only on that first discarded digit, never on the remainder after it
+        long quotient = a / b;
+        long remainder = a % b;
+        while (digitCount(quotient) <= precision) {
+            remainder *= 10L;
+            quotient = quotient * 10L + remainder / b;
+            remainder %= b;
+            scale++;
+        }
+        int excess = digitCount(quotient) - (precision + 1);
+        if (excess > 0) {
+            quotient /= POWERS_OF_TEN[excess];
+            scale -= excess;
+        }
+        return roundLastDigit(quotient, scale, precision);
+    }
+
+    /**
+     * Adds two packed values and rounds the sum HALF_UP to the specified precision.
+     *
+     * @param augend The first value
+     * @param addend The value to add
+     * @param precision The number of significant digits of the result
+     * @return The rounded sum, or {@link #UNREPRESENTABLE}
+     */
+    public static long add(long augend, long addend, int precision) {
+        return addOrSubtract(augend, addend, false, precision);
+    }
+
+    /**
+     * Subtracts one packed value from another and rounds the difference HALF_UP to the specified precision.
+     *
+     * @param minuend The value to subtract from
+     * @param subtrahend The value to subtract
+     * @param precision The number of significant digits of the result
+     * @return The rounded difference, or {@link #UNREPRESENTABLE} if it would be negative
+     */
+    public static long subtract(long minuend, long subtrahend, int precision) {
+        return addOrSubtract(minuend, subtrahend, true, precision);
+    }
+
+    /**
+     * Raises a packed value to a positive integer power using the algorithm of
+     * {@link BigDecimal#pow(int, java.math.MathContext)}: binary exponentiation at a working precision of
+     * {@code precision + digits(exponent) + 1}, followed by a final rounding to the requested precision.
+     *
+     * @param base The base value
+     * @param exponent The positive exponent
+     * @param precision The number of significant digits of the result
+     * @return The rounded power, or {@link #UNREPRESENTABLE}
+     */
+    public static long pow(long base, int exponent, int precision) {
+        if (base < 0 || exponent <= 0) {
+            return UNREPRESENTABLE;
+        }
+        int workingPrecision = precision + digitCount(exponent) + 1;
+        if (workingPrecision > MAX_DIGITS) {
+            return UNREPRESENTABLE;
+        }
+
+        long accumulator = ONE;
+        int magnitude = exponent;
+        boolean seenBit = false;
+        for (int i = 1; ; i++) {
+            magnitude += magnitude;
+            if (magnitude < 0) {
+                seenBit = true;
+                accumulator = multiply(accumulator, base, workingPrecision);
+            }
+            if (i == 31) {
+                break;
+            }
+            if (seenBit) {
+                accumulator = multiply(accumulator, accumulator, workingPrecision);
+            }
+        }
+        if (accumulator < 0) {
+            return UNREPRESENTABLE;
+        }
+        return round(0L, mantissa(accumulator), scale(accumulator), precision);
+    }
+
+    /**
+     * Rounds a packed value HALF_UP to the specified precision.
+     *
+     * @param value The packed value
+     * @param precision The number of significant digits of the result
+     * @return The rounded value, or {@link #UNREPRESENTABLE}
+     */
+    public static long round(long value, int precision) {
+        if (value < 0) {
+            return UNREPRESENTABLE;
+        }
+        return round(0L, mantissa(value), scale(value), precision);
+    }
+
+    /**
+     * Rounds a packed value HALF_UP to the specified scale and returns its unscaled value, such as the number of
+     * cents of an amount for a scale of 2, like {@code setScale(scale, RoundingMode.HALF_UP).unscaledValue()}.
+     *
+     * @param value The packed value
+     * @param scale The decimal scale to round to
+     * @return The unscaled value, or {@link #UNREPRESENTABLE} if it has more than 18 digits
+     */
+    public static long unscaledValue(long value, int scale) {
+        if (value < 0) {
+            return UNREPRESENTABLE;
+        }
+        long mantissa = mantissa(value);
+        int shift = scale - scale(value);
+        if (shift >= 0) {
+            if (mantissa == 0L) {
+                return 0L;
+            }
+            if (digitCount(mantissa) + shift >= POWERS_OF_TEN.length) {
+                return UNREPRESENTABLE;
+            }
+            return mantissa * POWERS_OF_TEN[shift];
+        }
+        if (-shift > MAX_DIGITS) {
+            // The mantissa has at most MAX_DIGITS digits, so the value is below half a unit
+            return 0L;
+        }
+        long divisor = POWERS_OF_TEN[-shift];
+        long unscaled = mantissa / divisor;
+        return mantissa % divisor >= divisor / 2 ? unscaled + 1 : unscaled;
+    }
+
+    /**
+     * Compares two packed values numerically.
+     *
+     * @param left The first value
+     * @param right The second value
+     * @return a negative number, zero or a positive number as left is less than, equal to or greater than right
+     */
+    public static int compare(long left, long right) {
+        if (mantissa(left) == 0L || mantissa(right) == 0L) {
+            return Long.compare(mantissa(left), mantissa(right));
+        }
+        // Compare magnitudes first: the adjusted exponent is (digits - 1 - scale)
+        int leftExponent = digitCount(mantissa(left)) - scale(left);
+        int rightExponent = digitCount(mantissa(right)) - scale(right);
+        if (leftExponent != rightExponent) {
+            return Integer.compare(leftExponent, rightExponent);
+        }
+        int shift = scale(left) - scale(right);
+        long a = mantissa(left);
+        long b = mantissa(right);
+        // Same exponent, so aligning the shorter mantissa cannot exceed MAX_DIGITS digits
+        if (shift > 0) {
+            b *= POWERS_OF_TEN[shift];
+        } else if (shift < 0) {
+            a *= POWERS_OF_TEN[-shift];
+        }
+        return Long.compare(a, b);
+    }
+
+    /**
+     * Returns the number of decimal digits of a non-negative value, counting zero as one digit.
+     *
+     * @param value The value
+     * @return The number of digits
+     */
+    public static int digitCount(long value) {
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Adds or subtracts two packed values exactly in two limbs and rounds the result.
+     */
+    private static long addOrSubtract(long left, long right, boolean subtract, int precision) {
+        if ((left | right) < 0) {
+            return UNREPRESENTABLE;
+        }
+        int scale = Math.max(scale(left), scale(right));
+        int leftShift = scale - scale(left);
+        int rightShift = scale - scale(right);
+        long leftMantissa = mantissa(left);
+        long rightMantissa = mantissa(right);
+        if (digitCount(leftMantissa) + leftShift > 2 * MAX_DIGITS
+                || digitCount(rightMantissa) + rightShift > 2 * MAX_DIGITS) {
+            return UNREPRESENTABLE;
+        }
+
+        long leftHigh = shiftedHigh(leftMantissa, leftShift);
+        long leftLow = shiftedLow(leftMantissa, leftShift);
+        long rightHigh = shiftedHigh(rightMantissa, rightShift);
+        long rightLow = shiftedLow(rightMantissa, rightShift);
+
+        long high;
+        long low;
+        if (subtract) {
+            high = leftHigh - rightHigh;
+            low = leftLow - rightLow;
+            if (low < 0) {
+                low += LIMB_SQUARED;
+                high--;
+            }
+            if (high < 0) {
+                return UNREPRESENTABLE;
+            }
+        } else {
+            high = leftHigh + rightHigh;
+            low = leftLow + rightLow;
+            if (low >= LIMB_SQUARED) {
+                low -= LIMB_SQUARED;
+                high++;
+            }
+        }
+        return round(high, low, scale, precision);
+    }
+
+    /**
+     * Returns the high base-10<sup>16</sup> limb of {@code mantissa × 10^shift}.
+     */
+    private static long shiftedHigh(long mantissa, int shift) {
+        if (shift >= MAX_DIGITS) {
+            return mantissa * POWERS_OF_TEN[shift - MAX_DIGITS];
+        }
+        return mantissa / POWERS_OF_TEN[MAX_DIGITS - shift];
+    }
+
+    /**
+     * Returns the low base-10<sup>16</sup> limb of {@code mantissa × 10^shift}.
+     */
+    private static long shiftedLow(long mantissa, int shift) {
+        if (shift >= MAX_DIGITS) {
+            return 0L;
+        }
+        return (mantissa % POWERS_OF_TEN[MAX_DIGITS - shift]) * POWERS_OF_TEN[shift];
+    }
+
+    /**
+     * Rounds the exact value {@code (high × 10^16 + low) × 10^-scale} HALF_UP to the specified precision.
+     */
+    private static long round(long high, long low, int scale, int precision) {
+        int digits = high > 0L ? MAX_DIGITS + digitCount(high) : digitCount(low);
+        if (digits <= precision) {
+            return pack(low, scale);
+        }
+
+        // Keep one digit beyond the precision; it alone decides HALF_UP rounding
+        int discarded = digits - precision - 1;
+        long kept;
+        if (discarded >= MAX_DIGITS) {
+            kept = high / POWERS_OF_TEN[discarded - MAX_DIGITS];
+        } else {
+            kept = high * POWERS_OF_TEN[MAX_DIGITS - discarded] + low / POWERS_OF_TEN[discarded];
+        }
+        return roundLastDigit(kept, scale - discarded, precision);
+    }
+
+    /**
+     * Drops the last digit of a value with {@code precision + 1} digits, rounding HALF_UP.
+     */
+    private static long roundLastDigit(long value, int scale, int precision) {
+        long rounded = value / 10L;
+        if (value % 10L >= 5L) {
+            rounded++;
+        }
+        scale--;
+        if (rounded == POWERS_OF_TEN[precision]) {
+            // Carry overflowed into a new digit, e.g. 9.99 -> 10.0
+            rounded /= 10L;
+            scale--;
+        }
+        return pack(rounded, scale);
+    }
+}
@@ -1,10 +1,9 @@
 package com.bank.calculator.util;
 
 import java.math.BigDecimal;
-import java.util.regex.Pattern;
-import java.util.regex.Matcher;
 import org.apache.commons.lang3.StringUtils; // version 3.12.0
 
+import com.bank.calculator.model.CalculationInput;
 import com.bank.calculator.model.ValidationResult;
 import com.bank.calculator.constant.ErrorMessages;
 import com.bank.calculator.constant.CalculationConstants;
@@ -16,20 +15,34 @@ import com.bank.calculator.constant.CalculationConstants;
  * This class contains methods for validating principal amount and loan duration
  * according to the application's requirements, ensuring that inputs are properly
  * formatted and within acceptable ranges.
+ * <p>
+ * Inputs are checked by hand-written scanners that verify the format, accumulate the value and check its range
+ * in a single pass over the string, without regular expressions or intermediate objects. A principal must be
+ * ASCII digits with an optional decimal point followed by one or two digits; a duration must be ASCII digits.
  */
 public final class ValidationUtils {
 
     /**
-     * Regular expression pattern for validating principal amount.
-     * Accepts positive numbers with up to 2 decimal places.
+     * Maximum number of decimal places of a principal amount.
      */
-    private static final Pattern PRINCIPAL_PATTERN = Pattern.compile("^\\d+(\\.\\d{1,2})?$");
-    
+    private static final int PRINCIPAL_DECIMALS = 2;
+
     /**
-     * Regular expression pattern for validating loan duration.
-     * Accepts positive integers only.
+     * Allowed principal range in cents, the unit in which the scanner accumulates principal amounts.
      */
-    private static final Pattern DURATION_PATTERN = Pattern.compile("^\\d+$");
+    private static final long MIN_PRINCIPAL_CENTS =
+            CalculationConstants.MIN_PRINCIPAL_AMOUNT.movePointRight(PRINCIPAL_DECIMALS).longValueExact();
+    private static final long MAX_PRINCIPAL_CENTS =
+            CalculationConstants.MAX_PRINCIPAL_AMOUNT.movePointRight(PRINCIPAL_DECIMALS).longValueExact();
+
+    /**
+     * Scanner results for invalid inputs; a non-negative result is the parsed value.
+     */
+    private static final int REQUIRED = -1;
+    private static final int FORMAT = -2;
+    private static final int NOT_POSITIVE = -3;
+    private static final int BELOW_MIN = -4;
+    private static final int ABOVE_MAX = -5;
     
     /**
      * Private constructor to prevent instantiation of this utility class.
@@ -46,41 +59,8 @@ public final class ValidationUtils {
      * @return a ValidationResult object indicating whether the principal amount is valid
      */
     public static ValidationResult validatePrincipal(String principalStr) {
-        // Check if principal is null or empty
-        if (StringUtils.isBlank(principalStr)) {
-            return ValidationResult.createInvalid(ErrorMessages.PRINCIPAL_REQUIRED);
-        }
-        
-        // Check if principal has the correct format
-        if (!PRINCIPAL_PATTERN.matcher(principalStr).matches()) {
-            return ValidationResult.createInvalid(ErrorMessages.PRINCIPAL_FORMAT);
-        }
-        
-        try {
-            // Parse the principal amount to BigDecimal
-            BigDecimal principal = new BigDecimal(principalStr);
-            
-            // Check if principal is positive
-            if (principal.compareTo(BigDecimal.ZERO) <= 0) {
-                return ValidationResult.createInvalid(ErrorMessages.PRINCIPAL_POSITIVE);
-            }
-            
-            // Check if principal is within allowed range
-            if (principal.compareTo(CalculationConstants.MIN_PRINCIPAL_AMOUNT) < 0) {
-                return ValidationResult.createInvalid(ErrorMessages.PRINCIPAL_MIN_REQUIRED);
-            }
-            
-            if (principal.compareTo(CalculationConstants.MAX_PRINCIPAL_AMOUNT) > 0) {
-                return ValidationResult.createInvalid(ErrorMessages.PRINCIPAL_MAX_EXCEEDED);
-            }
-            
-            // All validations passed
-            return ValidationResult.createValid();
-        } catch (NumberFormatException e) {
-            // This should not happen if the regex validation passed,
-            // but added as a safeguard
-            return ValidationResult.createInvalid(ErrorMessages.PRINCIPAL_FORMAT);
-        }
+        long cents = scanPrincipal(principalStr);
+        return cents < 0 ? ValidationResult.createInvalid(principalError(cents)) : ValidationResult.createValid();
     }
     
     /**
@@ -90,41 +70,165 @@ public final class ValidationUtils {
      * @return a ValidationResult object indicating whether the loan duration is valid
      */
     public static ValidationResult validateDuration(String durationStr) {
-        // Check if duration is null or empty
-        if (StringUtils.isBlank(durationStr)) {
-            return ValidationResult.createInvalid(ErrorMessages.DURATION_REQUIRED);
+        int duration = scanDuration(durationStr);
+        return duration < 0 ? ValidationResult.createInvalid(durationError(duration)) : ValidationResult.createValid();
+    }
+    
+    /**
+     * Validates the principal amount and then the loan duration, returning the first error found. A valid
+     * result carries the parsed values as a new {@link CalculationInput} with the default interest rate, so that
+     * callers do not need to parse the strings again.
+     *
+     * @param principalStr the principal amount as a string
+     * @param durationStr the loan duration as a string
+     * @return a ValidationResult object indicating whether both inputs are valid, with the parsed input if so
+     */
+    public static ValidationResult validateInputs(String principalStr, String durationStr) {
+        long cents = scanPrincipal(principalStr);
+        if (cents < 0) {
+            return ValidationResult.createInvalid(principalError(cents));
         }
-        
-        // Check if duration has the correct format
-        if (!DURATION_PATTERN.matcher(durationStr).matches()) {
-            return ValidationResult.createInvalid(ErrorMessages.DURATION_FORMAT);
+        int duration = scanDuration(durationStr);
+        if (duration < 0) {
+            return ValidationResult.createInvalid(durationError(duration));
         }
-        
-        try {
-            // Parse the duration to int
-            int duration = Integer.parseInt(durationStr);
-            
-            // Check if duration is positive
-            if (duration <= 0) {
-                return ValidationResult.createInvalid(ErrorMessages.DURATION_POSITIVE);
+        return ValidationResult.createValid(
+                new CalculationInput(BigDecimal.valueOf(cents, PRINCIPAL_DECIMALS), duration));
+    }
+    
+    /**
+     * Scans a principal amount, checking its format and range.
+     *
+     * @param principalStr the principal amount as a string
+     * @return the principal amount in cents, or a negative scanner result if it is invalid
+     */
+    private static long scanPrincipal(String principalStr) {
+        if (principalStr == null) {
+            return REQUIRED;
+        }
+        int length = principalStr.length();
+        // Once the amount exceeds the maximum it is capped, so that long digit strings cannot overflow
+        long cap = MAX_PRINCIPAL_CENTS + 1;
+        long cents = 0;
+        int i = 0;
+        while (i < length && isDigit(principalStr.charAt(i))) {
+            cents = Math.min(cents * 10 + (principalStr.charAt(i) - '0') * 100L, cap);
+            i++;
+        }
+        if (i == 0) {
+            return StringUtils.isBlank(principalStr) ? REQUIRED : FORMAT;
+        }
+        if (i < length && principalStr.charAt(i) == '.') {
+            i++;
+            long unit = 10;
+            int decimals = 0;
+            while (i < length && decimals < PRINCIPAL_DECIMALS && isDigit(principalStr.charAt(i))) {
+                cents = Math.min(cents + (principalStr.charAt(i) - '0') * unit, cap);
+                unit /= 10;
+                decimals++;
+                i++;
             }
-            
-            // Check if duration is within allowed range
-            if (duration < CalculationConstants.MIN_DURATION_YEARS) {
-                return ValidationResult.createInvalid(ErrorMessages.DURATION_MIN_REQUIRED);
+            if (decimals == 0) {
+                return FORMAT;
             }
-            
-            if (duration > CalculationConstants.MAX_DURATION_YEARS) {
-                return ValidationResult.createInvalid(ErrorMessages.DURATION_MAX_EXCEEDED);
+        }
+        if (i != length) {
+            return FORMAT;
+        }
+        
+        if (cents == 0) {
+            return NOT_POSITIVE;
+        }
+        if (cents < MIN_PRINCIPAL_CENTS) {
+            return BELOW_MIN;
+        }
+        if (cents > MAX_PRINCIPAL_CENTS) {
+            return ABOVE_MAX;
+        }
+        return cents;
+    }
+    
+    /**
+     * Scans a loan duration, checking its format and range. A duration too large for an {@code int} is reported
+     * as a format error.
+     *
+     * @param durationStr the loan duration as a string
+     * @return the loan duration in years, or a negative scanner result if it is invalid
+     */
+    private static int scanDuration(String durationStr) {
+        if (durationStr == null) {
+            return REQUIRED;
+        }
+        int length = durationStr.length();
+        long duration = 0;
+        for (int i = 0; i < length; i++) {
+            char c = durationStr.charAt(i);
+            if (!isDigit(c)) {
+                return i == 0 && StringUtils.isBlank(durationStr) ? REQUIRED : FORMAT;
             }
-            
-            // All validations passed
-            return ValidationResult.createValid();
-        } catch (NumberFormatException e) {
-            // This should not happen if the regex validation passed,
-            // but added as a safeguard
-            return ValidationResult.createInvalid(ErrorMessages.DURATION_FORMAT);
+            // Capped just above the int range; the remaining characters must still be checked for format
+            duration = Math.min(duration * 10 + (c - '0'), Integer.MAX_VALUE + 1L);
+        }
+        if (length == 0) {
+            return REQUIRED;
+        }
+        if (duration > Integer.MAX_VALUE) {
+            return FORMAT;
+        }
+        
+        if (duration == 0) {
+            return NOT_POSITIVE;
+        }
+        if (duration < CalculationConstants.MIN_DURATION_YEARS) {
+            return BELOW_MIN;
         }
+        if (duration > CalculationConstants.MAX_DURATION_YEARS) {
+            return ABOVE_MAX;
+        }
+        return (int) duration;
+    }
+    
+    /**
+     * Returns the error message of an invalid principal scanner result.
+     */
+    private static String principalError(long result) {
+        switch ((int) result) {
+            case REQUIRED:
+                return ErrorMessages.PRINCIPAL_REQUIRED;
+            case NOT_POSITIVE:
+                return ErrorMessages.PRINCIPAL_POSITIVE;
+            case BELOW_MIN:
+                return ErrorMessages.PRINCIPAL_MIN_REQUIRED;
+            case ABOVE_MAX:
+                return ErrorMessages.PRINCIPAL_MAX_EXCEEDED;
+            default:
+                return ErrorMessages.PRINCIPAL_FORMAT;
+        }
+    }
+    
+    /**
+     * Returns the error message of an invalid duration scanner result.
+     */
+    private static String durationError(int result) {
+        switch (result) {
+            case REQUIRED:
+                return ErrorMessages.DURATION_REQUIRED;
+            case NOT_POSITIVE:
+                return ErrorMessages.DURATION_POSITIVE;
+            case BELOW_MIN:
+                return ErrorMessages.DURATION_MIN_REQUIRED;
+            case ABOVE_MAX:
+                return ErrorMessages.DURATION_MAX_EXCEEDED;
+            default:
+                return ErrorMessages.DURATION_FORMAT;
+        }
+    }
+    
+    /**
+     * Checks if a character is an ASCII digit, the only digits accepted in numeric inputs.
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
     }
     
     /**
@@ -157,8 +261,10 @@ public final class ValidationUtils {
             return false;
         }
         
-        if (!DURATION_PATTERN.matcher(value).matches()) {
-            return false;
+        for (int i = 0; i < value.length(); i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
         }
         
         try {
@@ -0,0 +1,182 @@
+package com.bank.calculator.batch;
+
+import org.junit.jupiter.api.BeforeEach; // JUnit 5.8.2
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import org.junit.jupiter.api.io.TempDir; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+import java.io.BufferedReader; // JDK 11
+import java.io.IOException; // JDK 11
+import java.io.StringReader; // JDK 11
+import java.io.StringWriter; // JDK 11
+import java.math.BigDecimal; // JDK 11
+import java.math.RoundingMode; // JDK 11
+import java.nio.charset.StandardCharsets; // JDK 11
+import java.nio.file.Files; // JDK 11
+import java.nio.file.Path; // JDK 11
+import java.util.Arrays; // JDK 11
+import java.util.List; // JDK 11
+
+import com.bank.calculator.service.CalculationService;
+import com.bank.calculator.service.impl.CalculationServiceImpl;
+import com.bank.calculator.service.impl.CoalescingCalculationService;
+import com.bank.calculator.service.impl.FixedPointCalculationServiceImpl;
+import com.bank.calculator.service.impl.ValidationServiceImpl;
+import com.bank.calculator.model.CalculationInput;
+import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.constant.ErrorMessages;
+
+/**
+ * Test class for CsvBatchProcessor that verifies rows are validated, calculated and written in input order.
+ */
+@DisplayName("CSV Batch Processor Tests")
+public class CsvBatchProcessorTest {
+
+    @TempDir
+    Path directory;
+
+    private CalculationService calculationService;
+    private CsvBatchProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        calculationService = new CalculationServiceImpl();
+        processor = new CsvBatchProcessor(new ValidationServiceImpl(), calculationService, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Should write one result per row in input order across chunks")
+    void testProcessPreservesOrder() throws IOException {
+        StringBuilder input = new StringBuilder("principal,durationYears,interestRate\n");
+        for (int i = 0; i < 50; i++) {
+            input.append(1000 + i * 997).append(".50,").append(1 + i % 30).append(',').append(i % 12).append(".25\n");
+        }
+
+        StringWriter output = new StringWriter();
+        BatchSummary summary = processor.process(new BufferedReader(new StringReader(input.toString())), output);
+
+        List<String> lines = Arrays.asList(output.toString().split("\n"));
+        assertEquals(CsvBatchProcessor.OUTPUT_HEADER, lines.get(0), "Output should start with the header");
+        assertEquals(51, lines.size(), "Output should have one line per input row");
+        assertEquals(50, summary.getRowsProcessed(), "All rows should be counted");
+        assertEquals(0, summary.getRowsFailed(), "No row should fail");
+
+        for (int i = 0; i < 50; i++) {
+            String[] fields = lines.get(i + 1).split(",", -1);
+            assertEquals(String.valueOf(i + 2), fields[0], "Rows should report their input line number");
+            CalculationInput expectedInput = new CalculationInput(new BigDecimal(fields[1]), Integer.parseInt(fields[2]));
+            expectedInput.setInterestRate(new BigDecimal(fields[3]));
+            CalculationResult expected = calculationService.calculateEMI(expectedInput);
+            assertEquals(0, expected.getEmiAmount().setScale(2, RoundingMode.HALF_UP).compareTo(new BigDecimal(fields[4])),
+                    "EMI should match the single calculation");
+            assertEquals(CsvBatchProcessor.STATUS_OK, fields[7], "Row should succeed");
+        }
+    }
+
+    @Test
+    @DisplayName("Should report invalid rows without stopping the run")
+    void testProcessReportsInvalidRows() throws IOException {
+        String input = "10000.00,5\n"
+                + "abc,5\n"
+                + "\n"
+                + "500,5\n"
+                + "10000.00,5,x\n"
+                + "10000.00,5,-1\n"
+                + "10000.00,5,7.5\n";
+
+        StringWriter output = new StringWriter();
+        BatchSummary summary = processor.process(new BufferedReader(new StringReader(input)), output);
+
+        String[] lines = output.toString().split("\n");
+        assertEquals(7, lines.length, "Blank lines should be skipped");
+        assertEquals(6, summary.getRowsProcessed(), "Blank lines should not be counted");
+        assertEquals(4, summary.getRowsFailed(), "Four rows should fail");
+        assertTrue(lines[1].startsWith("1,10000.00,5,,"), "Missing rate should be left blank in the output");
+        assertTrue(lines[1].endsWith(",OK,"), "Row without a rate should use the default rate");
+        assertTrue(lines[2].endsWith(ErrorMessages.PRINCIPAL_FORMAT), "Malformed principal should be reported");
+        assertTrue(lines[3].startsWith("4,"), "Line numbers should account for blank lines");
+        assertTrue(lines[3].endsWith("\"" + ErrorMessages.PRINCIPAL_MIN_REQUIRED + "\""),
+                  "Messages containing separators should be quoted");
+        assertTrue(lines[4].endsWith(ErrorMessages.INTEREST_RATE_FORMAT), "Malformed rate should be reported");
+        assertTrue(lines[5].endsWith(ErrorMessages.NEGATIVE_INTEREST_RATE), "Negative rate should be reported");
+        assertEquals(lines[1].substring(2), lines[6].substring(2).replace(",7.5,", ",,"),
+                    "Explicit default rate should give the same result as the implied one");
+    }
+
+    @Test
+    @DisplayName("Should write the same results for a mapped file as for its text, numbered by file line")
+    void testProcessFileMatchesReader() throws IOException {
+        String[] specialRows = {"", "abc,5", "500,5", "10000.00,45", "10000.00,5,x", "10000.00,5,-1", "1000.505,5",
+                                "2000000,5", "10000.00,5,1e1", " 250000 , 30 , 7.5 ", "10000.00,5,"};
+        StringBuilder text = new StringBuilder("principal,durationYears,interestRate\r\n");
+        for (int i = 0; i < 400; i++) {
+            if (i % 10 == 3) {
+                text.append(specialRows[i / 10 % specialRows.length]);
+            } else {
+                text.append(1000 + i * 2477).append('.').append(i % 10).append(i % 7).append(',').append(1 + i % 30);
+                if (i % 3 != 0) {
+                    text.append(',').append(i % 25).append('.').append(i % 4 * 25);
+                }
+            }
+            text.append(i % 2 == 0 ? "\n" : "\r\n");
+        }
+        Path input = Files.write(directory.resolve("loans.csv"), text.toString().getBytes(StandardCharsets.UTF_8));
+
+        StringWriter expected = new StringWriter();
+        BatchSummary expectedSummary = processor.process(new BufferedReader(new StringReader(text.toString())), expected);
+        List<String> lines = Arrays.asList(expected.toString().split("\n"));
+        assertTrue(lines.get(lines.size() - 1).startsWith("401,"), "The last row should report its file line");
+        assertTrue(expectedSummary.getRowsFailed() > 0, "Some rows should fail");
+
+        CalculationService[] engines = {calculationService, new FixedPointCalculationServiceImpl(),
+                                        new CoalescingCalculationService(new FixedPointCalculationServiceImpl())};
+        for (CalculationService engine : engines) {
+            Path output = directory.resolve("results.csv");
+            BatchSummary summary = new CsvBatchProcessor(new ValidationServiceImpl(), engine, 2, 3).process(input, output);
+
+            String engineName = engine.getClass().getSimpleName();
+            assertEquals(expected.toString(), new String(Files.readAllBytes(output), StandardCharsets.UTF_8),
+                        "Mapped output should equal the text output with " + engineName);
+            assertEquals(expectedSummary.getRowsProcessed(), summary.getRowsProcessed());
+            assertEquals(expectedSummary.getRowsFailed(), summary.getRowsFailed());
+        }
+    }
+
+    @Test
+    @DisplayName("Should write decoded amounts of a mapped file without leading zeros")
+    void testProcessFileWritesDecodedAmounts() throws IOException {
+        Path input = Files.write(directory.resolve("loans.csv"),
+                "0010000.50,05,07.25\n".getBytes(StandardCharsets.UTF_8));
+        Path output = directory.resolve("results.csv");
+
+        new CsvBatchProcessor(new ValidationServiceImpl(), new FixedPointCalculationServiceImpl(), 1, 1)
+                .process(input, output);
+
+        String[] fields = Files.readAllLines(output, StandardCharsets.UTF_8).get(1).split(",", -1);
+        assertEquals(Arrays.asList("1", "10000.50", "5", "7.25"), Arrays.asList(fields).subList(0, 4));
+        CalculationResult expected = calculationService.calculateEMI(new BigDecimal("10000.50"), 5, new BigDecimal("7.25"));
+        assertEquals(expected.getEmiAmount().setScale(2, RoundingMode.HALF_UP).toPlainString(), fields[4]);
+        assertEquals(CsvBatchProcessor.STATUS_OK, fields[7]);
+    }
+
+    @Test
+    @DisplayName("Should write only the header for an empty input")
+    void testProcessEmptyInput() throws IOException {
+        StringWriter output = new StringWriter();
+        BatchSummary summary = processor.process(new BufferedReader(new StringReader("")), output);
+
+        assertEquals(CsvBatchProcessor.OUTPUT_HEADER + "\n", output.toString(), "Only the header should be written");
+        assertEquals(0, summary.getRowsProcessed(), "No rows should be processed");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid construction arguments")
+    void testInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new CsvBatchProcessor(null, calculationService, 1, 1));
+        assertThrows(IllegalArgumentException.class,
+                    () -> new CsvBatchProcessor(new ValidationServiceImpl(), calculationService, 0, 1));
+        assertThrows(IllegalArgumentException.class,
+                    () -> new CsvBatchProcessor(new ValidationServiceImpl(), calculationService, 1, 0));
+    }
+}
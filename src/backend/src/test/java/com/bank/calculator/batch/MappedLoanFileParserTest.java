@@ -0,0 +1,139 @@
+package com.bank.calculator.batch;
+
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import org.junit.jupiter.api.io.TempDir; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+import java.io.IOException; // JDK 11
+import java.math.BigDecimal; // JDK 11
+import java.nio.charset.StandardCharsets; // JDK 11
+import java.nio.file.Files; // JDK 11
+import java.nio.file.Path; // JDK 11
+import java.util.ArrayList; // JDK 11
+import java.util.List; // JDK 11
+
+import com.bank.calculator.util.FixedPointMath;
+
+/**
+ * Test class for MappedLoanFileParser that verifies chunks split on line boundaries and that records are
+ * decoded from the mapped bytes exactly as the text would be parsed.
+ */
+@DisplayName("Mapped Loan File Parser Tests")
+public class MappedLoanFileParserTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should decode every record once regardless of the chunk size")
+    void testSplitOnLineBoundaries() throws IOException {
+        StringBuilder content = new StringBuilder("principal,durationYears,interestRate\n");
+        for (int i = 0; i < 200; i++) {
+            content.append(1000 + i * 997).append(".50,").append(1 + i % 30).append(',').append(i % 12).append(".25")
+                    .append(i % 2 == 0 ? "\n" : "\r\n");
+        }
+        Path file = write(content.toString());
+
+        for (long chunkBytes : new long[] {1, 7, 64, 1000, MappedLoanFileParser.DEFAULT_CHUNK_BYTES}) {
+            List<String> records = new ArrayList<>();
+            try (MappedLoanFileParser parser = new MappedLoanFileParser(file)) {
+                long expectedStart = 0;
+                for (LoanFileChunk chunk : parser.split(chunkBytes)) {
+                    assertEquals(expectedStart, chunk.getStart(), "Chunks should be contiguous");
+                    expectedStart += chunk.getLength();
+                    chunk.parse(new CollectingHandler(records, false));
+                }
+                assertEquals(Files.size(file), expectedStart, "Chunks should cover the whole file");
+            }
+
+            assertEquals(200, records.size(), "Every record should be decoded once with chunks of " + chunkBytes);
+            for (int i = 0; i < 200; i++) {
+                assertEquals(new BigDecimal((1000 + i * 997) + ".50") + "," + (1 + i % 30) + "," + (i % 12) + ".25",
+                        records.get(i), "Record " + i + " should match the text");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip blank lines and report malformed records")
+    void testMalformedRecords() throws IOException {
+        Path file = write("10000.00,5\n"
+                + "\n"
+                + " 250000 , 30 , 7.5 \n"
+                + "abc,5\n"
+                + "10000.00\n"
+                + "-5,5\n"
+                + "12345678901234567,5\n"
+                + "10000.,5\n"
+                + "10000.00,5,x\n"
+                + "0007.50,1,");
+
+        List<String> records = new ArrayList<>();
+        try (MappedLoanFileParser parser = new MappedLoanFileParser(file)) {
+            List<LoanFileChunk> chunks = parser.split(MappedLoanFileParser.DEFAULT_CHUNK_BYTES);
+            assertEquals(1, chunks.size(), "A small file should fit in one chunk");
+            assertEquals(10, chunks.get(0).parse(new CollectingHandler(records, true)), "All lines should be counted");
+        }
+
+        assertEquals("1:10000.00,5,-", records.get(0), "Missing rate should be reported as absent");
+        assertEquals("3:250000,30,7.5", records.get(1), "Blanks around fields should be ignored");
+        assertEquals("4!abc,5", records.get(2));
+        assertEquals("5!10000.00", records.get(3), "Missing duration should be malformed");
+        assertEquals("6!-5,5", records.get(4), "Negative amounts should be malformed");
+        assertEquals("7!12345678901234567,5", records.get(5), "Amounts beyond the packed range should be malformed");
+        assertEquals("8!10000.,5", records.get(6), "A decimal point needs fraction digits");
+        assertEquals("9!10000.00,5,x", records.get(7));
+        assertEquals("10:7.50,1,-", records.get(8), "Empty rate and missing final terminator should be accepted");
+        assertEquals(9, records.size());
+    }
+
+    @Test
+    @DisplayName("Should split an empty file into no chunks")
+    void testEmptyFile() throws IOException {
+        try (MappedLoanFileParser parser = new MappedLoanFileParser(write(""))) {
+            assertTrue(parser.split(MappedLoanFileParser.DEFAULT_CHUNK_BYTES).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject invalid chunk sizes")
+    void testInvalidChunkSize() throws IOException {
+        assertThrows(NullPointerException.class, () -> new MappedLoanFileParser(null));
+        try (MappedLoanFileParser parser = new MappedLoanFileParser(write("1000,1\n"))) {
+            assertThrows(IllegalArgumentException.class, () -> parser.split(0));
+            assertThrows(IllegalArgumentException.class, () -> parser.split(MappedLoanFileParser.MAX_CHUNK_BYTES + 1));
+        }
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.write(directory.resolve("loans.csv"), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Records decoded values as {@code [line:]principal,duration,rate} and malformed records as {@code line!text}.
+     */
+    private static final class CollectingHandler implements LoanRecordHandler {
+
+        private final List<String> records;
+        private final boolean withLineNumbers;
+
+        CollectingHandler(List<String> records, boolean withLineNumbers) {
+            this.records = records;
+            this.withLineNumbers = withLineNumbers;
+        }
+
+        @Override
+        public void onRecord(int line, long principal, int durationYears, long interestRate) {
+            String rate = interestRate == MappedLoanFileParser.RATE_ABSENT
+                    ? "-" : FixedPointMath.toBigDecimal(interestRate).toPlainString();
+            String prefix = withLineNumbers ? line + ":" : "";
+            records.add(prefix + FixedPointMath.toBigDecimal(principal).toPlainString() + "," + durationYears + "," + rate);
+        }
+
+        @Override
+        public void onMalformedRecord(int line, String text) {
+            records.add(line + "!" + text);
+        }
+    }
+}
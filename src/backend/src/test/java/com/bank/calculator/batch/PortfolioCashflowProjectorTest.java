@@ -0,0 +1,186 @@
+package com.bank.calculator.batch;
+
+import org.junit.jupiter.api.AfterEach; // JUnit 5.8.2
+import org.junit.jupiter.api.BeforeEach; // JUnit 5.8.2
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+import java.io.ByteArrayOutputStream; // JDK 11
+import java.io.DataOutputStream; // JDK 11
+import java.io.IOException; // JDK 11
+import java.math.BigDecimal; // JDK 11
+import java.nio.ByteBuffer; // JDK 11
+import java.util.ArrayList; // JDK 11
+import java.util.Arrays; // JDK 11
+import java.util.Collections; // JDK 11
+import java.util.LinkedList; // JDK 11
+import java.util.List; // JDK 11
+import java.util.concurrent.ForkJoinPool; // JDK 11
+
+import com.bank.calculator.service.CalculationService;
+import com.bank.calculator.service.impl.CalculationServiceImpl;
+import com.bank.calculator.model.CalculationInput;
+import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.exception.CalculationException;
+import com.bank.calculator.constant.ErrorMessages;
+
+/**
+ * Test class for PortfolioCashflowProjector that verifies the monthly buckets equal the summed amortization
+ * schedules of the loans, that the horizon truncates them, and that failed loans are counted and left out.
+ */
+@DisplayName("Portfolio Cashflow Projector Tests")
+public class PortfolioCashflowProjectorTest {
+
+    private CalculationService calculationService;
+    private ForkJoinPool pool;
+    private PortfolioCashflowProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        calculationService = new CalculationServiceImpl();
+        pool = new ForkJoinPool(4);
+        projector = new PortfolioCashflowProjector(calculationService, pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should equal the summed amortization schedules of all loans")
+    void testProjectionMatchesSchedules() {
+        // Enough loans to be split across several leaf tasks
+        List<CalculationInput> loans = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            CalculationInput loan = new CalculationInput(new BigDecimal(1000 + i * 1637L).add(new BigDecimal("0.35")),
+                    1 + i % 30);
+            loan.setInterestRate(BigDecimal.valueOf(i % 61, 1).multiply(new BigDecimal("4.25")));
+            loans.add(loan);
+        }
+        int horizonMonths = 360;
+
+        CashflowProjection projection = projector.project(loans, horizonMonths);
+
+        long[] expectedPrincipal = new long[horizonMonths];
+        long[] expectedInterest = new long[horizonMonths];
+        for (CalculationInput loan : loans) {
+            calculationService.generateAmortizationSchedule(loan).forEach(entry -> {
+                expectedPrincipal[entry.getMonth() - 1] += entry.getPrincipalComponent().movePointRight(2).longValueExact();
+                expectedInterest[entry.getMonth() - 1] += entry.getInterestComponent().movePointRight(2).longValueExact();
+            });
+        }
+
+        assertEquals(600, projection.getLoansProjected());
+        assertEquals(0, projection.getLoansFailed());
+        assertEquals(horizonMonths, projection.getHorizonMonths());
+        assertArrayEquals(expectedPrincipal, projection.toPrincipalArray(), "Monthly principal should match the schedules");
+        assertArrayEquals(expectedInterest, projection.toInterestArray(), "Monthly interest should match the schedules");
+        assertEquals(BigDecimal.valueOf(expectedInterest[0], 2), projection.getInterest(1));
+    }
+
+    @Test
+    @DisplayName("Should book non-negative amounts that repay each loan exactly at high rates")
+    void testHighRateProjectionRepaysPrincipal() {
+        // The first two loans are settled before their last month because their EMI is rounded up
+        List<CalculationInput> loans = new ArrayList<>();
+        loans.add(new CalculationInput(new BigDecimal("1925.77"), 21));
+        loans.get(0).setInterestRate(new BigDecimal("29.55"));
+        loans.add(new CalculationInput(new BigDecimal("1000.00"), 30));
+        loans.get(1).setInterestRate(new BigDecimal("29.99"));
+        long loanCents = 192577L + 100000L;
+        for (int i = 0; i < 400; i++) {
+            CalculationInput loan = new CalculationInput(new BigDecimal(1000 + i * 2473L).add(new BigDecimal("0.77")),
+                    1 + i % 30);
+            loan.setInterestRate(new BigDecimal("10.00").add(BigDecimal.valueOf(i % 81, 1).multiply(new BigDecimal("2.5"))));
+            loans.add(loan);
+            loanCents += loan.getPrincipal().movePointRight(2).longValueExact();
+        }
+
+        CashflowProjection projection = projector.project(loans, 360);
+        CashflowProjection settled = projector.project(loans.subList(0, 1), 360);
+
+        long principalTotal = 0L;
+        for (int month = 1; month <= 360; month++) {
+            assertTrue(projection.getPrincipalCents(month) >= 0, "Principal of month " + month);
+            assertTrue(projection.getInterestCents(month) >= 0, "Interest of month " + month);
+            principalTotal += projection.getPrincipalCents(month);
+        }
+        assertEquals(loanCents, principalTotal, "Principal booked should equal the loan amounts");
+        assertEquals(192577L, Arrays.stream(settled.toPrincipalArray()).sum());
+        assertEquals(0L, settled.getPrincipalCents(252), "Nothing should be booked after the loan is settled");
+        assertEquals(0L, settled.getInterestCents(252));
+        assertTrue(settled.getPrincipalCents(251) > 0, "The settling installment should be booked in month 251");
+    }
+
+    @Test
+    @DisplayName("Should leave out installments after the horizon")
+    void testHorizonTruncatesSchedules() {
+        CalculationInput longLoan = new CalculationInput(new BigDecimal("250000.00"), 30);
+        CalculationInput shortLoan = new CalculationInput(new BigDecimal("12000.00"), 1);
+        shortLoan.setInterestRate(BigDecimal.ZERO);
+
+        CashflowProjection projection = projector.project(new LinkedList<>(Arrays.asList(longLoan, shortLoan)), 24);
+
+        assertEquals(24, projection.getHorizonMonths());
+        long[] principal = new long[24];
+        long[] interest = new long[24];
+        calculationService.generateAmortizationSchedule(longLoan).limit(24).forEach(entry -> {
+            principal[entry.getMonth() - 1] = entry.getPrincipalComponent().movePointRight(2).longValueExact();
+            interest[entry.getMonth() - 1] = entry.getInterestComponent().movePointRight(2).longValueExact();
+        });
+        for (int month = 1; month <= 24; month++) {
+            long shortLoanPrincipal = month <= 12 ? 100000L : 0L;
+            assertEquals(principal[month - 1] + shortLoanPrincipal, projection.getPrincipalCents(month), "Principal of month " + month);
+            assertEquals(interest[month - 1], projection.getInterestCents(month), "Interest of month " + month);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> projection.getPrincipalCents(25));
+        assertThrows(IndexOutOfBoundsException.class, () -> projection.getInterestCents(0));
+    }
+
+    @Test
+    @DisplayName("Should count loans that cannot be calculated and leave them out")
+    void testFailedLoansCounted() {
+        CalculationInput loan = new CalculationInput(new BigDecimal("10000.00"), 1);
+        CalculationInput failing = new CalculationInput(new BigDecimal("20000.00"), 1);
+        PortfolioCashflowProjector failingProjector = new PortfolioCashflowProjector(new CalculationServiceImpl() {
+            @Override
+            public CalculationResult calculateEMI(CalculationInput input) {
+                if (input == failing) {
+                    throw new CalculationException(ErrorMessages.CALCULATION_ERROR);
+                }
+                return super.calculateEMI(input);
+            }
+        }, ForkJoinPool.commonPool());
+
+        CashflowProjection projection = failingProjector.project(Arrays.asList(loan, null, failing), 12);
+        CashflowProjection single = projector.project(Collections.singletonList(loan), 12);
+
+        assertEquals(1, projection.getLoansProjected());
+        assertEquals(2, projection.getLoansFailed());
+        assertArrayEquals(single.toPrincipalArray(), projection.toPrincipalArray());
+        assertArrayEquals(single.toInterestArray(), projection.toInterestArray());
+        assertEquals(0, projector.project(Collections.emptyList(), 12).getLoansProjected());
+        assertThrows(IllegalArgumentException.class, () -> projector.project(Collections.singletonList(loan), 0));
+        assertThrows(NullPointerException.class, () -> projector.project(null, 12));
+    }
+
+    @Test
+    @DisplayName("Should write the monthly principal and interest as longs")
+    void testWriteTo() throws IOException {
+        CashflowProjection projection = projector.project(
+                Collections.singletonList(new CalculationInput(new BigDecimal("50000.00"), 5)), 60);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            projection.writeTo(output);
+        }
+        ByteBuffer written = ByteBuffer.wrap(bytes.toByteArray());
+        assertEquals(60 * 2 * Long.BYTES, written.remaining());
+        for (int month = 1; month <= 60; month++) {
+            assertEquals(projection.getPrincipalCents(month), written.getLong());
+            assertEquals(projection.getInterestCents(month), written.getLong());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.bank.calculator.cache;
+
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+/**
+ * Test class for TinyLfuCache that verifies lookups and statistics, LRU eviction of entries displaced by more
+ * frequently requested keys, and resistance to scans of keys that are requested only once.
+ */
+@DisplayName("TinyLFU Cache Tests")
+public class TinyLfuCacheTest {
+
+    @Test
+    @DisplayName("Should return cached values and count hits and misses")
+    void testGetAndPut() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(4);
+
+        assertNull(cache.get("a"));
+        assertTrue(cache.put("a", 1));
+        assertFalse(cache.put("a", 2), "A value already cached should be kept");
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(2.0 / 3.0, cache.getHitRatio(), 1e-9);
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0.0, cache.getHitRatio());
+        assertEquals(1, cache.size(), "Resetting statistics should keep the entries");
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used entry for a more frequently requested key")
+    void testEvictsLeastRecentlyUsed() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a"); // "b" is now the least recently used entry
+
+        // A new key is admitted once it has been requested more often than the victim
+        boolean admitted = false;
+        for (int i = 0; i < 5 && !admitted; i++) {
+            assertNull(cache.get("c"));
+            admitted = cache.put("c", 3);
+        }
+
+        assertTrue(admitted);
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertNull(cache.get("b"));
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        assertEquals(Integer.valueOf(3), cache.get("c"));
+    }
+
+    @Test
+    @DisplayName("Should keep popular entries when a scan of one-off keys passes through")
+    void testScanResistance() {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(16);
+        for (int round = 0; round < 4; round++) {
+            for (int key = 0; key < 16; key++) {
+                if (cache.get(key) == null) {
+                    cache.put(key, key);
+                }
+            }
+        }
+
+        // Each one-off key of the scan is interleaved with a request for one of the popular keys. The sketch is
+        // approximate, so a one-off key may occasionally be over-estimated and displace a popular one.
+        int popularHits = 0;
+        for (int key = 1000; key < 2000; key++) {
+            if (cache.get(key) == null) {
+                cache.put(key, key);
+            }
+            if (cache.get(key % 16) != null) {
+                popularHits++;
+            } else {
+                cache.put(key % 16, key % 16);
+            }
+        }
+
+        assertEquals(16, cache.size());
+        assertTrue(popularHits > 950, "Popular keys should keep being served from the cache: " + popularHits);
+        assertTrue(cache.getRejectionCount() > 900, "Most one-off keys should not be admitted");
+    }
+
+    @Test
+    @DisplayName("Should remove all entries on clear and accept new ones afterwards")
+    void testClear() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertNull(cache.get("a"));
+        assertTrue(cache.put("c", 3));
+        assertTrue(cache.put("d", 4));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizes and null keys or values")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TinyLfuCache<String, Integer>(0));
+        assertThrows(IllegalArgumentException.class, () -> new TinyLfuCache<String, Integer>(-1));
+
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(2);
+        assertThrows(NullPointerException.class, () -> cache.get(null));
+        assertThrows(NullPointerException.class, () -> cache.put(null, 1));
+        assertThrows(NullPointerException.class, () -> cache.put("a", null));
+    }
+}
@@ -0,0 +1,126 @@
+package com.bank.calculator.config;
+
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+import java.util.List; // JDK 11
+import java.util.concurrent.CopyOnWriteArrayList; // JDK 11
+import java.util.concurrent.CountDownLatch; // JDK 11
+import java.util.logging.Handler; // JDK 11
+import java.util.logging.Level; // JDK 11
+import java.util.logging.LogRecord; // JDK 11
+import java.util.logging.Logger; // JDK 11
+import java.util.stream.Collectors; // JDK 11
+
+/**
+ * Test class for AsyncLogHandler that verifies records reach the delegate in order and with the caller of the
+ * logging thread, and that a full buffer drops records instead of blocking.
+ */
+@DisplayName("Async Log Handler Tests")
+public class AsyncLogHandlerTest {
+
+    @Test
+    @DisplayName("Should write records in order with the caller of the logging thread")
+    void testRecordsAreWrittenInOrder() {
+        CollectingHandler delegate = new CollectingHandler(null);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 1024);
+        Logger logger = Logger.getLogger("com.bank.calculator.test.async");
+        logger.setUseParentHandlers(false);
+        logger.setLevel(Level.INFO);
+        logger.addHandler(handler);
+        try {
+            for (int i = 0; i < 500; i++) {
+                logger.log(Level.INFO, "Record {0}", i);
+            }
+        } finally {
+            logger.removeHandler(handler);
+            handler.close();
+        }
+
+        assertEquals(500, delegate.records.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i, delegate.records.get(i).getParameters()[0], "Records should keep their order");
+        }
+        LogRecord first = delegate.records.get(0);
+        assertEquals(AsyncLogHandlerTest.class.getName(), first.getSourceClassName());
+        assertEquals("testRecordsAreWrittenInOrder", first.getSourceMethodName());
+        assertTrue(delegate.closed, "Closing should close the delegate");
+    }
+
+    @Test
+    @DisplayName("Should drop records when the buffer is full and report how many")
+    void testFullBufferDropsRecords() {
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingHandler delegate = new CollectingHandler(release);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate, 2);
+
+        // The writer blocks in the delegate, so the buffer fills and publishing must still return
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "Record " + i));
+        }
+        long dropped = handler.getDroppedCount();
+        assertTrue(dropped >= 7, "At most one record in the delegate and two buffered, dropped " + dropped);
+
+        release.countDown();
+        handler.close();
+
+        List<String> messages = delegate.records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+        assertEquals(10 - dropped + 1, messages.size());
+        LogRecord report = delegate.records.get(delegate.records.size() - 1);
+        assertEquals(Level.WARNING, report.getLevel());
+        assertEquals(dropped, report.getParameters()[0]);
+    }
+
+    @Test
+    @DisplayName("Should take the level of the delegate")
+    void testLevel() {
+        CollectingHandler delegate = new CollectingHandler(null);
+        delegate.setLevel(Level.WARNING);
+        AsyncLogHandler handler = new AsyncLogHandler(delegate);
+        handler.publish(new LogRecord(Level.INFO, "Discarded"));
+        handler.publish(new LogRecord(Level.SEVERE, "Written"));
+        handler.close();
+
+        assertEquals(1, delegate.records.size());
+        assertEquals("Written", delegate.records.get(0).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(delegate, 0));
+    }
+
+    /**
+     * Collects published records, optionally blocking each publish until released.
+     */
+    private static final class CollectingHandler extends Handler {
+
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private volatile boolean closed;
+
+        CollectingHandler(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (isLoggable(record)) {
+                records.add(record);
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -18,10 +18,14 @@ import com.bank.calculator.service.ValidationService;
 import com.bank.calculator.service.CalculationService;
 import com.bank.calculator.model.ValidationResult;
 import com.bank.calculator.model.CalculationInput;
+import com.bank.calculator.model.CalculationKey;
 import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.model.CalculationOutcome;
 import com.bank.calculator.exception.ValidationException;
 import com.bank.calculator.exception.CalculationException;
 import com.bank.calculator.util.CurrencyUtils;
+import com.bank.calculator.constant.ErrorMessages;
+import com.bank.calculator.cache.TinyLfuCache;
 
 /**
  * Unit test class for CalculatorController that verifies the controller's functionality 
@@ -173,6 +177,110 @@ public class CalculatorControllerTest {
         assertEquals("Calculation error", exception.getErrorMessage());
     }
     
+    @Test
+    @DisplayName("Should return the calculation result as a successful outcome")
+    void testTryCalculateEMIWithValidInputs() {
+        // Arrange
+        when(validationService.validateAllInputs(validPrincipalStr, validDurationStr))
+            .thenReturn(ValidationResult.createValid());
+        CalculationResult mockResult = mock(CalculationResult.class);
+        when(calculationService.calculateEMI(any(CalculationInput.class)))
+            .thenReturn(mockResult);
+        
+        // Act
+        CalculationOutcome outcome = controller.tryCalculateEMI(validPrincipalStr, validDurationStr);
+        
+        // Assert
+        assertTrue(outcome.isSuccess());
+        assertEquals(CalculationOutcome.Status.SUCCESS, outcome.getStatus());
+        assertSame(mockResult, outcome.getResult());
+        assertNull(outcome.getErrorCode());
+    }
+    
+    @Test
+    @DisplayName("Should report invalid inputs and calculation errors as outcomes instead of throwing")
+    void testTryCalculateEMIWithFailures() {
+        // Arrange
+        when(validationService.validateAllInputs(invalidPrincipalStr, validDurationStr))
+            .thenReturn(ValidationResult.createInvalid(principalErrorMessage));
+        when(validationService.validateAllInputs(validPrincipalStr, validDurationStr))
+            .thenReturn(ValidationResult.createValid());
+        CalculationException calculationError = new CalculationException("E005", "Calculation error");
+        when(calculationService.calculateEMI(any(CalculationInput.class)))
+            .thenThrow(calculationError);
+        
+        // Act
+        CalculationOutcome invalid = controller.tryCalculateEMI(invalidPrincipalStr, validDurationStr);
+        CalculationOutcome failed = controller.tryCalculateEMI(validPrincipalStr, validDurationStr);
+        
+        // Assert
+        assertEquals(CalculationOutcome.Status.VALIDATION_FAILURE, invalid.getStatus());
+        assertEquals(ErrorMessages.VALIDATION_ERROR_CODE, invalid.getErrorCode());
+        assertEquals(principalErrorMessage, invalid.getErrorMessage());
+        assertNull(invalid.getCause(), "Invalid inputs should be reported without creating an exception");
+        
+        assertEquals(CalculationOutcome.Status.CALCULATION_FAILURE, failed.getStatus());
+        assertEquals("E005", failed.getErrorCode());
+        assertEquals("Calculation error", failed.getErrorMessage());
+        assertNull(failed.getResult());
+        
+        // The throwing API reports the same failures as exceptions
+        ValidationException validationException = assertThrows(ValidationException.class,
+            () -> controller.calculateEMI(invalidPrincipalStr, validDurationStr));
+        assertEquals(ErrorMessages.VALIDATION_ERROR_CODE, validationException.getErrorCode());
+        assertSame(calculationError, assertThrows(CalculationException.class,
+            () -> controller.calculateEMI(validPrincipalStr, validDurationStr)));
+    }
+    
+    @Test
+    @DisplayName("Should preview EMI for valid inputs and return null instead of throwing otherwise")
+    void testPreviewEMI() {
+        // Arrange
+        when(validationService.validateAllInputs(validPrincipalStr, validDurationStr))
+            .thenReturn(ValidationResult.createValid());
+        when(validationService.validateAllInputs(invalidPrincipalStr, validDurationStr))
+            .thenReturn(ValidationResult.createInvalid(principalErrorMessage));
+        CalculationResult mockResult = mock(CalculationResult.class);
+        when(calculationService.calculateEMI(any(CalculationInput.class)))
+            .thenReturn(mockResult)
+            .thenThrow(new CalculationException("Calculation error"));
+        
+        // Act & Assert
+        assertSame(mockResult, controller.previewEMI(validPrincipalStr, validDurationStr));
+        assertNull(controller.previewEMI(invalidPrincipalStr, validDurationStr));
+        assertNull(controller.previewEMI(validPrincipalStr, validDurationStr));
+        verify(calculationService, times(2)).calculateEMI(any(CalculationInput.class));
+    }
+    
+    @Test
+    @DisplayName("Should answer repeated quotes of numerically equal inputs from the result cache")
+    void testCalculateEMIWithResultCache() {
+        // Arrange
+        TinyLfuCache<CalculationKey, CalculationResult> cache = new TinyLfuCache<>(16);
+        CalculatorController cachingController = new CalculatorController(validationService, calculationService, cache);
+        when(validationService.validateAllInputs(validPrincipalStr, validDurationStr))
+            .thenReturn(ValidationResult.createValid());
+        when(validationService.validateAllInputs("5000", validDurationStr))
+            .thenReturn(ValidationResult.createValid());
+        CalculationResult mockResult = mock(CalculationResult.class);
+        when(calculationService.calculateEMI(any(CalculationInput.class)))
+            .thenReturn(mockResult);
+        
+        // Act
+        CalculationResult first = cachingController.calculateEMI(validPrincipalStr, validDurationStr);
+        CalculationResult second = cachingController.calculateEMI("5000", validDurationStr);
+        CalculationResult preview = cachingController.previewEMI(validPrincipalStr, validDurationStr);
+        
+        // Assert
+        assertSame(mockResult, first);
+        assertSame(mockResult, second);
+        assertSame(mockResult, preview);
+        verify(calculationService, times(1)).calculateEMI(any(CalculationInput.class));
+        assertSame(cache, cachingController.getResultCache());
+        assertEquals(2, cache.getHitCount());
+        assertNull(controller.getResultCache());
+    }
+    
     @Test
     @DisplayName("Should return correctly formatted string for valid result")
     void testFormatResultWithValidResult() {
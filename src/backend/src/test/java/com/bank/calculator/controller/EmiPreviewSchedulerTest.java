@@ -0,0 +1,206 @@
+package com.bank.calculator.controller;
+
+import org.junit.jupiter.api.AfterEach; // JUnit 5.8.2
+import org.junit.jupiter.api.BeforeEach; // JUnit 5.8.2
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+import java.util.ArrayList; // JDK 11
+import java.util.List; // JDK 11
+import java.util.concurrent.CountDownLatch; // JDK 11
+import java.util.concurrent.Executors; // JDK 11
+import java.util.concurrent.ScheduledExecutorService; // JDK 11
+import java.util.concurrent.TimeUnit; // JDK 11
+
+import com.bank.calculator.config.AppConfig;
+import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.service.impl.CalculationServiceImpl;
+import com.bank.calculator.service.impl.ValidationServiceImpl;
+
+/**
+ * Test class for EmiPreviewScheduler that verifies the first change of a burst is previewed within a frame, that
+ * the rest of the burst is debounced into one calculation and that previews overtaken by newer input are never
+ * delivered.
+ */
+@DisplayName("EMI Preview Scheduler Tests")
+public class EmiPreviewSchedulerTest {
+
+    /**
+     * Interval between simulated keystrokes, within the 30 to 150ms of typing a number.
+     */
+    private static final long KEYSTROKE_INTERVAL_MILLIS = 60;
+
+    /**
+     * Time available to show a keystroke within one 60 Hz frame.
+     */
+    private static final long FRAME_BUDGET_MILLIS = 16;
+
+    private CalculatorController controller;
+    private ScheduledExecutorService scheduler;
+    private List<Runnable> deliveries;
+    private List<String> previews;
+    private EmiPreviewScheduler.PreviewListener listener;
+    private EmiPreviewScheduler previewScheduler;
+
+    @BeforeEach
+    void setUp() {
+        controller = new CalculatorController(new ValidationServiceImpl(), new CalculationServiceImpl());
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        deliveries = new ArrayList<>();
+        previews = new ArrayList<>();
+        listener = new EmiPreviewScheduler.PreviewListener() {
+            @Override
+            public void onPreview(CalculationResult result) {
+                previews.add(result.getFormattedEmiAmount());
+            }
+
+            @Override
+            public void onPreviewUnavailable() {
+                previews.add("unavailable");
+            }
+        };
+        // Deliveries are queued and run by the test, standing in for the JavaFX application thread
+        previewScheduler = new EmiPreviewScheduler(controller, scheduler, deliveries::add, listener, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should fold changes made before a preview runs into one calculation of the latest inputs")
+    void testBurstIsCoalesced() throws Exception {
+        CountDownLatch release = blockScheduler();
+        String typed = "250000.75";
+        for (int i = 1; i <= typed.length(); i++) {
+            previewScheduler.inputChanged(typed.substring(0, i), "15");
+        }
+        release.countDown();
+        runDeliveries();
+
+        assertEquals(1, previewScheduler.getCalculationCount(), "The burst should cost a single calculation");
+        assertEquals(List.of(controller.calculateEMI(typed, "15").getFormattedEmiAmount()), previews);
+    }
+
+    @Test
+    @DisplayName("Should preview the first keystroke within a frame and the final input once typing pauses")
+    void testTypingIsDebounced() throws Exception {
+        long debounceMillis = AppConfig.getPreviewDebounceMillis();
+        // Previews are shown as soon as they are handed over, as on an idle JavaFX application thread
+        CountDownLatch firstShown = new CountDownLatch(1);
+        EmiPreviewScheduler debounced = new EmiPreviewScheduler(controller, scheduler, preview -> {
+            preview.run();
+            firstShown.countDown();
+        }, listener, debounceMillis);
+        controller.previewEMI("250000.75", "15");
+        awaitScheduler();
+
+        String typed = "250000.75";
+        debounced.inputChanged(typed.substring(0, 1), "15");
+        assertTrue(firstShown.await(FRAME_BUDGET_MILLIS, TimeUnit.MILLISECONDS),
+                "The first keystroke should be shown within a frame");
+        for (int i = 2; i <= typed.length(); i++) {
+            Thread.sleep(KEYSTROKE_INTERVAL_MILLIS);
+            debounced.inputChanged(typed.substring(0, i), "15");
+        }
+        assertEquals(1, debounced.getCalculationCount(), "Only the first keystroke should be previewed while typing");
+
+        Thread.sleep(2 * debounceMillis);
+        awaitScheduler();
+
+        assertEquals(2, debounced.getCalculationCount(), "The rest of the burst should cost a single calculation");
+        assertEquals(List.of("unavailable", controller.calculateEMI(typed, "15").getFormattedEmiAmount()), previews);
+    }
+
+    @Test
+    @DisplayName("Should calculate again for input changed after a preview")
+    void testSeparateChangesAreEachPreviewed() throws Exception {
+        previewScheduler.inputChanged("10000", "5");
+        runDeliveries();
+        previewScheduler.inputChanged("10000", "");
+        runDeliveries();
+
+        assertEquals(2, previewScheduler.getCalculationCount());
+        assertEquals(List.of(controller.calculateEMI("10000", "5").getFormattedEmiAmount(), "unavailable"), previews);
+    }
+
+    @Test
+    @DisplayName("Should discard a preview when newer input arrives before it is shown")
+    void testStalePreviewIsDiscarded() throws Exception {
+        previewScheduler.inputChanged("10000", "5");
+        awaitScheduler();
+        assertEquals(1, deliveries.size(), "The preview should be waiting for delivery");
+
+        previewScheduler.inputChanged("20000", "5");
+        runDeliveries();
+
+        assertEquals(1, previewScheduler.getDiscardedCount());
+        assertEquals(List.of(controller.calculateEMI("20000", "5").getFormattedEmiAmount()), previews,
+                "Only the preview of the latest inputs should be shown");
+    }
+
+    @Test
+    @DisplayName("Should deliver nothing after cancel")
+    void testCancel() throws Exception {
+        CountDownLatch release = blockScheduler();
+        previewScheduler.inputChanged("10000", "5");
+        previewScheduler.cancel();
+        release.countDown();
+        runDeliveries();
+
+        previewScheduler.inputChanged("10000", "5");
+        awaitScheduler();
+        previewScheduler.cancel();
+        runDeliveries();
+
+        assertEquals(1, previewScheduler.getCalculationCount());
+        assertTrue(previews.isEmpty(), "Cancelled previews should not be shown");
+    }
+
+    @Test
+    @DisplayName("Should ignore input changes once the scheduler is shut down")
+    void testInputAfterShutdown() {
+        scheduler.shutdown();
+        previewScheduler.inputChanged("10000", "5");
+        assertEquals(0, previewScheduler.getCalculationCount());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid constructor arguments")
+    void testConstructorValidation() {
+        assertThrows(NullPointerException.class,
+                () -> new EmiPreviewScheduler(null, scheduler, Runnable::run, listener, 0));
+        assertThrows(NullPointerException.class,
+                () -> new EmiPreviewScheduler(controller, scheduler, Runnable::run, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new EmiPreviewScheduler(controller, scheduler, Runnable::run, listener, -1));
+    }
+
+    /**
+     * Occupies the scheduler thread until the returned latch is released, so that input changes pile up.
+     */
+    private CountDownLatch blockScheduler() {
+        CountDownLatch release = new CountDownLatch(1);
+        scheduler.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        return release;
+    }
+
+    private void awaitScheduler() throws Exception {
+        scheduler.submit(() -> { }).get(5, TimeUnit.SECONDS);
+    }
+
+    private void runDeliveries() throws Exception {
+        awaitScheduler();
+        List<Runnable> pending = new ArrayList<>(deliveries);
+        deliveries.clear();
+        pending.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,121 @@
+package com.bank.calculator.jfr;
+
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import org.junit.jupiter.api.io.TempDir; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+import java.math.BigDecimal; // JDK 11
+import java.nio.file.Path; // JDK 11
+import java.time.Duration; // JDK 11
+import java.util.List; // JDK 11
+import java.util.stream.Collectors; // JDK 11
+
+import jdk.jfr.FlightRecorder; // JDK 11
+import jdk.jfr.Recording; // JDK 11
+import jdk.jfr.consumer.RecordedEvent; // JDK 11
+import jdk.jfr.consumer.RecordingFile; // JDK 11
+
+import com.bank.calculator.config.AppConfig;
+import com.bank.calculator.controller.CalculatorController;
+import com.bank.calculator.exception.ValidationException;
+import com.bank.calculator.service.impl.CalculationServiceImpl;
+import com.bank.calculator.service.impl.FixedPointCalculationServiceImpl;
+import com.bank.calculator.service.impl.ValidationServiceImpl;
+
+/**
+ * Test class for the flight recorder events that verifies the controller and the calculation engines emit them
+ * with the input sizes and outcome of each operation.
+ */
+@DisplayName("Calculation Events Tests")
+public class CalculationEventsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should record validation, requests and calculations with their outcome")
+    void testEventsAreRecorded() throws Exception {
+        CalculatorController controller = new CalculatorController(new ValidationServiceImpl(),
+                new CalculationServiceImpl());
+        FixedPointCalculationServiceImpl fixedPoint = new FixedPointCalculationServiceImpl();
+
+        Path file = directory.resolve("calculator.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ValidationEvent.class);
+            recording.enable(CalculationRequestEvent.class);
+            recording.enable(CalculationEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            controller.calculateEMI("25000.00", "3");
+            assertThrows(ValidationException.class, () -> controller.calculateEMI("abc", "3"));
+            fixedPoint.calculateCompoundInterest(new BigDecimal("1000"), 5, new BigDecimal("7.5"));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<RecordedEvent> validations = ofType(events, "com.bank.calculator.Validation");
+        assertEquals(2, validations.size());
+        assertEquals(8, validations.get(0).getInt("principalLength"));
+        assertEquals(1, validations.get(0).getInt("durationLength"));
+        assertEquals(EventOutcome.SUCCESS, validations.get(0).getString("outcome"));
+        assertEquals(EventOutcome.INVALID, validations.get(1).getString("outcome"));
+
+        List<RecordedEvent> requests = ofType(events, "com.bank.calculator.CalculationRequest");
+        assertEquals(List.of(EventOutcome.SUCCESS, EventOutcome.INVALID),
+                requests.stream().map(event -> event.getString("outcome")).collect(Collectors.toList()));
+        assertEquals(3, requests.get(1).getInt("principalLength"));
+
+        List<RecordedEvent> calculations = ofType(events, "com.bank.calculator.Calculation");
+        assertEquals(2, calculations.size(), "The invalid request should not reach the engine");
+        assertEquals(CalculationEvent.EMI, calculations.get(0).getString("operation"));
+        assertEquals("bigdecimal", calculations.get(0).getString("engine"));
+        assertEquals(7, calculations.get(0).getInt("principalDigits"));
+        assertEquals(3, calculations.get(0).getInt("durationYears"));
+        assertEquals(CalculationEvent.COMPOUND_INTEREST, calculations.get(1).getString("operation"));
+        assertEquals("fixed-point", calculations.get(1).getString("engine"));
+        assertEquals(EventOutcome.SUCCESS, calculations.get(1).getString("outcome"));
+    }
+
+    @Test
+    @DisplayName("Should record a failed calculation")
+    void testFailureIsRecorded() throws Exception {
+        Path file = directory.resolve("failure.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CalculationEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> new CalculationServiceImpl().calculateEMI(BigDecimal.TEN, 0, BigDecimal.ONE));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> calculations = ofType(RecordingFile.readAllEvents(file), "com.bank.calculator.Calculation");
+        assertEquals(1, calculations.size());
+        assertEquals(EventOutcome.FAILURE, calculations.get(0).getString("outcome"));
+    }
+
+    @Test
+    @DisplayName("Should start the always-on recording once")
+    void testAlwaysOnRecording() {
+        assertTrue(AppConfig.startFlightRecording());
+        assertTrue(AppConfig.startFlightRecording(), "Starting again should be harmless");
+
+        List<Recording> recordings = FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .filter(recording -> AppConfig.FLIGHT_RECORDING_NAME.equals(recording.getName()))
+                .collect(Collectors.toList());
+        assertEquals(1, recordings.size());
+        recordings.get(0).close();
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .collect(Collectors.toList());
+    }
+}
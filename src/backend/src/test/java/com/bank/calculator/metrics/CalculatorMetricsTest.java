@@ -0,0 +1,66 @@
+package com.bank.calculator.metrics;
+
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+import java.lang.management.ManagementFactory; // JDK 11
+
+import javax.management.MBeanServer; // JDK 11
+import javax.management.ObjectName; // JDK 11
+import javax.management.openmbean.CompositeData; // JDK 11
+
+import com.bank.calculator.config.AppConfig;
+import com.bank.calculator.controller.CalculatorController;
+
+/**
+ * Test class for CalculatorMetrics that verifies operations on the calculation path are recorded and readable
+ * through the MBean registered by AppConfig.
+ */
+@DisplayName("Calculator Metrics Tests")
+public class CalculatorMetricsTest {
+
+    @Test
+    @DisplayName("Should expose recorded operations through JMX")
+    void testJmxExposure() throws Exception {
+        assertTrue(AppConfig.registerMetrics());
+        assertTrue(AppConfig.registerMetrics(), "Registering again should be harmless");
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(CalculatorMetrics.OBJECT_NAME);
+        server.invoke(name, "reset", null, null);
+
+        CalculatorController controller = AppConfig.createCalculatorController(
+                AppConfig.createValidationService(), AppConfig.createCalculationService());
+        controller.calculateEMI("10000", "5").getFormattedEmiAmount();
+        controller.validateInputs("abc", "5");
+
+        CompositeData validate = (CompositeData) server.getAttribute(name, "Validate");
+        assertEquals(2L, validate.get("count"));
+        assertEquals(1L, validate.get("failureCount"));
+        assertTrue((Long) validate.get("p999Nanos") >= (Long) validate.get("p50Nanos"));
+
+        CompositeData calculate = (CompositeData) server.getAttribute(name, "Calculate");
+        assertEquals(1L, calculate.get("count"));
+        assertTrue((Long) calculate.get("maxNanos") > 0, "A calculation takes measurable time");
+
+        CompositeData format = (CompositeData) server.getAttribute(name, "Format");
+        assertEquals(1L, format.get("count"));
+
+        controller.calculateEMI("10000.00", "5");
+        assertEquals(1L, ((CompositeData) server.getAttribute(name, "Calculate")).get("count"),
+                "A repeated quote should be answered from the result cache");
+        assertEquals(1L, server.getAttribute(name, "ResultCacheHits"));
+        assertEquals(1L, server.getAttribute(name, "ResultCacheMisses"));
+        assertEquals(0.5, (Double) server.getAttribute(name, "ResultCacheHitRatio"), 1e-9);
+
+        CalculatorMetrics.COALESCED.increment();
+        assertTrue((Long) server.getAttribute(name, "Coalesced") >= 1L);
+
+        server.invoke(name, "reset", null, null);
+        assertEquals(0L, ((CompositeData) server.getAttribute(name, "Calculate")).get("count"));
+        assertEquals(0L, server.getAttribute(name, "Coalesced"));
+        assertEquals(0L, server.getAttribute(name, "ResultCacheHits"));
+        assertEquals(1, controller.getResultCache().size(), "Resetting metrics should keep cached results");
+    }
+}
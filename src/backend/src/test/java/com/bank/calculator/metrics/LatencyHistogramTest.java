@@ -0,0 +1,107 @@
+package com.bank.calculator.metrics;
+
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+import java.util.ArrayList; // JDK 11
+import java.util.List; // JDK 11
+import java.util.Random; // JDK 11
+import java.util.concurrent.ExecutorService; // JDK 11
+import java.util.concurrent.Executors; // JDK 11
+import java.util.concurrent.Future; // JDK 11
+
+/**
+ * Test class for LatencyHistogram that verifies the log-linear bucketing bounds the reporting error and that
+ * percentiles and counts are exact across striped, concurrent recording.
+ */
+@DisplayName("Latency Histogram Tests")
+public class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Should report every value within 1/16 above it")
+    void testBucketBounds() {
+        Random random = new Random(42);
+        List<Long> values = new ArrayList<>(List.of(0L, 1L, 31L, 32L, 33L, 63L, 64L, 1000L, 999_999L,
+                LatencyHistogram.MAX_TRACKABLE_NANOS));
+        for (int i = 0; i < 100_000; i++) {
+            values.add(random.nextLong() >>> (23 + random.nextInt(41)));
+        }
+
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(index >= 0 && index < LatencyHistogram.BUCKET_COUNT, "Index of " + value + " out of range");
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            assertTrue(upper >= value, "Bucket of " + value + " should contain it");
+            assertTrue(upper - value <= value / 16, "Bucket of " + value + " is too wide: " + upper);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.bucketUpperBound(index - 1) < value,
+                        "Previous bucket should end below " + value);
+            }
+        }
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS,
+                LatencyHistogram.bucketUpperBound(LatencyHistogram.BUCKET_COUNT - 1));
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        assertEquals(0, LatencyHistogram.bucketIndex(-5));
+    }
+
+    @Test
+    @DisplayName("Should report percentiles of the recorded latencies")
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram(1);
+        assertEquals(0, histogram.snapshot(0).getP99Nanos(), "An empty histogram should report zero");
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        LatencySnapshot snapshot = histogram.snapshot(7);
+
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(7, snapshot.getFailureCount());
+        assertWithinBucket(500_000, snapshot.getP50Nanos());
+        assertWithinBucket(990_000, snapshot.getP99Nanos());
+        assertWithinBucket(999_000, snapshot.getP999Nanos());
+        assertWithinBucket(1_000_000, snapshot.getMaxNanos());
+
+        histogram.reset();
+        assertEquals(0, histogram.snapshot(0).getCount());
+    }
+
+    @Test
+    @DisplayName("Should count every latency recorded concurrently")
+    void testConcurrentRecording() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram(8);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100_000; i++) {
+                        histogram.record(i % 2 == 0 ? 100 : 10_000);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LatencySnapshot snapshot = histogram.snapshot(0);
+        assertEquals(800_000, snapshot.getCount());
+        assertWithinBucket(100, snapshot.getP50Nanos());
+        assertWithinBucket(10_000, snapshot.getP99Nanos());
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive concurrency")
+    void testInvalidConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram(0));
+    }
+
+    private static void assertWithinBucket(long expected, long actual) {
+        assertEquals(LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(expected)), actual,
+                "Expected the bucket of " + expected);
+    }
+}
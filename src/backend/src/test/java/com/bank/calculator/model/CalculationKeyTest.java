@@ -0,0 +1,98 @@
+package com.bank.calculator.model;
+
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+import java.math.BigDecimal; // JDK 11
+
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.util.ValidationUtils;
+
+/**
+ * Test class for CalculationKey that verifies keys of numerically equal inputs are equal however the amounts
+ * were written, and that keys built from validated strings match keys built from parsed inputs.
+ */
+@DisplayName("Calculation Key Tests")
+public class CalculationKeyTest {
+
+    @Test
+    @DisplayName("Should treat amounts of different scale as the same key")
+    void testScaleInsensitiveEquality() {
+        CalculationKey plain = CalculationKey.of(new BigDecimal("10000"), 5, new BigDecimal("7.5"));
+        CalculationKey scaled = CalculationKey.of(new BigDecimal("10000.00"), 5, new BigDecimal("7.50"));
+        CalculationKey exponent = CalculationKey.of(new BigDecimal("1E+4"), 5, new BigDecimal("0.75E+1"));
+
+        assertEquals(plain, scaled);
+        assertEquals(plain, exponent);
+        assertEquals(plain.hashCode(), scaled.hashCode());
+        assertEquals(plain.hashCode(), exponent.hashCode());
+        assertEquals("10000", plain.getPrincipal().toString(), "The canonical form should not use an exponent");
+        assertEquals("7.5", scaled.getInterestRate().toString());
+    }
+
+    @Test
+    @DisplayName("Should distinguish different principals, durations and rates")
+    void testDistinctKeys() {
+        CalculationKey key = CalculationKey.of(new BigDecimal("10000"), 5, new BigDecimal("7.5"));
+        assertNotEquals(key, CalculationKey.of(new BigDecimal("10000.01"), 5, new BigDecimal("7.5")));
+        assertNotEquals(key, CalculationKey.of(new BigDecimal("10000"), 6, new BigDecimal("7.5")));
+        assertNotEquals(key, CalculationKey.of(new BigDecimal("10000"), 5, new BigDecimal("7.25")));
+        assertNotEquals(key, null);
+    }
+
+    @Test
+    @DisplayName("Should not change when the input it was derived from changes")
+    void testImmutableAfterInputChanges() {
+        CalculationInput input = new CalculationInput(new BigDecimal("25000.50"), 10);
+        CalculationKey key = input.toKey();
+        input.setInterestRate(new BigDecimal("9"));
+
+        assertEquals(CalculationKey.of(new BigDecimal("25000.5"), 10, CalculationConstants.DEFAULT_INTEREST_RATE), key);
+        assertNotEquals(key, input.toKey());
+    }
+
+    @Test
+    @DisplayName("Should build the same key from validated strings as from the parsed input")
+    void testValidatedStringsMatchParsedInput() {
+        String[] principals = {"1000", "1000.0", "1000.00", "25000.5", "25000.50", "250000.75", "999999.99", "1000000"};
+        for (String principalStr : principals) {
+            CalculationInput parsed = ValidationUtils.validateInputs(principalStr, "15").getParsedInput();
+            CalculationKey fromStrings = CalculationKey.ofValidated(principalStr, "15");
+
+            assertEquals(parsed.toKey(), fromStrings, principalStr);
+            assertEquals(parsed.toKey().hashCode(), fromStrings.hashCode(), principalStr);
+            assertEquals(CalculationKey.of(new BigDecimal(principalStr), 15, new BigDecimal("7.50")), fromStrings,
+                    principalStr);
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept validated strings with leading zeros")
+    void testValidatedStringsWithLeadingZeros() {
+        String[][] inputs = {{"1000", "0000000005"}, {"1000", "00000000000000000005"},
+                {"0000000000000000001000", "5"}, {"0000000000000000001000.50", "0000000000000000000030"}};
+        for (String[] strings : inputs) {
+            assertTrue(ValidationUtils.validateInputs(strings[0], strings[1]).isValid(), strings[0] + ", " + strings[1]);
+            CalculationInput parsed = ValidationUtils.validateInputs(strings[0], strings[1]).getParsedInput();
+
+            assertEquals(parsed.toKey(), CalculationKey.ofValidated(strings[0], strings[1]), strings[0] + ", " + strings[1]);
+        }
+        assertThrows(IllegalArgumentException.class, () -> CalculationKey.ofValidated("0001234567890123456", "5"),
+                "More than 15 significant digits should still be rejected");
+        assertThrows(IllegalArgumentException.class, () -> CalculationKey.ofValidated("1000", "01234567890"),
+                "More than 9 significant digits should still be rejected");
+    }
+
+    @Test
+    @DisplayName("Should reject strings that are not in the validated format")
+    void testOfValidatedRejectsUnvalidatedStrings() {
+        assertThrows(IllegalArgumentException.class, () -> CalculationKey.ofValidated("", "5"));
+        assertThrows(IllegalArgumentException.class, () -> CalculationKey.ofValidated("1000.", "5"));
+        assertThrows(IllegalArgumentException.class, () -> CalculationKey.ofValidated("1000.123", "5"));
+        assertThrows(IllegalArgumentException.class, () -> CalculationKey.ofValidated("1,000", "5"));
+        assertThrows(IllegalArgumentException.class, () -> CalculationKey.ofValidated("1000", "5y"));
+        assertThrows(IllegalArgumentException.class, () -> CalculationKey.ofValidated("1000", ""));
+        assertThrows(NullPointerException.class, () -> CalculationKey.ofValidated(null, "5"));
+    }
+}
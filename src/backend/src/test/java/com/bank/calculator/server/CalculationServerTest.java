@@ -0,0 +1,150 @@
+package com.bank.calculator.server;
+
+import org.junit.jupiter.api.AfterEach; // JUnit 5.8.2
+import org.junit.jupiter.api.BeforeEach; // JUnit 5.8.2
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+import java.net.InetAddress; // JDK 11
+import java.net.InetSocketAddress; // JDK 11
+import java.net.URI; // JDK 11
+import java.net.http.HttpClient; // JDK 11
+import java.net.http.HttpRequest; // JDK 11
+import java.net.http.HttpResponse; // JDK 11
+import java.util.List; // JDK 11
+import java.util.concurrent.ExecutorService; // JDK 11
+import java.util.concurrent.Executors; // JDK 11
+import java.util.stream.Collectors; // JDK 11
+
+import com.bank.calculator.controller.CalculatorController;
+import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.service.impl.CalculationServiceImpl;
+import com.bank.calculator.service.impl.ValidationServiceImpl;
+
+/**
+ * Test class for CalculationServer that exercises the quote and batch endpoints over a real loopback connection.
+ */
+@DisplayName("Calculation Server Tests")
+public class CalculationServerTest {
+
+    private CalculatorController controller;
+    private ExecutorService executor;
+    private CalculationServer server;
+    private HttpClient client;
+    private String baseUri;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        controller = new CalculatorController(new ValidationServiceImpl(), new CalculationServiceImpl());
+        executor = Executors.newFixedThreadPool(2);
+        server = new CalculationServer(controller, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), executor);
+        server.start();
+        client = HttpClient.newHttpClient();
+        baseUri = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should return a quote for valid inputs")
+    void testQuote() throws Exception {
+        HttpResponse<String> response = get(CalculationServer.QUOTE_PATH + "?principal=25000&duration=5");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("application/json"));
+        String expected = JsonEncoder.appendQuote(new StringBuilder(), controller.calculateEMI("25000", "5")).toString();
+        assertEquals(expected, response.body());
+        assertTrue(response.body().startsWith("{\"status\":\"OK\",\"emi\":"));
+    }
+
+    @Test
+    @DisplayName("Should answer invalid inputs with status 400 and the validation message")
+    void testInvalidQuote() throws Exception {
+        HttpResponse<String> response = get(CalculationServer.QUOTE_PATH + "?principal=abc&duration=5");
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().startsWith("{\"status\":\"ERROR\",\"error\":\""), response.body());
+
+        HttpResponse<String> missing = get(CalculationServer.QUOTE_PATH + "?duration=5");
+        assertEquals(400, missing.statusCode());
+    }
+
+    @Test
+    @DisplayName("Should decode encoded query parameters")
+    void testEncodedQuery() throws Exception {
+        HttpResponse<String> response = get(CalculationServer.QUOTE_PATH + "?x=1&duration=%35&principal=25%30%300");
+        assertEquals(200, response.statusCode(), response.body());
+        String expected = JsonEncoder.appendQuote(new StringBuilder(), controller.calculateEMI("25000", "5")).toString();
+        assertEquals(expected, response.body());
+    }
+
+    @Test
+    @DisplayName("Should answer malformed percent-encoding with status 400")
+    void testMalformedQuery() {
+        // HttpClient refuses to send such a URI, so the query is answered directly
+        String[] queries = {"principal=%zz&duration=5", "principal=25000&duration=5%", "duration=%-1&principal=25000"};
+        for (String query : queries) {
+            StringBuilder body = new StringBuilder();
+
+            assertEquals(400, server.quote(query, body), query);
+            assertEquals("{\"status\":\"ERROR\",\"error\":\"Malformed query string\"}", body.toString(), query);
+        }
+
+        StringBuilder body = new StringBuilder();
+        assertEquals(200, server.quote("principal=25000&duration=5", body));
+        assertEquals(JsonEncoder.appendQuote(new StringBuilder(), controller.calculateEMI("25000", "5")).toString(),
+                body.toString());
+    }
+
+    @Test
+    @DisplayName("Should stream one quote per batch row, skipping the header and blank lines")
+    void testBatch() throws Exception {
+        String body = "principal,durationYears\n25000,5\n\n100000, 30\nnot-a-number,5\n12345\n";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUri + CalculationServer.BATCH_PATH))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        List<String> rows = response.body().lines().collect(Collectors.toList());
+        assertEquals(4, rows.size(), response.body());
+
+        CalculationResult first = controller.calculateEMI("25000", "5");
+        StringBuilder expected = JsonEncoder.appendBatchRow(new StringBuilder(), 2, first, null);
+        assertEquals(expected.toString(), rows.get(0));
+        assertTrue(rows.get(1).startsWith("{\"line\":4,\"status\":\"OK\""), rows.get(1));
+        assertTrue(rows.get(2).startsWith("{\"line\":5,\"status\":\"ERROR\""), rows.get(2));
+        assertTrue(rows.get(3).startsWith("{\"line\":6,\"status\":\"ERROR\""), rows.get(3));
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported methods and unknown paths")
+    void testMethodAndPath() throws Exception {
+        HttpRequest post = HttpRequest.newBuilder(URI.create(baseUri + CalculationServer.QUOTE_PATH))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        HttpResponse<String> response = client.send(post, HttpResponse.BodyHandlers.ofString());
+        assertEquals(405, response.statusCode());
+        assertEquals("GET", response.headers().firstValue("Allow").orElse(null));
+
+        assertEquals(405, get(CalculationServer.BATCH_PATH).statusCode());
+        assertEquals(404, get(CalculationServer.QUOTE_PATH + "/unknown").statusCode());
+    }
+
+    @Test
+    @DisplayName("Should escape JSON strings")
+    void testJsonEscaping() {
+        String json = JsonEncoder.appendError(new StringBuilder(), "a\"b\\c\nd\u0001").toString();
+        assertEquals("{\"status\":\"ERROR\",\"error\":\"a\\\"b\\\\c\\nd\\u0001\"}", json);
+        assertEquals("null", JsonEncoder.appendString(new StringBuilder(), null).toString());
+    }
+
+    private HttpResponse<String> get(String pathAndQuery) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUri + pathAndQuery)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -5,11 +5,26 @@ import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
 import org.junit.jupiter.api.Test; // JUnit 5.8.2
 import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
 
+import java.io.ByteArrayOutputStream; // JDK 11
+import java.io.DataOutputStream; // JDK 11
+import java.io.IOException; // JDK 11
 import java.math.BigDecimal; // JDK 11
+import java.nio.ByteBuffer; // JDK 11
+import java.util.ArrayList; // JDK 11
+import java.util.Arrays; // JDK 11
+import java.util.Collections; // JDK 11
+import java.util.Iterator; // JDK 11
+import java.util.List; // JDK 11
+import java.util.Random; // JDK 11
+import java.util.concurrent.ForkJoinPool; // JDK 11
+import java.util.stream.Collectors; // JDK 11
 
 import com.bank.calculator.service.impl.CalculationServiceImpl;
+import com.bank.calculator.model.AmortizationEntry;
+import com.bank.calculator.model.BatchCalculationResult;
 import com.bank.calculator.model.CalculationInput;
 import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.model.EmiGrid;
 import com.bank.calculator.constant.CalculationConstants;
 import com.bank.calculator.exception.CalculationException;
 import com.bank.calculator.util.BigDecimalUtils;
@@ -329,4 +344,477 @@ public class CalculationServiceTest {
                     result2.getEmiAmount().setScale(2, java.math.RoundingMode.HALF_UP), 
                     "EMI for $25,000 for 3 years at 7.5% should be $777.23");
     }
+    
+    // Test cases for calculateEMIBatch method
+    
+    @Test
+    @DisplayName("Should calculate a batch in input order matching single calculations")
+    void testCalculateEMIBatchPreservesOrder() {
+        List<CalculationInput> inputs = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            BigDecimal principal = new BigDecimal(1000 + i * 1993).setScale(2);
+            inputs.add(new CalculationInput(principal, 1 + i % CalculationConstants.MAX_DURATION_YEARS));
+        }
+        
+        List<BatchCalculationResult> results = calculationService.calculateEMIBatch(inputs);
+        
+        assertEquals(inputs.size(), results.size(), "Batch should return one result per input");
+        for (int i = 0; i < inputs.size(); i++) {
+            BatchCalculationResult item = results.get(i);
+            assertEquals(i, item.getIndex(), "Batch result should keep its input position");
+            assertTrue(item.isSuccess(), "Valid batch item should succeed");
+            assertEquals(calculationService.calculateEMI(inputs.get(i)), item.getResult(),
+                        "Batch result should match the single calculation");
+        }
+    }
+    
+    @Test
+    @DisplayName("Should report failed batch items without aborting the batch")
+    void testCalculateEMIBatchReportsFailures() {
+        CalculationInput valid = new CalculationInput(new BigDecimal("10000.00"), 5);
+        List<CalculationInput> inputs = Arrays.asList(valid, null, valid);
+        
+        List<BatchCalculationResult> results = calculationService.calculateEMIBatch(inputs);
+        
+        assertTrue(results.get(0).isSuccess(), "First item should succeed");
+        assertFalse(results.get(1).isSuccess(), "Null item should fail");
+        assertEquals("E001", results.get(1).getErrorCode(), "Null item should be reported as invalid input");
+        assertNull(results.get(1).getResult(), "Failed item should not carry a result");
+        assertTrue(results.get(2).isSuccess(), "Items after a failure should still be calculated");
+    }
+    
+    @Test
+    @DisplayName("Should return an empty list for an empty batch")
+    void testCalculateEMIBatchWithEmptyBatch() {
+        assertTrue(calculationService.calculateEMIBatch(Collections.emptyList()).isEmpty(),
+                  "Empty batch should produce no results");
+    }
+    
+    @Test
+    @DisplayName("Should throw NullPointerException when batch is null")
+    void testCalculateEMIBatchWithNullBatch() {
+        assertThrows(NullPointerException.class, () -> {
+            calculationService.calculateEMIBatch(null);
+        });
+    }
+    
+    // Test cases for generateAmortizationSchedule method
+    
+    @Test
+    @DisplayName("Should generate one row per installment ending with a zero balance")
+    void testGenerateAmortizationSchedule() {
+        BigDecimal principal = new BigDecimal("250000.00");
+        List<AmortizationEntry> schedule = calculationService
+                .generateAmortizationSchedule(principal, 30, new BigDecimal("6.5"))
+                .collect(Collectors.toList());
+        
+        assertEquals(360, schedule.size(), "A 30-year loan should have 360 installments");
+        AmortizationEntry first = schedule.get(0);
+        assertEquals(1, first.getMonth(), "Schedule should start with month 1");
+        assertEquals(0, new BigDecimal("1354.17").compareTo(first.getInterestComponent()),
+                    "First month interest should be the principal times the monthly rate");
+        
+        BigDecimal principalRepaid = BigDecimal.ZERO;
+        BigDecimal interestPaid = BigDecimal.ZERO;
+        for (int i = 0; i < schedule.size(); i++) {
+            AmortizationEntry entry = schedule.get(i);
+            assertEquals(i + 1, entry.getMonth(), "Rows should be in month order");
+            assertEquals(0, entry.getPayment().compareTo(
+                    entry.getPrincipalComponent().add(entry.getInterestComponent())),
+                    "Principal and interest should add up to the payment");
+            principalRepaid = principalRepaid.add(entry.getPrincipalComponent());
+            interestPaid = interestPaid.add(entry.getInterestComponent());
+        }
+        
+        AmortizationEntry last = schedule.get(schedule.size() - 1);
+        assertEquals(0, BigDecimal.ZERO.compareTo(last.getRemainingBalance()), "Last row should clear the balance");
+        assertEquals(0, principal.compareTo(principalRepaid), "Principal components should repay the principal");
+        assertEquals(0, interestPaid.compareTo(last.getCumulativeInterest()),
+                    "Cumulative interest should equal the summed interest components");
+    }
+    
+    @Test
+    @DisplayName("Should settle the loan without negative amounts when the rounded EMI repays it early")
+    void testGenerateAmortizationScheduleSettlesEarly() {
+        // Rounding these EMIs up to cents overpays by more than a whole installment over the term
+        List<AmortizationEntry> schedule = calculationService
+                .generateAmortizationSchedule(new BigDecimal("1925.77"), 21, new BigDecimal("29.55"))
+                .collect(Collectors.toList());
+        assertEquals(251, schedule.size(), "Loan should be settled in month 251 of 252");
+        AmortizationEntry last = schedule.get(250);
+        assertEquals(0, new BigDecimal("12.05").compareTo(last.getPayment()), "Final installment should settle the balance");
+        assertEquals(0, new BigDecimal("0.29").compareTo(last.getInterestComponent()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(last.getRemainingBalance()));
+        
+        schedule = calculationService.generateAmortizationSchedule(new BigDecimal("1000.00"), 30, new BigDecimal("10"))
+                .collect(Collectors.toList());
+        assertEquals(359, schedule.size(), "Loan should be settled in month 359 of 360");
+        assertTrue(schedule.get(358).getPayment().signum() > 0, "Final installment should be positive");
+    }
+    
+    @Test
+    @DisplayName("Should repay exactly the principal with non-negative rows at rates from 10% to 30%")
+    void testGenerateAmortizationScheduleAtHighRates() {
+        Random random = new Random(2024);
+        for (int i = 0; i < 300; i++) {
+            BigDecimal principal = BigDecimal.valueOf(100_000L + random.nextInt(99_900_001), 2);
+            int durationYears = 1 + random.nextInt(30);
+            BigDecimal rate = BigDecimal.valueOf(1000 + random.nextInt(2001), 2);
+            String loan = principal + ", " + durationYears + " years, " + rate + "%";
+            
+            List<AmortizationEntry> schedule = calculationService
+                    .generateAmortizationSchedule(principal, durationYears, rate)
+                    .collect(Collectors.toList());
+            
+            assertTrue(schedule.size() <= durationYears * 12, "Too many installments for " + loan);
+            BigDecimal principalRepaid = BigDecimal.ZERO;
+            for (AmortizationEntry entry : schedule) {
+                assertTrue(entry.getPayment().signum() >= 0 && entry.getPrincipalComponent().signum() >= 0
+                        && entry.getInterestComponent().signum() >= 0 && entry.getRemainingBalance().signum() >= 0,
+                        "Negative amount in month " + entry.getMonth() + " of " + loan);
+                principalRepaid = principalRepaid.add(entry.getPrincipalComponent());
+            }
+            assertEquals(0, principal.compareTo(principalRepaid), "Principal components should repay " + loan);
+            assertEquals(0, BigDecimal.ZERO.compareTo(schedule.get(schedule.size() - 1).getRemainingBalance()),
+                        "Last row should clear the balance of " + loan);
+        }
+    }
+    
+    @Test
+    @DisplayName("Should pay the rounded EMI in every installment but the last")
+    void testGenerateAmortizationSchedulePayments() {
+        CalculationInput input = new CalculationInput(new BigDecimal("10000.00"), 5);
+        input.setInterestRate(new BigDecimal("7.5"));
+        BigDecimal emi = BigDecimalUtils.round(calculationService.calculateEMI(input).getEmiAmount(),
+                CalculationConstants.CURRENCY_PRECISION);
+        
+        List<AmortizationEntry> schedule = calculationService.generateAmortizationSchedule(input)
+                .collect(Collectors.toList());
+        
+        for (AmortizationEntry entry : schedule.subList(0, schedule.size() - 1)) {
+            assertEquals(emi, entry.getPayment(), "Installment should equal the EMI rounded to cents");
+        }
+        BigDecimal lastPayment = schedule.get(schedule.size() - 1).getPayment();
+        assertTrue(lastPayment.subtract(emi).abs().compareTo(new BigDecimal("1.00")) < 0,
+                  "Final installment should only absorb rounding differences");
+    }
+    
+    @Test
+    @DisplayName("Should split payments into principal only for a zero interest rate")
+    void testGenerateAmortizationScheduleWithZeroInterest() {
+        List<AmortizationEntry> schedule = calculationService
+                .generateAmortizationSchedule(new BigDecimal("1000.00"), 1, BigDecimal.ZERO)
+                .collect(Collectors.toList());
+        
+        assertEquals(12, schedule.size(), "A one-year loan should have 12 installments");
+        for (AmortizationEntry entry : schedule) {
+            assertEquals(0, BigDecimal.ZERO.compareTo(entry.getInterestComponent()), "No interest should accrue");
+        }
+        assertEquals(0, new BigDecimal("916.67").compareTo(schedule.get(0).getRemainingBalance()),
+                    "Balance should fall by the monthly payment");
+        assertEquals(0, new BigDecimal("83.37").compareTo(schedule.get(11).getPayment()),
+                    "Final installment should pay the remaining balance");
+    }
+    
+    @Test
+    @DisplayName("Should produce schedule rows lazily")
+    void testGenerateAmortizationScheduleIsLazy() {
+        Iterator<AmortizationEntry> rows = calculationService
+                .generateAmortizationSchedule(new BigDecimal("500000.00"), 30, new BigDecimal("7.5"))
+                .iterator();
+        
+        assertEquals(1, rows.next().getMonth(), "First row should be available without generating the rest");
+        assertEquals(2, rows.next().getMonth(), "Rows should follow on demand");
+        assertEquals(360, calculationService
+                .generateAmortizationSchedule(new BigDecimal("500000.00"), 30, new BigDecimal("7.5"))
+                .count(), "Counting rows should not require collecting them");
+    }
+    
+    @Test
+    @DisplayName("Should reject invalid schedule arguments")
+    void testGenerateAmortizationScheduleWithInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> calculationService.generateAmortizationSchedule(null));
+        assertThrows(IllegalArgumentException.class, () -> calculationService
+                .generateAmortizationSchedule(new BigDecimal("10000.00"), 0, new BigDecimal("7.5")));
+    }
+    
+    // Test cases for calculateOutstandingBalance and calculateInterestPaid methods
+    
+    @Test
+    @DisplayName("Should match the generated schedule to the cent for every month")
+    void testClosedFormMatchesSchedule() {
+        BigDecimal[] principals = {new BigDecimal("1000.00"), new BigDecimal("250000.00"), new BigDecimal("987654.32")};
+        BigDecimal[] rates = {BigDecimal.ZERO, new BigDecimal("3.25"), new BigDecimal("7.5"), new BigDecimal("29.99")};
+        int[] durations = {1, 7, 30};
+        
+        for (BigDecimal principal : principals) {
+            for (BigDecimal rate : rates) {
+                for (int durationYears : durations) {
+                    List<AmortizationEntry> schedule = calculationService
+                            .generateAmortizationSchedule(principal, durationYears, rate)
+                            .collect(Collectors.toList());
+                    for (AmortizationEntry entry : schedule) {
+                        int month = entry.getMonth();
+                        assertEquals(0, entry.getRemainingBalance().compareTo(calculationService
+                                .calculateOutstandingBalance(principal, durationYears, rate, month)),
+                                "Balance mismatch for " + principal + ", " + durationYears + " years, " + rate + "% at month " + month);
+                        assertEquals(0, entry.getCumulativeInterest().compareTo(calculationService
+                                .calculateInterestPaid(principal, durationYears, rate, 1, month)),
+                                "Interest mismatch for " + principal + ", " + durationYears + " years, " + rate + "% at month " + month);
+                    }
+                }
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Should report a zero balance and no interest after a loan is settled early")
+    void testClosedFormAfterEarlySettlement() {
+        BigDecimal principal = new BigDecimal("1925.77");
+        BigDecimal rate = new BigDecimal("29.55");
+        List<AmortizationEntry> schedule = calculationService.generateAmortizationSchedule(principal, 21, rate)
+                .collect(Collectors.toList());
+        BigDecimal totalInterest = schedule.get(schedule.size() - 1).getCumulativeInterest();
+        
+        assertEquals(0, schedule.get(249).getRemainingBalance().compareTo(
+                calculationService.calculateOutstandingBalance(principal, 21, rate, 250)),
+                "Balance before the settling installment should match the schedule");
+        assertEquals(0, BigDecimal.ZERO.compareTo(calculationService.calculateOutstandingBalance(principal, 21, rate, 251)),
+                    "Balance should be zero once the loan is settled");
+        assertEquals(0, BigDecimal.ZERO.compareTo(calculationService.calculateOutstandingBalance(principal, 21, rate, 252)),
+                    "Balance should stay zero after the loan is settled");
+        assertEquals(0, totalInterest.compareTo(calculationService.calculateInterestPaid(principal, 21, rate, 1, 252)),
+                    "Interest paid over the term should be that of the schedule");
+        assertEquals(0, BigDecimal.ZERO.compareTo(calculationService.calculateInterestPaid(principal, 21, rate, 252, 252)),
+                    "No interest should be paid after the loan is settled");
+        
+        for (int month = 0; month <= 360; month++) {
+            assertTrue(calculationService.calculateOutstandingBalance(new BigDecimal("1000.00"), 30,
+                    new BigDecimal("29.99"), month).signum() >= 0, "Balance should not be negative in month " + month);
+        }
+    }
+    
+    @Test
+    @DisplayName("Should calculate the interest paid between two months")
+    void testCalculateInterestPaidForRange() {
+        CalculationInput input = new CalculationInput(new BigDecimal("300000.00"), 30);
+        input.setInterestRate(new BigDecimal("6.0"));
+        List<AmortizationEntry> schedule = calculationService.generateAmortizationSchedule(input)
+                .collect(Collectors.toList());
+        
+        BigDecimal expected = schedule.get(23).getCumulativeInterest().subtract(schedule.get(11).getCumulativeInterest());
+        
+        assertEquals(0, expected.compareTo(calculationService.calculateInterestPaid(input, 13, 24)),
+                    "Interest for the second year should be the difference of cumulative interest");
+        assertEquals(0, schedule.get(0).getInterestComponent().compareTo(calculationService.calculateInterestPaid(input, 1, 1)),
+                    "Interest for a single month should be that month's interest");
+    }
+    
+    @Test
+    @DisplayName("Should return the principal before the first installment and zero after the last")
+    void testCalculateOutstandingBalanceAtTermBoundaries() {
+        CalculationInput input = new CalculationInput(new BigDecimal("50000.00"), 10);
+        input.setInterestRate(new BigDecimal("7.5"));
+        
+        assertEquals(0, new BigDecimal("50000.00").compareTo(calculationService.calculateOutstandingBalance(input, 0)),
+                    "Balance before any installment should be the principal");
+        assertEquals(0, BigDecimal.ZERO.compareTo(calculationService.calculateOutstandingBalance(input, 120)),
+                    "Balance after the last installment should be zero");
+    }
+    
+    @Test
+    @DisplayName("Should reject months outside the loan term")
+    void testClosedFormWithInvalidMonths() {
+        CalculationInput input = new CalculationInput(new BigDecimal("50000.00"), 1);
+        
+        assertThrows(IllegalArgumentException.class, () -> calculationService.calculateOutstandingBalance(input, -1));
+        assertThrows(IllegalArgumentException.class, () -> calculationService.calculateOutstandingBalance(input, 13));
+        assertThrows(IllegalArgumentException.class, () -> calculationService.calculateInterestPaid(input, 0, 5));
+        assertThrows(IllegalArgumentException.class, () -> calculationService.calculateInterestPaid(input, 6, 5));
+        assertThrows(IllegalArgumentException.class, () -> calculationService.calculateInterestPaid(input, 1, 13));
+        assertThrows(NullPointerException.class, () -> calculationService.calculateOutstandingBalance(null, 1));
+    }
+    
+    // Test cases for the solver methods
+    
+    @Test
+    @DisplayName("Should solve for the interest rate that gives the target EMI to the cent")
+    void testSolveInterestRate() {
+        BigDecimal[] principals = {new BigDecimal("1000.00"), new BigDecimal("250000.00"), new BigDecimal("1000000.00")};
+        BigDecimal[] rates = {new BigDecimal("0.5"), new BigDecimal("3.25"), new BigDecimal("7.5"), new BigDecimal("30")};
+        int[] durations = {1, 7, 30};
+        
+        for (BigDecimal principal : principals) {
+            for (BigDecimal rate : rates) {
+                for (int durationYears : durations) {
+                    BigDecimal targetEmi = installment(principal, durationYears, rate);
+                    BigDecimal solvedRate = calculationService.solveInterestRate(principal, durationYears, targetEmi);
+                    BigDecimal solvedEmi = calculationService.calculateEMI(principal, durationYears, solvedRate).getEmiAmount();
+                    
+                    assertTrue(solvedEmi.subtract(targetEmi).abs().compareTo(new BigDecimal("0.01")) < 0,
+                            "EMI at the solved rate " + solvedRate + "% should be within a cent of " + targetEmi
+                            + " for " + principal + " over " + durationYears + " years");
+                }
+            }
+        }
+        
+        assertEquals(0, BigDecimal.ZERO.compareTo(
+                calculationService.solveInterestRate(new BigDecimal("12000.00"), 1, new BigDecimal("1000.00"))),
+                "Installments that exactly repay the principal should need no interest");
+    }
+    
+    @Test
+    @DisplayName("Should reject a target EMI that does not repay the principal")
+    void testSolveInterestRateWithUnreachableTarget() {
+        assertThrows(CalculationException.class,
+                () -> calculationService.solveInterestRate(new BigDecimal("12000.00"), 1, new BigDecimal("999.99")));
+        assertThrows(IllegalArgumentException.class,
+                () -> calculationService.solveInterestRate(new BigDecimal("12000.00"), 0, new BigDecimal("1000.00")));
+        assertThrows(IllegalArgumentException.class,
+                () -> calculationService.solveInterestRate(new BigDecimal("12000.00"), 1, BigDecimal.ZERO));
+        assertThrows(NullPointerException.class,
+                () -> calculationService.solveInterestRate(null, 1, new BigDecimal("1000.00")));
+    }
+    
+    @Test
+    @DisplayName("Should solve for the largest principal whose EMI fits the budget")
+    void testSolveMaxPrincipal() {
+        BigDecimal[] budgets = {new BigDecimal("85.00"), new BigDecimal("1234.56"), new BigDecimal("25000.00")};
+        BigDecimal[] rates = {BigDecimal.ZERO, new BigDecimal("3.25"), new BigDecimal("7.5"), new BigDecimal("29.99")};
+        int[] durations = {1, 7, 30};
+        
+        for (BigDecimal budget : budgets) {
+            for (BigDecimal rate : rates) {
+                for (int durationYears : durations) {
+                    BigDecimal principal = calculationService.solveMaxPrincipal(budget, durationYears, rate);
+                    
+                    assertTrue(installment(principal, durationYears, rate).compareTo(budget) <= 0,
+                            "EMI of " + principal + " should fit a budget of " + budget);
+                    assertTrue(installment(principal.add(new BigDecimal("0.01")), durationYears, rate).compareTo(budget) > 0,
+                            principal + " should be the largest principal within a budget of " + budget);
+                }
+            }
+        }
+        
+        // Principals of hundreds of millions, beyond the precision of the closed-form estimate
+        BigDecimal[][] largeBudgets = {{new BigDecimal("847653.79"), new BigDecimal("1.05")},
+                {new BigDecimal("2500000.00"), new BigDecimal("0.25")}, {new BigDecimal("9876543.21"), new BigDecimal("12")}};
+        for (BigDecimal[] budget : largeBudgets) {
+            BigDecimal principal = calculationService.solveMaxPrincipal(budget[0], 17, budget[1]);
+            
+            assertTrue(principal.compareTo(new BigDecimal("100000000")) > 0, "Principal should be in the hundreds of millions");
+            assertTrue(installment(principal, 17, budget[1]).compareTo(budget[0]) <= 0,
+                    "EMI of " + principal + " should fit a budget of " + budget[0]);
+            assertTrue(installment(principal.add(new BigDecimal("0.01")), 17, budget[1]).compareTo(budget[0]) > 0,
+                    principal + " should be the largest principal within a budget of " + budget[0]);
+        }
+        
+        assertThrows(IllegalArgumentException.class,
+                () -> calculationService.solveMaxPrincipal(BigDecimal.ZERO, 1, new BigDecimal("7.5")));
+        assertThrows(IllegalArgumentException.class,
+                () -> calculationService.solveMaxPrincipal(new BigDecimal("100.00"), 1, new BigDecimal("-1")));
+    }
+    
+    @Test
+    @DisplayName("Should solve for the shortest duration whose EMI fits the budget")
+    void testSolveMinDuration() {
+        BigDecimal principal = new BigDecimal("250000.00");
+        BigDecimal[] rates = {BigDecimal.ZERO, new BigDecimal("3.25"), new BigDecimal("7.5")};
+        
+        for (BigDecimal rate : rates) {
+            for (int durationYears = 1; durationYears <= CalculationConstants.MAX_DURATION_YEARS; durationYears++) {
+                BigDecimal budget = installment(principal, durationYears, rate);
+                
+                assertEquals(durationYears, calculationService.solveMinDuration(principal, budget, rate),
+                        "The EMI of a " + durationYears + "-year loan at " + rate + "% should need " + durationYears + " years");
+            }
+        }
+        
+        assertThrows(CalculationException.class,
+                () -> calculationService.solveMinDuration(principal, new BigDecimal("1562.50"), new BigDecimal("7.5")),
+                "A budget equal to the monthly interest never repays the loan");
+        assertThrows(IllegalArgumentException.class,
+                () -> calculationService.solveMinDuration(BigDecimal.ZERO, new BigDecimal("100.00"), new BigDecimal("7.5")));
+    }
+    
+    // Test cases for the EMI grid
+    
+    @Test
+    @DisplayName("Should fill every cell of the EMI grid with the EMI of calculateEMI rounded to cents")
+    void testCalculateEMIGrid() {
+        BigDecimal[] principals = {new BigDecimal("1000.00"), new BigDecimal("712242.38"), new BigDecimal("1000000.00")};
+        BigDecimal fromRate = BigDecimal.ZERO;
+        BigDecimal rateStep = new BigDecimal("0.15");
+        int rateCount = 200;
+        
+        for (BigDecimal principal : principals) {
+            EmiGrid grid = calculationService.calculateEMIGrid(principal, fromRate, rateStep, rateCount);
+            
+            assertEquals(rateCount, grid.getRowCount());
+            assertEquals(CalculationConstants.MAX_DURATION_YEARS - CalculationConstants.MIN_DURATION_YEARS + 1,
+                    grid.getColumnCount());
+            for (int row = 0; row < rateCount; row++) {
+                BigDecimal rate = grid.getInterestRate(row);
+                for (int years = grid.getMinYears(); years <= grid.getMaxYears(); years++) {
+                    assertEquals(installment(principal, years, rate), grid.getEmi(row, years),
+                            "EMI of " + principal + " over " + years + " years at " + rate + "%");
+                }
+            }
+            
+            EmiGrid parallelGrid = new CalculationServiceImpl(new ForkJoinPool(4))
+                    .calculateEMIGrid(principal, fromRate, rateStep, rateCount);
+            assertEquals(grid, parallelGrid, "Rows filled in parallel should equal rows filled on the common pool");
+        }
+        
+        // Rounding (1 + r)^n - 1 to ten digits moves this quote 31 cents away from the exact EMI
+        EmiGrid lowRates = calculationService.calculateEMIGrid(new BigDecimal("712242.38"), new BigDecimal("0.01"),
+                new BigDecimal("0.01"), 10);
+        assertEquals(new BigDecimal("59376.35"), lowRates.getEmi(6, 1));
+        assertEquals(installment(new BigDecimal("712242.38"), 1, new BigDecimal("0.07")), lowRates.getEmi(6, 1));
+    }
+    
+    @Test
+    @DisplayName("Should export the EMI grid without boxing and reject invalid grids")
+    void testEMIGridExport() throws IOException {
+        EmiGrid grid = calculationService.calculateEMIGrid(new BigDecimal("250000.00"), new BigDecimal("7.5"),
+                new BigDecimal("0.25"), 3);
+        long[] cells = grid.toArray();
+        assertEquals(3 * grid.getColumnCount(), cells.length);
+        assertEquals(installment(new BigDecimal("250000.00"), 30, new BigDecimal("7.5")), grid.getEmi(0, 30));
+        assertEquals(0, new BigDecimal("8.0").compareTo(grid.getInterestRate(2)));
+        
+        long[] row = new long[grid.getColumnCount() + 1];
+        grid.copyRow(1, row, 1);
+        for (int years = grid.getMinYears(); years <= grid.getMaxYears(); years++) {
+            assertEquals(grid.getEmiCents(1, years), row[years - grid.getMinYears() + 1]);
+        }
+        
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            grid.writeTo(output);
+        }
+        ByteBuffer written = ByteBuffer.wrap(bytes.toByteArray());
+        assertEquals(cells.length * Long.BYTES, written.remaining());
+        for (long cell : cells) {
+            assertEquals(cell, written.getLong());
+        }
+        
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.getEmiCents(3, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.getEmiCents(0, CalculationConstants.MAX_DURATION_YEARS + 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> calculationService.calculateEMIGrid(new BigDecimal("1000.00"), BigDecimal.ONE, BigDecimal.ONE, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> calculationService.calculateEMIGrid(new BigDecimal("1000.00"), new BigDecimal("-1"), BigDecimal.ONE, 1));
+        assertThrows(CalculationException.class,
+                () -> calculationService.calculateEMIGrid(new BigDecimal("1E+20"), BigDecimal.ONE, BigDecimal.ONE, 1),
+                "An EMI beyond the range of cents in a long should be reported");
+    }
+    
+    /**
+     * Returns the installment of a loan: its EMI rounded to cents.
+     */
+    private BigDecimal installment(BigDecimal principal, int durationYears, BigDecimal rate) {
+        return BigDecimalUtils.round(calculationService.calculateEMI(principal, durationYears, rate).getEmiAmount(),
+                CalculationConstants.CURRENCY_PRECISION);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.bank.calculator.service.impl;
+
+import org.junit.jupiter.api.BeforeEach; // JUnit 5.8.2
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+import java.math.BigDecimal; // JDK 11
+import java.util.Random; // JDK 11
+
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.exception.CalculationException;
+import com.bank.calculator.model.CalculationResult;
+
+/**
+ * Test class for AdaptivePrecisionCalculationServiceImpl that verifies it produces the same results as the
+ * BigDecimal implementation, falling back to it only rarely.
+ */
+@DisplayName("Adaptive-Precision Calculation Service Tests")
+public class AdaptivePrecisionCalculationServiceImplTest {
+
+    private static final int SAMPLES = 20000;
+
+    private CalculationServiceImpl referenceService;
+    private AdaptivePrecisionCalculationServiceImpl adaptiveService;
+
+    @BeforeEach
+    void setUp() {
+        referenceService = new CalculationServiceImpl();
+        adaptiveService = new AdaptivePrecisionCalculationServiceImpl();
+    }
+
+    @Test
+    @DisplayName("Should match the BigDecimal EMI results across the validated input domain")
+    void testEMIMatchesReferenceImplementation() {
+        Random random = new Random(20240601L);
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal principal = randomPrincipal(random);
+            int durationYears = CalculationConstants.MIN_DURATION_YEARS
+                    + random.nextInt(CalculationConstants.MAX_DURATION_YEARS);
+            BigDecimal interestRate = BigDecimal.valueOf(random.nextInt(3001), 2);
+
+            CalculationResult expected = referenceService.calculateEMI(principal, durationYears, interestRate);
+            CalculationResult actual = adaptiveService.calculateEMI(principal, durationYears, interestRate);
+
+            assertEquals(expected, actual,
+                    "EMI mismatch for " + principal + ", " + durationYears + " years, " + interestRate + "%");
+        }
+        assertEquals(SAMPLES, adaptiveService.getCalculationCount());
+        assertTrue(adaptiveService.getFallbackRatio() < 0.01,
+                "Few calculations should need BigDecimal: " + adaptiveService.getFallbackCount());
+    }
+
+    @Test
+    @DisplayName("Should calculate the default rate without falling back")
+    void testDefaultRateStaysInDoubleArithmetic() {
+        Random random = new Random(20240603L);
+        for (int i = 0; i < 1000; i++) {
+            BigDecimal principal = randomPrincipal(random);
+            int durationYears = CalculationConstants.MIN_DURATION_YEARS
+                    + random.nextInt(CalculationConstants.MAX_DURATION_YEARS);
+            assertEquals(referenceService.calculateEMI(principal, durationYears, CalculationConstants.DEFAULT_INTEREST_RATE),
+                        adaptiveService.calculateEMI(principal, durationYears, CalculationConstants.DEFAULT_INTEREST_RATE));
+        }
+        assertTrue(adaptiveService.getFallbackCount() <= 1,
+                "Fallbacks: " + adaptiveService.getFallbackCount());
+    }
+
+    @Test
+    @DisplayName("Should match the BigDecimal results at the domain boundaries and with zero interest")
+    void testBoundaryInputs() {
+        BigDecimal[] principals = {CalculationConstants.MIN_PRINCIPAL_AMOUNT, CalculationConstants.MAX_PRINCIPAL_AMOUNT};
+        int[] durations = {CalculationConstants.MIN_DURATION_YEARS, CalculationConstants.MAX_DURATION_YEARS};
+        BigDecimal[] rates = {BigDecimal.ZERO, new BigDecimal("0.01"), CalculationConstants.DEFAULT_INTEREST_RATE};
+
+        for (BigDecimal principal : principals) {
+            for (int durationYears : durations) {
+                for (BigDecimal rate : rates) {
+                    assertEquals(referenceService.calculateEMI(principal, durationYears, rate),
+                                adaptiveService.calculateEMI(principal, durationYears, rate),
+                                "EMI mismatch for " + principal + ", " + durationYears + " years, " + rate + "%");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to the BigDecimal implementation for inputs it cannot round with certainty")
+    void testFallbackInputs() {
+        BigDecimal principal = new BigDecimal("10000.00");
+        BigDecimal negativeRate = new BigDecimal("-2.5");
+        BigDecimal longPrincipal = new BigDecimal("12345.678901234567891");
+
+        assertEquals(referenceService.calculateEMI(principal, 5, negativeRate),
+                    adaptiveService.calculateEMI(principal, 5, negativeRate),
+                    "Negative rates should fall back");
+        assertEquals(referenceService.calculateEMI(longPrincipal, 5, CalculationConstants.DEFAULT_INTEREST_RATE),
+                    adaptiveService.calculateEMI(longPrincipal, 5, CalculationConstants.DEFAULT_INTEREST_RATE),
+                    "Principals with more digits than a packed value should fall back");
+        assertThrows(CalculationException.class,
+                    () -> adaptiveService.calculateEMI(principal, 5, new BigDecimal("0.0000000001")),
+                    "A denominator that rounds to zero should fail like the BigDecimal implementation");
+        assertEquals(3, adaptiveService.getFallbackCount());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid arguments like the BigDecimal implementation")
+    void testInvalidArguments() {
+        assertThrows(NullPointerException.class,
+                    () -> adaptiveService.calculateEMI(null, 5, CalculationConstants.DEFAULT_INTEREST_RATE));
+        assertThrows(NullPointerException.class,
+                    () -> adaptiveService.calculateEMI(new BigDecimal("10000.00"), 5, null));
+        assertThrows(IllegalArgumentException.class,
+                    () -> adaptiveService.calculateEMI(new BigDecimal("10000.00"), 0, CalculationConstants.DEFAULT_INTEREST_RATE));
+        assertEquals(0, adaptiveService.getCalculationCount());
+    }
+
+    /**
+     * Returns a random principal between the minimum and maximum allowed amounts with two decimal places.
+     */
+    private static BigDecimal randomPrincipal(Random random) {
+        long minCents = CalculationConstants.MIN_PRINCIPAL_AMOUNT.movePointRight(2).longValueExact();
+        long maxCents = CalculationConstants.MAX_PRINCIPAL_AMOUNT.movePointRight(2).longValueExact();
+        long cents = minCents + (long) (random.nextDouble() * (maxCents - minCents + 1));
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
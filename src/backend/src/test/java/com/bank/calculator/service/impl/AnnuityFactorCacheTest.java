@@ -0,0 +1,109 @@
+package com.bank.calculator.service.impl;
+
+import org.junit.jupiter.api.BeforeEach; // JUnit 5.8.2
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+import java.math.BigDecimal; // JDK 11
+import java.util.ArrayList; // JDK 11
+import java.util.List; // JDK 11
+import java.util.concurrent.ExecutorService; // JDK 11
+import java.util.concurrent.Executors; // JDK 11
+import java.util.concurrent.Future; // JDK 11
+
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.util.BigDecimalUtils;
+
+/**
+ * Test class for AnnuityFactorCache that verifies cached factors are identical to uncached ones
+ * and that the cache stays bounded and reports its metrics.
+ */
+@DisplayName("Annuity Factor Cache Tests")
+public class AnnuityFactorCacheTest {
+
+    private static final BigDecimal MONTHLY_RATE = new BigDecimal("0.00625");
+
+    private AnnuityFactorCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new AnnuityFactorCache(4);
+    }
+
+    @Test
+    @DisplayName("Should return factors bit-identical to the uncached computation")
+    void testFactorMatchesUncachedComputation() {
+        for (int years = CalculationConstants.MIN_DURATION_YEARS; years <= CalculationConstants.MAX_DURATION_YEARS; years++) {
+            int months = years * CalculationConstants.MONTHS_IN_YEAR;
+            BigDecimal onePlusRate = BigDecimalUtils.add(CalculationConstants.ONE, MONTHLY_RATE);
+            BigDecimal expectedPower = BigDecimalUtils.pow(onePlusRate, months);
+            BigDecimal expectedDenominator = BigDecimalUtils.subtract(expectedPower, CalculationConstants.ONE);
+
+            AnnuityFactorCache.AnnuityFactor factor = new AnnuityFactorCache(64).getFactor(MONTHLY_RATE, months);
+
+            assertEquals(expectedPower, factor.getGrowthFactor(), "Growth factor should equal the uncached power");
+            assertEquals(expectedDenominator, factor.getDenominator(), "Denominator should equal the uncached value");
+        }
+    }
+
+    @Test
+    @DisplayName("Should count hits and misses")
+    void testHitAndMissCounts() {
+        AnnuityFactorCache.AnnuityFactor first = cache.getFactor(MONTHLY_RATE, 60);
+        AnnuityFactorCache.AnnuityFactor second = cache.getFactor(MONTHLY_RATE, 60);
+
+        assertSame(first, second, "Second lookup should be served from the cache");
+        assertEquals(1, cache.getMissCount(), "First lookup should be a miss");
+        assertEquals(1, cache.getHitCount(), "Second lookup should be a hit");
+        assertEquals(0.5, cache.getHitRate(), 1e-9, "Hit rate should be one half");
+    }
+
+    @Test
+    @DisplayName("Should treat rates with different scales as different keys")
+    void testScaleSensitiveKeys() {
+        cache.getFactor(new BigDecimal("0.00625"), 60);
+        cache.getFactor(new BigDecimal("0.006250"), 60);
+
+        assertEquals(2, cache.getMissCount(), "Differently scaled rates must not share a factor");
+    }
+
+    @Test
+    @DisplayName("Should evict factors to stay within the maximum size")
+    void testEviction() {
+        for (int months = 12; months <= 120; months += 12) {
+            cache.getFactor(MONTHLY_RATE, months);
+        }
+
+        assertTrue(cache.size() <= cache.getMaximumSize(), "Cache should not exceed its maximum size");
+        assertEquals(6, cache.getEvictionCount(), "Ten distinct factors in a cache of four should evict six");
+    }
+
+    @Test
+    @DisplayName("Should give the same factor to concurrent callers")
+    void testConcurrentAccess() throws Exception {
+        AnnuityFactorCache sharedCache = new AnnuityFactorCache(16);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<BigDecimal>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                int months = 12 * (1 + i % 30);
+                futures.add(executor.submit(() -> sharedCache.getFactor(MONTHLY_RATE, months).getDenominator()));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                int months = 12 * (1 + i % 30);
+                assertEquals(AnnuityFactorCache.AnnuityFactor.compute(MONTHLY_RATE, months).getDenominator(),
+                            futures.get(i).get(), "Concurrent lookups should return the computed factor");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(sharedCache.size() <= 16, "Cache should stay bounded under concurrency");
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive maximum size")
+    void testInvalidMaximumSize() {
+        assertThrows(IllegalArgumentException.class, () -> new AnnuityFactorCache(0));
+    }
+}
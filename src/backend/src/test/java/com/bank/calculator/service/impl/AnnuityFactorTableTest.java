@@ -0,0 +1,144 @@
+package com.bank.calculator.service.impl;
+
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import org.junit.jupiter.api.io.TempDir; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+import java.io.IOException; // JDK 11
+import java.math.BigDecimal; // JDK 11
+import java.nio.ByteBuffer; // JDK 11
+import java.nio.file.Files; // JDK 11
+import java.nio.file.Path; // JDK 11
+import java.util.Arrays; // JDK 11
+import java.util.List; // JDK 11
+import java.util.concurrent.ForkJoinPool; // JDK 11
+import java.util.stream.Stream; // JDK 11
+
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.util.BigDecimalUtils;
+
+/**
+ * Test class for AnnuityFactorTable that verifies stored factors equal computed ones, that invalid files are
+ * rejected, and that a cache backed by a table serves the rate card from it.
+ */
+@DisplayName("Annuity Factor Table Tests")
+public class AnnuityFactorTableTest {
+
+    private static final List<BigDecimal> RATE_CARD = Arrays.asList(
+            new BigDecimal("0"), new BigDecimal("0.5"), new BigDecimal("7.5"), new BigDecimal("12.25"),
+            new BigDecimal("30"), new BigDecimal("7.50"));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should store factors equal to the computed ones for every rate and duration")
+    void testFactorsMatchComputation() throws IOException {
+        Path file = directory.resolve("annuity-factors.bin");
+        AnnuityFactorTable.write(file, RATE_CARD, CalculationConstants.MAX_DURATION_YEARS);
+        AnnuityFactorTable table = AnnuityFactorTable.load(file);
+
+        assertEquals(5, table.getRateCount(), "Equal rates of different scales should be stored once");
+        assertEquals(CalculationConstants.MAX_DURATION_YEARS, table.getMaxYears());
+        for (BigDecimal interestRate : RATE_CARD) {
+            BigDecimal monthlyRate = monthlyRate(interestRate);
+            for (int years = 1; years <= CalculationConstants.MAX_DURATION_YEARS; years++) {
+                int months = years * CalculationConstants.MONTHS_IN_YEAR;
+                AnnuityFactorCache.AnnuityFactor expected = AnnuityFactorCache.AnnuityFactor.compute(monthlyRate, months);
+                AnnuityFactorCache.AnnuityFactor stored = table.lookup(monthlyRate, months);
+
+                assertNotNull(stored, "Rate " + interestRate + " over " + years + " years should be stored");
+                assertEquals(0, expected.getGrowthFactor().compareTo(stored.getGrowthFactor()),
+                        "Growth factor of " + interestRate + "% over " + years + " years");
+                assertEquals(0, expected.getDenominator().compareTo(stored.getDenominator()),
+                        "Denominator of " + interestRate + "% over " + years + " years");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should not find rates or durations outside the table")
+    void testLookupMisses() throws IOException {
+        Path file = directory.resolve("annuity-factors.bin");
+        AnnuityFactorTable.write(file, RATE_CARD, 10);
+        AnnuityFactorTable table = AnnuityFactorTable.load(file);
+        BigDecimal monthlyRate = monthlyRate(CalculationConstants.DEFAULT_INTEREST_RATE);
+
+        assertNotNull(table.lookup(monthlyRate, 120));
+        assertNotNull(table.lookup(new BigDecimal("0.006250"), 120), "Trailing zeros should not affect the lookup");
+        assertNull(table.lookup(monthlyRate(new BigDecimal("7.55")), 120), "Rates off the card should not be found");
+        assertNull(table.lookup(monthlyRate, 132), "Durations beyond the table should not be found");
+        assertNull(table.lookup(monthlyRate, 121), "Durations of part years should not be found");
+        assertNull(table.lookup(new BigDecimal("-0.00625"), 120), "Negative rates should not be found");
+    }
+
+    @Test
+    @DisplayName("Should reject corrupt, truncated and foreign files")
+    void testInvalidFilesRejected() throws IOException {
+        Path file = directory.resolve("annuity-factors.bin");
+        AnnuityFactorTable.write(file, RATE_CARD, CalculationConstants.MAX_DURATION_YEARS);
+        byte[] content = Files.readAllBytes(file);
+
+        byte[] corrupt = content.clone();
+        corrupt[corrupt.length - 1] ^= 1;
+        assertThrows(IOException.class, () -> AnnuityFactorTable.load(Files.write(directory.resolve("corrupt"), corrupt)),
+                "A flipped bit should fail the checksum");
+
+        byte[] truncated = Arrays.copyOf(content, content.length - 8);
+        assertThrows(IOException.class, () -> AnnuityFactorTable.load(Files.write(directory.resolve("truncated"), truncated)),
+                "A truncated table should be rejected");
+
+        byte[] otherVersion = content.clone();
+        ByteBuffer.wrap(otherVersion).putInt(4, AnnuityFactorTable.FORMAT_VERSION + 1);
+        assertThrows(IOException.class, () -> AnnuityFactorTable.load(Files.write(directory.resolve("version"), otherVersion)),
+                "A table of another format version should be rejected");
+
+        assertThrows(IOException.class, () -> AnnuityFactorTable.load(Files.write(directory.resolve("text"), new byte[64])),
+                "A file that is not a table should be rejected");
+    }
+
+    @Test
+    @DisplayName("Should replace an existing table file")
+    void testRewrite() throws IOException {
+        Path file = directory.resolve("annuity-factors.bin");
+        AnnuityFactorTable.write(file, RATE_CARD, 5);
+        AnnuityFactorTable.write(file, RATE_CARD, 10);
+
+        assertEquals(10, AnnuityFactorTable.load(file).getMaxYears());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count(), "No temporary file should be left behind");
+        }
+    }
+
+    @Test
+    @DisplayName("Should read the rate card from the table once, cache it and calculate the same EMIs")
+    void testCacheServesTable() throws IOException {
+        Path file = directory.resolve("annuity-factors.bin");
+        AnnuityFactorTable.write(file, RATE_CARD, CalculationConstants.MAX_DURATION_YEARS);
+        AnnuityFactorCache cache = new AnnuityFactorCache(128, AnnuityFactorTable.load(file));
+        CalculationServiceImpl tableService = new CalculationServiceImpl(ForkJoinPool.commonPool(), cache);
+        CalculationServiceImpl referenceService = new CalculationServiceImpl();
+
+        BigDecimal principal = new BigDecimal("250000.00");
+        for (int pass = 0; pass < 2; pass++) {
+            for (BigDecimal interestRate : new BigDecimal[] {new BigDecimal("7.5"), new BigDecimal("12.25"), new BigDecimal("7.55")}) {
+                for (int years = 1; years <= CalculationConstants.MAX_DURATION_YEARS; years++) {
+                    assertEquals(referenceService.calculateEMI(principal, years, interestRate),
+                            tableService.calculateEMI(principal, years, interestRate),
+                            "EMI mismatch for " + years + " years at " + interestRate + "%");
+                }
+            }
+        }
+
+        assertEquals(60, cache.getTableHitCount(), "Rates on the card should be read from the table once");
+        assertEquals(30, cache.getMissCount(), "Rates off the card should be computed");
+        assertEquals(90, cache.getHitCount(), "The second pass should be served from the cache");
+        assertEquals(90, cache.size(), "Factors read from the table should be cached");
+    }
+
+    private static BigDecimal monthlyRate(BigDecimal interestRate) {
+        return BigDecimalUtils.divide(BigDecimalUtils.percentageToDecimal(interestRate),
+                new BigDecimal(CalculationConstants.MONTHS_IN_YEAR));
+    }
+}
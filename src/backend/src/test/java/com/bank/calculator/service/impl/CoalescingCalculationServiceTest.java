@@ -0,0 +1,152 @@
+package com.bank.calculator.service.impl;
+
+import org.junit.jupiter.api.AfterEach; // JUnit 5.8.2
+import org.junit.jupiter.api.BeforeEach; // JUnit 5.8.2
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+import java.math.BigDecimal; // JDK 11
+import java.util.ArrayList; // JDK 11
+import java.util.List; // JDK 11
+import java.util.concurrent.CountDownLatch; // JDK 11
+import java.util.concurrent.ExecutionException; // JDK 11
+import java.util.concurrent.ExecutorService; // JDK 11
+import java.util.concurrent.Executors; // JDK 11
+import java.util.concurrent.Future; // JDK 11
+import java.util.concurrent.TimeUnit; // JDK 11
+import java.util.concurrent.atomic.AtomicInteger; // JDK 11
+import java.util.function.BooleanSupplier; // JDK 11
+
+import com.bank.calculator.exception.CalculationException;
+import com.bank.calculator.metrics.CalculatorMetrics;
+import com.bank.calculator.model.CalculationInput;
+import com.bank.calculator.model.CalculationResult;
+
+/**
+ * Test class for CoalescingCalculationService that verifies concurrent identical EMI requests share one
+ * calculation of the delegate, while distinct and later requests are calculated on their own.
+ */
+@DisplayName("Coalescing Calculation Service Tests")
+public class CoalescingCalculationServiceTest {
+
+    private static final BigDecimal RATE = new BigDecimal("7.5");
+
+    private BlockingCalculationService delegate;
+    private CoalescingCalculationService service;
+    private ExecutorService threads;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new BlockingCalculationService();
+        service = new CoalescingCalculationService(delegate);
+        threads = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        delegate.release.countDown();
+        threads.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should share one calculation among concurrent identical requests")
+    void testConcurrentIdenticalRequestsShareOneCalculation() throws Exception {
+        long coalescedBefore = CalculatorMetrics.COALESCED.sum();
+        Future<CalculationResult> leader = threads.submit(() -> service.calculateEMI(new BigDecimal("10000"), 5, RATE));
+        assertTrue(delegate.entered.await(5, TimeUnit.SECONDS), "The leader should reach the delegate");
+
+        List<Future<CalculationResult>> waiters = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            waiters.add(threads.submit(() -> service.calculateEMI(new CalculationInput(new BigDecimal("10000"), 5))));
+        }
+        awaitCondition(() -> service.getCoalescedCount() == 4);
+        delegate.release.countDown();
+
+        CalculationResult result = leader.get(5, TimeUnit.SECONDS);
+        for (Future<CalculationResult> waiter : waiters) {
+            assertSame(result, waiter.get(5, TimeUnit.SECONDS), "Waiters should receive the leader's result");
+        }
+        assertEquals(1, delegate.calls.get(), "Only the leader should calculate");
+        assertTrue(CalculatorMetrics.COALESCED.sum() - coalescedBefore >= 4, "Coalesced requests should be counted");
+    }
+
+    @Test
+    @DisplayName("Should calculate requests with different representations separately")
+    void testDifferentRepresentationsAreNotShared() throws Exception {
+        Future<CalculationResult> first = threads.submit(() -> service.calculateEMI(new BigDecimal("10000"), 5, RATE));
+        Future<CalculationResult> second = threads.submit(
+                () -> service.calculateEMI(new BigDecimal("10000.00"), 5, RATE));
+        Future<CalculationResult> third = threads.submit(() -> service.calculateEMI(new BigDecimal("10000"), 6, RATE));
+        awaitCondition(() -> delegate.calls.get() == 3);
+        delegate.release.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        third.get(5, TimeUnit.SECONDS);
+        assertEquals(0, service.getCoalescedCount());
+    }
+
+    @Test
+    @DisplayName("Should hand the leader's failure to every waiter")
+    void testFailureIsShared() throws Exception {
+        delegate.failure = new CalculationException("Calculation failed");
+        Future<CalculationResult> leader = threads.submit(() -> service.calculateEMI(new BigDecimal("10000"), 5, RATE));
+        assertTrue(delegate.entered.await(5, TimeUnit.SECONDS));
+        Future<CalculationResult> waiter = threads.submit(() -> service.calculateEMI(new BigDecimal("10000"), 5, RATE));
+        awaitCondition(() -> service.getCoalescedCount() == 1);
+        delegate.release.countDown();
+
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException waiterFailure = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+        assertSame(delegate.failure, leaderFailure.getCause());
+        assertSame(delegate.failure, waiterFailure.getCause());
+    }
+
+    @Test
+    @DisplayName("Should calculate again once the previous calculation has completed")
+    void testCompletedCalculationsAreNotCached() {
+        delegate.release.countDown();
+        CalculationResult first = service.calculateEMI(new BigDecimal("10000"), 5, RATE);
+        CalculationResult second = service.calculateEMI(new BigDecimal("10000"), 5, RATE);
+
+        assertEquals(first, second);
+        assertEquals(2, delegate.calls.get());
+        assertEquals(0, service.getCoalescedCount());
+        assertThrows(NullPointerException.class, () -> new CoalescingCalculationService(null));
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the requests to arrive");
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * Calculation service whose EMI calculations wait until released, so that requests overlap.
+     */
+    private static final class BlockingCalculationService extends CalculationServiceImpl {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile CalculationException failure;
+
+        @Override
+        public CalculationResult calculateEMI(BigDecimal principal, int durationYears, BigDecimal interestRate) {
+            calls.incrementAndGet();
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return super.calculateEMI(principal, durationYears, interestRate);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.bank.calculator.service.impl;
+
+import org.junit.jupiter.api.BeforeEach; // JUnit 5.8.2
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+import java.math.BigDecimal; // JDK 11
+import java.math.RoundingMode; // JDK 11
+import java.util.Random; // JDK 11
+import java.util.concurrent.ForkJoinPool; // JDK 11
+
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.exception.CalculationException;
+import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.util.FixedPointMath;
+
+/**
+ * Test class for FixedPointCalculationServiceImpl that verifies it produces the same results as the
+ * BigDecimal implementation across the validated input domain.
+ */
+@DisplayName("Fixed-Point Calculation Service Tests")
+public class FixedPointCalculationServiceImplTest {
+
+    private static final int SAMPLES = 20000;
+
+    private CalculationServiceImpl referenceService;
+    private FixedPointCalculationServiceImpl fixedPointService;
+
+    @BeforeEach
+    void setUp() {
+        referenceService = new CalculationServiceImpl();
+        fixedPointService = new FixedPointCalculationServiceImpl();
+    }
+
+    @Test
+    @DisplayName("Should match the BigDecimal EMI results across the validated input domain")
+    void testEMIMatchesReferenceImplementation() {
+        Random random = new Random(20240601L);
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal principal = randomPrincipal(random);
+            int durationYears = CalculationConstants.MIN_DURATION_YEARS
+                    + random.nextInt(CalculationConstants.MAX_DURATION_YEARS);
+            BigDecimal interestRate = BigDecimal.valueOf(random.nextInt(3001), 2);
+
+            CalculationResult expected = referenceService.calculateEMI(principal, durationYears, interestRate);
+            CalculationResult actual = fixedPointService.calculateEMI(principal, durationYears, interestRate);
+
+            assertEquals(expected, actual,
+                    "EMI mismatch for " + principal + ", " + durationYears + " years, " + interestRate + "%");
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the BigDecimal compound interest results across the validated input domain")
+    void testCompoundInterestMatchesReferenceImplementation() {
+        Random random = new Random(20240602L);
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal principal = randomPrincipal(random);
+            int durationYears = CalculationConstants.MIN_DURATION_YEARS
+                    + random.nextInt(CalculationConstants.MAX_DURATION_YEARS);
+            BigDecimal interestRate = BigDecimal.valueOf(random.nextInt(3001), 2);
+
+            BigDecimal expected = referenceService.calculateCompoundInterest(principal, durationYears, interestRate);
+            BigDecimal actual = fixedPointService.calculateCompoundInterest(principal, durationYears, interestRate);
+
+            assertEquals(0, expected.compareTo(actual),
+                    "Compound interest mismatch for " + principal + ", " + durationYears + " years, " + interestRate + "%");
+        }
+    }
+
+    @Test
+    @DisplayName("Should calculate the EMI of packed inputs in cents without creating a result")
+    void testEMICentsMatchReferenceImplementation() {
+        Random random = new Random(20240604L);
+        long[] cents = new long[3];
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal principal = randomPrincipal(random);
+            int durationYears = CalculationConstants.MIN_DURATION_YEARS
+                    + random.nextInt(CalculationConstants.MAX_DURATION_YEARS);
+            BigDecimal interestRate = i % 100 == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(random.nextInt(3001), 2);
+
+            CalculationResult expected = referenceService.calculateEMI(principal, durationYears, interestRate);
+            String message = "EMI mismatch for " + principal + ", " + durationYears + " years, " + interestRate + "%";
+            assertTrue(fixedPointService.calculateEMICents(FixedPointMath.of(principal), durationYears,
+                    FixedPointMath.of(interestRate), cents), message);
+            assertEquals(toCents(expected.getEmiAmount()), cents[0], message);
+            assertEquals(toCents(expected.getTotalAmount()), cents[1], message);
+            assertEquals(toCents(expected.getInterestAmount()), cents[2], message);
+        }
+
+        long principal = FixedPointMath.of(new BigDecimal("10000.00"));
+        assertFalse(fixedPointService.calculateEMICents(principal, 5,
+                FixedPointMath.of(new BigDecimal("0.0000000001")), cents), "A zero denominator cannot be calculated");
+        assertFalse(fixedPointService.calculateEMICents(FixedPointMath.UNREPRESENTABLE, 5,
+                FixedPointMath.of(CalculationConstants.DEFAULT_INTEREST_RATE), cents));
+        assertThrows(IllegalArgumentException.class, () -> fixedPointService.calculateEMICents(principal, 0,
+                FixedPointMath.of(CalculationConstants.DEFAULT_INTEREST_RATE), cents));
+        assertThrows(IndexOutOfBoundsException.class, () -> fixedPointService.calculateEMICents(principal, 5,
+                FixedPointMath.of(CalculationConstants.DEFAULT_INTEREST_RATE), new long[2]));
+    }
+
+    @Test
+    @DisplayName("Should read the annuity factors the BigDecimal implementation cached")
+    void testSharesAnnuityFactorCache() {
+        AnnuityFactorCache cache = new AnnuityFactorCache();
+        CalculationServiceImpl bigDecimalService = new CalculationServiceImpl(ForkJoinPool.commonPool(), cache);
+        FixedPointCalculationServiceImpl sharingService = new FixedPointCalculationServiceImpl(
+                ForkJoinPool.commonPool(), cache);
+        BigDecimal principal = new BigDecimal("250000.00");
+        BigDecimal interestRate = CalculationConstants.DEFAULT_INTEREST_RATE;
+
+        CalculationResult expected = bigDecimalService.calculateEMI(principal, 20, interestRate);
+        long misses = cache.getMissCount();
+        long[] cents = new long[3];
+
+        assertEquals(expected, sharingService.calculateEMI(principal, 20, interestRate));
+        assertTrue(sharingService.calculateEMICents(FixedPointMath.of(principal), 20,
+                FixedPointMath.of(interestRate), cents));
+        assertEquals(toCents(expected.getEmiAmount()), cents[0]);
+        assertEquals(misses, cache.getMissCount(), "The cached factor should be reused");
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    @DisplayName("Should match the BigDecimal results at the domain boundaries and with zero interest")
+    void testBoundaryInputs() {
+        BigDecimal[] principals = {CalculationConstants.MIN_PRINCIPAL_AMOUNT, CalculationConstants.MAX_PRINCIPAL_AMOUNT};
+        int[] durations = {CalculationConstants.MIN_DURATION_YEARS, CalculationConstants.MAX_DURATION_YEARS};
+        BigDecimal[] rates = {BigDecimal.ZERO, new BigDecimal("0.01"), CalculationConstants.DEFAULT_INTEREST_RATE};
+
+        for (BigDecimal principal : principals) {
+            for (int durationYears : durations) {
+                for (BigDecimal rate : rates) {
+                    assertEquals(referenceService.calculateEMI(principal, durationYears, rate),
+                                fixedPointService.calculateEMI(principal, durationYears, rate),
+                                "EMI mismatch for " + principal + ", " + durationYears + " years, " + rate + "%");
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should delegate inputs outside the fixed-point range to the BigDecimal implementation")
+    void testOutOfRangeInputsAreDelegated() {
+        BigDecimal principal = new BigDecimal("10000.00");
+        BigDecimal negativeRate = new BigDecimal("-2.5");
+        BigDecimal longPrincipal = new BigDecimal("12345.678901234567891");
+
+        assertEquals(referenceService.calculateEMI(principal, 5, negativeRate),
+                    fixedPointService.calculateEMI(principal, 5, negativeRate),
+                    "Negative rates should be delegated");
+        assertEquals(referenceService.calculateEMI(longPrincipal, 5, CalculationConstants.DEFAULT_INTEREST_RATE),
+                    fixedPointService.calculateEMI(longPrincipal, 5, CalculationConstants.DEFAULT_INTEREST_RATE),
+                    "Principals with more digits than a packed value should be delegated");
+        assertThrows(CalculationException.class,
+                    () -> fixedPointService.calculateEMI(principal, 5, new BigDecimal("0.0000000001")),
+                    "A denominator that rounds to zero should fail like the BigDecimal implementation");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid arguments like the BigDecimal implementation")
+    void testInvalidArguments() {
+        assertThrows(NullPointerException.class,
+                    () -> fixedPointService.calculateEMI(null, 5, CalculationConstants.DEFAULT_INTEREST_RATE));
+        assertThrows(NullPointerException.class,
+                    () -> fixedPointService.calculateEMI(new BigDecimal("10000.00"), 5, null));
+        assertThrows(IllegalArgumentException.class,
+                    () -> fixedPointService.calculateEMI(new BigDecimal("10000.00"), 0, CalculationConstants.DEFAULT_INTEREST_RATE));
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(CalculationConstants.CURRENCY_PRECISION, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Returns a random principal between the minimum and maximum allowed amounts with two decimal places.
+     */
+    private static BigDecimal randomPrincipal(Random random) {
+        long minCents = CalculationConstants.MIN_PRINCIPAL_AMOUNT.movePointRight(2).longValueExact();
+        long maxCents = CalculationConstants.MAX_PRINCIPAL_AMOUNT.movePointRight(2).longValueExact();
+        long cents = minCents + (long) (random.nextDouble() * (maxCents - minCents + 1));
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
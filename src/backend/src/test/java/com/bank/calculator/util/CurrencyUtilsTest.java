@@ -0,0 +1,111 @@
+package com.bank.calculator.util;
+
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+import java.math.BigDecimal; // JDK 11
+import java.text.NumberFormat; // JDK 11
+import java.util.ArrayList; // JDK 11
+import java.util.List; // JDK 11
+import java.util.Locale; // JDK 11
+import java.util.Random; // JDK 11
+import java.util.concurrent.ExecutorService; // JDK 11
+import java.util.concurrent.Executors; // JDK 11
+import java.util.concurrent.Future; // JDK 11
+
+/**
+ * Test class for CurrencyUtils that verifies the currency formatter produces exactly the output of
+ * {@code NumberFormat.getCurrencyInstance(Locale.US)}, including under concurrent use.
+ */
+@DisplayName("Currency Utils Tests")
+public class CurrencyUtilsTest {
+
+    private static final String[] AMOUNTS = {
+        "0", "0.00", "0.5", "0.015", "0.025", "0.057", "-0.001", "-0.005", "-5", "7", "999.995", "1000",
+        "1.2E+3", "-1234567.891", "100000", "1E+20", "123456789012345678901234.5", "-92233720368547758.08",
+        "92233720368547758.07", "92233720368547758.08"
+    };
+
+    @Test
+    @DisplayName("Should format BigDecimal amounts like the US currency NumberFormat")
+    void testAppendCurrencyMatchesNumberFormat() {
+        NumberFormat reference = NumberFormat.getCurrencyInstance(Locale.US);
+        for (String amount : AMOUNTS) {
+            BigDecimal value = new BigDecimal(amount);
+            assertEquals(reference.format(value), CurrencyUtils.appendCurrency(new StringBuilder(), value).toString(),
+                    "Formatting of " + amount + " should match NumberFormat");
+        }
+    }
+
+    @Test
+    @DisplayName("Should format cents like the US currency NumberFormat")
+    void testFormatCentsMatchesNumberFormat() {
+        NumberFormat reference = NumberFormat.getCurrencyInstance(Locale.US);
+        Random random = new Random(42);
+        List<Long> samples = new ArrayList<>(List.of(0L, 1L, -1L, 99L, 100L, -100000L, 99999999L,
+                Long.MAX_VALUE, Long.MIN_VALUE));
+        for (int i = 0; i < 10000; i++) {
+            samples.add(random.nextLong() >> random.nextInt(64));
+        }
+
+        char[] buffer = new char[CurrencyUtils.MAX_CENTS_CURRENCY_LENGTH + 3];
+        for (long cents : samples) {
+            String expected = reference.format(BigDecimal.valueOf(cents, 2));
+            assertEquals(expected, CurrencyUtils.appendCurrency(new StringBuilder("x"), cents).substring(1),
+                    "Builder formatting of " + cents + " cents should match NumberFormat");
+            int end = CurrencyUtils.formatCurrency(cents, buffer, 3);
+            assertEquals(expected, new String(buffer, 3, end - 3),
+                    "Array formatting of " + cents + " cents should match NumberFormat");
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep formatAsCurrency rounding to currency precision")
+    void testFormatAsCurrency() {
+        assertEquals("$1,200.00", CurrencyUtils.formatAsCurrency(new BigDecimal("1234.56")));
+        assertEquals("$0.57", CurrencyUtils.formatAsCurrency(new BigDecimal("0.5678")));
+        assertThrows(NullPointerException.class, () -> CurrencyUtils.formatAsCurrency(null));
+    }
+
+    @Test
+    @DisplayName("Should reject an array too small for the formatted amount")
+    void testFormatCurrencyBounds() {
+        char[] buffer = new char[9];
+        assertEquals(9, CurrencyUtils.formatCurrency(123456L, buffer, 0));
+        assertEquals("$1,234.56", new String(buffer));
+        assertThrows(IndexOutOfBoundsException.class, () -> CurrencyUtils.formatCurrency(123456L, buffer, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> CurrencyUtils.formatCurrency(1L, buffer, -1));
+        assertThrows(NullPointerException.class, () -> CurrencyUtils.formatCurrency(1L, null, 0));
+    }
+
+    @Test
+    @DisplayName("Should format correctly from many threads at once")
+    void testConcurrentFormatting() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final long seed = t;
+                futures.add(executor.submit(() -> {
+                    NumberFormat reference = NumberFormat.getCurrencyInstance(Locale.US);
+                    Random random = new Random(seed);
+                    StringBuilder builder = new StringBuilder();
+                    for (int i = 0; i < 20000; i++) {
+                        BigDecimal value = BigDecimal.valueOf(random.nextInt(), 2);
+                        builder.setLength(0);
+                        if (!reference.format(value).equals(CurrencyUtils.appendCurrency(builder, value).toString())) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get(), "Every concurrently formatted amount should match NumberFormat");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
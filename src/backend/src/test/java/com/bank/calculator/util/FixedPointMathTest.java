@@ -0,0 +1,131 @@
+package com.bank.calculator.util;
+
+import org.junit.jupiter.api.DisplayName; // JUnit 5.8.2
+import org.junit.jupiter.api.Test; // JUnit 5.8.2
+import static org.junit.jupiter.api.Assertions.*; // JUnit 5.8.2
+
+import java.math.BigDecimal; // JDK 11
+import java.math.MathContext; // JDK 11
+import java.math.RoundingMode; // JDK 11
+import java.util.Random; // JDK 11
+
+/**
+ * Test class for FixedPointMath that verifies each packed operation rounds exactly like the
+ * corresponding BigDecimal operation with a HALF_UP MathContext.
+ */
+@DisplayName("Fixed-Point Math Tests")
+public class FixedPointMathTest {
+
+    private static final int PRECISION = 10;
+    private static final MathContext CONTEXT = new MathContext(PRECISION, RoundingMode.HALF_UP);
+
+    @Test
+    @DisplayName("Should round trip BigDecimal values")
+    void testPackAndUnpack() {
+        BigDecimal value = new BigDecimal("1234567.89");
+        long packed = FixedPointMath.of(value);
+
+        assertEquals(123456789L, FixedPointMath.mantissa(packed));
+        assertEquals(2, FixedPointMath.scale(packed));
+        assertEquals(value, FixedPointMath.toBigDecimal(packed));
+    }
+
+    @Test
+    @DisplayName("Should reject negative and overly long values")
+    void testUnrepresentableValues() {
+        assertEquals(FixedPointMath.UNREPRESENTABLE, FixedPointMath.of(new BigDecimal("-1.5")));
+        assertEquals(FixedPointMath.UNREPRESENTABLE, FixedPointMath.of(new BigDecimal("12345678901234567")));
+        assertEquals(FixedPointMath.UNREPRESENTABLE,
+                    FixedPointMath.divide(FixedPointMath.ONE, FixedPointMath.of(BigDecimal.ZERO), PRECISION));
+        assertEquals(FixedPointMath.UNREPRESENTABLE,
+                    FixedPointMath.subtract(FixedPointMath.ONE, FixedPointMath.of(new BigDecimal("2")), PRECISION));
+        assertEquals(FixedPointMath.UNREPRESENTABLE,
+                    FixedPointMath.multiply(FixedPointMath.UNREPRESENTABLE, FixedPointMath.ONE, PRECISION));
+    }
+
+    @Test
+    @DisplayName("Should round HALF_UP on the first discarded digit, including carries")
+    void testRoundingCarry() {
+        long value = FixedPointMath.of(new BigDecimal("9.9999999995"));
+        assertEquals(0, new BigDecimal("10.00000000").compareTo(
+                FixedPointMath.toBigDecimal(FixedPointMath.round(value, PRECISION))));
+
+        long half = FixedPointMath.of(new BigDecimal("1.00000000050"));
+        assertEquals(0, new BigDecimal("1.000000001").compareTo(
+                FixedPointMath.toBigDecimal(FixedPointMath.round(half, PRECISION))));
+    }
+
+    @Test
+    @DisplayName("Should round to a scale like BigDecimal.setScale")
+    void testUnscaledValue() {
+        Random random = new Random(20240603L);
+        for (int i = 0; i < 10000; i++) {
+            BigDecimal value = BigDecimal.valueOf(random.nextLong() & 0x1FFFFFFFFFFFFFL, random.nextInt(24) - 4);
+            for (int scale = 0; scale <= 4; scale++) {
+                BigDecimal rounded = value.setScale(scale, RoundingMode.HALF_UP);
+                long expected = rounded.precision() > 18
+                        ? FixedPointMath.UNREPRESENTABLE : rounded.unscaledValue().longValueExact();
+                assertEquals(expected, FixedPointMath.unscaledValue(FixedPointMath.of(value), scale),
+                        value + " to scale " + scale);
+            }
+        }
+        assertEquals(1L, FixedPointMath.unscaledValue(FixedPointMath.of(new BigDecimal("0.005")), 2));
+        assertEquals(0L, FixedPointMath.unscaledValue(FixedPointMath.of(new BigDecimal("0.0049999")), 2));
+        assertEquals(0L, FixedPointMath.unscaledValue(FixedPointMath.of(new BigDecimal("9E-30")), 2));
+        assertEquals(FixedPointMath.UNREPRESENTABLE,
+                    FixedPointMath.unscaledValue(FixedPointMath.of(new BigDecimal("1E+17")), 2));
+        assertEquals(FixedPointMath.UNREPRESENTABLE, FixedPointMath.unscaledValue(FixedPointMath.UNREPRESENTABLE, 2));
+    }
+
+    @Test
+    @DisplayName("Should match BigDecimal arithmetic on random operands")
+    void testOperationsMatchBigDecimal() {
+        Random random = new Random(42L);
+        for (int i = 0; i < 10000; i++) {
+            BigDecimal left = randomValue(random);
+            BigDecimal right = randomValue(random);
+            long packedLeft = FixedPointMath.of(left);
+            long packedRight = FixedPointMath.of(right);
+
+            assertNumericEquals(left.multiply(right, CONTEXT),
+                    FixedPointMath.multiply(packedLeft, packedRight, PRECISION), "multiply", left, right);
+            assertNumericEquals(left.add(right).round(CONTEXT),
+                    FixedPointMath.add(packedLeft, packedRight, PRECISION), "add", left, right);
+            if (left.compareTo(right) >= 0) {
+                assertNumericEquals(left.subtract(right).round(CONTEXT),
+                        FixedPointMath.subtract(packedLeft, packedRight, PRECISION), "subtract", left, right);
+            }
+            if (right.signum() != 0) {
+                assertNumericEquals(left.divide(right, CONTEXT),
+                        FixedPointMath.divide(packedLeft, packedRight, PRECISION), "divide", left, right);
+            }
+            assertEquals(Integer.signum(left.compareTo(right)),
+                    Integer.signum(FixedPointMath.compare(packedLeft, packedRight)), "compare " + left + " " + right);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match BigDecimal.pow with a MathContext")
+    void testPowMatchesBigDecimal() {
+        Random random = new Random(7L);
+        for (int i = 0; i < 2000; i++) {
+            BigDecimal base = BigDecimal.ONE.add(BigDecimal.valueOf(random.nextInt(100000000), 10)).round(CONTEXT);
+            int exponent = 12 * (1 + random.nextInt(30));
+
+            assertNumericEquals(base.pow(exponent, CONTEXT),
+                    FixedPointMath.pow(FixedPointMath.of(base), exponent, PRECISION), "pow " + exponent, base, base);
+        }
+    }
+
+    private static BigDecimal randomValue(Random random) {
+        long unscaled = (random.nextLong() >>> 1) % 10_000_000_000_000L;
+        return BigDecimal.valueOf(unscaled, random.nextInt(16));
+    }
+
+    private static void assertNumericEquals(BigDecimal expected, long actual, String operation,
+                                            BigDecimal left, BigDecimal right) {
+        assertNotEquals(FixedPointMath.UNREPRESENTABLE, actual, operation + " should be representable");
+        assertEquals(0, expected.compareTo(FixedPointMath.toBigDecimal(actual)),
+                operation + " mismatch for " + left + " and " + right);
+    }
+}
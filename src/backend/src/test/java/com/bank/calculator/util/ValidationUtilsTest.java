@@ -229,7 +229,46 @@ public class ValidationUtilsTest {
         assertTrue(result3.isValid());
         assertNull(result3.getErrorMessage());
     }
-    
+
+    @Test
+    @DisplayName("Should report durations beyond the int range as format errors")
+    public void testValidateDurationWithOverflowingValue() {
+        ValidationResult result = ValidationUtils.validateDuration("2147483648");
+        assertFalse(result.isValid());
+        assertEquals(ErrorMessages.DURATION_FORMAT, result.getErrorMessage());
+
+        ValidationResult result2 = ValidationUtils.validateDuration("00000000000000000005");
+        assertTrue(result2.isValid());
+    }
+
+    // Tests for validateInputs method
+
+    @Test
+    @DisplayName("Should return the parsed calculation input when both inputs are valid")
+    public void testValidateInputsReturnsParsedInput() {
+        ValidationResult result = ValidationUtils.validateInputs("25000.5", "3");
+
+        assertTrue(result.isValid());
+        assertNull(result.getErrorMessage());
+        assertEquals(new BigDecimal("25000.50"), result.getParsedInput().getPrincipal());
+        assertEquals(3, result.getParsedInput().getDurationYears());
+        assertEquals(CalculationConstants.DEFAULT_INTEREST_RATE, result.getParsedInput().getInterestRate());
+    }
+
+    @Test
+    @DisplayName("Should report the principal error before the duration error")
+    public void testValidateInputsErrorOrder() {
+        ValidationResult result1 = ValidationUtils.validateInputs("99999999999999999999", "0");
+        assertFalse(result1.isValid());
+        assertEquals(ErrorMessages.PRINCIPAL_MAX_EXCEEDED, result1.getErrorMessage());
+        assertNull(result1.getParsedInput());
+
+        ValidationResult result2 = ValidationUtils.validateInputs("1000", " ");
+        assertFalse(result2.isValid());
+        assertEquals(ErrorMessages.DURATION_REQUIRED, result2.getErrorMessage());
+        assertNull(result2.getParsedInput());
+    }
+
     @Test
     @DisplayName("Should return false when checking if null is a positive number")
     public void testIsPositiveNumberWithNullValue() {
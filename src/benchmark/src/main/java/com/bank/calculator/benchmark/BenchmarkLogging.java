@@ -0,0 +1,25 @@
+package com.bank.calculator.benchmark;
+
+import java.util.logging.Level; // JDK 11
+import java.util.logging.Logger; // JDK 11
+
+/**
+ * Raises the application log level for benchmark runs. The services log every calculation at INFO, and writing
+ * those records to the console would otherwise be measured instead of the calculation.
+ */
+final class BenchmarkLogging {
+
+    // Held strongly so that the level is not lost when the logger is garbage collected
+    private static final Logger APPLICATION_LOGGER = Logger.getLogger("com.bank.calculator");
+
+    private BenchmarkLogging() {
+        throw new AssertionError("BenchmarkLogging class should not be instantiated");
+    }
+
+    /**
+     * Suppresses application log records below WARNING in the current JVM.
+     */
+    static void quiet() {
+        APPLICATION_LOGGER.setLevel(Level.WARNING);
+    }
+}
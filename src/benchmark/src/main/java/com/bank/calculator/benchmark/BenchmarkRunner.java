@@ -0,0 +1,40 @@
+package com.bank.calculator.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler; // JMH 1.36
+import org.openjdk.jmh.runner.Runner; // JMH 1.36
+import org.openjdk.jmh.runner.RunnerException; // JMH 1.36
+import org.openjdk.jmh.runner.options.CommandLineOptionException; // JMH 1.36
+import org.openjdk.jmh.runner.options.CommandLineOptions; // JMH 1.36
+import org.openjdk.jmh.runner.options.Options; // JMH 1.36
+import org.openjdk.jmh.runner.options.OptionsBuilder; // JMH 1.36
+
+/**
+ * Entry point of the benchmark jar. Runs the benchmarks selected by the standard JMH command line, or all of
+ * them when no pattern is given, always with the GC profiler attached so that every result reports its
+ * allocation rate ({@code gc.alloc.rate.norm} is the number of bytes allocated per operation).
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        throw new AssertionError("BenchmarkRunner class should not be instantiated");
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args JMH command line options, for example {@code CalculationServiceBenchmark -p durationYears=30}
+     * @throws CommandLineOptionException if the command line cannot be parsed
+     * @throws RunnerException if a benchmark fails
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        if (commandLine.getIncludes().isEmpty()) {
+            builder.include(BenchmarkRunner.class.getPackage().getName() + ".*Benchmark");
+        }
+        Options options = builder.parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,55 @@
+package com.bank.calculator.benchmark;
+
+import java.math.BigDecimal; // JDK 11
+import java.util.concurrent.TimeUnit; // JDK 11
+
+import org.openjdk.jmh.annotations.Benchmark; // JMH 1.36
+import org.openjdk.jmh.annotations.BenchmarkMode; // JMH 1.36
+import org.openjdk.jmh.annotations.Fork; // JMH 1.36
+import org.openjdk.jmh.annotations.Measurement; // JMH 1.36
+import org.openjdk.jmh.annotations.Mode; // JMH 1.36
+import org.openjdk.jmh.annotations.OutputTimeUnit; // JMH 1.36
+import org.openjdk.jmh.annotations.Param; // JMH 1.36
+import org.openjdk.jmh.annotations.Scope; // JMH 1.36
+import org.openjdk.jmh.annotations.Setup; // JMH 1.36
+import org.openjdk.jmh.annotations.State; // JMH 1.36
+import org.openjdk.jmh.annotations.Warmup; // JMH 1.36
+
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.util.BigDecimalUtils;
+
+/**
+ * Benchmarks {@link BigDecimalUtils#pow(BigDecimal, int)} raising a monthly growth factor to the number of
+ * months of the loan, the uncached cost of every annuity factor.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BigDecimalUtilsBenchmark {
+
+    @Param({"1", "5", "15", "30"})
+    public int durationYears;
+
+    @Param({"0.5", "7.5", "20"})
+    public String annualRate;
+
+    private BigDecimal monthlyFactor;
+    private int months;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        BigDecimal monthlyRate = BigDecimalUtils.divide(BigDecimalUtils.percentageToDecimal(new BigDecimal(annualRate)),
+                new BigDecimal(CalculationConstants.MONTHS_IN_YEAR));
+        monthlyFactor = BigDecimal.ONE.add(monthlyRate);
+        months = durationYears * CalculationConstants.MONTHS_IN_YEAR;
+    }
+
+    @Benchmark
+    public BigDecimal pow() {
+        return BigDecimalUtils.pow(monthlyFactor, months);
+    }
+}
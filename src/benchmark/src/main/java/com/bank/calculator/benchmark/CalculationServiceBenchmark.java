@@ -0,0 +1,94 @@
+package com.bank.calculator.benchmark;
+
+import java.math.BigDecimal; // JDK 11
+import java.math.RoundingMode; // JDK 11
+import java.util.concurrent.TimeUnit; // JDK 11
+
+import org.openjdk.jmh.annotations.Benchmark; // JMH 1.36
+import org.openjdk.jmh.annotations.BenchmarkMode; // JMH 1.36
+import org.openjdk.jmh.annotations.Fork; // JMH 1.36
+import org.openjdk.jmh.annotations.Measurement; // JMH 1.36
+import org.openjdk.jmh.annotations.Mode; // JMH 1.36
+import org.openjdk.jmh.annotations.OutputTimeUnit; // JMH 1.36
+import org.openjdk.jmh.annotations.Param; // JMH 1.36
+import org.openjdk.jmh.annotations.Scope; // JMH 1.36
+import org.openjdk.jmh.annotations.Setup; // JMH 1.36
+import org.openjdk.jmh.annotations.State; // JMH 1.36
+import org.openjdk.jmh.annotations.Warmup; // JMH 1.36
+
+import com.bank.calculator.config.AppConfig;
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.model.CalculationResult;
+import com.bank.calculator.service.CalculationService;
+import com.bank.calculator.service.impl.CalculationServiceImpl;
+import com.bank.calculator.service.impl.FixedPointCalculationServiceImpl;
+import com.bank.calculator.util.FixedPointMath;
+
+/**
+ * Benchmarks {@link CalculationServiceImpl#calculateEMI(BigDecimal, int, BigDecimal)} and
+ * {@link CalculationServiceImpl#calculateCompoundInterest(BigDecimal, int, BigDecimal)} across the allowed
+ * principal and duration ranges. The annuity factor of each parameter combination is cached after the first
+ * call, so calculateEMI measures the cached path; {@link BigDecimalUtilsBenchmark} covers the uncached factor.
+ * The {@code engine} parameter selects the implementation as {@link AppConfig#createCalculationService(String)}
+ * does for the {@value AppConfig#CALCULATION_ENGINE_PROPERTY} property. {@code calculateEMICents} measures
+ * the EMI in cents as the batch mode calculates it: from packed values with the {@code fixed-point} engine, and
+ * through calculateEMI and rounding with the others.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CalculationServiceBenchmark {
+
+    @Param({"1000.00", "50000.00", "1000000.00"})
+    public String principal;
+
+    @Param({"1", "5", "15", "30"})
+    public int durationYears;
+
+    @Param({AppConfig.ENGINE_BIG_DECIMAL, AppConfig.ENGINE_FIXED_POINT, AppConfig.ENGINE_ADAPTIVE})
+    public String engine;
+
+    private CalculationService calculationService;
+    private BigDecimal principalAmount;
+    private BigDecimal interestRate;
+    private FixedPointCalculationServiceImpl packedService;
+    private long packedPrincipal;
+    private long packedInterestRate;
+    private final long[] cents = new long[3];
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        calculationService = AppConfig.createCalculationService(engine);
+        principalAmount = new BigDecimal(principal);
+        interestRate = CalculationConstants.DEFAULT_INTEREST_RATE;
+        if (calculationService instanceof FixedPointCalculationServiceImpl) {
+            packedService = (FixedPointCalculationServiceImpl) calculationService;
+        }
+        packedPrincipal = FixedPointMath.of(principalAmount);
+        packedInterestRate = FixedPointMath.of(interestRate);
+    }
+
+    @Benchmark
+    public CalculationResult calculateEMI() {
+        return calculationService.calculateEMI(principalAmount, durationYears, interestRate);
+    }
+
+    @Benchmark
+    public long calculateEMICents() {
+        if (packedService != null && packedService.calculateEMICents(packedPrincipal, durationYears,
+                packedInterestRate, cents)) {
+            return cents[0];
+        }
+        return calculationService.calculateEMI(principalAmount, durationYears, interestRate).getEmiAmount()
+                .setScale(CalculationConstants.CURRENCY_PRECISION, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+
+    @Benchmark
+    public BigDecimal calculateCompoundInterest() {
+        return calculationService.calculateCompoundInterest(principalAmount, durationYears, interestRate);
+    }
+}
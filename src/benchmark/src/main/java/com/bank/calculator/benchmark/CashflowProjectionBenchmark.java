@@ -0,0 +1,84 @@
+package com.bank.calculator.benchmark;
+
+import java.math.BigDecimal; // JDK 11
+import java.util.ArrayList; // JDK 11
+import java.util.List; // JDK 11
+import java.util.Random; // JDK 11
+import java.util.concurrent.ForkJoinPool; // JDK 11
+import java.util.concurrent.TimeUnit; // JDK 11
+
+import org.openjdk.jmh.annotations.Benchmark; // JMH 1.36
+import org.openjdk.jmh.annotations.BenchmarkMode; // JMH 1.36
+import org.openjdk.jmh.annotations.Fork; // JMH 1.36
+import org.openjdk.jmh.annotations.Measurement; // JMH 1.36
+import org.openjdk.jmh.annotations.Mode; // JMH 1.36
+import org.openjdk.jmh.annotations.OutputTimeUnit; // JMH 1.36
+import org.openjdk.jmh.annotations.Param; // JMH 1.36
+import org.openjdk.jmh.annotations.Scope; // JMH 1.36
+import org.openjdk.jmh.annotations.Setup; // JMH 1.36
+import org.openjdk.jmh.annotations.State; // JMH 1.36
+import org.openjdk.jmh.annotations.Warmup; // JMH 1.36
+
+import com.bank.calculator.batch.CashflowProjection;
+import com.bank.calculator.batch.PortfolioCashflowProjector;
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.model.CalculationInput;
+import com.bank.calculator.service.CalculationService;
+import com.bank.calculator.service.impl.CalculationServiceImpl;
+
+/**
+ * Benchmarks {@link PortfolioCashflowProjector#project(List, int)} on a portfolio of {@code loanCount} loans
+ * with principals from $1,000 to $1,000,000, durations from 1 to 30 years and rates from 3% to 12% in steps of
+ * 0.25%, projected over 30 years. Compare with {@code projectWithSchedules}, which sums the rows of
+ * {@code generateAmortizationSchedule} of each loan on the calling thread.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CashflowProjectionBenchmark {
+
+    private static final int HORIZON_MONTHS = CalculationConstants.MAX_DURATION_YEARS * CalculationConstants.MONTHS_IN_YEAR;
+
+    @Param({"10000"})
+    public int loanCount;
+
+    private CalculationService calculationService;
+    private PortfolioCashflowProjector projector;
+    private List<CalculationInput> loans;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        calculationService = new CalculationServiceImpl();
+        projector = new PortfolioCashflowProjector(calculationService, ForkJoinPool.commonPool());
+
+        Random random = new Random(42);
+        loans = new ArrayList<>(loanCount);
+        for (int i = 0; i < loanCount; i++) {
+            CalculationInput loan = new CalculationInput(BigDecimal.valueOf(100_000L + random.nextInt(99_900_001), 2),
+                    CalculationConstants.MIN_DURATION_YEARS + random.nextInt(CalculationConstants.MAX_DURATION_YEARS));
+            loan.setInterestRate(BigDecimal.valueOf(300 + 25 * random.nextInt(37), 2));
+            loans.add(loan);
+        }
+    }
+
+    @Benchmark
+    public CashflowProjection project() {
+        return projector.project(loans, HORIZON_MONTHS);
+    }
+
+    @Benchmark
+    public long[] projectWithSchedules() {
+        long[] cents = new long[2 * HORIZON_MONTHS];
+        for (CalculationInput loan : loans) {
+            calculationService.generateAmortizationSchedule(loan).forEach(entry -> {
+                cents[2 * (entry.getMonth() - 1)] += entry.getPrincipalComponent().movePointRight(2).longValueExact();
+                cents[2 * entry.getMonth() - 1] += entry.getInterestComponent().movePointRight(2).longValueExact();
+            });
+        }
+        return cents;
+    }
+}
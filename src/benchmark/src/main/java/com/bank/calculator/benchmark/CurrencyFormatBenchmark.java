@@ -0,0 +1,93 @@
+package com.bank.calculator.benchmark;
+
+import java.math.BigDecimal; // JDK 11
+import java.text.NumberFormat; // JDK 11
+import java.util.Locale; // JDK 11
+import java.util.Random; // JDK 11
+import java.util.concurrent.TimeUnit; // JDK 11
+
+import org.openjdk.jmh.annotations.Benchmark; // JMH 1.36
+import org.openjdk.jmh.annotations.BenchmarkMode; // JMH 1.36
+import org.openjdk.jmh.annotations.Fork; // JMH 1.36
+import org.openjdk.jmh.annotations.Measurement; // JMH 1.36
+import org.openjdk.jmh.annotations.Mode; // JMH 1.36
+import org.openjdk.jmh.annotations.OutputTimeUnit; // JMH 1.36
+import org.openjdk.jmh.annotations.Scope; // JMH 1.36
+import org.openjdk.jmh.annotations.Setup; // JMH 1.36
+import org.openjdk.jmh.annotations.State; // JMH 1.36
+import org.openjdk.jmh.annotations.Threads; // JMH 1.36
+import org.openjdk.jmh.annotations.Warmup; // JMH 1.36
+
+import com.bank.calculator.util.CurrencyUtils;
+
+/**
+ * Benchmarks the allocation-free formatters of {@link CurrencyUtils} against the shared {@link NumberFormat} they
+ * replaced, from four threads formatting random amounts of up to $21 million. A shared NumberFormat is not
+ * thread-safe, so {@code numberFormatLocked} measures it behind the lock concurrent callers would need and
+ * {@code numberFormatPerThread} gives each thread its own instance.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CurrencyFormatBenchmark {
+
+    private static final int AMOUNTS = 4096;
+
+    private final NumberFormat sharedFormat = NumberFormat.getCurrencyInstance(Locale.US);
+    private final BigDecimal[] amounts = new BigDecimal[AMOUNTS];
+    private final long[] cents = new long[AMOUNTS];
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        Random random = new Random(42);
+        for (int i = 0; i < AMOUNTS; i++) {
+            cents[i] = random.nextInt(Integer.MAX_VALUE);
+            amounts[i] = BigDecimal.valueOf(cents[i], 2);
+        }
+    }
+
+    /**
+     * Per-thread formatting state and the position of the thread in the amounts.
+     */
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        final NumberFormat format = NumberFormat.getCurrencyInstance(Locale.US);
+        final StringBuilder builder = new StringBuilder(CurrencyUtils.MAX_CENTS_CURRENCY_LENGTH);
+        final char[] buffer = new char[CurrencyUtils.MAX_CENTS_CURRENCY_LENGTH];
+        int index;
+
+        int next() {
+            return index++ & (AMOUNTS - 1);
+        }
+    }
+
+    @Benchmark
+    public String numberFormatLocked(ThreadState state) {
+        BigDecimal amount = amounts[state.next()];
+        synchronized (sharedFormat) {
+            return sharedFormat.format(amount);
+        }
+    }
+
+    @Benchmark
+    public String numberFormatPerThread(ThreadState state) {
+        return state.format.format(amounts[state.next()]);
+    }
+
+    @Benchmark
+    public int appendCurrency(ThreadState state) {
+        state.builder.setLength(0);
+        return CurrencyUtils.appendCurrency(state.builder, amounts[state.next()]).length();
+    }
+
+    @Benchmark
+    public int formatCurrency(ThreadState state) {
+        return CurrencyUtils.formatCurrency(cents[state.next()], state.buffer, 0);
+    }
+}
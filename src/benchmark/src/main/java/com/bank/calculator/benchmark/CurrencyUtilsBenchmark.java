@@ -0,0 +1,54 @@
+package com.bank.calculator.benchmark;
+
+import java.math.BigDecimal; // JDK 11
+import java.util.concurrent.TimeUnit; // JDK 11
+
+import org.openjdk.jmh.annotations.Benchmark; // JMH 1.36
+import org.openjdk.jmh.annotations.BenchmarkMode; // JMH 1.36
+import org.openjdk.jmh.annotations.Fork; // JMH 1.36
+import org.openjdk.jmh.annotations.Measurement; // JMH 1.36
+import org.openjdk.jmh.annotations.Mode; // JMH 1.36
+import org.openjdk.jmh.annotations.OutputTimeUnit; // JMH 1.36
+import org.openjdk.jmh.annotations.Param; // JMH 1.36
+import org.openjdk.jmh.annotations.Scope; // JMH 1.36
+import org.openjdk.jmh.annotations.Setup; // JMH 1.36
+import org.openjdk.jmh.annotations.State; // JMH 1.36
+import org.openjdk.jmh.annotations.Warmup; // JMH 1.36
+
+import com.bank.calculator.util.CurrencyUtils;
+
+/**
+ * Benchmarks {@link CurrencyUtils#formatAsCurrency(BigDecimal)} and
+ * {@link CurrencyUtils#parseCurrencyValue(String)} on amounts across the allowed principal range.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CurrencyUtilsBenchmark {
+
+    @Param({"1000.00", "50000.00", "1000000.00"})
+    public String amount;
+
+    private BigDecimal value;
+    private String formatted;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        value = new BigDecimal(amount);
+        formatted = CurrencyUtils.formatAsCurrency(value);
+    }
+
+    @Benchmark
+    public String formatAsCurrency() {
+        return CurrencyUtils.formatAsCurrency(value);
+    }
+
+    @Benchmark
+    public BigDecimal parseCurrencyValue() {
+        return CurrencyUtils.parseCurrencyValue(formatted);
+    }
+}
@@ -0,0 +1,71 @@
+package com.bank.calculator.benchmark;
+
+import java.math.BigDecimal; // JDK 11
+import java.util.concurrent.TimeUnit; // JDK 11
+
+import org.openjdk.jmh.annotations.Benchmark; // JMH 1.36
+import org.openjdk.jmh.annotations.BenchmarkMode; // JMH 1.36
+import org.openjdk.jmh.annotations.Fork; // JMH 1.36
+import org.openjdk.jmh.annotations.Measurement; // JMH 1.36
+import org.openjdk.jmh.annotations.Mode; // JMH 1.36
+import org.openjdk.jmh.annotations.OutputTimeUnit; // JMH 1.36
+import org.openjdk.jmh.annotations.Param; // JMH 1.36
+import org.openjdk.jmh.annotations.Scope; // JMH 1.36
+import org.openjdk.jmh.annotations.Setup; // JMH 1.36
+import org.openjdk.jmh.annotations.State; // JMH 1.36
+import org.openjdk.jmh.annotations.Warmup; // JMH 1.36
+
+import com.bank.calculator.constant.CalculationConstants;
+import com.bank.calculator.model.EmiGrid;
+import com.bank.calculator.service.CalculationService;
+import com.bank.calculator.service.impl.CalculationServiceImpl;
+
+/**
+ * Benchmarks {@link CalculationServiceImpl#calculateEMIGrid(BigDecimal, BigDecimal, BigDecimal, int)} filling a
+ * grid of {@code rateCount} rates, from 2% in steps of 0.05%, by every duration from 1 to 30 years. Compare with
+ * {@code calculateEMIPerCell}, which calls calculateEMI once per cell with a warm annuity factor cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class EmiGridBenchmark {
+
+    private static final BigDecimal PRINCIPAL = new BigDecimal("250000.00");
+    private static final BigDecimal FROM_RATE = new BigDecimal("2");
+    private static final BigDecimal RATE_STEP = new BigDecimal("0.05");
+
+    @Param({"20", "200"})
+    public int rateCount;
+
+    private CalculationService calculationService;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        calculationService = new CalculationServiceImpl();
+    }
+
+    @Benchmark
+    public EmiGrid calculateEMIGrid() {
+        return calculationService.calculateEMIGrid(PRINCIPAL, FROM_RATE, RATE_STEP, rateCount);
+    }
+
+    @Benchmark
+    public long[] calculateEMIPerCell() {
+        int columnCount = CalculationConstants.MAX_DURATION_YEARS - CalculationConstants.MIN_DURATION_YEARS + 1;
+        long[] emiCents = new long[rateCount * columnCount];
+        for (int row = 0; row < rateCount; row++) {
+            BigDecimal interestRate = FROM_RATE.add(RATE_STEP.multiply(BigDecimal.valueOf(row)));
+            for (int column = 0; column < columnCount; column++) {
+                BigDecimal emi = calculationService.calculateEMI(PRINCIPAL,
+                        CalculationConstants.MIN_DURATION_YEARS + column, interestRate).getEmiAmount();
+                emiCents[row * columnCount + column] = emi.movePointRight(CalculationConstants.CURRENCY_PRECISION)
+                        .longValue();
+            }
+        }
+        return emiCents;
+    }
+}
@@ -0,0 +1,103 @@
+package com.bank.calculator.benchmark;
+
+import java.math.BigDecimal; // JDK 11
+import java.math.RoundingMode; // JDK 11
+import java.util.concurrent.TimeUnit; // JDK 11
+
+import org.openjdk.jmh.annotations.Benchmark; // JMH 1.36
+import org.openjdk.jmh.annotations.BenchmarkMode; // JMH 1.36
+import org.openjdk.jmh.annotations.Fork; // JMH 1.36
+import org.openjdk.jmh.annotations.Measurement; // JMH 1.36
+import org.openjdk.jmh.annotations.Mode; // JMH 1.36
+import org.openjdk.jmh.annotations.OutputTimeUnit; // JMH 1.36
+import org.openjdk.jmh.annotations.Param; // JMH 1.36
+import org.openjdk.jmh.annotations.Scope; // JMH 1.36
+import org.openjdk.jmh.annotations.Setup; // JMH 1.36
+import org.openjdk.jmh.annotations.State; // JMH 1.36
+import org.openjdk.jmh.annotations.Warmup; // JMH 1.36
+
+import com.bank.calculator.service.CalculationService;
+import com.bank.calculator.service.impl.CalculationServiceImpl;
+
+/**
+ * Benchmarks the reverse solvers of {@link CalculationServiceImpl} against the brute-force searches they
+ * replace: {@code solveInterestRate} against a scan of the rates in steps of 0.01% until the EMI reaches the
+ * target, and {@code solveMaxPrincipal} against a bisection over cents calling calculateEMI. The target EMI and
+ * budget are those of a $250,000 loan at {@code interestRate}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class EmiSolverBenchmark {
+
+    private static final BigDecimal PRINCIPAL = new BigDecimal("250000.00");
+    private static final BigDecimal RATE_STEP = new BigDecimal("0.01");
+
+    @Param({"5", "30"})
+    public int durationYears;
+
+    @Param({"3.25", "7.5", "18"})
+    public String interestRate;
+
+    private CalculationService calculationService;
+    private BigDecimal rate;
+    private BigDecimal targetEmi;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        calculationService = new CalculationServiceImpl();
+        rate = new BigDecimal(interestRate);
+        targetEmi = calculationService.calculateEMI(PRINCIPAL, durationYears, rate).getEmiAmount()
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public BigDecimal solveInterestRate() {
+        return calculationService.solveInterestRate(PRINCIPAL, durationYears, targetEmi);
+    }
+
+    @Benchmark
+    public BigDecimal scanInterestRate() {
+        BigDecimal candidate = BigDecimal.ZERO;
+        BigDecimal previousError = null;
+        while (true) {
+            BigDecimal error = emi(PRINCIPAL, candidate).subtract(targetEmi);
+            if (error.signum() >= 0) {
+                return previousError != null && previousError.abs().compareTo(error) < 0
+                        ? candidate.subtract(RATE_STEP) : candidate;
+            }
+            previousError = error;
+            candidate = candidate.add(RATE_STEP);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal solveMaxPrincipal() {
+        return calculationService.solveMaxPrincipal(targetEmi, durationYears, rate);
+    }
+
+    @Benchmark
+    public BigDecimal bisectMaxPrincipal() {
+        // Invariant: the installment of low fits the budget and that of high does not
+        long low = 0L;
+        long high = targetEmi.movePointRight(2).longValueExact() * durationYears * 12L + 1L;
+        while (high - low > 1L) {
+            long middle = (low + high) >>> 1;
+            BigDecimal installment = emi(BigDecimal.valueOf(middle, 2), rate).setScale(2, RoundingMode.HALF_UP);
+            if (installment.compareTo(targetEmi) <= 0) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return BigDecimal.valueOf(low, 2);
+    }
+
+    private BigDecimal emi(BigDecimal principal, BigDecimal annualRate) {
+        return calculationService.calculateEMI(principal, durationYears, annualRate).getEmiAmount();
+    }
+}
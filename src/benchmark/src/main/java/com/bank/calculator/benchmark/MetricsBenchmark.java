@@ -0,0 +1,48 @@
+package com.bank.calculator.benchmark;
+
+import java.util.concurrent.TimeUnit; // JDK 11
+
+import org.openjdk.jmh.annotations.Benchmark; // JMH 1.36
+import org.openjdk.jmh.annotations.BenchmarkMode; // JMH 1.36
+import org.openjdk.jmh.annotations.Fork; // JMH 1.36
+import org.openjdk.jmh.annotations.Measurement; // JMH 1.36
+import org.openjdk.jmh.annotations.Mode; // JMH 1.36
+import org.openjdk.jmh.annotations.OutputTimeUnit; // JMH 1.36
+import org.openjdk.jmh.annotations.Scope; // JMH 1.36
+import org.openjdk.jmh.annotations.State; // JMH 1.36
+import org.openjdk.jmh.annotations.Threads; // JMH 1.36
+import org.openjdk.jmh.annotations.Warmup; // JMH 1.36
+
+import com.bank.calculator.metrics.OperationMetrics;
+
+/**
+ * Benchmarks the cost that latency recording adds to an operation: the second clock read and the striped
+ * histogram increment of {@link OperationMetrics#record(long)}, from one thread and from four threads recording
+ * into the same histogram.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+    private final OperationMetrics metrics = new OperationMetrics("benchmark");
+
+    @Benchmark
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    @Benchmark
+    public void record() {
+        metrics.record(System.nanoTime());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordContended() {
+        metrics.record(System.nanoTime());
+    }
+}
@@ -0,0 +1,84 @@
+package com.bank.calculator.benchmark;
+
+import java.util.Arrays; // JDK 11
+import java.util.Random; // JDK 11
+import java.util.concurrent.TimeUnit; // JDK 11
+
+import org.openjdk.jmh.annotations.Benchmark; // JMH 1.36
+import org.openjdk.jmh.annotations.BenchmarkMode; // JMH 1.36
+import org.openjdk.jmh.annotations.Fork; // JMH 1.36
+import org.openjdk.jmh.annotations.Measurement; // JMH 1.36
+import org.openjdk.jmh.annotations.Mode; // JMH 1.36
+import org.openjdk.jmh.annotations.OutputTimeUnit; // JMH 1.36
+import org.openjdk.jmh.annotations.Param; // JMH 1.36
+import org.openjdk.jmh.annotations.Scope; // JMH 1.36
+import org.openjdk.jmh.annotations.Setup; // JMH 1.36
+import org.openjdk.jmh.annotations.State; // JMH 1.36
+import org.openjdk.jmh.annotations.Warmup; // JMH 1.36
+
+import com.bank.calculator.cache.TinyLfuCache;
+import com.bank.calculator.config.AppConfig;
+import com.bank.calculator.controller.CalculatorController;
+import com.bank.calculator.model.CalculationResult;
+
+/**
+ * Benchmarks {@link CalculatorController#calculateEMI(String, String)} with and without a result cache on a
+ * skewed stream of quotes: a few product amounts are requested most of the time and a long tail rarely, with
+ * request frequencies following a Zipf distribution over {@value #DISTINCT_QUOTES} distinct quotes. A cache size
+ * of 0 calculates every request.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ResultCacheBenchmark {
+
+    private static final int DISTINCT_QUOTES = 100_000;
+    private static final int REQUESTS = 1 << 16;
+
+    @Param({"0", "1024", "8192"})
+    public int cacheSize;
+
+    @Param({"1.0"})
+    public double zipfExponent;
+
+    private CalculatorController controller;
+    private String[] principals;
+    private String[] durations;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        controller = new CalculatorController(AppConfig.createValidationService(),
+                AppConfig.createCalculationService(),
+                cacheSize == 0 ? null : new TinyLfuCache<>(cacheSize));
+
+        // Cumulative Zipf weights of the quotes, ranked by popularity
+        double[] cumulative = new double[DISTINCT_QUOTES];
+        double total = 0;
+        for (int rank = 0; rank < DISTINCT_QUOTES; rank++) {
+            total += 1.0 / Math.pow(rank + 1, zipfExponent);
+            cumulative[rank] = total;
+        }
+
+        Random random = new Random(42);
+        principals = new String[REQUESTS];
+        durations = new String[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            int rank = index >= 0 ? index : -index - 1;
+            // Spread the ranks over the allowed principal range in steps of $50, and over 1 to 30 years
+            principals[i] = (1000 + (rank / 30) * 50) + ".00";
+            durations[i] = Integer.toString(rank % 30 + 1);
+        }
+    }
+
+    @Benchmark
+    public CalculationResult calculateEMI() {
+        int i = next++ & (REQUESTS - 1);
+        return controller.calculateEMI(principals[i], durations[i]);
+    }
+}
@@ -0,0 +1,151 @@
+package com.bank.calculator.benchmark;
+
+import java.io.IOException; // JDK 11
+import java.net.InetAddress; // JDK 11
+import java.net.InetSocketAddress; // JDK 11
+import java.net.URI; // JDK 11
+import java.net.http.HttpClient; // JDK 11
+import java.net.http.HttpRequest; // JDK 11
+import java.net.http.HttpResponse; // JDK 11
+import java.util.ArrayList; // JDK 11
+import java.util.List; // JDK 11
+import java.util.concurrent.ExecutorService; // JDK 11
+import java.util.concurrent.Executors; // JDK 11
+import java.util.concurrent.TimeUnit; // JDK 11
+import java.util.concurrent.atomic.LongAdder; // JDK 11
+
+import com.bank.calculator.config.AppConfig;
+import com.bank.calculator.metrics.LatencyHistogram;
+import com.bank.calculator.metrics.LatencySnapshot;
+import com.bank.calculator.server.CalculationServer;
+
+/**
+ * Load-test harness for the HTTP calculation service. A fixed number of client threads each send single-quote
+ * requests back to back for a fixed time over keep-alive connections, and the harness reports the sustained
+ * requests per second and the p50, p99, p999 and maximum latency of the requests completed after the warm-up.
+ * <p>
+ * Without a URL the harness starts the service in-process on a free loopback port, configured as in
+ * {@code --serve} mode (including {@value AppConfig#SERVER_THREADS_PROPERTY}); with a URL it loads a service
+ * started separately, which keeps the client's CPU use out of the server's process. The clients are closed-loop:
+ * each waits for its response before sending the next request, so past saturation the offered load drops instead
+ * of queueing, and the reported tail latency understates what an open stream of requests would see.
+ * <pre>
+ * java -cp target/benchmarks.jar com.bank.calculator.benchmark.ServerLoadTest [clients] [seconds] [url]
+ * </pre>
+ */
+public final class ServerLoadTest {
+
+    private static final int DEFAULT_CLIENTS = 16;
+    private static final int DEFAULT_SECONDS = 30;
+    private static final int WARMUP_SECONDS = 5;
+    private static final int STATUS_OK = 200;
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    /**
+     * Valid inputs spanning the allowed principal range and loan durations, cycled through by the clients.
+     */
+    private static final String[] PRINCIPALS = {"1000", "25000", "250000.75", "1000000"};
+    private static final String[] DURATIONS = {"1", "5", "15", "30"};
+
+    private ServerLoadTest() {
+        throw new AssertionError("ServerLoadTest class should not be instantiated");
+    }
+
+    /**
+     * Runs the load test and prints its results.
+     *
+     * @param args the number of client threads, the measured duration in seconds and the base URL of the
+     *             service, all optional
+     * @throws Exception if the in-process service cannot be started or the clients are interrupted
+     */
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CLIENTS;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SECONDS;
+
+        CalculationServer server = null;
+        ExecutorService serverExecutor = null;
+        String baseUrl;
+        if (args.length > 2) {
+            baseUrl = args[2];
+        } else {
+            BenchmarkLogging.quiet();
+            serverExecutor = AppConfig.createServerExecutor();
+            server = new CalculationServer(
+                    AppConfig.createCalculatorController(
+                            AppConfig.createValidationService(), AppConfig.createCoalescingCalculationService()),
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), serverExecutor);
+            server.start();
+            baseUrl = "http://localhost:" + server.getAddress().getPort();
+        }
+
+        try {
+            run(baseUrl, clients, seconds);
+        } finally {
+            if (server != null) {
+                server.stop(0);
+                serverExecutor.shutdownNow();
+            }
+        }
+    }
+
+    private static void run(String baseUrl, int clients, int seconds) throws InterruptedException {
+        List<URI> uris = new ArrayList<>();
+        for (String principal : PRINCIPALS) {
+            for (String duration : DURATIONS) {
+                uris.add(URI.create(baseUrl + CalculationServer.QUOTE_PATH
+                        + "?principal=" + principal + "&duration=" + duration));
+            }
+        }
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newFixedThreadPool(clients, runnable -> {
+                    Thread thread = new Thread(runnable, "load-test-io");
+                    thread.setDaemon(true);
+                    return thread;
+                }))
+                .build();
+
+        LatencyHistogram histogram = new LatencyHistogram(clients);
+        LongAdder errors = new LongAdder();
+        long measureStart = System.nanoTime() + TimeUnit.SECONDS.toNanos(WARMUP_SECONDS);
+        long measureEnd = measureStart + TimeUnit.SECONDS.toNanos(seconds);
+
+        System.out.printf("Loading %s with %d clients: %d s warm-up, %d s measured%n",
+                baseUrl, clients, WARMUP_SECONDS, seconds);
+        ExecutorService clientThreads = Executors.newFixedThreadPool(clients);
+        for (int c = 0; c < clients; c++) {
+            int offset = c;
+            clientThreads.execute(() -> {
+                int next = offset;
+                long start;
+                while ((start = System.nanoTime()) < measureEnd) {
+                    HttpRequest request = HttpRequest.newBuilder(uris.get(next++ % uris.size())).GET().build();
+                    boolean ok;
+                    try {
+                        ok = httpClient.send(request, HttpResponse.BodyHandlers.ofString()).statusCode() == STATUS_OK;
+                    } catch (IOException e) {
+                        ok = false;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (start >= measureStart) {
+                        histogram.record(System.nanoTime() - start);
+                        if (!ok) {
+                            errors.increment();
+                        }
+                    }
+                }
+            });
+        }
+        clientThreads.shutdown();
+        clientThreads.awaitTermination(WARMUP_SECONDS + seconds + 60L, TimeUnit.SECONDS);
+
+        LatencySnapshot snapshot = histogram.snapshot(errors.sum());
+        System.out.printf("Requests:    %d (%d failed)%n", snapshot.getCount(), snapshot.getFailureCount());
+        System.out.printf("Throughput:  %.0f requests/s%n", snapshot.getCount() / (double) seconds);
+        System.out.printf("Latency:     p50 %.0f us, p99 %.0f us, p999 %.0f us, max %.0f us%n",
+                snapshot.getP50Nanos() / NANOS_PER_MICRO, snapshot.getP99Nanos() / NANOS_PER_MICRO,
+                snapshot.getP999Nanos() / NANOS_PER_MICRO, snapshot.getMaxNanos() / NANOS_PER_MICRO);
+    }
+}
@@ -0,0 +1,51 @@
+package com.bank.calculator.benchmark;
+
+import java.util.concurrent.TimeUnit; // JDK 11
+
+import org.openjdk.jmh.annotations.Benchmark; // JMH 1.36
+import org.openjdk.jmh.annotations.BenchmarkMode; // JMH 1.36
+import org.openjdk.jmh.annotations.Fork; // JMH 1.36
+import org.openjdk.jmh.annotations.Measurement; // JMH 1.36
+import org.openjdk.jmh.annotations.Mode; // JMH 1.36
+import org.openjdk.jmh.annotations.OutputTimeUnit; // JMH 1.36
+import org.openjdk.jmh.annotations.Param; // JMH 1.36
+import org.openjdk.jmh.annotations.Scope; // JMH 1.36
+import org.openjdk.jmh.annotations.Setup; // JMH 1.36
+import org.openjdk.jmh.annotations.State; // JMH 1.36
+import org.openjdk.jmh.annotations.Warmup; // JMH 1.36
+
+import com.bank.calculator.model.ValidationResult;
+import com.bank.calculator.service.ValidationService;
+import com.bank.calculator.service.impl.ValidationServiceImpl;
+
+/**
+ * Benchmarks {@link ValidationServiceImpl#validateAllInputs(String, String)} on valid inputs across the allowed
+ * principal and duration ranges, and on a principal that fails the format check.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ValidationServiceBenchmark {
+
+    @Param({"1000", "50000.5", "1000000.00", "12,345.00"})
+    public String principal;
+
+    @Param({"1", "15", "30"})
+    public String durationYears;
+
+    private ValidationService validationService;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        validationService = new ValidationServiceImpl();
+    }
+
+    @Benchmark
+    public ValidationResult validateAllInputs() {
+        return validationService.validateAllInputs(principal, durationYears);
+    }
+}